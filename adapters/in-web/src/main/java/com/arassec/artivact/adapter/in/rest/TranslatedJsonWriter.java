@@ -0,0 +1,150 @@
+package com.arassec.artivact.adapter.in.rest;
+
+import com.arassec.artivact.application.service.DefaultLocaleProvider;
+import com.arassec.artivact.domain.model.TranslatableString;
+import lombok.Getter;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.ValueSerializerModifier;
+
+import java.util.List;
+
+/**
+ * Writes JSON for web clients and resolves the translations of {@link TranslatableString}s while writing.
+ * <p>
+ * The {@code translatedValue} of every translatable string is written for the locale of the current request, with the
+ * application's default locale as fallback, regardless of the value stored in the object. Objects are not modified, so
+ * cached objects can be shared between requests in different locales. The application's JSON mapper, which is also
+ * used for persistence and exports, is not affected.
+ */
+@Component
+public class TranslatedJsonWriter {
+
+    /**
+     * Name of the serialization attribute holding the {@link Translation} to use.
+     */
+    static final String TRANSLATION_ATTRIBUTE = TranslatedJsonWriter.class.getName() + ".translation";
+
+    /**
+     * Name of the property written with the resolved translation.
+     */
+    private static final String TRANSLATED_VALUE_PROPERTY = "translatedValue";
+
+    /**
+     * Provides the application's default locale.
+     */
+    private final DefaultLocaleProvider defaultLocaleProvider;
+
+    /**
+     * Copy of the application's JSON mapper, which resolves translations while writing.
+     */
+    @Getter
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param jsonMapper            The application's JSON mapper.
+     * @param defaultLocaleProvider Provides the application's default locale.
+     */
+    public TranslatedJsonWriter(JsonMapper jsonMapper, DefaultLocaleProvider defaultLocaleProvider) {
+        this.defaultLocaleProvider = defaultLocaleProvider;
+        this.jsonMapper = jsonMapper.rebuild()
+                .addModule(new SimpleModule("artivact-translation").setSerializerModifier(new TranslationModifier()))
+                .build();
+    }
+
+    /**
+     * Returns a writer that resolves translations for the locale of the current request.
+     *
+     * @return The writer.
+     */
+    public ObjectWriter writer() {
+        return customize(jsonMapper.writer());
+    }
+
+    /**
+     * Configures the given writer of this instance's JSON mapper to resolve translations for the locale of the
+     * current request.
+     *
+     * @param writer The writer to configure.
+     * @return The configured writer.
+     */
+    public ObjectWriter customize(ObjectWriter writer) {
+        return writer.withAttribute(TRANSLATION_ATTRIBUTE,
+                new Translation(LocaleContextHolder.getLocale().toString(), defaultLocaleProvider.getDefaultLocale()));
+    }
+
+    /**
+     * The locales used to resolve translations.
+     *
+     * @param locale        The locale to use.
+     * @param defaultLocale The default locale to use as fallback.
+     */
+    record Translation(String locale, String defaultLocale) {
+    }
+
+    /**
+     * Replaces the {@code translatedValue} property of translatable strings with {@link TranslatedValueWriter}s.
+     */
+    private static class TranslationModifier extends ValueSerializerModifier {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<BeanPropertyWriter> changeProperties(SerializationConfig config,
+                                                         BeanDescription.Supplier beanDescription,
+                                                         List<BeanPropertyWriter> beanProperties) {
+            if (!TranslatableString.class.isAssignableFrom(beanDescription.getBeanClass())) {
+                return beanProperties;
+            }
+            return beanProperties.stream()
+                    .map(property -> TRANSLATED_VALUE_PROPERTY.equals(property.getName())
+                            ? new TranslatedValueWriter(property) : property)
+                    .toList();
+        }
+
+    }
+
+    /**
+     * Writes the translation of a translatable string, if a {@link Translation} is configured for the current
+     * serialization. Writes the stored value otherwise.
+     */
+    private static class TranslatedValueWriter extends BeanPropertyWriter {
+
+        /**
+         * Creates a new instance.
+         *
+         * @param base The writer of the stored value.
+         */
+        TranslatedValueWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void serializeAsProperty(Object bean, JsonGenerator generator, SerializationContext context)
+                throws Exception {
+            if (context.getAttribute(TRANSLATION_ATTRIBUTE) instanceof Translation translation
+                    && bean instanceof TranslatableString translatableString) {
+                generator.writeName(getName());
+                generator.writeString(translatableString.resolve(translation.locale(), translation.defaultLocale()));
+            } else {
+                super.serializeAsProperty(bean, generator, context);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.arassec.artivact.adapter.in.rest;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * JSON message converter that resolves the translations of all written objects for the locale of the current request.
+ *
+ * @see TranslatedJsonWriter
+ */
+public class TranslatingJsonHttpMessageConverter extends JacksonJsonHttpMessageConverter {
+
+    /**
+     * Configures the writers to resolve translations.
+     */
+    private final TranslatedJsonWriter translatedJsonWriter;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param translatedJsonWriter Configures the writers to resolve translations.
+     */
+    public TranslatingJsonHttpMessageConverter(TranslatedJsonWriter translatedJsonWriter) {
+        super(translatedJsonWriter.getJsonMapper());
+        this.translatedJsonWriter = translatedJsonWriter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType contentType) {
+        return translatedJsonWriter.customize(super.customizeWriter(writer, javaType, contentType));
+    }
+
+}
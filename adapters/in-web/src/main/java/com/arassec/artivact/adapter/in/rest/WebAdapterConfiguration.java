@@ -1,6 +1,8 @@
 package com.arassec.artivact.adapter.in.rest;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 
 /**
@@ -9,4 +11,17 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 @Configuration
 @EnableWebSecurity
 public class WebAdapterConfiguration {
+
+    /**
+     * Creates the JSON message converter, which replaces Spring Boot's default converter and resolves translations
+     * while writing responses.
+     *
+     * @param translatedJsonWriter Configures the writers to resolve translations.
+     * @return The message converter.
+     */
+    @Bean
+    public JacksonJsonHttpMessageConverter jacksonJsonHttpMessageConverter(TranslatedJsonWriter translatedJsonWriter) {
+        return new TranslatingJsonHttpMessageConverter(translatedJsonWriter);
+    }
+
 }
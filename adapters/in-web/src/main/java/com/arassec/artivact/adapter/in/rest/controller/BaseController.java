@@ -1,6 +1,20 @@
 package com.arassec.artivact.adapter.in.rest.controller;
 
+import com.arassec.artivact.domain.exception.ArtivactException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.*;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Base for REST-Controllers with utility methods.
@@ -28,6 +42,11 @@ public abstract class BaseController {
      */
     public static final String TYPE_ZIP = "application/zip";
 
+    /**
+     * Cache control for item media files. Browsers revalidate them with the file's entity tag after a short time.
+     */
+    public static final CacheControl MEDIA_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(10)).cachePrivate();
+
     /**
      * Create the URL to an image with the given filename.
      *
@@ -51,4 +70,64 @@ public abstract class BaseController {
         return "/api/item/" + itemId + "/" + fileType + "/" + fileName;
     }
 
+    /**
+     * Creates a response that streams the given file from disk instead of loading it into memory.
+     * <p>
+     * The response contains the file's modification time and an entity tag derived from its size and modification
+     * time, so conditional requests are answered with '304 Not Modified'. Range requests are answered with the
+     * requested parts of the file.
+     *
+     * @param file                 The file to return.
+     * @param contentType          The file's content type.
+     * @param contentDisposition   The content disposition or {@code null}, if none should be set.
+     * @param cacheControl         The cache control for the file.
+     * @param varyByRequestHeaders The request headers the response depends on, e.g. 'Accept' if the content is
+     *                             negotiated.
+     * @return The response with the file as body.
+     */
+    protected ResponseEntity<Resource> createFileResponse(FileSystemResource file, MediaType contentType,
+                                                          ContentDisposition contentDisposition, CacheControl cacheControl,
+                                                          String... varyByRequestHeaders) {
+        long lastModified;
+        long contentLength;
+        try {
+            lastModified = file.lastModified();
+            contentLength = file.contentLength();
+        } catch (IOException e) {
+            throw new ArtivactException("Could not read file: " + file.getFilename(), e);
+        }
+
+        var headers = new HttpHeaders();
+        headers.setContentType(contentType);
+        if (contentDisposition != null) {
+            headers.setContentDisposition(contentDisposition);
+        }
+
+        if (varyByRequestHeaders.length > 0) {
+            headers.setVary(List.of(varyByRequestHeaders));
+        }
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .cacheControl(cacheControl)
+                .lastModified(lastModified)
+                .eTag("\"" + Long.toHexString(contentLength) + "-" + Long.toHexString(lastModified) + "\"")
+                .body(file);
+    }
+
+    /**
+     * Extracts the roles of the currently logged-in user.
+     *
+     * @param authentication The Spring-Security Authentication object.
+     * @return A set of roles of the user.
+     */
+    protected Set<String> getRoles(Authentication authentication) {
+        Set<String> roles = new HashSet<>();
+        if (authentication != null) {
+            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+            roles.addAll(Objects.requireNonNull(userDetails).getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        }
+        return roles;
+    }
+
 }
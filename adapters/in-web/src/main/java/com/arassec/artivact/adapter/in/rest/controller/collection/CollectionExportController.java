@@ -11,6 +11,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -324,16 +326,12 @@ public class CollectionExportController extends BaseImportController {
      */
     @SuppressWarnings("unused")
     @GetMapping("/{id}/content-audio/{filename}")
-    public HttpEntity<byte[]> loadContentAudio(@PathVariable String id, @PathVariable String filename) {
-        var headers = new HttpHeaders();
-        headers.setContentType(MediaType.valueOf("audio/mpeg"));
-        headers.set(HttpHeaders.PRAGMA, NO_CACHE);
-        headers.set(HttpHeaders.EXPIRES, EXPIRES_IMMEDIATELY);
-        headers.setContentDisposition(ContentDisposition.builder("attachment").filename(filename).build());
-
-        byte[] audio = loadCollectionExportContentAudioUseCase.loadContentAudio(id, filename);
+    public ResponseEntity<Resource> loadContentAudio(@PathVariable String id, @PathVariable String filename) {
+        FileSystemResource audio = loadCollectionExportContentAudioUseCase.loadContentAudio(id, filename);
 
-        return new HttpEntity<>(audio, headers);
+        // Content audio is regenerated under the same name, so browsers must always revalidate it:
+        return createFileResponse(audio, MediaType.valueOf("audio/mpeg"),
+                ContentDisposition.builder("attachment").filename(filename).build(), CacheControl.noCache());
     }
 
     /**
@@ -14,7 +14,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * REST controller for managing favorites.
@@ -91,21 +90,21 @@ public class FavoriteController extends BaseController {
     public ResponseEntity<List<FavoriteItemData>> listFavorites() {
         List<Favorite> favorites = listFavoriteItemsUseCase.listFavorites();
 
-        List<FavoriteItemData> favoriteItemDataList = favorites.stream()
-                .flatMap(favorite -> Optional.of(loadItemUseCase.loadTranslated(favorite.getItemId()))
-                        .map(item -> {
-                            String thumbnailUrl = null;
-                            if (item.getMediaContent() != null && !item.getMediaContent().getImages().isEmpty()) {
-                                String firstImage = item.getMediaContent().getImages().getFirst();
-                                thumbnailUrl = createUrl(item.getId(), firstImage, "image");
-                            }
-                            return FavoriteItemData.builder()
-                                    .itemId(item.getId())
-                                    .title(item.getTitle() != null ? item.getTitle().getTranslatedValue() : "")
-                                    .thumbnailUrl(thumbnailUrl)
-                                    .build();
-                        })
-                        .stream())
+        if (favorites.isEmpty()) {
+            return ResponseEntity.ok(List.of());
+        }
+
+        List<String> itemIds = favorites.stream()
+                .map(Favorite::getItemId)
+                .toList();
+
+        List<FavoriteItemData> favoriteItemDataList = loadItemUseCase.loadTranslatedItemCards(itemIds).stream()
+                .map(itemCard -> FavoriteItemData.builder()
+                        .itemId(itemCard.getItemId())
+                        .title(itemCard.getTitle() != null ? itemCard.getTitle().getTranslatedValue() : "")
+                        .thumbnailUrl(itemCard.getImage() != null
+                                ? createUrl(itemCard.getItemId(), itemCard.getImage(), "image") : null)
+                        .build())
                 .toList();
 
         return ResponseEntity.ok(favoriteItemDataList);
@@ -14,7 +14,10 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.*;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
@@ -23,8 +26,7 @@ import java.io.IOException;
 import java.net.URLConnection;
 import java.nio.file.Path;
 import java.time.LocalDate;
-import java.util.HashSet;
-import java.util.List;
+import java.util.*;
 
 /**
  * REST-Controller for item management.
@@ -184,25 +186,34 @@ public class ItemController extends BaseImportController {
 
     /**
      * Returns an item's image in the requested size.
+     * <p>
+     * Scaled images are returned as WebP or AVIF, if the client explicitly accepts the format and the application
+     * supports it. Otherwise, they are returned in the original image's format.
      *
      * @param itemId    The item's ID.
      * @param filename  The image's filename.
      * @param imageSize The target {@link ImageSize} of the image.
-     * @return The image as byte array.
+     * @param accept    The request's 'Accept' header.
+     * @return The image, streamed from disk.
      */
     @GetMapping(value = "/{itemId}/image/{filename}", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
-    public HttpEntity<byte[]> getImage(@PathVariable String itemId, @PathVariable String filename,
-                                       @RequestParam(required = false) ImageSize imageSize) {
+    public ResponseEntity<Resource> getImage(@PathVariable String itemId, @PathVariable String filename,
+                                             @RequestParam(required = false) ImageSize imageSize,
+                                             @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         if (imageSize == null) {
             imageSize = ImageSize.ORIGINAL;
         }
 
-        var headers = new HttpHeaders();
-        headers.setContentType(MediaType.valueOf(URLConnection.guessContentTypeFromName(filename)));
+        FileSystemResource image = manageItemImagesUseCase.loadImage(itemId, filename, imageSize, getAcceptedImageFormats(accept));
 
-        byte[] image = manageItemImagesUseCase.loadImage(itemId, filename, imageSize);
+        String contentType = Arrays.stream(ImageFormat.values())
+                .filter(imageFormat -> imageFormat != ImageFormat.ORIGINAL)
+                .filter(imageFormat -> Objects.requireNonNull(image.getFilename()).endsWith("." + imageFormat.getFormatName()))
+                .map(ImageFormat::getMimeType)
+                .findFirst()
+                .orElseGet(() -> URLConnection.guessContentTypeFromName(filename));
 
-        return new HttpEntity<>(image, headers);
+        return createFileResponse(image, MediaType.valueOf(contentType), null, MEDIA_CACHE_CONTROL, HttpHeaders.ACCEPT);
     }
 
     /**
@@ -210,21 +221,17 @@ public class ItemController extends BaseImportController {
      *
      * @param itemId   The item's ID.
      * @param filename The model's filename.
-     * @return The model as byte array.
+     * @return The model, streamed from disk.
      */
     @GetMapping(value = "/{itemId}/model/{filename}", produces = "model/gltf-binary")
-    public HttpEntity<byte[]> getModel(@PathVariable String itemId, @PathVariable String filename) {
+    public ResponseEntity<Resource> getModel(@PathVariable String itemId, @PathVariable String filename) {
         var contentDisposition = ContentDisposition.builder("inline")
                 .filename(filename)
                 .build();
 
-        var headers = new HttpHeaders();
-        headers.setContentDisposition(contentDisposition);
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        FileSystemResource model = manageItemModelsUseCase.loadModel(itemId, filename);
 
-        byte[] model = manageItemModelsUseCase.loadModel(itemId, filename);
-
-        return new HttpEntity<>(model, headers);
+        return createFileResponse(model, MediaType.APPLICATION_OCTET_STREAM, contentDisposition, MEDIA_CACHE_CONTROL);
     }
 
     /**
@@ -416,4 +423,36 @@ public class ItemController extends BaseImportController {
         return createUrl(itemId, filename, "model");
     }
 
+    /**
+     * Determines the image formats the client explicitly accepts. Wildcards are ignored, since clients listing the
+     * formats they support don't necessarily support every image format.
+     *
+     * @param accept The request's 'Accept' header.
+     * @return The accepted image formats.
+     */
+    private Set<ImageFormat> getAcceptedImageFormats(String accept) {
+        if (!StringUtils.hasText(accept)) {
+            return Set.of();
+        }
+
+        List<MediaType> acceptedMediaTypes;
+        try {
+            acceptedMediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            log.debug("Ignoring invalid accept header: {}", accept);
+            return Set.of();
+        }
+
+        Set<ImageFormat> acceptedImageFormats = EnumSet.noneOf(ImageFormat.class);
+        for (ImageFormat imageFormat : ImageFormat.values()) {
+            if (imageFormat != ImageFormat.ORIGINAL && acceptedMediaTypes.stream()
+                    .anyMatch(mediaType -> !mediaType.isWildcardType() && !mediaType.isWildcardSubtype()
+                            && mediaType.getQualityValue() > 0
+                            && mediaType.isCompatibleWith(MediaType.valueOf(imageFormat.getMimeType())))) {
+                acceptedImageFormats.add(imageFormat);
+            }
+        }
+        return acceptedImageFormats;
+    }
+
 }
@@ -8,9 +8,9 @@ import com.arassec.artivact.domain.model.media.CreateModelParams;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ContentDisposition;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -149,24 +149,19 @@ public class ItemMediaCreationController extends BaseController {
      * @param itemId        The item's ID.
      * @param modelSetIndex The model-set index to get the file from.
      * @param filename      The filename to load.
-     * @return The file as byte array.
+     * @return The file, streamed from disk.
      */
     @GetMapping(value = "/model-set-file/{modelSetIndex}/{filename:.+}", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
-    public HttpEntity<byte[]> getModelSetFile(@PathVariable String itemId,
-                                              @PathVariable int modelSetIndex,
-                                              @PathVariable String filename) {
+    public ResponseEntity<Resource> getModelSetFile(@PathVariable String itemId,
+                                                    @PathVariable int modelSetIndex,
+                                                    @PathVariable String filename) {
         var contentDisposition = ContentDisposition.builder("inline")
                 .filename(filename)
                 .build();
 
-        var headers = new HttpHeaders();
-        headers.setContentDisposition(contentDisposition);
+        FileSystemResource modelSetFile = manageItemModelsUseCase.loadModelSetFile(itemId, modelSetIndex, filename);
 
-        headers.setContentType(determineMediaType(filename));
-
-        byte[] modelSetFile = manageItemModelsUseCase.loadModelSetFile(itemId, modelSetIndex, filename);
-
-        return new HttpEntity<>(modelSetFile, headers);
+        return createFileResponse(modelSetFile, determineMediaType(filename), contentDisposition, MEDIA_CACHE_CONTROL);
     }
 
     private MediaType determineMediaType(String filename) {
@@ -40,7 +40,7 @@ public class MaintenanceController extends BaseController {
     @PostMapping("/search-index/recreate")
     public void recreateSearchIndex() {
         runBackgroundOperationUseCase.execute("maintenance", "search",
-                progressMonitor -> manageSearchIndexUseCase.recreateIndex());
+                manageSearchIndexUseCase::recreateIndex);
     }
 
     /**
@@ -0,0 +1,139 @@
+package com.arassec.artivact.adapter.in.rest.controller.page;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache for serialized page content.
+ * <p>
+ * Page content is cached per page, locale and set of roles, together with the page content revision it was rendered
+ * with. Cached content is only used while the revision is unchanged, so it never outlives a change to pages, menus or
+ * the appearance configuration.
+ */
+@Component
+public class PageContentCache implements MeterBinder {
+
+    /**
+     * Maximum number of cached page contents.
+     */
+    static final int MAX_ENTRIES = 500;
+
+    /**
+     * Number of requests served from the cache.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * Number of requests that required rendering the page content.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * The cached page contents in access order.
+     */
+    private final Map<Key, RenderedPageContent> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, RenderedPageContent> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Returns the cached page content for the given key or renders and caches it.
+     *
+     * @param key      The cache key.
+     * @param revision The current page content revision.
+     * @param renderer Renders the serialized page content if no current content is cached.
+     * @return The rendered page content.
+     */
+    public RenderedPageContent get(Key key, long revision, Supplier<byte[]> renderer) {
+        synchronized (entries) {
+            RenderedPageContent cachedContent = entries.get(key);
+            if (cachedContent != null && cachedContent.revision() == revision) {
+                hits.incrementAndGet();
+                return cachedContent;
+            }
+        }
+        misses.incrementAndGet();
+
+        byte[] content = renderer.get();
+        RenderedPageContent renderedPageContent = new RenderedPageContent(revision, content,
+                "\"" + DigestUtils.md5DigestAsHex(content) + "\"");
+
+        synchronized (entries) {
+            entries.put(key, renderedPageContent);
+        }
+
+        return renderedPageContent;
+    }
+
+    /**
+     * Returns the number of cached page contents.
+     *
+     * @return The number of cache entries.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Registers the cache's hit and miss counters and its size.
+     *
+     * @param registry The meter registry.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("artivact.page.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .description("Page content requests served from the page content cache")
+                .register(registry);
+        FunctionCounter.builder("artivact.page.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("Page content requests that required rendering the page")
+                .register(registry);
+        Gauge.builder("artivact.page.cache.size", this, PageContentCache::size)
+                .description("Number of cached page contents")
+                .register(registry);
+    }
+
+    /**
+     * Key of cached page content.
+     *
+     * @param pageIdOrAlias The page's ID or alias.
+     * @param locale        The locale the page content was translated to.
+     * @param roles         The roles of the current user.
+     */
+    public record Key(String pageIdOrAlias, String locale, Set<String> roles) {
+
+        /**
+         * Creates a new key with an immutable copy of the roles.
+         */
+        public Key {
+            roles = roles != null ? Set.copyOf(roles) : null;
+        }
+
+    }
+
+    /**
+     * Serialized page content.
+     *
+     * @param revision The page content revision the content was rendered with.
+     * @param content  The page content as JSON.
+     * @param eTag     The entity tag of the content.
+     */
+    public record RenderedPageContent(long revision, byte[] content, String eTag) {
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.arassec.artivact.adapter.in.rest.controller.page;
 
+import com.arassec.artivact.adapter.in.rest.TranslatedJsonWriter;
+import com.arassec.artivact.adapter.in.rest.controller.BaseController;
 import com.arassec.artivact.application.port.in.ai.ConvertToAudioUseCase;
 import com.arassec.artivact.application.port.in.page.*;
 import com.arassec.artivact.domain.model.item.ImageSize;
@@ -7,17 +9,14 @@ import com.arassec.artivact.domain.model.page.PageContent;
 import com.arassec.artivact.domain.model.page.PageIdAndAlias;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.http.*;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.net.URLConnection;
-import java.util.HashSet;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -28,7 +27,7 @@ import java.util.Set;
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/page")
-public class PageController {
+public class PageController extends BaseController {
 
     /**
      * Use case for load page content.
@@ -60,6 +59,16 @@ public class PageController {
      */
     private final ConvertToAudioUseCase convertToAudioUseCase;
 
+    /**
+     * Cache for serialized page content.
+     */
+    private final PageContentCache pageContentCache;
+
+    /**
+     * Writes the page content with translations resolved for the current request's locale.
+     */
+    private final TranslatedJsonWriter translatedJsonWriter;
+
     /**
      * Returns the alias or ID of the index page.
      *
@@ -80,13 +89,32 @@ public class PageController {
 
     /**
      * Returns the page with the given ID.
+     * <p>
+     * The serialized page content is cached per locale and roles until pages, menus or the appearance change. Clients
+     * revalidate the content with its ETag and get a '304 Not Modified' response if it is unchanged.
      *
      * @param pageIdOrAlias The page's ID or alias.
-     * @return The page content.
+     * @return The page content as JSON.
      */
     @GetMapping("/{pageIdOrAlias}")
-    public PageContent loadPageContent(@PathVariable String pageIdOrAlias, Authentication authentication) {
-        return loadPageContentUseCase.loadTranslatedRestrictedPageContent(pageIdOrAlias, getRoles(authentication));
+    public ResponseEntity<byte[]> loadPageContent(@PathVariable String pageIdOrAlias, Authentication authentication) {
+        Set<String> roles = getRoles(authentication);
+
+        PageContentCache.Key key = new PageContentCache.Key(pageIdOrAlias,
+                LocaleContextHolder.getLocale().toString(), roles);
+
+        PageContentCache.RenderedPageContent renderedPageContent = pageContentCache.get(key,
+                loadPageContentUseCase.loadPageContentRevision(), () -> {
+                    PageContent pageContent = loadPageContentUseCase.loadTranslatedRestrictedPageContent(pageIdOrAlias, roles);
+                    return pageContent != null ? translatedJsonWriter.writer().writeValueAsBytes(pageContent) : new byte[0];
+                });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                .eTag(renderedPageContent.eTag())
+                .body(renderedPageContent.content());
     }
 
     /**
@@ -247,21 +275,6 @@ public class PageController {
         return publishWipPageContentUseCase.publishWipPageContent(pageIdOrAlias);
     }
 
-    /**
-     * Extracts the roles of the currently logged-in user.
-     *
-     * @param authentication The Spring-Security Authentication object.
-     * @return A set of roles of the user.
-     */
-    private Set<String> getRoles(Authentication authentication) {
-        Set<String> roles = new HashSet<>();
-        if (authentication != null) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            roles.addAll(Objects.requireNonNull(userDetails).getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
-        }
-        return roles;
-    }
-
     /**
      * Loads the given file.
      *
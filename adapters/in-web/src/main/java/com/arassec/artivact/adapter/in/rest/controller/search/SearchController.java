@@ -3,13 +3,19 @@ package com.arassec.artivact.adapter.in.rest.controller.search;
 import com.arassec.artivact.adapter.in.rest.controller.BaseController;
 import com.arassec.artivact.adapter.in.rest.model.ItemCardData;
 import com.arassec.artivact.adapter.in.rest.model.SearchResult;
+import com.arassec.artivact.application.port.in.operation.RunBackgroundOperationUseCase;
 import com.arassec.artivact.application.port.in.search.ManageSearchIndexUseCase;
 import com.arassec.artivact.application.port.in.search.SearchItemsUseCase;
-import com.arassec.artivact.domain.model.item.Item;
+import com.arassec.artivact.domain.model.search.ItemCard;
+import com.arassec.artivact.domain.model.search.ItemFacetQuery;
+import com.arassec.artivact.domain.model.search.ItemSearchResult;
+import com.arassec.artivact.domain.model.search.ItemSort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashSet;
 import java.util.List;
 
 /**
@@ -21,6 +27,11 @@ import java.util.List;
 @RequestMapping("/api/search")
 public class SearchController extends BaseController {
 
+    /**
+     * Use case to execute long-running background operations.
+     */
+    private final RunBackgroundOperationUseCase runBackgroundOperationUseCase;
+
     /**
      * Use case for manage search index.
      */
@@ -32,11 +43,12 @@ public class SearchController extends BaseController {
     private final SearchItemsUseCase searchItemsUseCase;
 
     /**
-     * Re-creates the search index completely.
+     * Re-creates the search index completely as a background operation.
      */
     @PostMapping("/index/recreate")
     public void recreateIndex() {
-        manageSearchIndexUseCase.recreateIndex();
+        runBackgroundOperationUseCase.execute("maintenance", "search",
+                manageSearchIndexUseCase::recreateIndex);
     }
 
     /**
@@ -45,58 +57,119 @@ public class SearchController extends BaseController {
      * @param searchTerm The search query to use.
      * @param pageNumber The desired page to return from the search result.
      * @param pageSize   The desired page size of the search result.
-     * @param maxResults The max number of results to consider.
+     * @param maxResults     The max number of results to consider.
+     * @param sortField      The name of the field to sort the results by. Defaults to relevance.
+     * @param sortPropertyId The ID of the property to sort the results by, if sorted by property.
+     * @param facets         Set to {@code true} to count found items per tag and per value of the facet properties.
+     * @param facetPropertyIds IDs of the properties to count values for.
+     * @param tagIds         IDs of tags the found items must have (at least one of).
+     * @param propertyValues Property values the found items must have, formatted as {@code PROPERTY_ID:VALUE}.
+     * @param authentication The current user's authentication.
      * @return The search result.
      */
+    @SuppressWarnings("java:S107") // Every request parameter is required here.
     @GetMapping
     public SearchResult search(@RequestParam("query") String searchTerm,
                                @RequestParam(value = "pageNo", required = false, defaultValue = "0") int pageNumber,
                                @RequestParam(value = "pageSize", required = false, defaultValue = "9") int pageSize,
-                               @RequestParam(value = "maxResults", required = false, defaultValue = "100") int maxResults) {
-        List<Item> items = searchItemsUseCase.searchTranslatedRestricted(searchTerm, maxResults);
-        return getSearchResult(items, pageNumber, pageSize);
+                               @RequestParam(value = "maxResults", required = false, defaultValue = "100") int maxResults,
+                               @RequestParam(value = "sortField", required = false) String sortField,
+                               @RequestParam(value = "sortPropertyId", required = false) String sortPropertyId,
+                               @RequestParam(value = "facets", required = false, defaultValue = "false") boolean facets,
+                               @RequestParam(value = "facetProperty", required = false) List<String> facetPropertyIds,
+                               @RequestParam(value = "tag", required = false) List<String> tagIds,
+                               @RequestParam(value = "property", required = false) List<String> propertyValues,
+                               Authentication authentication) {
+        ItemSearchResult itemSearchResult = searchItemsUseCase.searchTranslatedRestricted(searchTerm,
+                getRoles(authentication), ItemSort.of(sortField, sortPropertyId),
+                createFacetQuery(facets, facetPropertyIds, tagIds, propertyValues), pageNumber, pageSize, maxResults);
+        return getSearchResult(itemSearchResult, pageNumber, pageSize);
+    }
+
+    /**
+     * Suggests titles and tag names of items while a search term is typed.
+     *
+     * @param prefix         The partially typed search term.
+     * @param maxSuggestions The maximum number of suggestions.
+     * @param authentication The current user's authentication.
+     * @return The suggestions.
+     */
+    @GetMapping("/suggest")
+    public List<String> suggest(@RequestParam("query") String prefix,
+                                @RequestParam(value = "maxSuggestions", required = false, defaultValue = "10") int maxSuggestions,
+                                Authentication authentication) {
+        return searchItemsUseCase.suggest(prefix, getRoles(authentication), maxSuggestions);
+    }
+
+    /**
+     * Creates the facet query from the request parameters.
+     *
+     * @param facets           Set to {@code true} to count facets.
+     * @param facetPropertyIds IDs of the properties to count values for.
+     * @param tagIds           IDs of tags to filter by.
+     * @param propertyValues   Property values to filter by, formatted as {@code PROPERTY_ID:VALUE}.
+     * @return The facet query or {@code null}, if neither facets nor filters are requested.
+     */
+    private ItemFacetQuery createFacetQuery(boolean facets, List<String> facetPropertyIds, List<String> tagIds,
+                                            List<String> propertyValues) {
+        if (!facets && tagIds == null && propertyValues == null) {
+            return null;
+        }
+        ItemFacetQuery facetQuery = new ItemFacetQuery();
+        if (facetPropertyIds != null) {
+            facetQuery.getFacetPropertyIds().addAll(facetPropertyIds);
+        }
+        if (tagIds != null) {
+            facetQuery.getTagIds().addAll(tagIds);
+        }
+        if (propertyValues != null) {
+            propertyValues.stream()
+                    .filter(propertyValue -> propertyValue.indexOf(':') > 0)
+                    .forEach(propertyValue -> {
+                        int separatorIndex = propertyValue.indexOf(':');
+                        facetQuery.getPropertyValues()
+                                .computeIfAbsent(propertyValue.substring(0, separatorIndex), key -> new HashSet<>())
+                                .add(propertyValue.substring(separatorIndex + 1));
+                    });
+        }
+        return facetQuery;
     }
 
     /**
-     * Converts the given item list into a {@link SearchResult}.
+     * Converts the given page of found items into a {@link SearchResult}.
      *
-     * @param all        All found items.
-     * @param pageNumber The page number to return.
-     * @param pageSize   The page size to use.
+     * @param itemSearchResult The search result cards of the requested page and the total number of hits.
+     * @param pageNumber       The page number to return.
+     * @param pageSize         The page size to use.
      * @return The search result.
      */
-    private SearchResult getSearchResult(List<Item> all, int pageNumber, int pageSize) {
-        if (all != null && !all.isEmpty() && pageSize > 0) {
-            long totalPages = all.size() / pageSize;
-            if (all.size() % pageSize > 0) {
+    private SearchResult getSearchResult(ItemSearchResult itemSearchResult, int pageNumber, int pageSize) {
+        List<ItemCard> itemCards = itemSearchResult.getItemCards();
+        if (itemCards != null && !itemCards.isEmpty() && pageSize > 0) {
+            long totalPages = itemSearchResult.getTotalHits() / pageSize;
+            if (itemSearchResult.getTotalHits() % pageSize > 0) {
                 totalPages++;
             }
-            if (totalPages > 0 && totalPages > pageNumber) {
-                int startIndex = pageNumber * pageSize;
-                int endIndex = startIndex + pageSize;
-                if (endIndex >= all.size()) {
-                    endIndex = all.size();
-                }
-                return SearchResult.builder()
-                        .pageNumber(pageNumber)
-                        .pageSize(pageSize)
-                        .totalPages(totalPages)
-                        .data(all.stream()
-                                .map(item -> ItemCardData.builder()
-                                        .itemId(item.getId())
-                                        .title(item.getTitle())
-                                        .imageUrl(createMainImageUrl(item))
-                                        .hasModel(!item.getMediaContent().getModels().isEmpty())
-                                        .build()
-                                ).toList()
-                                .subList(startIndex, endIndex))
-                        .build();
-            }
+            return SearchResult.builder()
+                    .pageNumber(pageNumber)
+                    .pageSize(pageSize)
+                    .totalPages(totalPages)
+                    .facets(itemSearchResult.getFacets())
+                    .data(itemCards.stream()
+                            .map(itemCard -> ItemCardData.builder()
+                                    .itemId(itemCard.getItemId())
+                                    .title(itemCard.getTitle())
+                                    .imageUrl(createMainImageUrl(itemCard))
+                                    .hasModel(itemCard.isHasModel())
+                                    .build()
+                            ).toList())
+                    .build();
         }
         return SearchResult.builder()
                 .pageNumber(pageNumber)
                 .pageSize(0)
                 .totalPages(0)
+                .facets(itemSearchResult.getFacets())
                 .data(List.of())
                 .build();
     }
@@ -104,12 +177,12 @@ public class SearchController extends BaseController {
     /**
      * Creates the URL to an item's main image.
      *
-     * @param item The item to create the main image URL for.
+     * @param itemCard The search result card of the item to create the main image URL for.
      * @return The (relative) URL as string.
      */
-    private String createMainImageUrl(Item item) {
-        if (!item.getMediaContent().getImages().isEmpty()) {
-            return createImageUrl(item.getId(), item.getMediaContent().getImages().getFirst());
+    private String createMainImageUrl(ItemCard itemCard) {
+        if (itemCard.getImage() != null) {
+            return createImageUrl(itemCard.getItemId(), itemCard.getImage());
         }
         return null;
     }
@@ -1,5 +1,6 @@
 package com.arassec.artivact.adapter.in.rest.model;
 
+import com.arassec.artivact.domain.model.search.ItemFacets;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -36,4 +37,9 @@ public class SearchResult {
     @Builder.Default
     private List<ItemCardData> data = new LinkedList<>();
 
+    /**
+     * Number of found items per tag and property value, if requested.
+     */
+    private ItemFacets facets;
+
 }
@@ -0,0 +1,93 @@
+package com.arassec.artivact.adapter.in.rest;
+
+import com.arassec.artivact.domain.model.TranslatableString;
+import com.arassec.artivact.domain.model.tag.Tag;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the {@link TranslatedJsonWriter} and the {@link TranslatingJsonHttpMessageConverter}.
+ */
+class TranslatedJsonWriterTest {
+
+    /**
+     * The application's JSON mapper.
+     */
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    /**
+     * The writer under test, with 'en' as default locale.
+     */
+    private final TranslatedJsonWriter translatedJsonWriter = new TranslatedJsonWriter(jsonMapper, () -> "en");
+
+    /**
+     * Resets the locale after each test.
+     */
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    /**
+     * Tests that translations are resolved for the current locale without modifying the written objects.
+     */
+    @Test
+    void testWriterResolvesTranslations() {
+        TranslatableString title = new TranslatableString("title", "stale", new HashMap<>(Map.of("de", "Titel")));
+
+        LocaleContextHolder.setLocale(Locale.GERMANY);
+        JsonNode german = jsonMapper.readTree(translatedJsonWriter.writer().writeValueAsBytes(title));
+
+        LocaleContextHolder.setLocale(Locale.FRENCH);
+        JsonNode french = jsonMapper.readTree(translatedJsonWriter.writer().writeValueAsBytes(title));
+
+        assertThat(german.get("translatedValue").asString()).isEqualTo("Titel");
+        assertThat(french.get("translatedValue").asString()).isEqualTo("title");
+        assertThat(title.getTranslatedValue()).isEqualTo("stale");
+    }
+
+    /**
+     * Tests that subclasses of translatable strings are translated and the application's JSON mapper is not affected.
+     */
+    @Test
+    void testWriterResolvesTranslationsOfSubclasses() {
+        Tag tag = new Tag();
+        tag.setValue("tag");
+        tag.setTranslations(new HashMap<>(Map.of("en", "English tag")));
+
+        LocaleContextHolder.setLocale(Locale.GERMAN);
+        JsonNode translated = jsonMapper.readTree(translatedJsonWriter.writer().writeValueAsBytes(List.of(tag)));
+        JsonNode stored = jsonMapper.readTree(jsonMapper.writeValueAsBytes(List.of(tag)));
+
+        assertThat(translated.get(0).get("translatedValue").asString()).isEqualTo("English tag");
+        assertThat(stored.get(0).get("translatedValue").isNull()).isTrue();
+    }
+
+    /**
+     * Tests that the message converter writes responses with resolved translations.
+     */
+    @Test
+    void testConverterResolvesTranslations() throws Exception {
+        TranslatableString title = new TranslatableString("title", null, new HashMap<>(Map.of("de", "Titel")));
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        LocaleContextHolder.setLocale(Locale.GERMAN);
+        new TranslatingJsonHttpMessageConverter(translatedJsonWriter).write(title, MediaType.APPLICATION_JSON, outputMessage);
+
+        assertThat(jsonMapper.readTree(outputMessage.getBodyAsBytes()).get("translatedValue").asString())
+                .isEqualTo("Titel");
+    }
+
+}
@@ -1,8 +1,28 @@
 package com.arassec.artivact.adapter.in.rest.controller;
 
+import com.arassec.artivact.domain.exception.ArtivactException;
+import com.arassec.artivact.domain.model.Roles;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Tests the {@link BaseController}.
@@ -21,6 +41,16 @@ class BaseControllerTest {
         public String testCreateUrl(String itemId, String fileName, String fileType) {
             return createUrl(itemId, fileName, fileType);
         }
+
+        public Set<String> testGetRoles(Authentication authentication) {
+            return getRoles(authentication);
+        }
+
+        public ResponseEntity<Resource> testCreateFileResponse(FileSystemResource file, MediaType contentType,
+                                                               ContentDisposition contentDisposition,
+                                                               CacheControl cacheControl) {
+            return createFileResponse(file, contentType, contentDisposition, cacheControl);
+        }
     }
 
     private final TestableBaseController controller = new TestableBaseController();
@@ -86,4 +116,49 @@ class BaseControllerTest {
                 .isEqualTo("/api/item/id2/media/video.mp4");
     }
 
+    /**
+     * Tests extracting the roles of the current user.
+     */
+    @Test
+    void testGetRoles() {
+        assertThat(controller.testGetRoles(null)).isEmpty();
+
+        User user = new User("user", "password", List.of(new SimpleGrantedAuthority(Roles.ROLE_USER)));
+        assertThat(controller.testGetRoles(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities())))
+                .containsExactly(Roles.ROLE_USER);
+    }
+
+    /**
+     * Tests creating a response that streams a file with cache validators.
+     */
+    @Test
+    void testCreateFileResponse(@TempDir Path tempDir) throws IOException {
+        FileSystemResource file = new FileSystemResource(Files.writeString(tempDir.resolve("model.glb"), "model"));
+        ContentDisposition contentDisposition = ContentDisposition.inline().filename("model.glb").build();
+
+        ResponseEntity<Resource> result = controller.testCreateFileResponse(file, MediaType.APPLICATION_OCTET_STREAM,
+                contentDisposition, BaseController.MEDIA_CACHE_CONTROL);
+
+        assertThat(result.getBody()).isSameAs(file);
+        assertThat(result.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_OCTET_STREAM);
+        assertThat(result.getHeaders().getContentDisposition().getFilename()).isEqualTo("model.glb");
+        assertThat(result.getHeaders().getCacheControl()).isEqualTo("max-age=600, private");
+        assertThat(result.getHeaders().getLastModified()).isEqualTo(file.lastModified() / 1000 * 1000);
+        assertThat(result.getHeaders().getETag())
+                .isEqualTo("\"5-" + Long.toHexString(file.lastModified()) + "\"");
+    }
+
+    /**
+     * Tests that missing files are reported.
+     */
+    @Test
+    void testCreateFileResponseWithMissingFile(@TempDir Path tempDir) {
+        FileSystemResource file = new FileSystemResource(tempDir.resolve("missing.glb"));
+
+        assertThatThrownBy(() -> controller.testCreateFileResponse(file, MediaType.APPLICATION_OCTET_STREAM, null,
+                CacheControl.noCache()))
+                .isInstanceOf(ArtivactException.class)
+                .hasMessage("Could not read file: missing.glb");
+    }
+
 }
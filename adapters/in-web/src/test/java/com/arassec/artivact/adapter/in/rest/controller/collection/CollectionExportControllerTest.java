@@ -9,9 +9,12 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
@@ -25,6 +28,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
@@ -280,13 +284,14 @@ class CollectionExportControllerTest {
     }
 
     @Test
-    void testLoadContentAudio() {
-        byte[] audio = new byte[]{1, 2, 3};
+    void testLoadContentAudio(@TempDir Path tempDir) throws IOException {
+        FileSystemResource audio = new FileSystemResource(Files.write(tempDir.resolve("content-audio.mp3"), new byte[]{1, 2, 3}));
         when(loadCollectionExportContentAudioUseCase.loadContentAudio("id-1", "content-audio.mp3")).thenReturn(audio);
 
-        HttpEntity<byte[]> result = controller.loadContentAudio("id-1", "content-audio.mp3");
+        ResponseEntity<Resource> result = controller.loadContentAudio("id-1", "content-audio.mp3");
 
-        assertThat(result.getBody()).isEqualTo(audio);
+        assertThat(result.getBody()).isSameAs(audio);
+        assertThat(result.getHeaders().getCacheControl()).isEqualTo("no-cache");
         assertThat(result.getHeaders().getContentType()).hasToString("audio/mpeg");
         assertThat(result.getHeaders().getContentDisposition().getFilename()).isEqualTo("content-audio.mp3");
     }
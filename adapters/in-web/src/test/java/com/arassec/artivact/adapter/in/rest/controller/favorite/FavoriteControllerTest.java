@@ -8,8 +8,7 @@ import com.arassec.artivact.application.port.in.favorite.UnmarkItemAsFavoriteUse
 import com.arassec.artivact.application.port.in.item.LoadItemUseCase;
 import com.arassec.artivact.domain.model.TranslatableString;
 import com.arassec.artivact.domain.model.favorite.Favorite;
-import com.arassec.artivact.domain.model.item.Item;
-import com.arassec.artivact.domain.model.item.MediaContent;
+import com.arassec.artivact.domain.model.search.ItemCard;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -136,12 +135,11 @@ class FavoriteControllerTest {
 
         List<Favorite> favorites = List.of(favorite1, favorite2);
 
-        Item item1 = createItemWithImage("item-1", "Item 1", "image1.jpg");
-        Item item2 = createItemWithImage("item-2", "Item 2", "image2.jpg");
+        ItemCard itemCard1 = createItemCard("item-1", "Item 1", "image1.jpg");
+        ItemCard itemCard2 = createItemCard("item-2", "Item 2", "image2.jpg");
 
         when(listFavoriteItemsUseCase.listFavorites()).thenReturn(favorites);
-        when(loadItemUseCase.loadTranslated("item-1")).thenReturn(item1);
-        when(loadItemUseCase.loadTranslated("item-2")).thenReturn(item2);
+        when(loadItemUseCase.loadTranslatedItemCards(List.of("item-1", "item-2"))).thenReturn(List.of(itemCard1, itemCard2));
 
         // When
         ResponseEntity<List<FavoriteItemData>> response = favoriteController.listFavorites();
@@ -161,8 +159,7 @@ class FavoriteControllerTest {
         assertThat(data2.getThumbnailUrl()).contains("item-2").contains("image2.jpg");
 
         verify(listFavoriteItemsUseCase, times(1)).listFavorites();
-        verify(loadItemUseCase, times(1)).loadTranslated("item-1");
-        verify(loadItemUseCase, times(1)).loadTranslated("item-2");
+        verify(loadItemUseCase, times(1)).loadTranslatedItemCards(List.of("item-1", "item-2"));
     }
 
     @Test
@@ -172,14 +169,10 @@ class FavoriteControllerTest {
         Favorite favorite = new Favorite();
         favorite.setItemId("item-no-image");
 
-        Item item = new Item();
-        item.setId("item-no-image");
-        TranslatableString title = new TranslatableString();
-        title.setTranslatedValue("Item Without Image");
-        item.setTitle(title);
+        ItemCard itemCard = createItemCard("item-no-image", "Item Without Image", null);
 
         when(listFavoriteItemsUseCase.listFavorites()).thenReturn(List.of(favorite));
-        when(loadItemUseCase.loadTranslated("item-no-image")).thenReturn(item);
+        when(loadItemUseCase.loadTranslatedItemCards(List.of("item-no-image"))).thenReturn(List.of(itemCard));
 
         // When
         ResponseEntity<List<FavoriteItemData>> response = favoriteController.listFavorites();
@@ -201,12 +194,10 @@ class FavoriteControllerTest {
         Favorite favorite = new Favorite();
         favorite.setItemId("item-no-title");
 
-        Item item = new Item();
-        item.setId("item-no-title");
-        item.setTitle(null);
+        ItemCard itemCard = ItemCard.builder().itemId("item-no-title").build();
 
         when(listFavoriteItemsUseCase.listFavorites()).thenReturn(List.of(favorite));
-        when(loadItemUseCase.loadTranslated("item-no-title")).thenReturn(item);
+        when(loadItemUseCase.loadTranslatedItemCards(List.of("item-no-title"))).thenReturn(List.of(itemCard));
 
         // When
         ResponseEntity<List<FavoriteItemData>> response = favoriteController.listFavorites();
@@ -222,48 +213,26 @@ class FavoriteControllerTest {
     }
 
     @Test
-    @DisplayName("Should return favorite items with null thumbnail when media content is null")
-    void shouldReturnFavoriteItemsWithNullThumbnailWhenMediaContentIsNull() {
+    @DisplayName("Should skip favorites of items that don't exist anymore")
+    void shouldSkipFavoritesOfMissingItems() {
         // Given
         Favorite favorite = new Favorite();
-        favorite.setItemId("item-no-media");
-
-        Item item = new Item();
-        item.setId("item-no-media");
-        TranslatableString title = new TranslatableString();
-        title.setTranslatedValue("Item Without Media");
-        item.setTitle(title);
-        item.setMediaContent(null);
+        favorite.setItemId("item-missing");
 
         when(listFavoriteItemsUseCase.listFavorites()).thenReturn(List.of(favorite));
-        when(loadItemUseCase.loadTranslated("item-no-media")).thenReturn(item);
+        when(loadItemUseCase.loadTranslatedItemCards(List.of("item-missing"))).thenReturn(List.of());
 
         // When
         ResponseEntity<List<FavoriteItemData>> response = favoriteController.listFavorites();
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).hasSize(1);
-
-        FavoriteItemData data = response.getBody().getFirst();
-        assertThat(data.getItemId()).isEqualTo("item-no-media");
-        assertThat(data.getTitle()).isEqualTo("Item Without Media");
-        assertThat(data.getThumbnailUrl()).isNull();
+        assertThat(response.getBody()).isEmpty();
     }
 
-    private Item createItemWithImage(String id, String title, String imageName) {
-        Item item = new Item();
-        item.setId(id);
-
+    private ItemCard createItemCard(String id, String title, String imageName) {
         TranslatableString titleString = new TranslatableString();
         titleString.setTranslatedValue(title);
-        item.setTitle(titleString);
-
-        MediaContent mediaContent = new MediaContent();
-        mediaContent.setImages(List.of(imageName));
-        item.setMediaContent(mediaContent);
-
-        return item;
+        return ItemCard.builder().itemId(id).title(titleString).image(imageName).build();
     }
 }
-
@@ -6,6 +6,7 @@ import com.arassec.artivact.application.port.in.project.UseProjectDirsUseCase;
 import com.arassec.artivact.application.port.out.repository.FileRepository;
 import com.arassec.artivact.domain.exception.ArtivactException;
 import com.arassec.artivact.domain.model.TranslatableString;
+import com.arassec.artivact.domain.model.item.ImageFormat;
 import com.arassec.artivact.domain.model.item.ImageSize;
 import com.arassec.artivact.domain.model.item.Item;
 import com.arassec.artivact.domain.model.item.MediaContent;
@@ -13,11 +14,15 @@ import com.arassec.artivact.domain.model.item.MediaCreationContent;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.HttpEntity;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
@@ -25,6 +30,7 @@ import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBo
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
@@ -148,25 +154,55 @@ class ItemControllerTest {
     }
 
     @Test
-    void testGetImage() {
-        byte[] fakeImage = "img".getBytes();
-        when(manageItemImagesUseCase.loadImage("123", "pic.png", ImageSize.ORIGINAL)).thenReturn(fakeImage);
+    void testGetImage(@TempDir Path tempDir) throws IOException {
+        FileSystemResource fakeImage = new FileSystemResource(Files.writeString(tempDir.resolve("pic.png"), "img"));
+        when(manageItemImagesUseCase.loadImage("123", "pic.png", ImageSize.ORIGINAL, Set.of())).thenReturn(fakeImage);
+
+        ResponseEntity<Resource> response = itemController.getImage("123", "pic.png", null, null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(fakeImage);
+        assertThat(response.getHeaders().getContentType()).hasToString("image/png");
+        assertThat(response.getHeaders().getETag()).isNotBlank();
+        assertThat(response.getHeaders().getLastModified()).isPositive();
+        assertThat(response.getHeaders().getCacheControl()).contains("max-age=600");
+        assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+        verify(manageItemImagesUseCase).loadImage("123", "pic.png", ImageSize.ORIGINAL, Set.of());
+    }
+
+    @Test
+    void testGetImageInAcceptedFormat(@TempDir Path tempDir) throws IOException {
+        FileSystemResource fakeImage = new FileSystemResource(Files.writeString(tempDir.resolve("ITEM_CARD-pic.png.webp"), "img"));
+        when(manageItemImagesUseCase.loadImage("123", "pic.png", ImageSize.ITEM_CARD, Set.of(ImageFormat.WEBP)))
+                .thenReturn(fakeImage);
 
-        HttpEntity<byte[]> response = itemController.getImage("123", "pic.png", null);
+        ResponseEntity<Resource> response = itemController.getImage("123", "pic.png", ImageSize.ITEM_CARD,
+                "image/webp,image/apng,image/*,*/*;q=0.8");
 
-        assertThat(response.getBody()).isEqualTo(fakeImage);
-        assertThat(response.getHeaders().getContentType()).isNotNull();
-        verify(manageItemImagesUseCase).loadImage("123", "pic.png", ImageSize.ORIGINAL);
+        assertThat(response.getBody()).isSameAs(fakeImage);
+        assertThat(response.getHeaders().getContentType()).hasToString("image/webp");
+        assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+    }
+
+    @Test
+    void testGetImageIgnoresRejectedAndInvalidFormats(@TempDir Path tempDir) throws IOException {
+        FileSystemResource fakeImage = new FileSystemResource(Files.writeString(tempDir.resolve("ITEM_CARD-pic.png"), "img"));
+        when(manageItemImagesUseCase.loadImage("123", "pic.png", ImageSize.ITEM_CARD, Set.of())).thenReturn(fakeImage);
+
+        assertThat(itemController.getImage("123", "pic.png", ImageSize.ITEM_CARD, "image/avif;q=0,image/*")
+                .getHeaders().getContentType()).hasToString("image/png");
+        assertThat(itemController.getImage("123", "pic.png", ImageSize.ITEM_CARD, "invalid")
+                .getHeaders().getContentType()).hasToString("image/png");
     }
 
     @Test
-    void testGetModel() {
-        byte[] fakeModel = "model".getBytes();
+    void testGetModel(@TempDir Path tempDir) throws IOException {
+        FileSystemResource fakeModel = new FileSystemResource(Files.writeString(tempDir.resolve("test.glb"), "model"));
         when(manageItemModelsUseCase.loadModel("123", "test.glb")).thenReturn(fakeModel);
 
-        HttpEntity<byte[]> response = itemController.getModel("123", "test.glb");
+        ResponseEntity<Resource> response = itemController.getModel("123", "test.glb");
 
-        assertThat(response.getBody()).isEqualTo(fakeModel);
+        assertThat(response.getBody()).isSameAs(fakeModel);
         assertThat(response.getHeaders().getContentDisposition().getFilename()).isEqualTo("test.glb");
     }
 
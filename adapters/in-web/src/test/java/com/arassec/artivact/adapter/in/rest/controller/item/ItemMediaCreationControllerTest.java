@@ -6,12 +6,17 @@ import com.arassec.artivact.domain.model.media.CaptureImagesParams;
 import com.arassec.artivact.domain.model.media.CreateModelParams;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.HttpEntity;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -42,6 +47,9 @@ class ItemMediaCreationControllerTest {
 	@InjectMocks
 	private ItemMediaCreationController controller;
 
+	@TempDir
+	private Path tempDir;
+
 	@Test
 	void captureImageReturnsCreatedImageName() {
 		CaptureImagesParams params = CaptureImagesParams.builder().numPhotos(1).build();
@@ -105,58 +113,58 @@ class ItemMediaCreationControllerTest {
 	}
 
 	@Test
-	void getModelSetFileReturnsGlbContentWithBinaryGltfMediaType() {
-		byte[] data = "glb".getBytes();
+	void getModelSetFileReturnsGlbContentWithBinaryGltfMediaType() throws IOException {
+		FileSystemResource data = new FileSystemResource(Files.writeString(tempDir.resolve("MODEL.GLB"), "glb"));
 		when(manageItemModelsUseCase.loadModelSetFile("item-1", 1, "MODEL.GLB")).thenReturn(data);
 
-		HttpEntity<byte[]> result = controller.getModelSetFile("item-1", 1, "MODEL.GLB");
+		ResponseEntity<Resource> result = controller.getModelSetFile("item-1", 1, "MODEL.GLB");
 
-		assertThat(result.getBody()).isEqualTo(data);
+		assertThat(result.getBody()).isSameAs(data);
 		assertThat(result.getHeaders().getContentDisposition().getFilename()).isEqualTo("MODEL.GLB");
 		assertThat(result.getHeaders().getContentType()).hasToString("model/gltf-binary");
 	}
 
 	@Test
-	void getModelSetFileReturnsGltfContentWithJsonMediaType() {
-		byte[] data = "gltf".getBytes();
+	void getModelSetFileReturnsGltfContentWithJsonMediaType() throws IOException {
+		FileSystemResource data = new FileSystemResource(Files.writeString(tempDir.resolve("scene.gltf"), "gltf"));
 		when(manageItemModelsUseCase.loadModelSetFile("item-1", 1, "scene.gltf")).thenReturn(data);
 
-		HttpEntity<byte[]> result = controller.getModelSetFile("item-1", 1, "scene.gltf");
+		ResponseEntity<Resource> result = controller.getModelSetFile("item-1", 1, "scene.gltf");
 
-		assertThat(result.getBody()).isEqualTo(data);
+		assertThat(result.getBody()).isSameAs(data);
 		assertThat(result.getHeaders().getContentType()).hasToString("model/gltf+json");
 	}
 
 	@Test
-	void getModelSetFileReturnsObjContentAsPlainText() {
-		byte[] data = "obj".getBytes();
+	void getModelSetFileReturnsObjContentAsPlainText() throws IOException {
+		FileSystemResource data = new FileSystemResource(Files.writeString(tempDir.resolve("mesh.obj"), "obj"));
 		when(manageItemModelsUseCase.loadModelSetFile("item-1", 1, "mesh.obj")).thenReturn(data);
 
-		HttpEntity<byte[]> result = controller.getModelSetFile("item-1", 1, "mesh.obj");
+		ResponseEntity<Resource> result = controller.getModelSetFile("item-1", 1, "mesh.obj");
 
-		assertThat(result.getBody()).isEqualTo(data);
+		assertThat(result.getBody()).isSameAs(data);
 		assertThat(result.getHeaders().getContentType()).isEqualTo(org.springframework.http.MediaType.TEXT_PLAIN);
 	}
 
 	@Test
-	void getModelSetFileUsesGuessedContentTypeForKnownFileExtensions() {
-		byte[] data = "png".getBytes();
+	void getModelSetFileUsesGuessedContentTypeForKnownFileExtensions() throws IOException {
+		FileSystemResource data = new FileSystemResource(Files.writeString(tempDir.resolve("preview.png"), "png"));
 		when(manageItemModelsUseCase.loadModelSetFile("item-1", 1, "preview.png")).thenReturn(data);
 
-		HttpEntity<byte[]> result = controller.getModelSetFile("item-1", 1, "preview.png");
+		ResponseEntity<Resource> result = controller.getModelSetFile("item-1", 1, "preview.png");
 
-		assertThat(result.getBody()).isEqualTo(data);
+		assertThat(result.getBody()).isSameAs(data);
 		assertThat(result.getHeaders().getContentType()).isEqualTo(org.springframework.http.MediaType.IMAGE_PNG);
 	}
 
 	@Test
-	void getModelSetFileFallsBackToOctetStreamForUnknownFileExtensions() {
-		byte[] data = "unknown".getBytes();
+	void getModelSetFileFallsBackToOctetStreamForUnknownFileExtensions() throws IOException {
+		FileSystemResource data = new FileSystemResource(Files.writeString(tempDir.resolve("archive.unknownext"), "unknown"));
 		when(manageItemModelsUseCase.loadModelSetFile("item-1", 1, "archive.unknownext")).thenReturn(data);
 
-		HttpEntity<byte[]> result = controller.getModelSetFile("item-1", 1, "archive.unknownext");
+		ResponseEntity<Resource> result = controller.getModelSetFile("item-1", 1, "archive.unknownext");
 
-		assertThat(result.getBody()).isEqualTo(data);
+		assertThat(result.getBody()).isSameAs(data);
 		assertThat(result.getHeaders().getContentType()).isEqualTo(org.springframework.http.MediaType.APPLICATION_OCTET_STREAM);
 	}
 
@@ -3,6 +3,7 @@ package com.arassec.artivact.adapter.in.rest.controller.maintenance;
 import com.arassec.artivact.application.port.in.maintenance.CleanupProjectFilesUseCase;
 import com.arassec.artivact.application.port.in.operation.RunBackgroundOperationUseCase;
 import com.arassec.artivact.application.port.in.search.ManageSearchIndexUseCase;
+import com.arassec.artivact.domain.model.misc.ProgressMonitor;
 import com.arassec.artivact.domain.model.operation.BackgroundOperation;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -54,8 +55,9 @@ class MaintenanceControllerTest {
         ArgumentCaptor<BackgroundOperation> operationCaptor = ArgumentCaptor.forClass(BackgroundOperation.class);
         verify(runBackgroundOperationUseCase).execute(eq("maintenance"), eq("search"), operationCaptor.capture());
 
-        operationCaptor.getValue().execute(null);
-        verify(manageSearchIndexUseCase).recreateIndex();
+        ProgressMonitor progressMonitor = new ProgressMonitor("maintenance", "search");
+        operationCaptor.getValue().execute(progressMonitor);
+        verify(manageSearchIndexUseCase).recreateIndex(progressMonitor);
     }
 
     /**
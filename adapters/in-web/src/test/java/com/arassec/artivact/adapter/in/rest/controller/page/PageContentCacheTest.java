@@ -0,0 +1,54 @@
+package com.arassec.artivact.adapter.in.rest.controller.page;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageContentCacheTest {
+
+    private final PageContentCache pageContentCache = new PageContentCache();
+
+    @Test
+    void testGetCountsHitsAndMisses() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        pageContentCache.bindTo(meterRegistry);
+
+        PageContentCache.Key key = new PageContentCache.Key("page", "en", Set.of("ROLE_USER"));
+
+        PageContentCache.RenderedPageContent first = pageContentCache.get(key, 1, "{}"::getBytes);
+        PageContentCache.RenderedPageContent second = pageContentCache.get(key, 1, () -> null);
+        pageContentCache.get(new PageContentCache.Key("page", "de", Set.of("ROLE_USER")), 1, "{}"::getBytes);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.eTag()).startsWith("\"").endsWith("\"");
+        assertThat(meterRegistry.get("artivact.page.cache.requests").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("artivact.page.cache.requests").tag("result", "miss").functionCounter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("artivact.page.cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void testGetRendersAgainAfterRevisionChange() {
+        PageContentCache.Key key = new PageContentCache.Key("page", "en", Set.of());
+
+        pageContentCache.get(key, 1, "{\"a\":1}"::getBytes);
+        PageContentCache.RenderedPageContent renderedPageContent = pageContentCache.get(key, 2, "{\"a\":2}"::getBytes);
+
+        assertThat(renderedPageContent.revision()).isEqualTo(2);
+        assertThat(renderedPageContent.content()).isEqualTo("{\"a\":2}".getBytes());
+        assertThat(pageContentCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        for (int i = 0; i <= PageContentCache.MAX_ENTRIES; i++) {
+            pageContentCache.get(new PageContentCache.Key("page" + i, "en", Set.of()), 1, "{}"::getBytes);
+        }
+        assertThat(pageContentCache.size()).isEqualTo(PageContentCache.MAX_ENTRIES);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.arassec.artivact.adapter.in.rest.controller.page;
 
+import com.arassec.artivact.adapter.in.rest.TranslatedJsonWriter;
 import com.arassec.artivact.application.port.in.ai.ConvertToAudioUseCase;
 import com.arassec.artivact.application.port.in.page.*;
 import com.arassec.artivact.domain.model.item.ImageSize;
@@ -9,13 +10,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.multipart.MultipartFile;
+import tools.jackson.databind.ObjectWriter;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -46,6 +50,15 @@ class PageControllerTest {
     @Mock
     private ConvertToAudioUseCase convertToAudioUseCase;
 
+    @Spy
+    private PageContentCache pageContentCache = new PageContentCache();
+
+    @Mock
+    private TranslatedJsonWriter translatedJsonWriter;
+
+    @Mock
+    private ObjectWriter objectWriter;
+
     @Mock
     private Authentication authentication;
 
@@ -90,10 +103,32 @@ class PageControllerTest {
         mockRoles("ROLE_USER");
 
         when(loadPageContentUseCase.loadTranslatedRestrictedPageContent(eq("alias"), any())).thenReturn(expected);
+        when(translatedJsonWriter.writer()).thenReturn(objectWriter);
+        when(objectWriter.writeValueAsBytes(expected)).thenReturn("{}".getBytes());
 
-        PageContent result = controller.loadPageContent("alias", authentication);
+        ResponseEntity<byte[]> result = controller.loadPageContent("alias", authentication);
 
-        assertThat(result).isSameAs(expected);
+        assertThat(result.getBody()).isEqualTo("{}".getBytes());
+        assertThat(result.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(result.getHeaders().getETag()).isNotBlank();
+    }
+
+    @Test
+    void testLoadPageContentIsCachedUntilRevisionChanges() {
+        PageContent expected = new PageContent();
+        mockRoles("ROLE_USER");
+
+        when(loadPageContentUseCase.loadPageContentRevision()).thenReturn(1L, 1L, 2L);
+        when(loadPageContentUseCase.loadTranslatedRestrictedPageContent(eq("alias"), any())).thenReturn(expected);
+        when(translatedJsonWriter.writer()).thenReturn(objectWriter);
+        when(objectWriter.writeValueAsBytes(expected)).thenReturn("{}".getBytes());
+
+        String eTag = controller.loadPageContent("alias", authentication).getHeaders().getETag();
+        assertThat(controller.loadPageContent("alias", authentication).getHeaders().getETag()).isEqualTo(eTag);
+        verify(loadPageContentUseCase, times(1)).loadTranslatedRestrictedPageContent(eq("alias"), any());
+
+        controller.loadPageContent("alias", authentication);
+        verify(loadPageContentUseCase, times(2)).loadTranslatedRestrictedPageContent(eq("alias"), any());
     }
 
     @Test
@@ -1,19 +1,31 @@
 package com.arassec.artivact.adapter.in.rest.controller.search;
 
 import com.arassec.artivact.adapter.in.rest.model.SearchResult;
+import com.arassec.artivact.application.port.in.operation.RunBackgroundOperationUseCase;
 import com.arassec.artivact.application.port.in.search.ManageSearchIndexUseCase;
 import com.arassec.artivact.application.port.in.search.SearchItemsUseCase;
 import com.arassec.artivact.domain.model.TranslatableString;
-import com.arassec.artivact.domain.model.item.Item;
+import com.arassec.artivact.domain.model.misc.ProgressMonitor;
+import com.arassec.artivact.domain.model.operation.BackgroundOperation;
+import com.arassec.artivact.domain.model.search.ItemCard;
+import com.arassec.artivact.domain.model.search.ItemFacetQuery;
+import com.arassec.artivact.domain.model.search.ItemFacets;
+import com.arassec.artivact.domain.model.search.ItemSearchResult;
+import com.arassec.artivact.domain.model.search.ItemSort;
+import com.arassec.artivact.domain.model.search.ItemSortField;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,6 +41,12 @@ class SearchControllerTest {
     @InjectMocks
     private SearchController searchController;
 
+    /**
+     * Mock for running background operations.
+     */
+    @Mock
+    private RunBackgroundOperationUseCase runBackgroundOperationUseCase;
+
     /**
      * Mock for search index management.
      */
@@ -46,8 +64,14 @@ class SearchControllerTest {
      */
     @Test
     void testRecreateIndex() {
-        manageSearchIndexUseCase.recreateIndex();
-        verify(manageSearchIndexUseCase).recreateIndex();
+        searchController.recreateIndex();
+
+        ArgumentCaptor<BackgroundOperation> operationCaptor = ArgumentCaptor.forClass(BackgroundOperation.class);
+        verify(runBackgroundOperationUseCase).execute(eq("maintenance"), eq("search"), operationCaptor.capture());
+
+        ProgressMonitor progressMonitor = new ProgressMonitor("maintenance", "search");
+        operationCaptor.getValue().execute(progressMonitor);
+        verify(manageSearchIndexUseCase).recreateIndex(progressMonitor);
     }
 
     /**
@@ -55,30 +79,50 @@ class SearchControllerTest {
      */
     @Test
     void testSearch() {
-        SearchResult searchResult = searchController.search("item", 0, 1, 1);
+        when(searchItemsUseCase.searchTranslatedRestricted("item", Set.of(), ItemSort.by(ItemSortField.RELEVANCE), null, 0, 1, 1)).thenReturn(new ItemSearchResult());
+
+        SearchResult searchResult = searchController.search("item", 0, 1, 1, null, null, false, null, null, null, null);
         assertThat(searchResult).isNotNull();
         assertThat(searchResult.getData()).isEmpty();
+        assertThat(searchResult.getTotalPages()).isZero();
 
-        Item itemOne = new Item();
-        itemOne.setTitle(new TranslatableString("itemOne"));
-        Item itemTwo = new Item();
-        itemTwo.setId("itemId");
-        itemTwo.setTitle(new TranslatableString("itemTwo"));
-        itemTwo.getMediaContent().getImages().add("image.jpg");
-        Item itemThree = new Item();
-        itemThree.setTitle(new TranslatableString("itemThree"));
+        ItemCard itemTwo = ItemCard.builder()
+                .itemId("itemId")
+                .title(new TranslatableString("itemTwo"))
+                .image("image.jpg")
+                .hasModel(true)
+                .build();
 
-        when(searchItemsUseCase.searchTranslatedRestricted("item", 100)).thenReturn(List.of(
-                itemOne, itemTwo, itemThree
-        ));
+        ItemFacetQuery facetQuery = ItemFacetQuery.builder()
+                .tagIds(Set.of("tagId"))
+                .propertyValues(Map.of("propertyId", Set.of("value:with:colons")))
+                .facetPropertyIds(Set.of("propertyId"))
+                .build();
+        ItemFacets itemFacets = new ItemFacets();
+        itemFacets.getTags().put("tagId", 3L);
 
+        when(searchItemsUseCase.searchTranslatedRestricted("item", Set.of(), ItemSort.byProperty("propertyId"), facetQuery, 1, 1, 100))
+                .thenReturn(new ItemSearchResult(3, List.of(itemTwo), itemFacets));
 
-        searchResult = searchController.search("item", 1, 1, 100);
+        searchResult = searchController.search("item", 1, 1, 100, "property", "propertyId", true,
+                List.of("propertyId"), List.of("tagId"), List.of("propertyId:value:with:colons", "invalid"), null);
 
         assertThat(searchResult).isNotNull();
+        assertThat(searchResult.getTotalPages()).isEqualTo(3);
+        assertThat(searchResult.getPageNumber()).isEqualTo(1);
         assertThat(searchResult.getData()).hasSize(1);
         assertThat(searchResult.getData().getFirst().getTitle().getValue()).isEqualTo("itemTwo");
         assertThat(searchResult.getData().getFirst().getImageUrl()).isEqualTo("/api/item/itemId/image/image.jpg");
+        assertThat(searchResult.getData().getFirst().isHasModel()).isTrue();
+        assertThat(searchResult.getFacets()).isEqualTo(itemFacets);
     }
 
+    /**
+     * Tests search suggestions.
+     */
+    @Test
+    void testSuggest() {
+        when(searchItemsUseCase.suggest("ti", Set.of(), 10)).thenReturn(List.of("Title"));
+        assertThat(searchController.suggest("ti", 10, null)).containsExactly("Title");
+    }
 }
@@ -0,0 +1,184 @@
+package com.arassec.artivact.adapter.out.database.jdbc;
+
+import com.arassec.artivact.domain.model.BaseTranslatableRestrictedObject;
+import com.arassec.artivact.domain.model.appearance.ColorTheme;
+import com.arassec.artivact.domain.model.appearance.License;
+import com.arassec.artivact.domain.model.configuration.AiConfiguration;
+import com.arassec.artivact.domain.model.configuration.AppearanceConfiguration;
+import com.arassec.artivact.domain.model.configuration.ExchangeConfiguration;
+import com.arassec.artivact.domain.model.configuration.PropertiesConfiguration;
+import com.arassec.artivact.domain.model.configuration.TagsConfiguration;
+import com.arassec.artivact.domain.model.property.Property;
+import com.arassec.artivact.domain.model.property.PropertyCategory;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Creates deep copies of configurations, so the configurations cached by the {@link JdbcConfigurationRepository} can
+ * be handed out to callers, which modify them freely.
+ * <p>
+ * Only the configurations that are loaded frequently are supported. Other configurations are bound from their JSON
+ * snapshot on every request.
+ */
+final class ConfigurationCopier {
+
+    /**
+     * Prevents instantiation.
+     */
+    private ConfigurationCopier() {
+    }
+
+    /**
+     * Returns whether configurations of the given class can be copied.
+     *
+     * @param configurationClass The configuration's class.
+     * @return {@code true} if {@link #copy(Object)} supports the configuration, {@code false} otherwise.
+     */
+    static boolean isSupported(Class<?> configurationClass) {
+        return configurationClass == AppearanceConfiguration.class
+                || configurationClass == PropertiesConfiguration.class
+                || configurationClass == TagsConfiguration.class
+                || configurationClass == ExchangeConfiguration.class
+                || configurationClass == AiConfiguration.class;
+    }
+
+    /**
+     * Creates a deep copy of the given configuration.
+     *
+     * @param configuration The configuration to copy.
+     * @param <T>           The configuration's type.
+     * @return The copy.
+     * @throws IllegalArgumentException If the configuration is not supported.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T copy(T configuration) {
+        return (T) switch (configuration) {
+            case AppearanceConfiguration appearanceConfiguration -> copy(appearanceConfiguration);
+            case PropertiesConfiguration propertiesConfiguration -> copy(propertiesConfiguration);
+            case TagsConfiguration tagsConfiguration -> copy(tagsConfiguration);
+            case ExchangeConfiguration exchangeConfiguration ->
+                    new ExchangeConfiguration(exchangeConfiguration.getRemoteServer(), exchangeConfiguration.getApiToken());
+            case AiConfiguration aiConfiguration -> copy(aiConfiguration);
+            default -> throw new IllegalArgumentException("Unsupported configuration: " + configuration.getClass());
+        };
+    }
+
+    /**
+     * Creates a copy of the given appearance configuration.
+     *
+     * @param appearanceConfiguration The configuration to copy.
+     * @return The copy.
+     */
+    private static AppearanceConfiguration copy(AppearanceConfiguration appearanceConfiguration) {
+        AppearanceConfiguration copy = new AppearanceConfiguration();
+        copy.setApplicationTitle(appearanceConfiguration.getApplicationTitle());
+        copy.setAvailableLocales(appearanceConfiguration.getAvailableLocales());
+        copy.setApplicationLocale(appearanceConfiguration.getApplicationLocale());
+        copy.setEncodedFavicon(appearanceConfiguration.getEncodedFavicon());
+        copy.setDefaultLocale(appearanceConfiguration.getDefaultLocale());
+        copy.setIndexPageId(appearanceConfiguration.getIndexPageId());
+
+        ColorTheme colorTheme = appearanceConfiguration.getColorTheme();
+        if (colorTheme != null) {
+            ColorTheme colorThemeCopy = new ColorTheme();
+            colorThemeCopy.setPrimary(colorTheme.getPrimary());
+            colorThemeCopy.setSecondary(colorTheme.getSecondary());
+            colorThemeCopy.setAccent(colorTheme.getAccent());
+            colorThemeCopy.setDark(colorTheme.getDark());
+            colorThemeCopy.setPositive(colorTheme.getPositive());
+            colorThemeCopy.setNegative(colorTheme.getNegative());
+            colorThemeCopy.setInfo(colorTheme.getInfo());
+            colorThemeCopy.setWarning(colorTheme.getWarning());
+            copy.setColorTheme(colorThemeCopy);
+        } else {
+            copy.setColorTheme(null);
+        }
+
+        License license = appearanceConfiguration.getLicense();
+        if (license != null) {
+            copy.setLicense(new License(ItemCache.copy(license.getPrefix()), ItemCache.copy(license.getLicenseLabel()),
+                    ItemCache.copy(license.getSuffix()), license.getLicenseUrl()));
+        } else {
+            copy.setLicense(null);
+        }
+
+        return copy;
+    }
+
+    /**
+     * Creates a copy of the given properties configuration.
+     *
+     * @param propertiesConfiguration The configuration to copy.
+     * @return The copy.
+     */
+    private static PropertiesConfiguration copy(PropertiesConfiguration propertiesConfiguration) {
+        PropertiesConfiguration copy = new PropertiesConfiguration();
+        if (propertiesConfiguration.getCategories() != null) {
+            propertiesConfiguration.getCategories().forEach(category -> {
+                PropertyCategory categoryCopy = copyInto(category, new PropertyCategory());
+                List<Property> properties = new LinkedList<>();
+                if (category.getProperties() != null) {
+                    category.getProperties().forEach(property -> {
+                        Property propertyCopy = copyInto(property, new Property());
+                        List<BaseTranslatableRestrictedObject> valueRange = new LinkedList<>();
+                        if (property.getValueRange() != null) {
+                            property.getValueRange().forEach(value ->
+                                    valueRange.add(copyInto(value, new BaseTranslatableRestrictedObject())));
+                        }
+                        propertyCopy.setValueRange(valueRange);
+                        properties.add(propertyCopy);
+                    });
+                }
+                categoryCopy.setProperties(properties);
+                copy.getCategories().add(categoryCopy);
+            });
+        }
+        return copy;
+    }
+
+    /**
+     * Creates a copy of the given tags configuration.
+     *
+     * @param tagsConfiguration The configuration to copy.
+     * @return The copy.
+     */
+    private static TagsConfiguration copy(TagsConfiguration tagsConfiguration) {
+        TagsConfiguration copy = new TagsConfiguration();
+        if (tagsConfiguration.getTags() != null) {
+            tagsConfiguration.getTags().forEach(tag -> copy.getTags().add(ItemCache.copy(tag)));
+        }
+        return copy;
+    }
+
+    /**
+     * Creates a copy of the given AI configuration.
+     *
+     * @param aiConfiguration The configuration to copy.
+     * @return The copy.
+     */
+    private static AiConfiguration copy(AiConfiguration aiConfiguration) {
+        return new AiConfiguration(aiConfiguration.getTranslationModel(), aiConfiguration.getTranslationApiKey(),
+                ItemCache.copy(aiConfiguration.getTranslationPrompt()), aiConfiguration.getTtsModel(),
+                aiConfiguration.getTtsApiKey(), ItemCache.copy(aiConfiguration.getTtsVoice()));
+    }
+
+    /**
+     * Copies the translatable and restricted data of the source object into the target object.
+     *
+     * @param source The object to copy.
+     * @param target The object receiving the copied data.
+     * @param <T>    The target's type.
+     * @return The target object.
+     */
+    private static <T extends BaseTranslatableRestrictedObject> T copyInto(BaseTranslatableRestrictedObject source,
+                                                                           T target) {
+        target.setId(source.getId());
+        target.setRestrictions(ItemCache.copySet(source.getRestrictions()));
+        target.setValue(source.getValue());
+        target.setTranslatedValue(source.getTranslatedValue());
+        target.setTranslations(ItemCache.copyMap(source.getTranslations()));
+        return target;
+    }
+
+}
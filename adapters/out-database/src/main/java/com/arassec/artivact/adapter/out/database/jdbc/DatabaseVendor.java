@@ -0,0 +1,51 @@
+package com.arassec.artivact.adapter.out.database.jdbc;
+
+import com.arassec.artivact.domain.exception.ArtivactException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * Provides information about the database the application is connected to.
+ * <p>
+ * Used by repositories that push filtering into vendor specific SQL, e.g. PostgreSQL's JSON operators, and fall back
+ * to filtering in memory on other databases.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseVendor {
+
+    /**
+     * The application's data source.
+     */
+    private final DataSource dataSource;
+
+    /**
+     * Cached result of the vendor check, {@code null} until the database has been checked.
+     */
+    private volatile Boolean postgreSql;
+
+    /**
+     * Returns whether the application is connected to a PostgreSQL database.
+     *
+     * @return {@code true} for PostgreSQL, {@code false} for all other databases.
+     */
+    public boolean isPostgreSql() {
+        Boolean result = postgreSql;
+        if (result == null) {
+            try {
+                String databaseName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+                result = "PostgreSQL".equals(JdbcUtils.commonDatabaseName(databaseName));
+            } catch (MetaDataAccessException e) {
+                throw new ArtivactException("Could not determine database vendor!", e);
+            }
+            postgreSql = result;
+        }
+        return result;
+    }
+
+}
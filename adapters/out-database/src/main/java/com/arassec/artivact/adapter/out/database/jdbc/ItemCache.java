@@ -0,0 +1,315 @@
+package com.arassec.artivact.adapter.out.database.jdbc;
+
+import com.arassec.artivact.domain.model.TranslatableString;
+import com.arassec.artivact.domain.model.item.CreationImageSet;
+import com.arassec.artivact.domain.model.item.CreationModelSet;
+import com.arassec.artivact.domain.model.item.Item;
+import com.arassec.artivact.domain.model.item.MediaContent;
+import com.arassec.artivact.domain.model.item.MediaCreationContent;
+import com.arassec.artivact.domain.model.tag.Tag;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache for items parsed from their JSON representation.
+ * <p>
+ * Entries are stored with the technical version of the item's database row and are only used if the version still
+ * matches, so outdated entries are never returned. Callers always get a deep copy of the cached item and can modify it
+ * freely.
+ */
+@Component
+public class ItemCache implements MeterBinder {
+
+    /**
+     * Maximum number of cached items.
+     */
+    static final int MAX_ENTRIES = 1000;
+
+    /**
+     * Number of requests served from the cache.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * Number of requests that required parsing the item.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Number of items removed from the cache because it was full.
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * The cached items by ID, in access order.
+     */
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            if (size() > MAX_ENTRIES) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * Returns a copy of the cached item with the given ID and version, or parses and caches the item.
+     *
+     * @param itemId  The item's ID.
+     * @param version The technical version of the item's database row.
+     * @param parser  Parses the item if it is not cached.
+     * @return A copy of the item.
+     */
+    public Item get(String itemId, Integer version, Supplier<Item> parser) {
+        if (itemId == null || version == null) {
+            return parser.get();
+        }
+
+        Item cachedItem = getIfCached(itemId, version);
+        if (cachedItem != null) {
+            return cachedItem;
+        }
+
+        Item item = parser.get();
+        synchronized (entries) {
+            entries.put(itemId, new Entry(version, item));
+        }
+        return copy(item);
+    }
+
+    /**
+     * Returns a copy of the cached item with the given ID and version, or parses the item without caching it. Used
+     * for bulk operations, which would otherwise evict frequently requested items.
+     *
+     * @param itemId  The item's ID.
+     * @param version The technical version of the item's database row.
+     * @param parser  Parses the item if it is not cached.
+     * @return The item.
+     */
+    public Item getWithoutCaching(String itemId, Integer version, Supplier<Item> parser) {
+        if (itemId == null || version == null) {
+            return parser.get();
+        }
+        Item cachedItem = getIfCached(itemId, version);
+        if (cachedItem != null) {
+            return cachedItem;
+        }
+        return parser.get();
+    }
+
+    /**
+     * Removes the item with the given ID from the cache.
+     *
+     * @param itemId The item's ID.
+     */
+    public void invalidate(String itemId) {
+        synchronized (entries) {
+            entries.remove(itemId);
+        }
+    }
+
+    /**
+     * Returns the number of cached items.
+     *
+     * @return The number of cache entries.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Registers the cache's hit, miss and eviction counters, its hit ratio and its size.
+     *
+     * @param registry The meter registry.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("artivact.item.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .description("Item requests served from the item cache")
+                .register(registry);
+        FunctionCounter.builder("artivact.item.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("Item requests that required parsing the item's JSON")
+                .register(registry);
+        FunctionCounter.builder("artivact.item.cache.evictions", evictions, AtomicLong::get)
+                .description("Items removed from the full item cache")
+                .register(registry);
+        Gauge.builder("artivact.item.cache.hit.ratio", this, ItemCache::hitRatio)
+                .description("Ratio of item requests served from the item cache")
+                .register(registry);
+        Gauge.builder("artivact.item.cache.size", this, ItemCache::size)
+                .description("Number of cached items")
+                .register(registry);
+    }
+
+    /**
+     * Returns the ratio of requests served from the cache.
+     *
+     * @return The hit ratio between {@code 0} and {@code 1}.
+     */
+    double hitRatio() {
+        long hitCount = hits.get();
+        long requestCount = hitCount + misses.get();
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Returns a copy of the cached item, if its version matches.
+     *
+     * @param itemId  The item's ID.
+     * @param version The technical version of the item's database row.
+     * @return A copy of the cached item or {@code null}, if no matching item is cached.
+     */
+    private Item getIfCached(String itemId, Integer version) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(itemId);
+        }
+        if (entry != null && entry.version().equals(version)) {
+            hits.incrementAndGet();
+            return copy(entry.item());
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Creates a deep copy of the given item.
+     *
+     * @param item The item to copy.
+     * @return The copy.
+     */
+    static Item copy(Item item) {
+        Item copy = new Item();
+        copy.setId(item.getId());
+        copy.setRestrictions(copySet(item.getRestrictions()));
+        copy.setVersion(item.getVersion());
+        copy.setSyncVersion(item.getSyncVersion());
+        copy.setLastModified(item.getLastModified());
+        copy.setTitle(copy(item.getTitle()));
+        copy.setDescription(copy(item.getDescription()));
+
+        Map<String, TranslatableString> properties = new HashMap<>();
+        if (item.getProperties() != null) {
+            item.getProperties().forEach((propertyId, value) -> properties.put(propertyId, copy(value)));
+        }
+        copy.setProperties(properties);
+
+        List<Tag> tags = new LinkedList<>();
+        if (item.getTags() != null) {
+            item.getTags().forEach(tag -> tags.add(copy(tag)));
+        }
+        copy.setTags(tags);
+
+        MediaContent mediaContent = new MediaContent();
+        if (item.getMediaContent() != null) {
+            mediaContent.setImages(copyList(item.getMediaContent().getImages()));
+            mediaContent.setModels(copyList(item.getMediaContent().getModels()));
+        }
+        copy.setMediaContent(mediaContent);
+
+        MediaCreationContent mediaCreationContent = new MediaCreationContent();
+        if (item.getMediaCreationContent() != null) {
+            if (item.getMediaCreationContent().getImageSets() != null) {
+                item.getMediaCreationContent().getImageSets().forEach(imageSet ->
+                        mediaCreationContent.getImageSets().add(new CreationImageSet(imageSet.isModelInput(),
+                                imageSet.getBackgroundRemoved(), copyList(imageSet.getFiles()))));
+            }
+            if (item.getMediaCreationContent().getModelSets() != null) {
+                item.getMediaCreationContent().getModelSets().forEach(modelSet -> {
+                    CreationModelSet modelSetCopy = new CreationModelSet();
+                    modelSetCopy.setDirectory(modelSet.getDirectory());
+                    modelSetCopy.setComment(modelSet.getComment());
+                    mediaCreationContent.getModelSets().add(modelSetCopy);
+                });
+            }
+        }
+        copy.setMediaCreationContent(mediaCreationContent);
+
+        return copy;
+    }
+
+    /**
+     * Creates a copy of the given translatable string.
+     *
+     * @param translatableString The translatable string to copy, may be {@code null}.
+     * @return The copy or {@code null}.
+     */
+    static TranslatableString copy(TranslatableString translatableString) {
+        if (translatableString == null) {
+            return null;
+        }
+        return new TranslatableString(translatableString.getValue(), translatableString.getTranslatedValue(),
+                copyMap(translatableString.getTranslations()));
+    }
+
+    /**
+     * Creates a copy of the given tag.
+     *
+     * @param tag The tag to copy.
+     * @return The copy.
+     */
+    static Tag copy(Tag tag) {
+        Tag copy = new Tag();
+        copy.setId(tag.getId());
+        copy.setRestrictions(copySet(tag.getRestrictions()));
+        copy.setValue(tag.getValue());
+        copy.setTranslatedValue(tag.getTranslatedValue());
+        copy.setTranslations(copyMap(tag.getTranslations()));
+        copy.setUrl(tag.getUrl());
+        copy.setDefaultTag(tag.isDefaultTag());
+        return copy;
+    }
+
+    /**
+     * Creates a mutable copy of the given list.
+     *
+     * @param list The list to copy, may be {@code null}.
+     * @return The copy.
+     */
+    private static List<String> copyList(List<String> list) {
+        return list != null ? new LinkedList<>(list) : new LinkedList<>();
+    }
+
+    /**
+     * Creates a mutable copy of the given set.
+     *
+     * @param set The set to copy, may be {@code null}.
+     * @return The copy.
+     */
+    static Set<String> copySet(Set<String> set) {
+        return set != null ? new HashSet<>(set) : new HashSet<>();
+    }
+
+    /**
+     * Creates a mutable copy of the given map.
+     *
+     * @param map The map to copy, may be {@code null}.
+     * @return The copy.
+     */
+    static Map<String, String> copyMap(Map<String, String> map) {
+        return map != null ? new HashMap<>(map) : new HashMap<>();
+    }
+
+    /**
+     * A cached item.
+     *
+     * @param version The technical version of the item's database row.
+     * @param item    The parsed item.
+     */
+    private record Entry(Integer version, Item item) {
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.arassec.artivact.adapter.out.database.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Optionally creates a GIN index on the items' JSON content in PostgreSQL databases, which speeds up the lookups of
+ * items by tag, property value and restriction.
+ * <p>
+ * The index is not created by a database migration, since building it on large catalogues takes a while. It is built
+ * with {@code CREATE INDEX CONCURRENTLY} in the background after the application has started, so the item table stays
+ * writable. If a previous build has been interrupted, PostgreSQL leaves an invalid index behind, which is dropped and
+ * created again.
+ */
+@Slf4j
+@Component
+public class ItemJsonIndexInitializer {
+
+    /**
+     * Name of the index.
+     */
+    static final String INDEX_NAME = "ix_item_content_json";
+
+    /**
+     * Checks whether the index exists and is valid.
+     */
+    static final String SELECT_INDEX_VALIDITY = "SELECT i.indisvalid FROM pg_class c "
+            + "JOIN pg_index i ON i.indexrelid = c.oid WHERE c.relname = '" + INDEX_NAME + "'";
+
+    /**
+     * Drops an invalid index.
+     */
+    static final String DROP_INDEX = "DROP INDEX CONCURRENTLY IF EXISTS " + INDEX_NAME;
+
+    /**
+     * Creates the index without blocking writes to the item table.
+     */
+    static final String CREATE_INDEX = "CREATE INDEX CONCURRENTLY " + INDEX_NAME
+            + " ON av_item USING GIN ((CAST(content_json AS jsonb)) jsonb_path_ops)";
+
+    /**
+     * Information about the database vendor.
+     */
+    private final DatabaseVendor databaseVendor;
+
+    /**
+     * Executes the SQL statements outside of transactions.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Set to {@code true} to create the index.
+     */
+    private final boolean enabled;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param databaseVendor Information about the database vendor.
+     * @param jdbcTemplate   Spring's JDBC template.
+     * @param enabled        Set to {@code true} to create the index.
+     */
+    public ItemJsonIndexInitializer(DatabaseVendor databaseVendor, JdbcTemplate jdbcTemplate,
+                                    @Value("${artivact.database.item-json-index.enabled:false}") boolean enabled) {
+        this.databaseVendor = databaseVendor;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Starts creating the index in the background, if enabled and connected to a PostgreSQL database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled || !databaseVendor.isPostgreSql()) {
+            return;
+        }
+        Thread.ofPlatform().name("artivact-item-json-index").daemon().start(this::createIndexIfRequired);
+    }
+
+    /**
+     * Creates the index if it doesn't exist or is invalid.
+     */
+    void createIndexIfRequired() {
+        try {
+            List<Boolean> validity = jdbcTemplate.queryForList(SELECT_INDEX_VALIDITY, Boolean.class);
+            if (!validity.isEmpty() && Boolean.TRUE.equals(validity.getFirst())) {
+                return;
+            }
+            if (!validity.isEmpty()) {
+                log.info("Dropping invalid item JSON index.");
+                jdbcTemplate.execute(DROP_INDEX);
+            }
+            log.info("Creating item JSON index.");
+            jdbcTemplate.execute(CREATE_INDEX);
+            log.info("Item JSON index created.");
+        } catch (DataAccessException e) {
+            log.error("Could not create item JSON index!", e);
+        }
+    }
+
+}
@@ -13,13 +13,24 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * {@link ConfigurationRepository} that uses JDBC to save configuration values.
+ * <p>
+ * Configurations are kept in memory as snapshots, so loading a configuration neither queries the database nor parses
+ * JSON text. Every snapshot binds its configuration object once, and callers get deep copies of it, which they can
+ * modify freely. Configurations that can't be copied are bound from the snapshot's JSON tree for every caller.
+ * Snapshots are replaced when a configuration is saved.
  */
 @Slf4j
 @Component
@@ -38,16 +49,31 @@ public class JdbcConfigurationRepository extends BaseJdbcRepository implements C
     @Getter
     private final JsonMapper jsonMapper;
 
+    /**
+     * Snapshots of the stored configurations by type.
+     */
+    private final Map<ConfigurationType, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented whenever snapshots are evicted. Used to discard snapshots that have been loaded concurrently.
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
     /**
      * {@inheritDoc}
      */
     @Override
     public <T> Optional<T> findByType(ConfigurationType configurationType, Class<T> configurationClazz) {
-        ConfigurationEntity configurationEntity = loadOrCreateEntity(configurationType.name());
-        if (StringUtils.hasText(configurationEntity.getContentJson())) {
-            return Optional.of(fromJson(configurationEntity.getContentJson(), configurationClazz));
+        Snapshot snapshot = getSnapshot(configurationType);
+        if (snapshot.content() == null) {
+            return Optional.empty();
+        }
+        if (!ConfigurationCopier.isSupported(configurationClazz)) {
+            return Optional.of(jsonMapper.treeToValue(snapshot.content(), configurationClazz));
         }
-        return Optional.empty();
+        Object configuration = snapshot.configurations().computeIfAbsent(configurationClazz,
+                _ -> jsonMapper.treeToValue(snapshot.content(), configurationClazz));
+        return Optional.of(ConfigurationCopier.copy(configurationClazz.cast(configuration)));
     }
 
     /**
@@ -57,6 +83,69 @@ public class JdbcConfigurationRepository extends BaseJdbcRepository implements C
     @Override
     public void saveConfiguration(ConfigurationType configurationType, Object configurationObject) {
         saveEntity(configurationType, toJson(configurationObject));
+        evictSnapshot(configurationType);
+    }
+
+    /**
+     * Returns the snapshot of a configuration, loading it from the database if required. The database is queried
+     * outside the snapshot map's locks. If the snapshots are evicted while loading, the loaded snapshot is used for the
+     * current request only, since it might contain the previous configuration.
+     *
+     * @param configurationType The type of configuration.
+     * @return The snapshot.
+     */
+    private Snapshot getSnapshot(ConfigurationType configurationType) {
+        Snapshot snapshot = snapshots.get(configurationType);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        long evictionCount = evictions.get();
+        Snapshot loadedSnapshot = loadSnapshot(configurationType);
+
+        snapshot = snapshots.putIfAbsent(configurationType, loadedSnapshot);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        if (evictions.get() != evictionCount) {
+            snapshots.remove(configurationType, loadedSnapshot);
+        }
+        return loadedSnapshot;
+    }
+
+    /**
+     * Loads the snapshot of a configuration from the database.
+     *
+     * @param configurationType The type of configuration.
+     * @return The snapshot.
+     */
+    private Snapshot loadSnapshot(ConfigurationType configurationType) {
+        ConfigurationEntity configurationEntity = loadOrCreateEntity(configurationType.name());
+        if (StringUtils.hasText(configurationEntity.getContentJson())) {
+            return new Snapshot(jsonMapper.readTree(configurationEntity.getContentJson()), new ConcurrentHashMap<>());
+        }
+        return new Snapshot(null, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Removes the snapshot of a saved configuration. If called within a transaction, the snapshot is removed again
+     * after the transaction completed, since concurrent requests might have loaded the previous configuration in the
+     * meantime.
+     *
+     * @param configurationType The type of configuration.
+     */
+    private void evictSnapshot(ConfigurationType configurationType) {
+        evictions.incrementAndGet();
+        snapshots.remove(configurationType);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictions.incrementAndGet();
+                    snapshots.remove(configurationType);
+                }
+            });
+        }
     }
 
     /**
@@ -91,4 +180,14 @@ public class JdbcConfigurationRepository extends BaseJdbcRepository implements C
         configurationEntityRepository.save(entity);
     }
 
+    /**
+     * Snapshot of a stored configuration.
+     *
+     * @param content        The parsed configuration JSON or {@code null}, if the configuration has not been saved yet.
+     * @param configurations The configuration objects bound from the JSON by their class. They are never handed out
+     *                       to callers, only copies of them.
+     */
+    private record Snapshot(JsonNode content, Map<Class<?>, Object> configurations) {
+    }
+
 }
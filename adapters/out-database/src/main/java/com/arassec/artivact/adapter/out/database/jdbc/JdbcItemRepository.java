@@ -1,29 +1,40 @@
 package com.arassec.artivact.adapter.out.database.jdbc;
 
+import com.arassec.artivact.adapter.out.database.jdbc.springdata.entity.ItemCardProjection;
 import com.arassec.artivact.adapter.out.database.jdbc.springdata.entity.ItemEntity;
 import com.arassec.artivact.adapter.out.database.jdbc.springdata.repository.ItemEntityRepository;
 import com.arassec.artivact.application.infrastructure.aspect.PersistEntityAsJson;
 import com.arassec.artivact.application.port.out.repository.ItemRepository;
+import com.arassec.artivact.domain.model.TranslatableString;
 import com.arassec.artivact.domain.model.item.Item;
 import com.arassec.artivact.domain.model.item.MediaContent;
 import com.arassec.artivact.domain.model.item.MediaCreationContent;
 import com.arassec.artivact.domain.model.misc.DirectoryDefinitions;
 import com.arassec.artivact.domain.model.misc.ExchangeDefinitions;
+import com.arassec.artivact.domain.model.search.ItemCard;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import tools.jackson.databind.json.JsonMapper;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * {@link ItemRepository} implementation that uses JDBC.
+ * <p>
+ * Parsed items are cached by their ID and technical version, so frequently requested items don't have to be parsed
+ * from JSON again on every request. The data required for item cards is additionally stored in separate columns, so
+ * item listings don't have to parse the items at all.
  */
 @Slf4j
 @Component
@@ -36,6 +47,16 @@ public class JdbcItemRepository extends BaseJdbcRepository implements ItemReposi
      */
     private final ItemEntityRepository itemEntityRepository;
 
+    /**
+     * Cache for parsed items.
+     */
+    private final ItemCache itemCache;
+
+    /**
+     * Information about the database vendor.
+     */
+    private final DatabaseVendor databaseVendor;
+
     /**
      * Jackson's ObjectMapper.
      */
@@ -50,17 +71,61 @@ public class JdbcItemRepository extends BaseJdbcRepository implements ItemReposi
     public Item save(Item item) {
         ItemEntity itemEntity = itemEntityRepository.findById(item.getId()).orElse(new ItemEntity());
 
-        itemEntity.setId(item.getId());
-        itemEntity.setContentJson(toJson(item));
-        itemEntity.setSyncVersion(item.getSyncVersion());
+        fillItemEntity(itemEntity, item);
 
         ItemEntity savedItemEntity = itemEntityRepository.save(itemEntity);
+        itemCache.invalidate(item.getId());
 
         item.setVersion(savedItemEntity.getVersion());
 
         return item;
     }
 
+    /**
+     * Saves all items with one query for the existing entities. The resulting inserts and updates are sent to the
+     * database in JDBC batches when the transaction is flushed, with the usual version checks of the entities.
+     * <p>
+     * Items with a version must match the version of the stored entity, otherwise the item has been modified since it
+     * was loaded and none of the items are saved. Items without a version overwrite the stored entity.
+     *
+     * @param items The items to save.
+     * @return The saved items in the order of the given items.
+     * @throws ObjectOptimisticLockingFailureException If an item's version doesn't match the stored one.
+     */
+    @PersistEntityAsJson(entityDir = DirectoryDefinitions.ITEMS_DIR, entityType = Item.class, filename = ExchangeDefinitions.ITEM_EXCHANGE_FILENAME_JSON)
+    @Override
+    public List<Item> saveAll(Collection<Item> items) {
+        if (items.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<String, ItemEntity> existingItemEntities = new HashMap<>();
+        itemEntityRepository.findAllById(items.stream().map(Item::getId).toList())
+                .forEach(itemEntity -> existingItemEntities.put(itemEntity.getId(), itemEntity));
+
+        List<ItemEntity> itemEntities = new ArrayList<>(items.size());
+        items.forEach(item -> {
+            ItemEntity itemEntity = existingItemEntities.getOrDefault(item.getId(), new ItemEntity());
+            if (itemEntity.getVersion() != null && item.getVersion() != null
+                    && !itemEntity.getVersion().equals(item.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(ItemEntity.class, item.getId());
+            }
+            fillItemEntity(itemEntity, item);
+            itemEntities.add(itemEntity);
+        });
+
+        Iterator<ItemEntity> savedItemEntities = itemEntityRepository.saveAll(itemEntities).iterator();
+
+        List<Item> savedItems = new ArrayList<>(items.size());
+        items.forEach(item -> {
+            itemCache.invalidate(item.getId());
+            item.setVersion(savedItemEntities.next().getVersion());
+            savedItems.add(item);
+        });
+
+        return savedItems;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -68,6 +133,7 @@ public class JdbcItemRepository extends BaseJdbcRepository implements ItemReposi
     @Override
     public void deleteById(String itemId) {
         itemEntityRepository.deleteById(itemId);
+        itemCache.invalidate(itemId);
     }
 
     /**
@@ -79,7 +145,7 @@ public class JdbcItemRepository extends BaseJdbcRepository implements ItemReposi
 
         if (itemEntityOptional.isPresent()) {
             ItemEntity itemEntity = itemEntityOptional.get();
-            return Optional.of(toItem(itemEntity));
+            return Optional.of(toCachedItem(itemEntity));
         }
 
         return Optional.empty();
@@ -93,6 +159,42 @@ public class JdbcItemRepository extends BaseJdbcRepository implements ItemReposi
         return itemEntityRepository.findItemIdsForRemoteExport(maxItems);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> findItemIdsByTag(String tagId) {
+        if (databaseVendor.isPostgreSql()) {
+            return itemEntityRepository.findItemIdsByTagInPostgreSql(tagId);
+        }
+        return findItemIds(tagId, item -> item.getTags() != null
+                && item.getTags().stream().anyMatch(tag -> tag != null && tagId.equals(tag.getId())));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> findItemIdsByPropertyValue(String propertyId, String value) {
+        if (databaseVendor.isPostgreSql()) {
+            return itemEntityRepository.findItemIdsByPropertyValueInPostgreSql(propertyId, value);
+        }
+        return findItemIds(value, item -> item.getProperties() != null
+                && item.getProperties().get(propertyId) != null
+                && value.equals(item.getProperties().get(propertyId).getValue()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> findItemIdsByRestriction(String restriction) {
+        if (databaseVendor.isPostgreSql()) {
+            return itemEntityRepository.findItemIdsByRestrictionInPostgreSql(restriction);
+        }
+        return findItemIds(restriction, item -> item.getRestrictions() != null && item.getRestrictions().contains(restriction));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -114,27 +216,215 @@ public class JdbcItemRepository extends BaseJdbcRepository implements ItemReposi
         return allItems;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<Item> streamAll(int chunkSize) {
+        return streamAllChunks(chunkSize).flatMap(chunk -> chunk.get().stream());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every chunk is loaded with its own query. Callers must not hold a transaction open while consuming the stream,
+     * otherwise the loaded entities are kept in the persistence context until the transaction ends.
+     */
+    @Override
+    public Stream<Supplier<List<Item>>> streamAllChunks(int chunkSize) {
+        Pageable chunk = PageRequest.of(0, chunkSize, Sort.by("id"));
+        return Stream.iterate(
+                        itemEntityRepository.findByIdGreaterThan("", chunk),
+                        itemEntities -> !itemEntities.isEmpty(),
+                        itemEntities -> itemEntities.size() < chunkSize ? List.of()
+                                : itemEntityRepository.findByIdGreaterThan(itemEntities.getLast().getId(), chunk))
+                .map(itemEntities -> () -> itemEntities.stream().map(this::toItem).toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long count() {
+        return itemEntityRepository.count();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public List<Item> findAllById(List<String> itemIds) {
         List<Item> allItems = new ArrayList<>();
-        itemEntityRepository.findAllById(itemIds).forEach(itemEntity -> allItems.add(toItem(itemEntity)));
+        itemEntityRepository.findAllById(itemIds).forEach(itemEntity -> allItems.add(toCachedItem(itemEntity)));
         return allItems;
     }
 
     /**
-     * Converts the given {@link ItemEntity} into an {@link Item}.
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ItemCard> findItemCardsById(List<String> itemIds) {
+        Map<String, ItemCard> itemCardsById = new HashMap<>();
+        List<String> unprojectedItemIds = new ArrayList<>();
+
+        itemEntityRepository.findItemCardsByIdIn(itemIds).forEach(itemCardProjection -> {
+            if (itemCardProjection.getRestrictionsJson() == null) {
+                unprojectedItemIds.add(itemCardProjection.getId());
+            } else {
+                itemCardsById.put(itemCardProjection.getId(), toItemCard(itemCardProjection));
+            }
+        });
+
+        // Temporary fallback for items that haven't been saved since the item card columns were introduced. Remove it
+        // once all installations have re-saved their items, e.g. with the project cleanup:
+        if (!unprojectedItemIds.isEmpty()) {
+            itemEntityRepository.findAllById(unprojectedItemIds).forEach(itemEntity -> {
+                Item item = toItem(itemEntity);
+                itemCardsById.put(item.getId(), toItemCard(item));
+            });
+        }
+
+        return itemIds.stream()
+                .map(itemCardsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Transfers the item's data into the given entity. Items without a last modification timestamp keep the stored
+     * one, or get the current time if the item is new.
+     *
+     * @param itemEntity The entity to fill.
+     * @param item       The item to store.
+     */
+    private void fillItemEntity(ItemEntity itemEntity, Item item) {
+        if (item.getLastModified() == null) {
+            item.setLastModified(Optional.ofNullable(itemEntity.getLastModified())
+                    .orElseGet(() -> Instant.now().toEpochMilli()));
+        }
+        itemEntity.setId(item.getId());
+        itemEntity.setContentJson(toJson(item));
+        itemEntity.setSyncVersion(item.getSyncVersion());
+        itemEntity.setTitleJson(toJson(item.getTitle()));
+        itemEntity.setFirstImage(getFirstImage(item));
+        itemEntity.setHasModel(hasModel(item));
+        itemEntity.setRestrictionsJson(toJson(Optional.ofNullable(item.getRestrictions()).orElseGet(Set::of)));
+        itemEntity.setLastModified(item.getLastModified());
+    }
+
+    /**
+     * Finds the IDs of all items matching the given filter. Used for databases that can't filter inside the items'
+     * JSON content. The database only returns items whose JSON contains the searched value as string, and only these
+     * candidates are parsed and checked against the filter.
+     *
+     * @param value  The value the matching items contain.
+     * @param filter The filter to apply to the candidates.
+     * @return List of item IDs, ordered by ID.
+     */
+    private List<String> findItemIds(String value, Predicate<Item> filter) {
+        return itemEntityRepository.findByContentJsonContainingOrderByIdAsc(toJson(value)).stream()
+                .filter(itemEntity -> filter.test(toItem(itemEntity)))
+                .map(ItemEntity::getId)
+                .toList();
+    }
+
+    /**
+     * Creates an {@link ItemCard} from the denormalized item card columns.
+     *
+     * @param itemCardProjection The item card columns.
+     * @return The item card.
+     */
+    @SuppressWarnings("unchecked")
+    private ItemCard toItemCard(ItemCardProjection itemCardProjection) {
+        return ItemCard.builder()
+                .itemId(itemCardProjection.getId())
+                .title(fromJson(itemCardProjection.getTitleJson(), TranslatableString.class))
+                .image(itemCardProjection.getFirstImage())
+                .hasModel(Boolean.TRUE.equals(itemCardProjection.getHasModel()))
+                .restrictions(fromJson(itemCardProjection.getRestrictionsJson(), HashSet.class))
+                .lastModified(itemCardProjection.getLastModified())
+                .build();
+    }
+
+    /**
+     * Creates an {@link ItemCard} from the parsed item.
+     *
+     * @param item The item.
+     * @return The item card.
+     */
+    private ItemCard toItemCard(Item item) {
+        return ItemCard.builder()
+                .itemId(item.getId())
+                .title(item.getTitle())
+                .image(getFirstImage(item))
+                .hasModel(hasModel(item))
+                .restrictions(Optional.ofNullable(item.getRestrictions()).map(HashSet::new).orElseGet(HashSet::new))
+                .lastModified(item.getLastModified())
+                .build();
+    }
+
+    /**
+     * Returns the filename of the item's first image.
+     *
+     * @param item The item.
+     * @return The filename or {@code null}, if the item has no images.
+     */
+    private String getFirstImage(Item item) {
+        if (item.getMediaContent() == null || item.getMediaContent().getImages() == null
+                || item.getMediaContent().getImages().isEmpty()) {
+            return null;
+        }
+        return item.getMediaContent().getImages().getFirst();
+    }
+
+    /**
+     * Returns whether the item provides a 3D model.
+     *
+     * @param item The item.
+     * @return {@code true} if the item has a model, {@code false} otherwise.
+     */
+    private boolean hasModel(Item item) {
+        return item.getMediaContent() != null && item.getMediaContent().getModels() != null
+                && !item.getMediaContent().getModels().isEmpty();
+    }
+
+    /**
+     * Converts the given {@link ItemEntity} into an {@link Item} and caches the parsed item.
+     *
+     * @param itemEntity The entity to convert.
+     * @return An {@link Item} with the entity's data.
+     */
+    private Item toCachedItem(ItemEntity itemEntity) {
+        return itemCache.get(itemEntity.getId(), itemEntity.getVersion(), () -> parseItem(itemEntity));
+    }
+
+    /**
+     * Converts the given {@link ItemEntity} into an {@link Item}. A cached item is used if available, but the parsed
+     * item is not added to the cache, since bulk loads would otherwise evict frequently requested items.
      *
      * @param itemEntity The entity to convert.
      * @return An {@link Item} with the entity's data.
      */
     private Item toItem(ItemEntity itemEntity) {
+        return itemCache.getWithoutCaching(itemEntity.getId(), itemEntity.getVersion(), () -> parseItem(itemEntity));
+    }
+
+    /**
+     * Parses the {@link Item} from the given {@link ItemEntity}.
+     *
+     * @param itemEntity The entity to parse.
+     * @return An {@link Item} with the entity's data.
+     */
+    private Item parseItem(ItemEntity itemEntity) {
         Item item = fromJson(itemEntity.getContentJson(), Item.class);
         item.setVersion(itemEntity.getVersion());
         item.setSyncVersion(itemEntity.getSyncVersion());
 
+        // Items saved before the last modification was tracked get the timestamp backfilled by the migration:
+        if (item.getLastModified() == null) {
+            item.setLastModified(itemEntity.getLastModified());
+        }
+
         if (item.getMediaContent() == null) {
             item.setMediaContent(new MediaContent());
         }
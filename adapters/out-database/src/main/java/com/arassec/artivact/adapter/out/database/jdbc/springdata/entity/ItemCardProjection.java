@@ -0,0 +1,50 @@
+package com.arassec.artivact.adapter.out.database.jdbc.springdata.entity;
+
+/**
+ * Projection of an {@link ItemEntity} to the columns required for item cards.
+ */
+public interface ItemCardProjection {
+
+    /**
+     * Returns the item's ID.
+     *
+     * @return The ID.
+     */
+    String getId();
+
+    /**
+     * Returns the item's title as JSON.
+     *
+     * @return The title.
+     */
+    String getTitleJson();
+
+    /**
+     * Returns the filename of the item's first image.
+     *
+     * @return The filename or {@code null}.
+     */
+    String getFirstImage();
+
+    /**
+     * Returns whether the item provides a 3D model.
+     *
+     * @return {@code true} if a model is available, {@code null} if the item card columns have not been filled yet.
+     */
+    Boolean getHasModel();
+
+    /**
+     * Returns the item's restrictions as JSON.
+     *
+     * @return The restrictions or {@code null}, if the item card columns have not been filled yet.
+     */
+    String getRestrictionsJson();
+
+    /**
+     * Returns the timestamp of the item's last modification.
+     *
+     * @return The timestamp or {@code null}.
+     */
+    Long getLastModified();
+
+}
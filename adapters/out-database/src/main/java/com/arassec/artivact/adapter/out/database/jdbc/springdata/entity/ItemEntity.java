@@ -36,4 +36,31 @@ public class ItemEntity {
      */
     private Integer syncVersion;
 
+    /**
+     * The item's title as JSON, denormalized from the item data for item cards.
+     */
+    private String titleJson;
+
+    /**
+     * Filename of the item's first image, denormalized from the item data for item cards.
+     */
+    private String firstImage;
+
+    /**
+     * Whether the item provides a 3D model, denormalized from the item data for item cards. {@code null} if the item
+     * has not been saved since the column was introduced.
+     */
+    private Boolean hasModel;
+
+    /**
+     * The item's restrictions as JSON, denormalized from the item data for item cards. {@code null} if the item has not
+     * been saved since the column was introduced.
+     */
+    private String restrictionsJson;
+
+    /**
+     * Timestamp of the item's last modification, denormalized from the item data for item cards.
+     */
+    private Long lastModified;
+
 }
@@ -1,11 +1,14 @@
 package com.arassec.artivact.adapter.out.database.jdbc.springdata.repository;
 
+import com.arassec.artivact.adapter.out.database.jdbc.springdata.entity.ItemCardProjection;
 import com.arassec.artivact.adapter.out.database.jdbc.springdata.entity.ItemEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -21,4 +24,64 @@ public interface ItemEntityRepository extends PagingAndSortingRepository<ItemEnt
     @Query(value = "SELECT id FROM av_item WHERE version != sync_version OR sync_version IS NULL ORDER BY id LIMIT :limit", nativeQuery = true)
     List<String> findItemIdsForRemoteExport(@Param("limit") int limit);
 
+    /**
+     * Loads the denormalized item card columns of the items with the given IDs, without their JSON content.
+     *
+     * @param ids The item IDs.
+     * @return The item card data of the found items.
+     */
+    List<ItemCardProjection> findItemCardsByIdIn(Collection<String> ids);
+
+    /**
+     * Loads the items with an ID greater than the given one. Used to iterate over all items with keyset pagination.
+     *
+     * @param id       The ID of the last item of the previous chunk.
+     * @param pageable Defines the chunk size and the order by ID.
+     * @return List of item entities.
+     */
+    List<ItemEntity> findByIdGreaterThan(String id, Pageable pageable);
+
+    /**
+     * Loads the items whose JSON content contains the given text.
+     *
+     * @param text The text to search for.
+     * @return List of item entities, ordered by ID.
+     */
+    List<ItemEntity> findByContentJsonContainingOrderByIdAsc(String text);
+
+    /**
+     * Loads IDs of items with the given tag. Uses PostgreSQL's JSON operators.
+     *
+     * @param tagId The tag's ID.
+     * @return List of item IDs.
+     */
+    @Query(value = "SELECT id FROM av_item WHERE CAST(content_json AS jsonb) @> "
+            + "jsonb_build_object('tags', jsonb_build_array(jsonb_build_object('id', CAST(:tagId AS text)))) "
+            + "ORDER BY id", nativeQuery = true)
+    List<String> findItemIdsByTagInPostgreSql(@Param("tagId") String tagId);
+
+    /**
+     * Loads IDs of items whose property has the given, untranslated value. Uses PostgreSQL's JSON operators.
+     *
+     * @param propertyId The property's ID.
+     * @param value      The property value.
+     * @return List of item IDs.
+     */
+    @Query(value = "SELECT id FROM av_item WHERE CAST(content_json AS jsonb) @> "
+            + "jsonb_build_object('properties', jsonb_build_object(CAST(:propertyId AS text), "
+            + "jsonb_build_object('value', CAST(:value AS text)))) "
+            + "ORDER BY id", nativeQuery = true)
+    List<String> findItemIdsByPropertyValueInPostgreSql(@Param("propertyId") String propertyId, @Param("value") String value);
+
+    /**
+     * Loads IDs of items with the given restriction. Uses PostgreSQL's JSON operators.
+     *
+     * @param restriction The restriction, e.g. a role.
+     * @return List of item IDs.
+     */
+    @Query(value = "SELECT id FROM av_item WHERE CAST(content_json AS jsonb) @> "
+            + "jsonb_build_object('restrictions', jsonb_build_array(CAST(:restriction AS text))) "
+            + "ORDER BY id", nativeQuery = true)
+    List<String> findItemIdsByRestrictionInPostgreSql(@Param("restriction") String restriction);
+
 }
@@ -0,0 +1,6 @@
+ALTER TABLE av_item
+    ADD title_json TEXT;
+ALTER TABLE av_item
+    ADD first_image VARCHAR(512);
+ALTER TABLE av_item
+    ADD has_model BOOLEAN;
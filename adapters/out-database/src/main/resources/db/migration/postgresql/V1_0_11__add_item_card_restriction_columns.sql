@@ -0,0 +1,4 @@
+ALTER TABLE av_item
+    ADD restrictions_json TEXT;
+ALTER TABLE av_item
+    ADD last_modified BIGINT;
@@ -0,0 +1,3 @@
+UPDATE av_item
+SET last_modified = CAST(EXTRACT(EPOCH FROM CURRENT_TIMESTAMP) * 1000 AS BIGINT)
+WHERE last_modified IS NULL;
@@ -0,0 +1,119 @@
+package com.arassec.artivact.adapter.out.database.jdbc;
+
+import com.arassec.artivact.domain.model.BaseTranslatableRestrictedObject;
+import com.arassec.artivact.domain.model.TranslatableString;
+import com.arassec.artivact.domain.model.appearance.ColorTheme;
+import com.arassec.artivact.domain.model.appearance.License;
+import com.arassec.artivact.domain.model.configuration.AiConfiguration;
+import com.arassec.artivact.domain.model.configuration.AppearanceConfiguration;
+import com.arassec.artivact.domain.model.configuration.PeripheralsConfiguration;
+import com.arassec.artivact.domain.model.configuration.PropertiesConfiguration;
+import com.arassec.artivact.domain.model.property.Property;
+import com.arassec.artivact.domain.model.property.PropertyCategory;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the {@link ConfigurationCopier}.
+ */
+class ConfigurationCopierTest {
+
+    /**
+     * Tests that the appearance configuration is copied deeply.
+     */
+    @Test
+    void testCopyAppearanceConfiguration() {
+        ColorTheme colorTheme = new ColorTheme();
+        colorTheme.setPrimary("#000000");
+
+        AppearanceConfiguration appearanceConfiguration = new AppearanceConfiguration();
+        appearanceConfiguration.setApplicationTitle("title");
+        appearanceConfiguration.setColorTheme(colorTheme);
+        appearanceConfiguration.setLicense(new License(new TranslatableString("prefix"),
+                new TranslatableString("label"), new TranslatableString("suffix"), "url"));
+
+        AppearanceConfiguration copy = ConfigurationCopier.copy(appearanceConfiguration);
+        copy.getColorTheme().setPrimary("#ffffff");
+        copy.getLicense().getPrefix().setTranslatedValue("translated");
+
+        assertThat(copy).isNotSameAs(appearanceConfiguration);
+        assertThat(copy.getApplicationTitle()).isEqualTo("title");
+        assertThat(copy.getLicense().getLicenseUrl()).isEqualTo("url");
+        assertThat(appearanceConfiguration.getColorTheme().getPrimary()).isEqualTo("#000000");
+        assertThat(appearanceConfiguration.getLicense().getPrefix().getTranslatedValue()).isNull();
+    }
+
+    /**
+     * Tests that the properties configuration is copied deeply.
+     */
+    @Test
+    void testCopyPropertiesConfiguration() {
+        BaseTranslatableRestrictedObject value = new BaseTranslatableRestrictedObject();
+        value.setValue("value");
+
+        Property property = new Property();
+        property.setId("propertyId");
+        property.setRestrictions(new HashSet<>(Set.of("ROLE_USER")));
+        property.setTranslations(new HashMap<>(Map.of("de", "Eigenschaft")));
+        property.setValueRange(new LinkedList<>(List.of(value)));
+
+        PropertyCategory category = new PropertyCategory();
+        category.setId("categoryId");
+        category.setProperties(new LinkedList<>(List.of(property)));
+
+        PropertiesConfiguration propertiesConfiguration = new PropertiesConfiguration();
+        propertiesConfiguration.getCategories().add(category);
+
+        PropertiesConfiguration copy = ConfigurationCopier.copy(propertiesConfiguration);
+        Property propertyCopy = copy.getCategories().getFirst().getProperties().getFirst();
+        propertyCopy.getRestrictions().clear();
+        propertyCopy.getTranslations().clear();
+        propertyCopy.getValueRange().getFirst().setTranslatedValue("translated");
+        copy.getCategories().getFirst().getProperties().clear();
+
+        assertThat(copy.getCategories().getFirst().getId()).isEqualTo("categoryId");
+        assertThat(propertyCopy.getId()).isEqualTo("propertyId");
+        assertThat(category.getProperties()).containsExactly(property);
+        assertThat(property.getRestrictions()).containsExactly("ROLE_USER");
+        assertThat(property.getTranslations()).isEqualTo(Map.of("de", "Eigenschaft"));
+        assertThat(value.getTranslatedValue()).isNull();
+    }
+
+    /**
+     * Tests that the AI configuration is copied deeply.
+     */
+    @Test
+    void testCopyAiConfiguration() {
+        AiConfiguration aiConfiguration = new AiConfiguration();
+        aiConfiguration.setTranslationApiKey("key");
+
+        AiConfiguration copy = ConfigurationCopier.copy(aiConfiguration);
+        copy.getTranslationPrompt().setValue("changed");
+
+        assertThat(copy.getTranslationApiKey()).isEqualTo("key");
+        assertThat(aiConfiguration.getTranslationPrompt().getValue())
+                .isEqualTo(AiConfiguration.DEFAULT_TRANSLATION_PROMPT);
+    }
+
+    /**
+     * Tests that unsupported configurations are rejected.
+     */
+    @Test
+    void testCopyUnsupportedConfiguration() {
+        PeripheralsConfiguration peripheralsConfiguration = new PeripheralsConfiguration();
+
+        assertThat(ConfigurationCopier.isSupported(PeripheralsConfiguration.class)).isFalse();
+        assertThatThrownBy(() -> ConfigurationCopier.copy(peripheralsConfiguration))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
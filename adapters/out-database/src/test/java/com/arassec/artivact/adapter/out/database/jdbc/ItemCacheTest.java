@@ -0,0 +1,132 @@
+package com.arassec.artivact.adapter.out.database.jdbc;
+
+import com.arassec.artivact.domain.model.TranslatableString;
+import com.arassec.artivact.domain.model.item.CreationImageSet;
+import com.arassec.artivact.domain.model.item.Item;
+import com.arassec.artivact.domain.model.tag.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the {@link ItemCache}.
+ */
+class ItemCacheTest {
+
+    /**
+     * The cache under test.
+     */
+    private final ItemCache itemCache = new ItemCache();
+
+    /**
+     * Tests that items are cached per version and that hits and misses are counted.
+     */
+    @Test
+    void testGetCountsHitsAndMisses() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        itemCache.bindTo(meterRegistry);
+
+        Item item = createItem();
+
+        itemCache.get("id", 1, () -> item);
+        itemCache.get("id", 1, () -> item);
+        itemCache.get("id", 2, () -> item);
+
+        assertThat(meterRegistry.get("artivact.item.cache.requests").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("artivact.item.cache.requests").tag("result", "miss").functionCounter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("artivact.item.cache.size").gauge().value()).isEqualTo(1);
+    }
+
+    /**
+     * Tests that callers get deep copies of cached items.
+     */
+    @Test
+    void testGetReturnsCopies() {
+        Item item = createItem();
+
+        Item first = itemCache.get("id", 1, () -> item);
+        first.getTitle().getTranslations().put("en", "changed");
+        first.getTags().getFirst().setValue("changed");
+        first.getMediaContent().getImages().add("changed.jpg");
+        first.getMediaCreationContent().getImageSets().getFirst().getFiles().clear();
+        first.getRestrictions().add("ROLE_ADMIN");
+
+        Item second = itemCache.get("id", 1, () -> null);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getTitle().getTranslations()).isEqualTo(Map.of("de", "Titel"));
+        assertThat(second.getTags().getFirst().getValue()).isEqualTo("tag");
+        assertThat(second.getMediaContent().getImages()).containsExactly("image.jpg");
+        assertThat(second.getMediaCreationContent().getImageSets().getFirst().getFiles()).containsExactly("file.jpg");
+        assertThat(second.getRestrictions()).containsExactly("ROLE_USER");
+        assertThat(second.getProperties().get("propertyId").getValue()).isEqualTo("value");
+    }
+
+    /**
+     * Tests that bulk loads don't fill the cache.
+     */
+    @Test
+    void testGetWithoutCaching() {
+        Item item = createItem();
+
+        itemCache.getWithoutCaching("id", 1, () -> item);
+        assertThat(itemCache.size()).isZero();
+
+        itemCache.get("id", 1, () -> item);
+        assertThat(itemCache.getWithoutCaching("id", 1, () -> null)).isNotNull();
+    }
+
+    /**
+     * Tests invalidating cached items.
+     */
+    @Test
+    void testInvalidate() {
+        itemCache.get("id", 1, this::createItem);
+        itemCache.invalidate("id");
+        assertThat(itemCache.size()).isZero();
+    }
+
+    /**
+     * Tests that the cache is bounded and evictions are counted.
+     */
+    @Test
+    void testCacheIsBounded() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        itemCache.bindTo(meterRegistry);
+
+        for (int i = 0; i <= ItemCache.MAX_ENTRIES; i++) {
+            itemCache.get("id" + i, 1, this::createItem);
+        }
+
+        assertThat(itemCache.size()).isEqualTo(ItemCache.MAX_ENTRIES);
+        assertThat(meterRegistry.get("artivact.item.cache.evictions").functionCounter().count()).isEqualTo(1);
+    }
+
+    /**
+     * Creates an item for testing.
+     *
+     * @return A new item.
+     */
+    private Item createItem() {
+        Item item = new Item();
+        item.setId("id");
+        item.setRestrictions(Set.of("ROLE_USER"));
+        item.setTitle(new TranslatableString("title", null, Map.of("de", "Titel")));
+        item.getProperties().put("propertyId", new TranslatableString("value"));
+        Tag tag = new Tag();
+        tag.setId("tagId");
+        tag.setValue("tag");
+        item.getTags().add(tag);
+        item.getMediaContent().getImages().add("image.jpg");
+        item.getMediaCreationContent().getImageSets().add(new CreationImageSet(false, null, List.of("file.jpg")));
+        return item;
+    }
+
+}
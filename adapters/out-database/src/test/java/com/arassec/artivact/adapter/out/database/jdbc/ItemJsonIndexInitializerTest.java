@@ -0,0 +1,93 @@
+package com.arassec.artivact.adapter.out.database.jdbc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link ItemJsonIndexInitializer}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ItemJsonIndexInitializerTest {
+
+    /**
+     * Information about the database vendor.
+     */
+    @Mock
+    private DatabaseVendor databaseVendor;
+
+    /**
+     * Spring's JDBC template.
+     */
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Tests that nothing is done if the index is not enabled.
+     */
+    @Test
+    void testInitializeDisabled() {
+        new ItemJsonIndexInitializer(databaseVendor, jdbcTemplate, false).initialize();
+
+        verifyNoInteractions(databaseVendor, jdbcTemplate);
+    }
+
+    /**
+     * Tests that nothing is done on databases other than PostgreSQL.
+     */
+    @Test
+    void testInitializeWithoutPostgreSql() {
+        when(databaseVendor.isPostgreSql()).thenReturn(false);
+
+        new ItemJsonIndexInitializer(databaseVendor, jdbcTemplate, true).initialize();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    /**
+     * Tests creating a missing index.
+     */
+    @Test
+    void testCreateMissingIndex() {
+        when(jdbcTemplate.queryForList(ItemJsonIndexInitializer.SELECT_INDEX_VALIDITY, Boolean.class)).thenReturn(List.of());
+
+        new ItemJsonIndexInitializer(databaseVendor, jdbcTemplate, true).createIndexIfRequired();
+
+        verify(jdbcTemplate, never()).execute(ItemJsonIndexInitializer.DROP_INDEX);
+        verify(jdbcTemplate).execute(ItemJsonIndexInitializer.CREATE_INDEX);
+    }
+
+    /**
+     * Tests that a valid index is kept.
+     */
+    @Test
+    void testKeepValidIndex() {
+        when(jdbcTemplate.queryForList(ItemJsonIndexInitializer.SELECT_INDEX_VALIDITY, Boolean.class))
+                .thenReturn(List.of(true));
+
+        new ItemJsonIndexInitializer(databaseVendor, jdbcTemplate, true).createIndexIfRequired();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    /**
+     * Tests that an invalid index, left behind by an interrupted build, is created again.
+     */
+    @Test
+    void testRecreateInvalidIndex() {
+        when(jdbcTemplate.queryForList(ItemJsonIndexInitializer.SELECT_INDEX_VALIDITY, Boolean.class))
+                .thenReturn(List.of(false));
+
+        new ItemJsonIndexInitializer(databaseVendor, jdbcTemplate, true).createIndexIfRequired();
+
+        verify(jdbcTemplate).execute(ItemJsonIndexInitializer.DROP_INDEX);
+        verify(jdbcTemplate).execute(ItemJsonIndexInitializer.CREATE_INDEX);
+    }
+
+}
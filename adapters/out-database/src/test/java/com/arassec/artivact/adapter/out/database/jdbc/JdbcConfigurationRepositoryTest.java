@@ -4,17 +4,21 @@ import com.arassec.artivact.adapter.out.database.jdbc.springdata.entity.Configur
 import com.arassec.artivact.adapter.out.database.jdbc.springdata.repository.ConfigurationEntityRepository;
 import com.arassec.artivact.domain.model.configuration.ConfigurationType;
 import com.arassec.artivact.domain.model.configuration.ExchangeConfiguration;
+import com.arassec.artivact.domain.model.configuration.PeripheralsConfiguration;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -65,9 +69,9 @@ class JdbcConfigurationRepositoryTest {
 
         ExchangeConfiguration exchangeConfiguration = new ExchangeConfiguration();
 
-        when(jsonMapper.readValue("{contentJson}", ExchangeConfiguration.class)).thenReturn(
-                exchangeConfiguration
-        );
+        JsonNode jsonNode = mock(JsonNode.class);
+        when(jsonMapper.readTree("{contentJson}")).thenReturn(jsonNode);
+        when(jsonMapper.treeToValue(jsonNode, ExchangeConfiguration.class)).thenReturn(exchangeConfiguration);
 
         Optional<ExchangeConfiguration> exchangeConfigurationOptional =
                 jdbcConfigurationRepository.findByType(ConfigurationType.EXCHANGE, ExchangeConfiguration.class);
@@ -76,6 +80,121 @@ class JdbcConfigurationRepositoryTest {
         assertEquals(exchangeConfiguration, exchangeConfigurationOptional.get());
     }
 
+    /**
+     * Tests that configurations are loaded from the database only once and again after they have been saved.
+     */
+    @Test
+    @SneakyThrows
+    void testFindByTypeUsesSnapshot() {
+        ConfigurationEntity configurationEntity = new ConfigurationEntity();
+        configurationEntity.setContentJson("{contentJson}");
+
+        when(configurationEntityRepository.findById("EXCHANGE")).thenReturn(Optional.of(configurationEntity));
+
+        JsonNode jsonNode = mock(JsonNode.class);
+        when(jsonMapper.readTree("{contentJson}")).thenReturn(jsonNode);
+        when(jsonMapper.treeToValue(jsonNode, ExchangeConfiguration.class))
+                .thenAnswer(invocation -> new ExchangeConfiguration());
+
+        ExchangeConfiguration first = jdbcConfigurationRepository
+                .findByType(ConfigurationType.EXCHANGE, ExchangeConfiguration.class).orElseThrow();
+        ExchangeConfiguration second = jdbcConfigurationRepository
+                .findByType(ConfigurationType.EXCHANGE, ExchangeConfiguration.class).orElseThrow();
+
+        assertNotSame(first, second);
+        verify(configurationEntityRepository, times(1)).findById("EXCHANGE");
+        verify(jsonMapper, times(1)).treeToValue(jsonNode, ExchangeConfiguration.class);
+
+        when(jsonMapper.writeValueAsString(second)).thenReturn("{contentJson}");
+        jdbcConfigurationRepository.saveConfiguration(ConfigurationType.EXCHANGE, second);
+        jdbcConfigurationRepository.findByType(ConfigurationType.EXCHANGE, ExchangeConfiguration.class);
+
+        verify(jsonMapper, times(2)).readTree("{contentJson}");
+    }
+
+    /**
+     * Tests that modifying a loaded configuration doesn't affect the cached configuration.
+     */
+    @Test
+    @SneakyThrows
+    void testFindByTypeReturnsCopies() {
+        ConfigurationEntity configurationEntity = new ConfigurationEntity();
+        configurationEntity.setContentJson("{contentJson}");
+
+        when(configurationEntityRepository.findById("EXCHANGE")).thenReturn(Optional.of(configurationEntity));
+
+        JsonNode jsonNode = mock(JsonNode.class);
+        when(jsonMapper.readTree("{contentJson}")).thenReturn(jsonNode);
+        when(jsonMapper.treeToValue(jsonNode, ExchangeConfiguration.class))
+                .thenReturn(new ExchangeConfiguration("server", "token"));
+
+        jdbcConfigurationRepository.findByType(ConfigurationType.EXCHANGE, ExchangeConfiguration.class).orElseThrow()
+                .setRemoteServer("modified");
+
+        assertEquals("server", jdbcConfigurationRepository
+                .findByType(ConfigurationType.EXCHANGE, ExchangeConfiguration.class).orElseThrow().getRemoteServer());
+    }
+
+    /**
+     * Tests that configurations which can't be copied are bound from the snapshot on every request.
+     */
+    @Test
+    @SneakyThrows
+    void testFindByTypeBindsUnsupportedConfigurations() {
+        ConfigurationEntity configurationEntity = new ConfigurationEntity();
+        configurationEntity.setContentJson("{contentJson}");
+
+        when(configurationEntityRepository.findById("PERIPHERALS")).thenReturn(Optional.of(configurationEntity));
+
+        JsonNode jsonNode = mock(JsonNode.class);
+        when(jsonMapper.readTree("{contentJson}")).thenReturn(jsonNode);
+        when(jsonMapper.treeToValue(jsonNode, PeripheralsConfiguration.class))
+                .thenAnswer(invocation -> new PeripheralsConfiguration());
+
+        PeripheralsConfiguration first = jdbcConfigurationRepository
+                .findByType(ConfigurationType.PERIPHERALS, PeripheralsConfiguration.class).orElseThrow();
+        PeripheralsConfiguration second = jdbcConfigurationRepository
+                .findByType(ConfigurationType.PERIPHERALS, PeripheralsConfiguration.class).orElseThrow();
+
+        assertNotSame(first, second);
+        verify(configurationEntityRepository, times(1)).findById("PERIPHERALS");
+        verify(jsonMapper, times(2)).treeToValue(jsonNode, PeripheralsConfiguration.class);
+    }
+
+    /**
+     * Tests that a snapshot loaded while the configuration is saved is not cached, since it might contain the previous
+     * configuration.
+     */
+    @Test
+    @SneakyThrows
+    void testFindByTypeDiscardsSnapshotEvictedWhileLoading() {
+        ConfigurationEntity configurationEntity = new ConfigurationEntity();
+        configurationEntity.setContentJson("{contentJson}");
+
+        ExchangeConfiguration exchangeConfiguration = new ExchangeConfiguration();
+        when(jsonMapper.writeValueAsString(exchangeConfiguration)).thenReturn("{contentJson}");
+
+        AtomicBoolean saved = new AtomicBoolean();
+        when(configurationEntityRepository.findById("EXCHANGE")).thenAnswer(invocation -> {
+            if (saved.compareAndSet(false, true)) {
+                jdbcConfigurationRepository.saveConfiguration(ConfigurationType.EXCHANGE, exchangeConfiguration);
+            }
+            return Optional.of(configurationEntity);
+        });
+
+        JsonNode jsonNode = mock(JsonNode.class);
+        when(jsonMapper.readTree("{contentJson}")).thenReturn(jsonNode);
+        when(jsonMapper.treeToValue(jsonNode, ExchangeConfiguration.class))
+                .thenAnswer(invocation -> new ExchangeConfiguration());
+
+        jdbcConfigurationRepository.findByType(ConfigurationType.EXCHANGE, ExchangeConfiguration.class);
+        jdbcConfigurationRepository.findByType(ConfigurationType.EXCHANGE, ExchangeConfiguration.class);
+        jdbcConfigurationRepository.findByType(ConfigurationType.EXCHANGE, ExchangeConfiguration.class);
+
+        // First load (including the save's lookup) and the reload of the discarded snapshot:
+        verify(configurationEntityRepository, times(3)).findById("EXCHANGE");
+    }
+
     /**
      * Tests saving a configuration.
      */
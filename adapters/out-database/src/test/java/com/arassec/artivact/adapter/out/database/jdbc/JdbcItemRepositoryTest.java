@@ -1,25 +1,38 @@
 package com.arassec.artivact.adapter.out.database.jdbc;
 
+import com.arassec.artivact.adapter.out.database.jdbc.springdata.entity.ItemCardProjection;
 import com.arassec.artivact.adapter.out.database.jdbc.springdata.entity.ItemEntity;
 import com.arassec.artivact.adapter.out.database.jdbc.springdata.repository.ItemEntityRepository;
+import com.arassec.artivact.domain.model.TranslatableString;
 import com.arassec.artivact.domain.model.item.Item;
+import com.arassec.artivact.domain.model.search.ItemCard;
+import com.arassec.artivact.domain.model.tag.Tag;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -48,6 +61,18 @@ class JdbcItemRepositoryTest {
     @Mock
     private JsonMapper jsonMapper;
 
+    /**
+     * Cache for parsed items.
+     */
+    @Spy
+    private ItemCache itemCache = new ItemCache();
+
+    /**
+     * Database vendor mock.
+     */
+    @Mock
+    private DatabaseVendor databaseVendor;
+
     /**
      * Tests saving a new item.
      */
@@ -69,6 +94,7 @@ class JdbcItemRepositoryTest {
         Item savedItem = jdbcItemRepository.save(item);
 
         assertEquals(43, savedItem.getVersion());
+        assertNotNull(savedItem.getLastModified());
     }
 
     /**
@@ -103,6 +129,29 @@ class JdbcItemRepositoryTest {
         assertEquals("{contentJson}", argCap.getValue().getContentJson());
     }
 
+    /**
+     * Tests that saving an item without last modification timestamp keeps the stored timestamp.
+     */
+    @Test
+    @SneakyThrows
+    void testSaveKeepsStoredLastModified() {
+        Item item = new Item();
+        item.setId("id");
+
+        when(jsonMapper.writeValueAsString(item)).thenReturn("{contentJson}");
+
+        ItemEntity existingItemEntity = new ItemEntity();
+        existingItemEntity.setLastModified(123L);
+
+        when(itemEntityRepository.findById("id")).thenReturn(Optional.of(existingItemEntity));
+        when(itemEntityRepository.save(any(ItemEntity.class))).thenReturn(new ItemEntity());
+
+        jdbcItemRepository.save(item);
+
+        assertEquals(123L, item.getLastModified());
+        assertEquals(123L, existingItemEntity.getLastModified());
+    }
+
     /**
      * Tests deleting an item by its ID.
      */
@@ -136,6 +185,59 @@ class JdbcItemRepositoryTest {
         assertEquals(42, itemOptional.get().getVersion());
     }
 
+    /**
+     * Tests that items without last modification timestamp in their JSON content get the stored timestamp.
+     */
+    @Test
+    @SneakyThrows
+    void testFindByIdUsesStoredLastModified() {
+        when(jsonMapper.readValue("{contentJson}", Item.class)).thenReturn(new Item());
+
+        ItemEntity itemEntity = new ItemEntity();
+        itemEntity.setVersion(1);
+        itemEntity.setContentJson("{contentJson}");
+        itemEntity.setLastModified(123L);
+
+        when(itemEntityRepository.findById("id")).thenReturn(Optional.of(itemEntity));
+
+        assertEquals(123L, jdbcItemRepository.findById("id").orElseThrow().getLastModified());
+    }
+
+    /**
+     * Tests that parsed items are cached per version and that callers get copies.
+     */
+    @Test
+    @SneakyThrows
+    void testFindByIdUsesCache() {
+        Item item = new Item();
+        item.setId("id");
+        item.setTitle(new TranslatableString("title"));
+
+        when(jsonMapper.readValue("{contentJson}", Item.class)).thenReturn(item);
+
+        ItemEntity itemEntity = new ItemEntity();
+        itemEntity.setId("id");
+        itemEntity.setVersion(42);
+        itemEntity.setContentJson("{contentJson}");
+
+        when(itemEntityRepository.findById("id")).thenReturn(Optional.of(itemEntity));
+
+        Item first = jdbcItemRepository.findById("id").orElseThrow();
+        first.getTitle().setValue("modified");
+
+        Item second = jdbcItemRepository.findById("id").orElseThrow();
+        assertEquals("title", second.getTitle().getValue());
+        assertEquals(42, second.getVersion());
+        verify(jsonMapper, times(1)).readValue("{contentJson}", Item.class);
+
+        itemEntity.setVersion(43);
+        assertEquals(43, jdbcItemRepository.findById("id").orElseThrow().getVersion());
+        verify(jsonMapper, times(2)).readValue("{contentJson}", Item.class);
+
+        jdbcItemRepository.deleteById("id");
+        assertEquals(0, itemCache.size());
+    }
+
     /**
      * Tests finding items for remote export.
      */
@@ -190,6 +292,109 @@ class JdbcItemRepositoryTest {
         assertEquals(23, items.getFirst().getVersion());
     }
 
+    /**
+     * Tests saving new and existing items at once.
+     */
+    @Test
+    @SneakyThrows
+    void testSaveAll() {
+        Item existingItem = new Item();
+        existingItem.setId("id1");
+        existingItem.setVersion(5);
+        Item newItem = new Item();
+        newItem.setId("id2");
+        newItem.setVersion(0);
+
+        when(jsonMapper.writeValueAsString(any())).thenReturn("{contentJson}");
+        when(itemEntityRepository.findAllById(List.of("id1", "id2"))).thenReturn(List.of(createItemEntity("id1", 5)));
+        when(itemEntityRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<ItemEntity> itemEntities = invocation.getArgument(0);
+            itemEntities.forEach(itemEntity -> itemEntity.setVersion(itemEntity.getVersion() == null ? 0 : itemEntity.getVersion() + 1));
+            return itemEntities;
+        });
+
+        List<Item> savedItems = jdbcItemRepository.saveAll(List.of(existingItem, newItem));
+
+        assertEquals(List.of(existingItem, newItem), savedItems);
+        assertEquals(6, existingItem.getVersion());
+        assertEquals(0, newItem.getVersion());
+        verify(itemEntityRepository, never()).findById(anyString());
+        verify(itemEntityRepository, never()).save(any(ItemEntity.class));
+        verify(itemCache).invalidate("id1");
+        verify(itemCache).invalidate("id2");
+    }
+
+    /**
+     * Tests that saving items rejects items that have been modified since they were loaded.
+     */
+    @Test
+    void testSaveAllRejectsStaleVersion() {
+        Item staleItem = new Item();
+        staleItem.setId("id1");
+        staleItem.setVersion(4);
+
+        when(itemEntityRepository.findAllById(List.of("id1"))).thenReturn(List.of(createItemEntity("id1", 5)));
+
+        List<Item> items = List.of(staleItem);
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> jdbcItemRepository.saveAll(items));
+
+        verify(itemEntityRepository, never()).saveAll(anyList());
+        verify(itemCache, never()).invalidate(anyString());
+    }
+
+    /**
+     * Tests streaming all items chunk by chunk.
+     */
+    @Test
+    @SneakyThrows
+    void testStreamAll() {
+        when(jsonMapper.readValue(anyString(), eq(Item.class))).thenAnswer(invocation -> new Item());
+
+        Pageable chunk = PageRequest.of(0, 2, Sort.by("id"));
+
+        when(itemEntityRepository.findByIdGreaterThan("", chunk))
+                .thenReturn(List.of(createItemEntity("id1", 1), createItemEntity("id2", 2)));
+        when(itemEntityRepository.findByIdGreaterThan("id2", chunk)).thenReturn(List.of(createItemEntity("id3", 3)));
+
+        try (Stream<Item> items = jdbcItemRepository.streamAll(2)) {
+            assertEquals(List.of(1, 2, 3), items.map(Item::getVersion).toList());
+        }
+
+        verify(itemEntityRepository, times(2)).findByIdGreaterThan(anyString(), any(Pageable.class));
+    }
+
+    /**
+     * Tests that chunks are loaded while streaming, but their items are only parsed when requested.
+     */
+    @Test
+    @SneakyThrows
+    void testStreamAllChunksParsesLazily() {
+        when(jsonMapper.readValue(anyString(), eq(Item.class))).thenAnswer(invocation -> new Item());
+
+        Pageable chunk = PageRequest.of(0, 2, Sort.by("id"));
+
+        when(itemEntityRepository.findByIdGreaterThan("", chunk))
+                .thenReturn(List.of(createItemEntity("id1", 1), createItemEntity("id2", 2)));
+        when(itemEntityRepository.findByIdGreaterThan("id2", chunk)).thenReturn(List.of(createItemEntity("id3", 3)));
+
+        try (Stream<Supplier<List<Item>>> chunks = jdbcItemRepository.streamAllChunks(2)) {
+            List<Supplier<List<Item>>> loadedChunks = chunks.toList();
+            verify(jsonMapper, never()).readValue(anyString(), eq(Item.class));
+
+            assertEquals(List.of(1, 2), loadedChunks.get(0).get().stream().map(Item::getVersion).toList());
+            assertEquals(List.of(3), loadedChunks.get(1).get().stream().map(Item::getVersion).toList());
+        }
+    }
+
+    /**
+     * Tests counting all items.
+     */
+    @Test
+    void testCount() {
+        when(itemEntityRepository.count()).thenReturn(42L);
+        assertEquals(42L, jdbcItemRepository.count());
+    }
+
     /**
      * Tests finding all items with certain IDs.
      */
@@ -212,4 +417,154 @@ class JdbcItemRepositoryTest {
         assertEquals(23, items.getFirst().getVersion());
     }
 
+    /**
+     * Tests that the item card columns are filled when saving an item.
+     */
+    @Test
+    @SneakyThrows
+    void testSaveStoresItemCardColumns() {
+        Item item = new Item();
+        item.setId("id");
+        item.setTitle(new TranslatableString("title"));
+        item.getMediaContent().getImages().add("image.jpg");
+        item.getMediaContent().getModels().add("model.glb");
+        item.setRestrictions(Set.of("ROLE_ADMIN"));
+        item.setLastModified(123L);
+
+        when(jsonMapper.writeValueAsString(item)).thenReturn("{contentJson}");
+        when(jsonMapper.writeValueAsString(item.getTitle())).thenReturn("{titleJson}");
+        when(jsonMapper.writeValueAsString(item.getRestrictions())).thenReturn("[\"ROLE_ADMIN\"]");
+        when(itemEntityRepository.save(any(ItemEntity.class))).thenReturn(new ItemEntity());
+
+        jdbcItemRepository.save(item);
+
+        ArgumentCaptor<ItemEntity> argCap = ArgumentCaptor.forClass(ItemEntity.class);
+        verify(itemEntityRepository, times(1)).save(argCap.capture());
+
+        assertEquals("{titleJson}", argCap.getValue().getTitleJson());
+        assertEquals("image.jpg", argCap.getValue().getFirstImage());
+        assertEquals(true, argCap.getValue().getHasModel());
+        assertEquals("[\"ROLE_ADMIN\"]", argCap.getValue().getRestrictionsJson());
+        assertEquals(123L, argCap.getValue().getLastModified());
+    }
+
+    /**
+     * Tests finding item cards, falling back to parsing items whose item card columns are not filled yet.
+     */
+    @Test
+    @SneakyThrows
+    void testFindItemCardsById() {
+        TranslatableString title = new TranslatableString("title");
+        when(jsonMapper.readValue("{titleJson}", TranslatableString.class)).thenReturn(title);
+
+        ItemCardProjection projectedItemCard = mock(ItemCardProjection.class);
+        when(projectedItemCard.getId()).thenReturn("id1");
+        when(projectedItemCard.getTitleJson()).thenReturn("{titleJson}");
+        when(projectedItemCard.getFirstImage()).thenReturn("image.jpg");
+        when(projectedItemCard.getHasModel()).thenReturn(false);
+        when(projectedItemCard.getRestrictionsJson()).thenReturn("{restrictionsJson}");
+        when(projectedItemCard.getLastModified()).thenReturn(123L);
+        when(jsonMapper.readValue("{restrictionsJson}", HashSet.class)).thenReturn(new HashSet<>(Set.of("ROLE_ADMIN")));
+
+        ItemCardProjection unprojectedItemCard = mock(ItemCardProjection.class);
+        when(unprojectedItemCard.getId()).thenReturn("id2");
+        when(unprojectedItemCard.getRestrictionsJson()).thenReturn(null);
+
+        List<String> ids = List.of("id2", "id1", "id3");
+        when(itemEntityRepository.findItemCardsByIdIn(ids)).thenReturn(List.of(projectedItemCard, unprojectedItemCard));
+
+        Item item = new Item();
+        item.setId("id2");
+        item.getMediaContent().getModels().add("model.glb");
+        item.setRestrictions(Set.of("ROLE_USER"));
+        when(jsonMapper.readValue("{contentJson}", Item.class)).thenReturn(item);
+
+        ItemEntity itemEntity = new ItemEntity();
+        itemEntity.setId("id2");
+        itemEntity.setVersion(1);
+        itemEntity.setContentJson("{contentJson}");
+        when(itemEntityRepository.findAllById(List.of("id2"))).thenReturn(List.of(itemEntity));
+
+        List<ItemCard> itemCards = jdbcItemRepository.findItemCardsById(ids);
+
+        assertEquals(2, itemCards.size());
+        assertEquals("id2", itemCards.getFirst().getItemId());
+        assertTrue(itemCards.getFirst().isHasModel());
+        assertEquals(Set.of("ROLE_USER"), itemCards.getFirst().getRestrictions());
+        assertEquals("id1", itemCards.get(1).getItemId());
+        assertEquals(title, itemCards.get(1).getTitle());
+        assertEquals("image.jpg", itemCards.get(1).getImage());
+        assertEquals(Set.of("ROLE_ADMIN"), itemCards.get(1).getRestrictions());
+        assertEquals(123L, itemCards.get(1).getLastModified());
+    }
+
+    /**
+     * Tests finding item IDs by tag, property value and restriction with PostgreSQL's JSON operators.
+     */
+    @Test
+    void testFindItemIdsInPostgreSql() {
+        when(databaseVendor.isPostgreSql()).thenReturn(true);
+        when(itemEntityRepository.findItemIdsByTagInPostgreSql("tag")).thenReturn(List.of("id1"));
+        when(itemEntityRepository.findItemIdsByPropertyValueInPostgreSql("property", "value")).thenReturn(List.of("id2"));
+        when(itemEntityRepository.findItemIdsByRestrictionInPostgreSql("ROLE_ADMIN")).thenReturn(List.of("id3"));
+
+        assertEquals(List.of("id1"), jdbcItemRepository.findItemIdsByTag("tag"));
+        assertEquals(List.of("id2"), jdbcItemRepository.findItemIdsByPropertyValue("property", "value"));
+        assertEquals(List.of("id3"), jdbcItemRepository.findItemIdsByRestriction("ROLE_ADMIN"));
+
+        verify(itemEntityRepository, never()).findAll(any(Sort.class));
+    }
+
+    /**
+     * Tests finding item IDs by tag, property value and restriction on databases without JSON support.
+     */
+    @Test
+    @SneakyThrows
+    void testFindItemIdsWithoutJsonSupport() {
+        when(databaseVendor.isPostgreSql()).thenReturn(false);
+
+        Item matchingItem = new Item();
+        matchingItem.getTags().add(Tag.builder().id("tag").build());
+        matchingItem.getProperties().put("property", new TranslatableString("value"));
+        matchingItem.getRestrictions().add("ROLE_ADMIN");
+        when(jsonMapper.readValue("{matching}", Item.class)).thenReturn(matchingItem);
+        when(jsonMapper.readValue("{other}", Item.class)).thenReturn(new Item());
+
+        ItemEntity matchingItemEntity = new ItemEntity();
+        matchingItemEntity.setId("id1");
+        matchingItemEntity.setContentJson("{matching}");
+
+        ItemEntity otherItemEntity = new ItemEntity();
+        otherItemEntity.setId("id2");
+        otherItemEntity.setContentJson("{other}");
+
+        when(jsonMapper.writeValueAsString(anyString())).thenAnswer(invocation -> "\"" + invocation.getArgument(0) + "\"");
+        when(itemEntityRepository.findByContentJsonContainingOrderByIdAsc(anyString()))
+                .thenReturn(List.of(matchingItemEntity, otherItemEntity));
+
+        assertEquals(List.of("id1"), jdbcItemRepository.findItemIdsByTag("tag"));
+        assertEquals(List.of("id1"), jdbcItemRepository.findItemIdsByPropertyValue("property", "value"));
+        assertEquals(List.of("id1"), jdbcItemRepository.findItemIdsByRestriction("ROLE_ADMIN"));
+
+        verify(itemEntityRepository).findByContentJsonContainingOrderByIdAsc("\"tag\"");
+        verify(itemEntityRepository).findByContentJsonContainingOrderByIdAsc("\"value\"");
+        verify(itemEntityRepository).findByContentJsonContainingOrderByIdAsc("\"ROLE_ADMIN\"");
+        verify(itemEntityRepository, never()).findAll(any(Sort.class));
+    }
+
+    /**
+     * Creates an item entity for testing.
+     *
+     * @param id      The item's ID.
+     * @param version The item's version.
+     * @return A new item entity.
+     */
+    private ItemEntity createItemEntity(String id, int version) {
+        ItemEntity itemEntity = new ItemEntity();
+        itemEntity.setId(id);
+        itemEntity.setVersion(version);
+        itemEntity.setContentJson("{contentJson}");
+        return itemEntity;
+    }
+
 }
@@ -2,6 +2,7 @@ package com.arassec.artivact.adapter.out.filesystem.repository;
 
 import com.arassec.artivact.application.port.out.repository.FileRepository;
 import com.arassec.artivact.domain.exception.ArtivactException;
+import com.arassec.artivact.domain.model.item.ImageFormat;
 import com.arassec.artivact.domain.model.item.ImageSize;
 import com.arassec.artivact.domain.model.misc.DirectoryDefinitions;
 import jakarta.annotation.Nonnull;
@@ -18,18 +19,25 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.zeroturnaround.zip.ZipUtil;
 
-import javax.imageio.ImageIO;
+import javax.imageio.*;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -50,6 +58,26 @@ public class FilesystemFileRepository implements FileRepository {
      */
     private static final String COULD_NOT_COPY_RESOURCE = "Could not copy resource!";
 
+    /**
+     * Compression type of image writers for lossy compression.
+     */
+    private static final String LOSSY_COMPRESSION_TYPE = "Lossy";
+
+    /**
+     * Compression quality of scaled images in WebP or AVIF format.
+     */
+    private static final float DERIVATIVE_COMPRESSION_QUALITY = 0.8f;
+
+    /**
+     * Suffix of temporary files scaled images are written to.
+     */
+    private static final String TEMPORARY_IMAGE_SUFFIX = ".tmp";
+
+    /**
+     * Age after which temporary files of scaled images are considered left over by an interrupted scaling.
+     */
+    private static final Duration STALE_TEMPORARY_IMAGE_AGE = Duration.ofHours(1);
+
     /**
      * Spring's {@link Environment}.
      */
@@ -61,6 +89,11 @@ public class FilesystemFileRepository implements FileRepository {
     @Getter
     private final Path projectRoot;
 
+    /**
+     * Whether an image writer is available for an image format.
+     */
+    private final Map<ImageFormat, Boolean> supportedImageFormats = new ConcurrentHashMap<>();
+
     /**
      * Creates a new instance.
      *
@@ -374,15 +407,7 @@ public class FilesystemFileRepository implements FileRepository {
     public void scaleImage(Path originalImage, Path targetImage, int targetWidth) {
         validatePath(originalImage);
         validatePath(targetImage);
-        try {
-            log.debug("Scaling image from {} to {}", originalImage, targetImage);
-            BufferedImage bufferedImage = ImageIO.read(originalImage.toFile());
-            String[] fileNameParts = originalImage.getFileName().toString().split("\\.");
-            String fileEnding = fileNameParts[fileNameParts.length - 1];
-            scaleImage(bufferedImage, targetImage, fileEnding, targetWidth);
-        } catch (IOException e) {
-            throw new ArtivactException(COULD_NOT_SCALE_IMAGE, e);
-        }
+        scaleImage(originalImage, targetImage, getFileEnding(originalImage), targetWidth);
     }
 
     /**
@@ -392,7 +417,7 @@ public class FilesystemFileRepository implements FileRepository {
     public void scaleImage(InputStream originalImage, Path targetImage, String fileEnding, int targetWidth) {
         validatePath(targetImage);
         try {
-            BufferedImage bufferedImage = ImageIO.read(originalImage);
+            BufferedImage bufferedImage = readImage(originalImage, targetWidth);
             scaleImage(bufferedImage, targetImage, fileEnding, targetWidth);
         } catch (IOException e) {
             throw new ArtivactException(COULD_NOT_SCALE_IMAGE, e);
@@ -528,6 +553,27 @@ public class FilesystemFileRepository implements FileRepository {
         return (highestNumber + 1);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only temporary files older than an hour are deleted, so running scalings are not affected.
+     */
+    @Override
+    public void deleteStaleTemporaryImages(Path root) {
+        validatePath(root);
+        if (!exists(root)) {
+            return;
+        }
+        try (Stream<Path> files = Files.find(root, Integer.MAX_VALUE, this::isStaleTemporaryImage)) {
+            files.forEach(file -> {
+                log.debug("Deleting stale temporary image: {}", file);
+                deleteUnvalidated(file);
+            });
+        } catch (IOException | UncheckedIOException e) {
+            throw new ArtivactException("Could not delete temporary images!", e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -612,7 +658,18 @@ public class FilesystemFileRepository implements FileRepository {
      */
     @Override
     public FileSystemResource loadImage(Path root, String id, String filename, ImageSize targetSize, String imagesSubdir) {
+        return loadImage(root, id, filename, targetSize, ImageFormat.ORIGINAL, imagesSubdir);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FileSystemResource loadImage(Path root, String id, String filename, ImageSize targetSize, ImageFormat targetFormat, String imagesSubdir) {
         validatePath(root);
+        if (!supportsImageFormat(targetFormat)) {
+            targetFormat = ImageFormat.ORIGINAL;
+        }
         Path originalImagePath = root
                 .resolve(id.substring(0, 3))
                 .resolve(id.substring(3, 6))
@@ -625,10 +682,11 @@ public class FilesystemFileRepository implements FileRepository {
                 .resolve(id.substring(3, 6))
                 .resolve(id)
                 .resolve(imagesSubdir)
-                .resolve(targetSize.name() + "-" + filename);
+                .resolve(targetFormat.appendFileExtension(targetSize.name() + "-" + filename));
 
         if (!ImageSize.ORIGINAL.equals(targetSize) && !exists(scaledImagePath)) {
-            scaleImage(originalImagePath, scaledImagePath, targetSize.getWidth());
+            String formatName = ImageFormat.ORIGINAL.equals(targetFormat) ? getFileEnding(originalImagePath) : targetFormat.getFormatName();
+            scaleImage(originalImagePath, scaledImagePath, formatName, targetSize.getWidth());
         }
 
         if (ImageSize.ORIGINAL.equals(targetSize)) {
@@ -638,6 +696,18 @@ public class FilesystemFileRepository implements FileRepository {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsImageFormat(ImageFormat imageFormat) {
+        if (ImageFormat.ORIGINAL.equals(imageFormat)) {
+            return true;
+        }
+        return supportedImageFormats.computeIfAbsent(imageFormat,
+                format -> ImageIO.getImageWritersByFormatName(format.getFormatName()).hasNext());
+    }
+
     /**
      * Copies a classpath resource into the filesystem.
      *
@@ -653,8 +723,83 @@ public class FilesystemFileRepository implements FileRepository {
         }
     }
 
+    /**
+     * Reads the original image, scales it to the desired size and writes it as new image file to disk.
+     *
+     * @param originalImage The original image to scale.
+     * @param targetImage   The target image to write.
+     * @param formatName    The format of the target image, e.g. "jpg" or "webp".
+     * @param targetWidth   The desired width of the target image.
+     */
+    private void scaleImage(Path originalImage, Path targetImage, String formatName, int targetWidth) {
+        try {
+            log.debug("Scaling image from {} to {}", originalImage, targetImage);
+            BufferedImage bufferedImage = readImage(originalImage.toFile(), targetWidth);
+            scaleImage(bufferedImage, targetImage, formatName, targetWidth);
+        } catch (IOException e) {
+            throw new ArtivactException(COULD_NOT_SCALE_IMAGE, e);
+        }
+    }
+
+    /**
+     * Reads an image that is about to be scaled to the target width.
+     * <p>
+     * Large images are decoded with source subsampling, i.e. only every n-th pixel in each direction is read. This
+     * reduces the time and memory needed to create small images from high resolution photos. The largest power of two
+     * is used that keeps the image's larger dimension at or above the target width, leaving the final resize to
+     * {@link #scaleImage(BufferedImage, Path, String, int)}.
+     *
+     * @param input       The image to read, either as {@link java.io.File} or {@link InputStream}.
+     * @param targetWidth The width the image will be scaled to.
+     * @return The decoded, possibly subsampled, image.
+     * @throws IOException If the image could not be read.
+     */
+    private BufferedImage readImage(Object input, int targetWidth) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(input)) {
+            if (imageInputStream == null) {
+                throw new IOException("Could not open image!");
+            }
+            Iterator<ImageReader> imageReaders = ImageIO.getImageReaders(imageInputStream);
+            if (!imageReaders.hasNext()) {
+                throw new IOException("No image reader available!");
+            }
+            ImageReader imageReader = imageReaders.next();
+            try {
+                imageReader.setInput(imageInputStream, true, true);
+                ImageReadParam readParam = imageReader.getDefaultReadParam();
+                int subsampling = computeSourceSubsampling(
+                        Math.max(imageReader.getWidth(0), imageReader.getHeight(0)), targetWidth);
+                if (subsampling > 1) {
+                    log.debug("Reading image with source subsampling {}", subsampling);
+                    readParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return imageReader.read(0, readParam);
+            } finally {
+                imageReader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Computes the source subsampling for reading an image that is scaled afterward.
+     *
+     * @param imageSize  The larger dimension of the original image.
+     * @param targetSize The size the image will be scaled to.
+     * @return The largest power of two that keeps the subsampled image at least as large as the target size.
+     */
+    private int computeSourceSubsampling(int imageSize, int targetSize) {
+        int subsampling = 1;
+        while (targetSize > 0 && imageSize / (subsampling * 2) >= targetSize) {
+            subsampling *= 2;
+        }
+        return subsampling;
+    }
+
     /**
      * Scales an image to the desired size and writes it as new image file to disk.
+     * <p>
+     * The image is written to a temporary file next to the target image first, which is then moved to the target.
+     * This way, readers never see partially written images.
      *
      * @param bufferedImage The original image.
      * @param targetImage   Path to the scaled image to write.
@@ -663,11 +808,96 @@ public class FilesystemFileRepository implements FileRepository {
      */
     private void scaleImage(BufferedImage bufferedImage, Path targetImage, String fileEnding, int targetWidth) {
         bufferedImage = Scalr.resize(bufferedImage, targetWidth);
-        try (var byteArrayOutputStream = new ByteArrayOutputStream()) {
-            ImageIO.write(bufferedImage, fileEnding, byteArrayOutputStream);
-            write(targetImage, byteArrayOutputStream.toByteArray());
+        Path tempImage = null;
+        try {
+            // The temporary file starts with the target's name, so that it is treated as scaled image while it exists:
+            tempImage = Files.createTempFile(targetImage.toAbsolutePath().getParent(), targetImage.getFileName() + ".", TEMPORARY_IMAGE_SUFFIX);
+            try (OutputStream outputStream = Files.newOutputStream(tempImage)) {
+                writeImage(bufferedImage, fileEnding, outputStream);
+            }
+            moveAtomically(tempImage, targetImage);
         } catch (IOException e) {
             throw new ArtivactException(COULD_NOT_SCALE_IMAGE, e);
+        } finally {
+            if (tempImage != null) {
+                try {
+                    Files.deleteIfExists(tempImage);
+                } catch (IOException e) {
+                    log.warn("Could not delete temporary image: {}", tempImage, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the image in the given format. WebP and AVIF images are compressed lossy, keeping the alpha channel.
+     *
+     * @param bufferedImage The image to write.
+     * @param formatName    The image format, e.g. "jpg" or "webp".
+     * @param outputStream  The stream to write the image to.
+     * @throws IOException If the image could not be written.
+     */
+    private void writeImage(BufferedImage bufferedImage, String formatName, OutputStream outputStream) throws IOException {
+        ImageFormat derivativeFormat = Arrays.stream(ImageFormat.values())
+                .filter(imageFormat -> formatName.equalsIgnoreCase(imageFormat.getFormatName()))
+                .findFirst()
+                .orElse(null);
+        if (derivativeFormat == null) {
+            ImageIO.write(bufferedImage, formatName, outputStream);
+            return;
+        }
+
+        Iterator<ImageWriter> imageWriters = ImageIO.getImageWritersByFormatName(formatName);
+        if (!imageWriters.hasNext()) {
+            throw new IOException("No image writer available for format: " + formatName);
+        }
+        ImageWriter imageWriter = imageWriters.next();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            imageWriter.setOutput(imageOutputStream);
+            ImageWriteParam writeParam = imageWriter.getDefaultWriteParam();
+            if (writeParam.canWriteCompressed()) {
+                writeParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                String[] compressionTypes = writeParam.getCompressionTypes();
+                if (compressionTypes != null && compressionTypes.length > 0) {
+                    writeParam.setCompressionType(Arrays.asList(compressionTypes).contains(LOSSY_COMPRESSION_TYPE)
+                            ? LOSSY_COMPRESSION_TYPE : compressionTypes[0]);
+                }
+                writeParam.setCompressionQuality(DERIVATIVE_COMPRESSION_QUALITY);
+            }
+            imageWriter.write(null, new IIOImage(bufferedImage, null, null), writeParam);
+        } catch (LinkageError e) {
+            // Image writers with native libraries might not work on every platform:
+            supportedImageFormats.put(derivativeFormat, false);
+            throw new IOException("Image writer not usable for format: " + formatName, e);
+        } finally {
+            imageWriter.dispose();
+        }
+    }
+
+    /**
+     * Returns the file ending of the given file.
+     *
+     * @param file The file.
+     * @return The file ending without leading dot.
+     */
+    private String getFileEnding(Path file) {
+        String[] fileNameParts = file.getFileName().toString().split("\\.");
+        return fileNameParts[fileNameParts.length - 1];
+    }
+
+    /**
+     * Moves the source file to the target, replacing an existing target. Uses an atomic move if the filesystem
+     * supports it.
+     *
+     * @param source The file to move.
+     * @param target The target path.
+     * @throws IOException If the file could not be moved.
+     */
+    private void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
         }
     }
 
@@ -684,6 +914,22 @@ public class FilesystemFileRepository implements FileRepository {
         }
     }
 
+    /**
+     * Checks whether the given file is a temporary file of a scaled image, which has been left over by an interrupted
+     * scaling.
+     *
+     * @param file       The file.
+     * @param attributes The file's attributes.
+     * @return {@code true} if the file can be deleted, {@code false} otherwise.
+     */
+    private boolean isStaleTemporaryImage(Path file, BasicFileAttributes attributes) {
+        String filename = file.getFileName().toString();
+        return attributes.isRegularFile()
+                && filename.endsWith(TEMPORARY_IMAGE_SUFFIX)
+                && Arrays.stream(ImageSize.values()).anyMatch(imageSize -> filename.startsWith(imageSize.name() + "-"))
+                && attributes.lastModifiedTime().toInstant().isBefore(Instant.now().minus(STALE_TEMPORARY_IMAGE_AGE));
+    }
+
     /**
      * Deletes the given path without validating it.
      */
@@ -2,6 +2,8 @@ package com.arassec.artivact.adapter.out.filesystem;
 
 import com.arassec.artivact.adapter.out.filesystem.repository.FilesystemFileRepository;
 import com.arassec.artivact.domain.exception.ArtivactException;
+import com.arassec.artivact.domain.model.item.ImageFormat;
+import com.arassec.artivact.domain.model.item.ImageSize;
 import lombok.SneakyThrows;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,18 +15,28 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.env.Environment;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.util.StreamUtils;
 
 import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -479,10 +491,116 @@ class FilesystemFileRepositoryTest {
      * Tests scaling an image.
      */
     @Test
+    @SneakyThrows
     void testScaleImageByPath() {
         Path targetImage = targetDir.resolve("scaled-image-path.png");
         filesystemFileRepository.scaleImage(sourceImage, targetImage, 100);
         assertThat(Files.exists(targetImage)).isTrue();
+        try (Stream<Path> files = Files.list(targetDir)) {
+            assertThat(files).containsExactly(targetImage);
+        }
+    }
+
+    /**
+     * Tests scaling large images, which are read with source subsampling.
+     */
+    @Test
+    @SneakyThrows
+    void testScaleLargeImage() {
+        Path landscapeImage = targetDir.resolve("landscape.jpg");
+        ImageIO.write(new BufferedImage(2400, 1600, BufferedImage.TYPE_INT_RGB), "jpg", landscapeImage.toFile());
+        Path scaledLandscapeImage = targetDir.resolve("scaled-landscape.jpg");
+        filesystemFileRepository.scaleImage(landscapeImage, scaledLandscapeImage, 300);
+
+        BufferedImage scaledLandscape = ImageIO.read(scaledLandscapeImage.toFile());
+        assertThat(scaledLandscape.getWidth()).isEqualTo(300);
+        assertThat(scaledLandscape.getHeight()).isEqualTo(200);
+
+        Path portraitImage = targetDir.resolve("portrait.jpg");
+        ImageIO.write(new BufferedImage(1000, 2000, BufferedImage.TYPE_INT_RGB), "jpg", portraitImage.toFile());
+        Path scaledPortraitImage = targetDir.resolve("scaled-portrait.jpg");
+        try (InputStream portraitStream = Files.newInputStream(portraitImage)) {
+            filesystemFileRepository.scaleImage(portraitStream, scaledPortraitImage, "jpg", 300);
+        }
+
+        BufferedImage scaledPortrait = ImageIO.read(scaledPortraitImage.toFile());
+        assertThat(scaledPortrait.getWidth()).isEqualTo(150);
+        assertThat(scaledPortrait.getHeight()).isEqualTo(300);
+    }
+
+    /**
+     * Tests loading a missing scaled image from concurrent threads.
+     */
+    @Test
+    @SneakyThrows
+    void testLoadImageScalesMissingImageConcurrently() {
+        Path imagesDir = targetDir.resolve("123").resolve("456").resolve("123456").resolve("images");
+        Files.createDirectories(imagesDir);
+        Files.copy(sourceImage, imagesDir.resolve("001.png"));
+
+        List<Future<FileSystemResource>> results;
+        try (ExecutorService executorService = Executors.newFixedThreadPool(4)) {
+            results = IntStream.range(0, 4)
+                    .mapToObj(_ -> executorService.submit(() -> filesystemFileRepository.loadImage(targetDir,
+                            "123456", "001.png", ImageSize.ITEM_CARD, "images")))
+                    .toList();
+        }
+
+        Path scaledImage = imagesDir.resolve("ITEM_CARD-001.png");
+        for (Future<FileSystemResource> result : results) {
+            assertEquals(scaledImage.toAbsolutePath(), result.get().getFile().toPath().toAbsolutePath());
+        }
+        assertThat(ImageIO.read(scaledImage.toFile())).isNotNull();
+        try (Stream<Path> files = Files.list(imagesDir)) {
+            assertThat(files).containsExactlyInAnyOrder(imagesDir.resolve("001.png"), scaledImage);
+        }
+    }
+
+    /**
+     * Tests loading a scaled image in WebP format.
+     */
+    @Test
+    @SneakyThrows
+    void testLoadImageInWebpFormat() {
+        Path imagesDir = targetDir.resolve("123").resolve("456").resolve("123456").resolve("images");
+        Files.createDirectories(imagesDir);
+        Files.copy(sourceImage, imagesDir.resolve("001.png"));
+
+        assertTrue(filesystemFileRepository.supportsImageFormat(ImageFormat.ORIGINAL));
+        assertTrue(filesystemFileRepository.supportsImageFormat(ImageFormat.WEBP));
+
+        FileSystemResource result = filesystemFileRepository.loadImage(targetDir, "123456", "001.png",
+                ImageSize.ITEM_CARD, ImageFormat.WEBP, "images");
+
+        Path webpImage = imagesDir.resolve("ITEM_CARD-001.png.webp");
+        assertEquals(webpImage.toAbsolutePath(), result.getFile().toPath().toAbsolutePath());
+
+        byte[] header = Arrays.copyOf(Files.readAllBytes(webpImage), 12);
+        assertEquals("RIFF", new String(header, 0, 4, StandardCharsets.US_ASCII));
+        assertEquals("WEBP", new String(header, 8, 4, StandardCharsets.US_ASCII));
+        assertThat(ImageIO.read(webpImage.toFile()).getWidth()).isEqualTo(ImageSize.ITEM_CARD.getWidth());
+    }
+
+    /**
+     * Tests deleting temporary files left over by interrupted scalings.
+     */
+    @Test
+    @SneakyThrows
+    void testDeleteStaleTemporaryImages() {
+        Path imagesDir = targetDir.resolve("123").resolve("456").resolve("123456").resolve("images");
+        Files.createDirectories(imagesDir);
+        Path originalImage = Files.createFile(imagesDir.resolve("001.png"));
+        Path staleTemporaryImage = Files.createFile(imagesDir.resolve("ITEM_CARD-001.png.123.tmp"));
+        Files.setLastModifiedTime(staleTemporaryImage, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+        Path runningTemporaryImage = Files.createFile(imagesDir.resolve("DETAIL-001.png.456.tmp"));
+        Path otherTemporaryFile = Files.createFile(imagesDir.resolve("other.tmp"));
+        Files.setLastModifiedTime(otherTemporaryFile, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        filesystemFileRepository.deleteStaleTemporaryImages(targetDir);
+
+        try (Stream<Path> files = Files.list(imagesDir)) {
+            assertThat(files).containsExactlyInAnyOrder(originalImage, runningTemporaryImage, otherTemporaryFile);
+        }
     }
 
     /**
@@ -491,7 +609,7 @@ class FilesystemFileRepositoryTest {
     @Test
     void testScaleImageByPathFail() {
         try (MockedStatic<ImageIO> imageIoMock = Mockito.mockStatic(ImageIO.class)) {
-            imageIoMock.when(() -> ImageIO.read(sourceFile.toFile())).thenThrow(new IOException("test-exception"));
+            imageIoMock.when(() -> ImageIO.createImageInputStream(sourceFile.toFile())).thenThrow(new IOException("test-exception"));
             assertThrows(ArtivactException.class, () -> filesystemFileRepository.scaleImage(sourceFile, null, 0));
         }
     }
@@ -515,7 +633,7 @@ class FilesystemFileRepositoryTest {
     void testScaleImageByInputStreamFail() {
         InputStream sourceStream = new ByteArrayInputStream(new byte[0]);
         try (MockedStatic<ImageIO> imageIoMock = Mockito.mockStatic(ImageIO.class)) {
-            imageIoMock.when(() -> ImageIO.read(sourceStream)).thenThrow(new IOException("test-exception"));
+            imageIoMock.when(() -> ImageIO.createImageInputStream(sourceStream)).thenThrow(new IOException("test-exception"));
             assertThrows(ArtivactException.class, () -> filesystemFileRepository.scaleImage(sourceStream, null, null, 0));
         }
     }
@@ -0,0 +1,100 @@
+package com.arassec.artivact.adapter.out.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.DelegatingAnalyzerWrapper;
+import org.apache.lucene.analysis.de.GermanAnalyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.es.SpanishAnalyzer;
+import org.apache.lucene.analysis.fr.FrenchAnalyzer;
+import org.apache.lucene.analysis.it.ItalianAnalyzer;
+import org.apache.lucene.analysis.nl.DutchAnalyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Analyzer that analyzes localized fields with the analyzer of the field's language.
+ * <p>
+ * Localized fields are named {@code <field>_<locale>}, e.g. {@code title_de}. If Lucene provides an analyzer for the
+ * locale's language, it is used to apply stemming and language-specific normalization. All other fields are analyzed
+ * with the {@link StandardAnalyzer}.
+ */
+public class LocalizedFieldAnalyzer extends DelegatingAnalyzerWrapper {
+
+    /**
+     * Separator between field name and locale.
+     */
+    public static final char LOCALE_SEPARATOR = '_';
+
+    /**
+     * Names of the fields that are indexed per locale.
+     */
+    private final Set<String> localizedFields;
+
+    /**
+     * Analyzer for all fields without language.
+     */
+    private final Analyzer defaultAnalyzer = new StandardAnalyzer();
+
+    /**
+     * Analyzers per language.
+     */
+    private final Map<String, Analyzer> languageAnalyzers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new analyzer.
+     *
+     * @param localizedFields Names of the fields that are indexed per locale.
+     */
+    public LocalizedFieldAnalyzer(Set<String> localizedFields) {
+        super(PER_FIELD_REUSE_STRATEGY);
+        this.localizedFields = localizedFields;
+    }
+
+    /**
+     * Returns the name of the localized field for the given field and locale.
+     *
+     * @param field  The field name.
+     * @param locale The locale as used in translations, e.g. {@code de} or {@code de_DE}.
+     * @return The name of the localized field.
+     */
+    public static String localizedField(String field, String locale) {
+        return field + LOCALE_SEPARATOR + locale;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Analyzer getWrappedAnalyzer(String fieldName) {
+        int separatorIndex = fieldName.indexOf(LOCALE_SEPARATOR);
+        if (separatorIndex <= 0 || !localizedFields.contains(fieldName.substring(0, separatorIndex))) {
+            return defaultAnalyzer;
+        }
+        String languageTag = fieldName.substring(separatorIndex + 1).replace(LOCALE_SEPARATOR, '-');
+        String language = Locale.forLanguageTag(languageTag).getLanguage();
+        return languageAnalyzers.computeIfAbsent(language, this::createLanguageAnalyzer);
+    }
+
+    /**
+     * Creates the analyzer for the given language.
+     *
+     * @param language The ISO 639 language code.
+     * @return The language's analyzer or the default analyzer, if none is available for the language.
+     */
+    private Analyzer createLanguageAnalyzer(String language) {
+        return switch (language) {
+            case "de" -> new GermanAnalyzer();
+            case "en" -> new EnglishAnalyzer();
+            case "es" -> new SpanishAnalyzer();
+            case "fr" -> new FrenchAnalyzer();
+            case "it" -> new ItalianAnalyzer();
+            case "nl" -> new DutchAnalyzer();
+            default -> defaultAnalyzer;
+        };
+    }
+
+}
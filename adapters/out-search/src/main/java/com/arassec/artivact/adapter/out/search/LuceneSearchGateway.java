@@ -4,34 +4,256 @@ import com.arassec.artivact.application.port.in.project.UseProjectDirsUseCase;
 import com.arassec.artivact.application.port.out.gateway.SearchGateway;
 import com.arassec.artivact.application.port.out.repository.FileRepository;
 import com.arassec.artivact.domain.exception.ArtivactException;
+import com.arassec.artivact.domain.model.TranslatableString;
 import com.arassec.artivact.domain.model.item.Item;
-import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import com.arassec.artivact.domain.model.search.ItemCard;
+import com.arassec.artivact.domain.model.search.ItemFacetQuery;
+import com.arassec.artivact.domain.model.search.ItemFacets;
+import com.arassec.artivact.domain.model.search.ItemSearchResult;
+import com.arassec.artivact.domain.model.search.ItemSort;
+import com.arassec.artivact.domain.model.search.ItemSortField;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
+import org.apache.lucene.facet.*;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
 import org.apache.lucene.index.*;
 import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
 import org.apache.lucene.queryparser.classic.ParseException;
-import org.apache.lucene.search.IndexSearcher;
-import org.apache.lucene.search.Query;
-import org.apache.lucene.search.ScoreDoc;
-import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@link SearchGateway} that uses Lucene with an index stored in the filesystem.
+ * <p>
+ * A single {@link IndexWriter} is kept open for the lifetime of the application. Searches use near-real-time readers
+ * provided by a {@link SearcherManager}, which are refreshed in the background. Changes are committed to disk
+ * periodically instead of after every update.
+ * <p>
+ * Search results are sorted by Lucene using doc values, so only the requested hits have to be loaded.
+ * <p>
+ * Translations are indexed in separate fields per locale, which are analyzed by {@link LocalizedFieldAnalyzer}. Queries
+ * search the fields of the current user's locale, with matches in the title ranked above matches in the description
+ * and in properties.
+ * <p>
+ * Tags and property values are indexed as {@link SortedSetDocValuesFacetField}s, so the number of matching items per
+ * tag and property value can be counted together with a search.
+ * <p>
+ * Titles and tag names are additionally indexed with all word prefixes, so suggestions for partially typed search
+ * terms can be looked up with plain term queries. Suggestions are kept in the item documents instead of a separate
+ * suggester index (e.g. Lucene's {@code AnalyzingInfixSuggester}), since they have to be filtered by the same item
+ * restrictions as search results and must change together with the items. A separate suggester is keyed by the
+ * suggestion text and can't remove a suggestion for a single item, nor check restrictions of the items sharing it.
  */
+@Slf4j
 @Component
 public class LuceneSearchGateway implements SearchGateway {
 
+    /**
+     * Interval in milliseconds in which the near-real-time searcher is refreshed.
+     */
+    private static final long REFRESH_INTERVAL_MILLIS = 500;
+
+    /**
+     * Interval in seconds in which uncommitted changes are written to disk.
+     */
+    private static final long COMMIT_INTERVAL_SECONDS = 30;
+
+    /**
+     * Version of the index layout, i.e. the fields written for every item. Must be increased whenever the layout
+     * changes in a way that requires re-creating the index.
+     */
+    private static final int INDEX_LAYOUT_VERSION = 10;
+
+    /**
+     * Key of the index layout version in the index's commit data.
+     */
+    private static final String INDEX_LAYOUT_VERSION_KEY = "artivactIndexLayoutVersion";
+
+    /**
+     * Field containing the item's ID.
+     */
+    private static final String ID_FIELD = "id";
+
+    /**
+     * Field containing the item's title.
+     */
+    private static final String TITLE_FIELD = "title";
+
+    /**
+     * Field containing the item's description.
+     */
+    private static final String DESCRIPTION_FIELD = "description";
+
+    /**
+     * Field containing the values of all item properties.
+     */
+    private static final String PROPERTIES_FIELD = "properties";
+
+    /**
+     * Field containing the values of all tags of the item.
+     */
+    private static final String TAGS_FIELD = "tags";
+
+    /**
+     * Field containing the IDs of the item's properties and tags.
+     */
+    private static final String KEYS_FIELD = "keys";
+
+    /**
+     * Boost of matches in the title.
+     */
+    private static final float TITLE_BOOST = 3.0f;
+
+    /**
+     * Boost of matches in the description.
+     */
+    private static final float DESCRIPTION_BOOST = 2.0f;
+
+    /**
+     * Boost of matches in all other fields.
+     */
+    private static final float DEFAULT_BOOST = 1.0f;
+
+    /**
+     * Field containing the roles allowed to see an item.
+     */
+    private static final String RESTRICTIONS_FIELD = "restrictions";
+
+    /**
+     * Value of the restrictions field for items without any restrictions.
+     */
+    private static final String UNRESTRICTED = "_unrestricted_";
+
+    /**
+     * Field containing the roles allowed to see the item's restricted tags, each prefixed with the tag's ID.
+     */
+    private static final String RESTRICTED_TAG_ROLES_FIELD = "restrictedTagRoles";
+
+    /**
+     * Separator between tag ID and role in the restricted tag roles field.
+     */
+    private static final String RESTRICTED_TAG_ROLE_SEPARATOR = "|";
+
+    /**
+     * Stored field containing the untranslated item title for search result cards.
+     */
+    private static final String CARD_TITLE_FIELD = "cardTitle";
+
+    /**
+     * Stored field containing the title translations for search result cards as {@code locale=value}.
+     */
+    private static final String CARD_TITLE_TRANSLATION_FIELD = "cardTitleTranslation";
+
+    /**
+     * Stored field containing the filename of the item's first image.
+     */
+    private static final String CARD_IMAGE_FIELD = "cardImage";
+
+    /**
+     * Stored field that is present if the item provides a 3D model.
+     */
+    private static final String CARD_HAS_MODEL_FIELD = "cardHasModel";
+
+    /**
+     * Stored fields required to create search result cards.
+     */
+    private static final Set<String> CARD_FIELDS = Set.of(ID_FIELD, CARD_TITLE_FIELD, CARD_TITLE_TRANSLATION_FIELD,
+            CARD_IMAGE_FIELD, CARD_HAS_MODEL_FIELD);
+
+    /**
+     * Doc values field containing the normalized item title for sorting.
+     */
+    private static final String SORT_TITLE_FIELD = "sortTitle";
+
+    /**
+     * Doc values field containing the item's last modification time for sorting.
+     */
+    private static final String SORT_LAST_MODIFIED_FIELD = "sortLastModified";
+
+    /**
+     * Prefix of the doc values fields containing normalized property values for sorting.
+     */
+    private static final String SORT_PROPERTY_FIELD_PREFIX = "sortProperty_";
+
+    /**
+     * Maximum number of characters of a value used for sorting.
+     */
+    private static final int MAX_SORT_VALUE_LENGTH = 256;
+
+    /**
+     * Facet dimension containing the IDs of the item's tags.
+     */
+    private static final String TAG_FACET = "tag";
+
+    /**
+     * Prefix of the facet dimensions containing property values.
+     */
+    private static final String PROPERTY_FACET_PREFIX = "property:";
+
+    /**
+     * Maximum number of values returned per facet.
+     */
+    private static final int MAX_FACET_VALUES = 100;
+
+    /**
+     * Maximum number of characters of a property value to be counted as facet value. Longer values are usually
+     * free-text, which is not useful for filtering.
+     */
+    private static final int MAX_FACET_VALUE_LENGTH = 256;
+
+    /**
+     * Field containing the item's title and tag names, indexed with all word prefixes.
+     */
+    private static final String SUGGEST_FIELD = "suggest";
+
+    /**
+     * Stored field containing the item's title and unrestricted tag names as suggestions.
+     */
+    private static final String SUGGEST_TEXT_FIELD = "suggestText";
+
+    /**
+     * Stored field containing the names of restricted tags as suggestions, prefixed with every role allowed to see them,
+     * e.g. {@code ROLE_ADMIN|Fragile}.
+     */
+    private static final String SUGGEST_RESTRICTED_TEXT_FIELD = "suggestRestrictedText";
+
+    /**
+     * Maximum number of matching items to read suggestions from. Limits the effort for prefixes shared by many items
+     * with the same title.
+     */
+    private static final int MAX_SUGGEST_CANDIDATES = 500;
+
+    /**
+     * Maximum number of remembered page cursors.
+     */
+    private static final int MAX_PAGE_CURSORS = 1000;
+
     /**
      * Repository for file access.
      */
@@ -43,10 +265,63 @@ public class LuceneSearchGateway implements SearchGateway {
     private final Path searchIndexDir;
 
     /**
-     * Lucene's {@link IndexWriter}.
+     * Analyzer for indexing and queries, with language-specific analysis of localized fields.
+     */
+    private final Analyzer analyzer = new PerFieldAnalyzerWrapper(
+            new LocalizedFieldAnalyzer(Set.of(TITLE_FIELD, DESCRIPTION_FIELD, PROPERTIES_FIELD, TAGS_FIELD)),
+            Map.of(SUGGEST_FIELD, new SuggestAnalyzer(true)));
+
+    /**
+     * Analyzer for partially typed search terms.
+     */
+    private final SuggestAnalyzer suggestQueryAnalyzer = new SuggestAnalyzer(false);
+
+    /**
+     * Configuration of the facet dimensions.
+     */
+    private final FacetsConfig facetsConfig = new FacetsConfig();
+
+    /**
+     * Facet state of the most recently used index reader.
+     */
+    private volatile FacetsState facetsState;
+
+    /**
+     * The last hits of recently returned pages in access order. The following page is collected with
+     * {@link IndexSearcher#searchAfter(ScoreDoc, Query, int, Sort)} instead of collecting all preceding hits again.
+     */
+    private final Map<PageCursorKey, ScoreDoc> pageCursors = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<PageCursorKey, ScoreDoc> eldest) {
+            return size() > MAX_PAGE_CURSORS;
+        }
+    };
+
+    /**
+     * Lucene's {@link IndexWriter}, shared by all indexing operations.
+     */
+    private volatile IndexWriter indexWriter;
+
+    /**
+     * Manages near-real-time {@link IndexSearcher}s on top of the {@link IndexWriter}.
      */
-    private IndexWriter indexWriter;
+    private volatile SearcherManager searcherManager;
 
+    /**
+     * Executor for periodic searcher refreshes and index commits.
+     */
+    private ScheduledExecutorService maintenanceExecutor;
+
+    /**
+     * The layout version of the currently opened index.
+     */
+    private volatile int indexLayoutVersion;
+
+    /**
+     * {@code true} while a new search index is created. Searchers are not refreshed and changes are not committed
+     * during that time, so searches use the previous index until the new one is finalized.
+     */
+    private volatile boolean rebuilding;
 
     /**
      * Creates a new LuceneSearchGateway with the provided dependencies.
@@ -58,31 +333,34 @@ public class LuceneSearchGateway implements SearchGateway {
                                UseProjectDirsUseCase useProjectDirsUseCase) {
         this.fileRepository = fileRepository;
         this.searchIndexDir = useProjectDirsUseCase.getSearchIndexDir();
+        this.facetsConfig.setMultiValued(TAG_FACET, true);
     }
 
     /**
      * Prepares indexing.
+     * <p>
+     * When a new search index is created, the current state is committed first and the new index is built on top of
+     * it without refreshing searchers or committing. Searches keep using the previous index until
+     * {@link #finalizeIndexing()} commits the new one, and {@link #abortIndexing()} rolls back to the previous index.
      *
      * @param append Set to {@code true} to append to the current search index rather than create a new one.
      */
     @Override
-    public void prepareIndexing(boolean append) {
+    public synchronized void prepareIndexing(boolean append) {
         try {
-            if (!append) {
-                fileRepository.delete(searchIndexDir);
-                fileRepository.createDirIfRequired(searchIndexDir);
-            }
-
-            Directory indexDirectory = FSDirectory.open(searchIndexDir);
-            IndexWriterConfig config = new IndexWriterConfig(new StandardAnalyzer());
-
             if (append) {
-                config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
-            } else {
-                config.setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+                openIfRequired(false);
+                return;
             }
-
-            indexWriter = new IndexWriter(indexDirectory, config);
+            if (indexWriter == null) {
+                openIfRequired(true);
+                // The empty index is outdated until the new index has been finalized:
+                indexWriter.setLiveCommitData(Map.of(INDEX_LAYOUT_VERSION_KEY, "0").entrySet());
+            }
+            indexWriter.commit();
+            rebuilding = true;
+            indexWriter.deleteAll();
+            setCurrentIndexLayoutVersion(indexWriter);
         } catch (IOException e) {
             throw new ArtivactException("Could not create search index writer!", e);
         }
@@ -97,55 +375,224 @@ public class LuceneSearchGateway implements SearchGateway {
     @Override
     public void updateIndex(Item item, boolean updateIndex) {
         try {
-            final Document luceneDocument = new Document();
-            StringBuilder fulltext = new StringBuilder();
+            Document luceneDocument = createDocument(item);
+            IndexWriter writer = getIndexWriter();
+            if (updateIndex) {
+                writer.updateDocument(new Term("preparedItemId", luceneDocument.get("preparedItemId")), luceneDocument);
+            } else {
+                writer.addDocument(luceneDocument);
+            }
+        } catch (IOException e) {
+            throw new ArtivactException("Could not write to search index!", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateIndex(List<Item> items) {
+        try {
+            IndexWriter writer = getIndexWriter();
+            for (Item item : items) {
+                Document luceneDocument = createDocument(item);
+                writer.updateDocument(new Term("preparedItemId", luceneDocument.get("preparedItemId")), luceneDocument);
+            }
+        } catch (IOException e) {
+            throw new ArtivactException("Could not write to search index!", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeFromIndex(String itemId) {
+        try {
+            getIndexWriter().deleteDocuments(new Term("preparedItemId", itemId.replace("-", "")));
+        } catch (IOException e) {
+            throw new ArtivactException("Could not remove item from search index!", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addToIndex(List<Item> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        try {
+            List<Document> luceneDocuments = items.stream()
+                    .map(this::createDocument)
+                    .toList();
+            getIndexWriter().addDocuments(luceneDocuments);
+        } catch (IOException e) {
+            throw new ArtivactException("Could not write to search index!", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void finalizeIndexing() {
+        try {
+            getIndexWriter().commit();
+            rebuilding = false;
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new ArtivactException("Could not commit search index!", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void abortIndexing() {
+        if (!rebuilding) {
+            return;
+        }
+        log.info("Rolling back to the previous search index.");
+        closeIndex(false);
+        try {
+            openIfRequired(false);
+        } catch (IOException e) {
+            throw new ArtivactException("Could not open search index!", e);
+        }
+    }
 
-            // Lucene doesn't like "-" in the UUIDs, so wie store the ID for search with Lucene without them:
-            String preparedItemId = item.getId().replace("-", "");
-            luceneDocument.add(new TextField("preparedItemId", preparedItemId, Field.Store.YES));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> search(String searchQuery, int maxResults, ItemSort sort) {
+        IndexSearcher indexSearcher = null;
+        try {
+            getIndexWriter();
+            indexSearcher = searcherManager.acquire();
 
-            luceneDocument.add(new TextField("id", item.getId(), Field.Store.YES));
-            appendField(fulltext, "id", item.getId());
+            Query query = parseQuery(searchQuery);
 
-            if (StringUtils.hasText(item.getTitle().getValue())) {
-                luceneDocument.add(new TextField("title", item.getTitle().getValue(), Field.Store.YES));
-                appendField(fulltext, "title", item.getTitle().getValue());
+            TopDocs hits = indexSearcher.search(query, maxResults, createSort(sort));
+            StoredFields storedFields = indexSearcher.storedFields();
+
+            List<String> itemIds = new LinkedList<>();
+
+            for (ScoreDoc hit : hits.scoreDocs) {
+                Document doc = storedFields.document(hit.doc, Set.of(ID_FIELD));
+                itemIds.add(doc.get(ID_FIELD));
             }
 
-            if (StringUtils.hasText(item.getDescription().getValue())) {
-                luceneDocument.add(new TextField("description", item.getDescription().getValue(), Field.Store.YES));
-                appendField(fulltext, "description", item.getDescription().getValue());
+            return itemIds;
+        } catch (IOException | ParseException e) {
+            throw new ArtivactException("Error during item search!", e);
+        } finally {
+            releaseSearcher(indexSearcher);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ItemSearchResult search(String searchQuery, Set<String> roles, ItemSort sort, ItemFacetQuery facetQuery,
+                                   int offset, int limit) {
+        IndexSearcher indexSearcher = null;
+        try {
+            getIndexWriter();
+            indexSearcher = searcherManager.acquire();
+
+            Query query = parseQuery(searchQuery);
+            if (roles != null) {
+                query = new BooleanQuery.Builder()
+                        .add(query, BooleanClause.Occur.MUST)
+                        .add(createRestrictionsFilter(roles), BooleanClause.Occur.FILTER)
+                        .build();
+            }
+            if (facetQuery != null) {
+                query = applyFacetFilters(query, facetQuery);
             }
 
-            item.getProperties().forEach((key, value) -> {
-                if (!StringUtils.hasText(value.getValue())) {
-                    return;
-                }
-                luceneDocument.add(new TextField(key, value.getValue(), Field.Store.YES));
-                appendField(fulltext, key, value.getValue());
-                if (!value.getTranslations().isEmpty()) {
-                    value.getTranslations().forEach((translationKey, translationValue)
-                            -> appendField(fulltext, key + "_" + translationKey, translationValue)
-                    );
+            int totalHits = indexSearcher.count(query);
+
+            List<ItemCard> itemCards = new ArrayList<>();
+            if (limit > 0 && offset < totalHits) {
+                StoredFields storedFields = indexSearcher.storedFields();
+                for (ScoreDoc hit : searchPage(indexSearcher, query, createSort(sort), offset, limit, totalHits)) {
+                    itemCards.add(createItemCard(storedFields.document(hit.doc, CARD_FIELDS)));
                 }
-            });
+            }
 
-            item.getTags().forEach(tag -> {
-                luceneDocument.add(new TextField(tag.getId(), tag.getValue(), Field.Store.YES));
-                appendField(fulltext, tag.getId(), tag.getValue());
-            });
+            ItemSearchResult itemSearchResult = new ItemSearchResult(totalHits, itemCards);
+            if (facetQuery != null) {
+                itemSearchResult.setFacets(countFacets(indexSearcher, query, facetQuery, roles));
+            }
 
-            luceneDocument.add(new TextField("fulltext", fulltext.toString(), Field.Store.YES));
+            return itemSearchResult;
+        } catch (IOException | ParseException e) {
+            throw new ArtivactException("Error during item search!", e);
+        } finally {
+            releaseSearcher(indexSearcher);
+        }
+    }
 
-            if (updateIndex) {
-                indexWriter.updateDocument(new Term("preparedItemId", preparedItemId), luceneDocument);
-            } else {
-                indexWriter.addDocument(luceneDocument);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> suggest(String prefix, Set<String> roles, int maxSuggestions) {
+        List<String> prefixTokens = suggestQueryAnalyzer.tokenize(prefix);
+        if (prefixTokens.isEmpty() || maxSuggestions <= 0) {
+            return List.of();
+        }
+
+        IndexSearcher indexSearcher = null;
+        try {
+            getIndexWriter();
+            indexSearcher = searcherManager.acquire();
+
+            BooleanQuery.Builder queryBuilder = new BooleanQuery.Builder();
+            prefixTokens.forEach(prefixToken -> queryBuilder.add(new TermQuery(new Term(SUGGEST_FIELD,
+                    prefixToken.substring(0, Math.min(prefixToken.length(), SuggestAnalyzer.MAX_PREFIX_LENGTH)))),
+                    BooleanClause.Occur.MUST));
+            if (roles != null) {
+                queryBuilder.add(createRestrictionsFilter(roles), BooleanClause.Occur.FILTER);
             }
 
-            indexWriter.commit();
+            Query query = queryBuilder.build();
+            StoredFields storedFields = indexSearcher.storedFields();
+
+            // Matching items are read page by page, until enough distinct suggestions are found:
+            Set<String> suggestions = new LinkedHashSet<>();
+            ScoreDoc after = null;
+            int candidates = 0;
+            while (suggestions.size() < maxSuggestions && candidates < MAX_SUGGEST_CANDIDATES) {
+                TopDocs hits = indexSearcher.searchAfter(after, query,
+                        Math.min(maxSuggestions, MAX_SUGGEST_CANDIDATES - candidates));
+                for (ScoreDoc hit : hits.scoreDocs) {
+                    Document document = storedFields.document(hit.doc,
+                            Set.of(SUGGEST_TEXT_FIELD, SUGGEST_RESTRICTED_TEXT_FIELD));
+                    for (String text : getSuggestions(document, roles)) {
+                        if (suggestions.size() < maxSuggestions && matchesPrefixTokens(text, prefixTokens)) {
+                            suggestions.add(text);
+                        }
+                    }
+                }
+                if (hits.scoreDocs.length == 0) {
+                    break;
+                }
+                candidates += hits.scoreDocs.length;
+                after = hits.scoreDocs[hits.scoreDocs.length - 1];
+            }
+
+            return new ArrayList<>(suggestions);
         } catch (IOException e) {
-            throw new ArtivactException("Could not write to search index!", e);
+            throw new ArtivactException("Error during search suggestion!", e);
+        } finally {
+            releaseSearcher(indexSearcher);
         }
     }
 
@@ -153,61 +600,740 @@ public class LuceneSearchGateway implements SearchGateway {
      * {@inheritDoc}
      */
     @Override
-    public void finalizeIndexing() {
+    public boolean isIndexOutdated() {
+        getIndexWriter();
+        return indexLayoutVersion < INDEX_LAYOUT_VERSION;
+    }
+
+    /**
+     * Commits pending changes and closes the search index. An unfinished new search index is rolled back.
+     */
+    @PreDestroy
+    public synchronized void teardown() {
+        if (indexWriter == null) {
+            return;
+        }
+        closeIndex(!rebuilding);
+    }
+
+    /**
+     * Stops the background maintenance and closes the search index.
+     *
+     * @param commit Set to {@code true} to commit pending changes, {@code false} to roll back to the last commit.
+     */
+    private void closeIndex(boolean commit) {
+        maintenanceExecutor.shutdown();
         try {
-            indexWriter.close();
-            indexWriter = null;
+            if (!maintenanceExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("Search index maintenance did not terminate in time!");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            searcherManager.close();
+            if (commit) {
+                indexWriter.commit();
+                indexWriter.close();
+            } else {
+                indexWriter.rollback();
+            }
         } catch (IOException e) {
             throw new ArtivactException("Could not close search index!", e);
+        } finally {
+            indexWriter = null;
+            searcherManager = null;
+            maintenanceExecutor = null;
+            rebuilding = false;
         }
     }
 
-    @Override
-    public List<String> search(String searchQuery, int maxResults) {
+    /**
+     * Refreshes the near-real-time searcher and commits pending changes to disk if the commit interval has passed.
+     * Nothing is done while a new search index is created.
+     *
+     * @param commit Set to {@code true} to commit uncommitted changes.
+     */
+    void maintainIndex(boolean commit) {
         try {
-            Directory indexDirectory = FSDirectory.open(searchIndexDir);
+            IndexWriter writer = indexWriter;
+            SearcherManager manager = searcherManager;
+            if (writer == null || manager == null || rebuilding) {
+                return;
+            }
+            manager.maybeRefresh();
+            if (commit && writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException | AlreadyClosedException e) {
+            log.warn("Search index maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the shared {@link IndexWriter} and opens the search index if required.
+     *
+     * @return The index writer.
+     */
+    private IndexWriter getIndexWriter() {
+        IndexWriter writer = indexWriter;
+        if (writer != null) {
+            return writer;
+        }
+        synchronized (this) {
+            try {
+                openIfRequired(false);
+                return indexWriter;
+            } catch (IOException e) {
+                throw new ArtivactException("Could not open search index!", e);
+            }
+        }
+    }
 
-            DirectoryReader indexReader = DirectoryReader.open(indexDirectory);
+    /**
+     * Opens the index writer, the searcher manager and the background maintenance, if not already done.
+     *
+     * @param create Set to {@code true} to delete an existing search index and create a new one.
+     * @throws IOException In case of I/O errors.
+     */
+    private void openIfRequired(boolean create) throws IOException {
+        if (indexWriter != null) {
+            return;
+        }
 
-            IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+        if (create) {
+            fileRepository.delete(searchIndexDir);
+        }
+        fileRepository.createDirIfRequired(searchIndexDir);
 
-            var queryParser = new MultiFieldQueryParser(new String[]{"fulltext"}, new StandardAnalyzer());
-            queryParser.setAllowLeadingWildcard(true);
+        Directory indexDirectory = FSDirectory.open(searchIndexDir);
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        config.setOpenMode(create ? IndexWriterConfig.OpenMode.CREATE : IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
 
-            Query query = queryParser.parse(searchQuery);
+        boolean indexExists = !create && DirectoryReader.indexExists(indexDirectory);
 
-            TopDocs hits = indexSearcher.search(query, maxResults);
-            StoredFields storedFields = indexSearcher.storedFields();
+        IndexWriter writer = new IndexWriter(indexDirectory, config);
+        if (indexExists) {
+            indexLayoutVersion = readIndexLayoutVersion(writer);
+        } else {
+            setCurrentIndexLayoutVersion(writer);
+        }
 
-            List<String> itemIds = new LinkedList<>();
+        searcherManager = new SearcherManager(writer, null);
 
-            for (ScoreDoc hit : hits.scoreDocs) {
-                Document doc = storedFields.document(hit.doc);
-                itemIds.add(doc.get("id"));
+        maintenanceExecutor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("artivact-search-index").daemon().factory());
+        maintenanceExecutor.scheduleWithFixedDelay(() -> maintainIndex(false),
+                REFRESH_INTERVAL_MILLIS, REFRESH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        maintenanceExecutor.scheduleWithFixedDelay(() -> maintainIndex(true),
+                COMMIT_INTERVAL_SECONDS, COMMIT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+        indexWriter = writer;
+    }
+
+    /**
+     * Reads the layout version from the index's commit data.
+     *
+     * @param writer The index writer of the opened index.
+     * @return The layout version or {@code 0} if the index has been created without one.
+     */
+    private int readIndexLayoutVersion(IndexWriter writer) {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (INDEX_LAYOUT_VERSION_KEY.equals(entry.getKey())) {
+                    return Integer.parseInt(entry.getValue());
+                }
             }
+        }
+        return 0;
+    }
 
-            indexReader.close();
+    /**
+     * Marks the index as using the current layout version with the next commit.
+     *
+     * @param writer The index writer.
+     */
+    private void setCurrentIndexLayoutVersion(IndexWriter writer) {
+        writer.setLiveCommitData(Map.of(INDEX_LAYOUT_VERSION_KEY, String.valueOf(INDEX_LAYOUT_VERSION)).entrySet());
+        indexLayoutVersion = INDEX_LAYOUT_VERSION;
+    }
 
-            return itemIds;
-        } catch (IOException | ParseException e) {
-            throw new ArtivactException("Error during item search!", e);
+    /**
+     * Creates a filter that matches all items without restrictions and all items that are available for at least
+     * one of the given roles.
+     *
+     * @param roles The current user's roles.
+     * @return The filter query.
+     */
+    private Query createRestrictionsFilter(Set<String> roles) {
+        BooleanQuery.Builder filterBuilder = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(RESTRICTIONS_FIELD, UNRESTRICTED)), BooleanClause.Occur.SHOULD);
+        roles.forEach(role -> filterBuilder.add(new TermQuery(new Term(RESTRICTIONS_FIELD, role)), BooleanClause.Occur.SHOULD));
+        return new ConstantScoreQuery(filterBuilder.build());
+    }
+
+    /**
+     * Restricts the query to items with the selected tags and property values.
+     *
+     * @param query      The query to restrict.
+     * @param facetQuery The selected facet values.
+     * @return The restricted query.
+     */
+    private Query applyFacetFilters(Query query, ItemFacetQuery facetQuery) {
+        if (facetQuery.getTagIds().isEmpty() && facetQuery.getPropertyValues().isEmpty()) {
+            return query;
+        }
+        DrillDownQuery drillDownQuery = new DrillDownQuery(facetsConfig, query);
+        facetQuery.getTagIds().forEach(tagId -> drillDownQuery.add(TAG_FACET, tagId));
+        facetQuery.getPropertyValues().forEach((propertyId, values) ->
+                values.forEach(value -> drillDownQuery.add(PROPERTY_FACET_PREFIX + propertyId, value)));
+        return drillDownQuery;
+    }
+
+    /**
+     * Counts the matching items per tag and per value of the requested properties. Restricted tags are only counted if
+     * they are available for at least one of the given roles.
+     *
+     * @param indexSearcher The searcher to use.
+     * @param query         The search query.
+     * @param facetQuery    The facets to count.
+     * @param roles         The current user's roles or {@code null}, if tags should not be filtered.
+     * @return The facet counts.
+     * @throws IOException In case of I/O errors.
+     */
+    private ItemFacets countFacets(IndexSearcher indexSearcher, Query query, ItemFacetQuery facetQuery,
+                                   Set<String> roles) throws IOException {
+        ItemFacets itemFacets = new ItemFacets();
+
+        FacetsState state = getFacetsState(indexSearcher.getIndexReader());
+        SortedSetDocValuesReaderState readerState = state.readerState();
+        if (readerState == null) {
+            return itemFacets;
+        }
+
+        FacetsCollector facetsCollector = indexSearcher.search(query, new FacetsCollectorManager());
+        Facets facets = new SortedSetDocValuesFacetCounts(readerState, facetsCollector);
+
+        Map<String, Long> tagCounts = getFacetCounts(facets, TAG_FACET);
+        if (roles != null) {
+            tagCounts.keySet().removeIf(tagId -> isTagForbidden(state.tagRestrictions().get(tagId), roles));
+        }
+        itemFacets.setTags(tagCounts);
+        for (String propertyId : facetQuery.getFacetPropertyIds()) {
+            itemFacets.getProperties().put(propertyId, getFacetCounts(facets, PROPERTY_FACET_PREFIX + propertyId));
+        }
+
+        return itemFacets;
+    }
+
+    /**
+     * Checks whether a tag has restrictions, none of which match the given roles.
+     *
+     * @param tagRestrictions The tag's restrictions, {@code null} if the tag is not restricted.
+     * @param roles           The current user's roles.
+     * @return {@code true}, if the tag must not be shown to the user, {@code false} otherwise.
+     */
+    private boolean isTagForbidden(Set<String> tagRestrictions, Set<String> roles) {
+        return tagRestrictions != null && roles.stream().noneMatch(tagRestrictions::contains);
+    }
+
+    /**
+     * Returns the facet state for the given index reader. The state is re-used until the reader changes.
+     *
+     * @param indexReader The current index reader.
+     * @return The facet state.
+     * @throws IOException In case of I/O errors.
+     */
+    private FacetsState getFacetsState(IndexReader indexReader) throws IOException {
+        FacetsState currentState = facetsState;
+        if (currentState != null && currentState.indexReader() == indexReader) {
+            return currentState;
+        }
+        SortedSetDocValuesReaderState readerState;
+        try {
+            readerState = new DefaultSortedSetDocValuesReaderState(indexReader, facetsConfig);
+        } catch (IllegalArgumentException e) {
+            // No facet values have been indexed yet.
+            readerState = null;
+        }
+        FacetsState state = new FacetsState(indexReader, readerState, readTagRestrictions(indexReader));
+        facetsState = state;
+        return state;
+    }
+
+    /**
+     * Reads the roles of all restricted tags of the items in the index.
+     *
+     * @param indexReader The index reader.
+     * @return The roles per restricted tag ID.
+     * @throws IOException In case of I/O errors.
+     */
+    private Map<String, Set<String>> readTagRestrictions(IndexReader indexReader) throws IOException {
+        Map<String, Set<String>> tagRestrictions = new HashMap<>();
+        Terms terms = MultiTerms.getTerms(indexReader, RESTRICTED_TAG_ROLES_FIELD);
+        if (terms == null) {
+            return tagRestrictions;
+        }
+        Bits liveDocs = MultiBits.getLiveDocs(indexReader);
+        TermsEnum termsEnum = terms.iterator();
+        PostingsEnum postingsEnum = null;
+        BytesRef term;
+        while ((term = termsEnum.next()) != null) {
+            // Terms of deleted items remain in the index until their segments are merged:
+            postingsEnum = termsEnum.postings(postingsEnum, PostingsEnum.NONE);
+            if (!hasLiveDoc(postingsEnum, liveDocs)) {
+                continue;
+            }
+            String tagRole = term.utf8ToString();
+            int separatorIndex = tagRole.indexOf(RESTRICTED_TAG_ROLE_SEPARATOR);
+            tagRestrictions.computeIfAbsent(tagRole.substring(0, separatorIndex), _ -> new HashSet<>())
+                    .add(tagRole.substring(separatorIndex + 1));
+        }
+        return tagRestrictions;
+    }
+
+    /**
+     * Checks whether the given postings contain a document that hasn't been deleted.
+     *
+     * @param postingsEnum The postings of a term.
+     * @param liveDocs     The live documents of the index, {@code null} if there are no deletions.
+     * @return {@code true} if a live document is found, {@code false} otherwise.
+     * @throws IOException In case of I/O errors.
+     */
+    private boolean hasLiveDoc(PostingsEnum postingsEnum, Bits liveDocs) throws IOException {
+        int doc;
+        while ((doc = postingsEnum.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+            if (liveDocs == null || liveDocs.get(doc)) {
+                return true;
+            }
         }
+        return false;
     }
 
     /**
-     * Appends a key-value pair to the supplied StringBuilder.
+     * Returns the counts of the most frequent values of a facet dimension.
+     *
+     * @param facets    The counted facets.
+     * @param dimension The facet dimension.
+     * @return The number of items per value, ordered by descending count.
+     * @throws IOException In case of I/O errors.
+     */
+    private Map<String, Long> getFacetCounts(Facets facets, String dimension) throws IOException {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        FacetResult facetResult;
+        try {
+            facetResult = facets.getTopChildren(MAX_FACET_VALUES, dimension);
+        } catch (IllegalArgumentException e) {
+            // The dimension has not been indexed yet.
+            return counts;
+        }
+        if (facetResult != null) {
+            for (LabelAndValue labelAndValue : facetResult.labelValues) {
+                counts.put(labelAndValue.label, labelAndValue.value.longValue());
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Parses the given search query into a Lucene {@link Query}.
      * <p>
-     * Used to support fulltext-search over all item properties.
+     * Terms without explicit field are searched in the general fields and in the localized fields of the current
+     * locale.
+     *
+     * @param searchQuery The search query.
+     * @return The parsed query.
+     * @throws ParseException If the query is invalid.
+     */
+    private Query parseQuery(String searchQuery) throws ParseException {
+        if ("*".equals(searchQuery)) {
+            return new MatchAllDocsQuery();
+        }
+
+        Locale locale = LocaleContextHolder.getLocale();
+
+        Map<String, Float> boosts = new LinkedHashMap<>();
+        boosts.put(ID_FIELD, DEFAULT_BOOST);
+        boosts.put(KEYS_FIELD, DEFAULT_BOOST);
+        addSearchFields(boosts, TITLE_FIELD, TITLE_BOOST, locale);
+        addSearchFields(boosts, DESCRIPTION_FIELD, DESCRIPTION_BOOST, locale);
+        addSearchFields(boosts, PROPERTIES_FIELD, DEFAULT_BOOST, locale);
+        addSearchFields(boosts, TAGS_FIELD, DEFAULT_BOOST, locale);
+
+        var queryParser = new MultiFieldQueryParser(boosts.keySet().toArray(String[]::new), analyzer, boosts);
+        queryParser.setAllowLeadingWildcard(true);
+        return queryParser.parse(searchQuery);
+    }
+
+    /**
+     * Adds a field and its localized variants for the given locale to the fields to search.
+     *
+     * @param boosts The fields to search with their boosts.
+     * @param field  The field to add.
+     * @param boost  The boost of matches in the field.
+     * @param locale The locale to add localized fields for.
+     */
+    private void addSearchFields(Map<String, Float> boosts, String field, float boost, Locale locale) {
+        boosts.put(field, boost);
+        if (StringUtils.hasText(locale.getLanguage())) {
+            boosts.put(LocalizedFieldAnalyzer.localizedField(field, locale.getLanguage()), boost);
+            boosts.put(LocalizedFieldAnalyzer.localizedField(field, locale.toString()), boost);
+        }
+    }
+
+    /**
+     * Returns the suggestions stored in the given document, which are visible to a user with the given roles.
+     *
+     * @param document The document with the stored suggestion fields.
+     * @param roles    The user's roles. All suggestions are visible if {@code null}.
+     * @return The visible suggestions.
+     */
+    private List<String> getSuggestions(Document document, Set<String> roles) {
+        List<String> suggestions = new ArrayList<>(List.of(document.getValues(SUGGEST_TEXT_FIELD)));
+        for (String restrictedSuggestion : document.getValues(SUGGEST_RESTRICTED_TEXT_FIELD)) {
+            int separatorIndex = restrictedSuggestion.indexOf(RESTRICTED_TAG_ROLE_SEPARATOR);
+            if (roles == null || roles.contains(restrictedSuggestion.substring(0, separatorIndex))) {
+                suggestions.add(restrictedSuggestion.substring(separatorIndex + 1));
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Checks whether every partially typed word is the beginning of a word of the given text.
+     *
+     * @param text         The suggestion text.
+     * @param prefixTokens The analyzed, partially typed words.
+     * @return {@code true} if the text matches all words, {@code false} otherwise.
+     */
+    private boolean matchesPrefixTokens(String text, List<String> prefixTokens) {
+        List<String> textTokens = suggestQueryAnalyzer.tokenize(text);
+        return prefixTokens.stream().allMatch(prefixToken ->
+                textTokens.stream().anyMatch(textToken -> textToken.startsWith(prefixToken)));
+    }
+
+    /**
+     * Creates the Lucene {@link Sort} for the given sort definition.
+     *
+     * @param sort The sort definition. Results are sorted by relevance if {@code null}.
+     * @return The Lucene sort.
+     */
+    private Sort createSort(ItemSort sort) {
+        ItemSortField sortField = (sort != null && sort.getField() != null) ? sort.getField() : ItemSortField.RELEVANCE;
+        return switch (sortField) {
+            case RELEVANCE -> Sort.RELEVANCE;
+            case TITLE -> new Sort(createStringSortField(SORT_TITLE_FIELD));
+            case LAST_MODIFIED -> new Sort(new SortField(SORT_LAST_MODIFIED_FIELD, SortField.Type.LONG, true));
+            case PROPERTY -> StringUtils.hasText(sort.getPropertyId())
+                    ? new Sort(createStringSortField(SORT_PROPERTY_FIELD_PREFIX + sort.getPropertyId()))
+                    : Sort.RELEVANCE;
+        };
+    }
+
+    /**
+     * Collects the hits of one page.
+     * <p>
+     * If the previous page has been requested from the same index reader, the page is collected with
+     * {@link IndexSearcher#searchAfter(ScoreDoc, Query, int, Sort)} starting at that page's last hit, so deeper pages
+     * cost no more than the first one. Otherwise, e.g. if a page is opened directly, all preceding hits are collected
+     * and skipped.
+     *
+     * @param indexSearcher The index searcher.
+     * @param query         The query.
+     * @param sort          The order of the hits.
+     * @param offset        The number of hits to skip.
+     * @param limit         The maximum number of hits to return.
+     * @param totalHits     The total number of matching items.
+     * @return The hits of the requested page.
+     * @throws IOException In case of I/O errors.
+     */
+    private ScoreDoc[] searchPage(IndexSearcher indexSearcher, Query query, Sort sort, int offset, int limit,
+                                  int totalHits) throws IOException {
+        IndexReader.CacheHelper readerCacheHelper = indexSearcher.getIndexReader().getReaderCacheHelper();
+        IndexReader.CacheKey readerKey = readerCacheHelper != null ? readerCacheHelper.getKey() : null;
+
+        ScoreDoc after = null;
+        if (offset > 0 && readerKey != null) {
+            synchronized (pageCursors) {
+                after = pageCursors.get(new PageCursorKey(readerKey, query, sort, offset));
+            }
+        }
+
+        ScoreDoc[] pageHits;
+        if (offset == 0 || after != null) {
+            pageHits = indexSearcher.searchAfter(after, query, limit, sort).scoreDocs;
+        } else {
+            ScoreDoc[] hits = indexSearcher.search(query, (int) Math.min((long) offset + limit, totalHits), sort).scoreDocs;
+            pageHits = Arrays.copyOfRange(hits, Math.min(offset, hits.length), hits.length);
+        }
+
+        if (pageHits.length > 0 && readerKey != null) {
+            synchronized (pageCursors) {
+                pageCursors.put(new PageCursorKey(readerKey, query, sort, offset + pageHits.length),
+                        pageHits[pageHits.length - 1]);
+            }
+        }
+
+        return pageHits;
+    }
+
+    /**
+     * Creates an ascending sort field on string doc values that puts documents without a value last.
+     *
+     * @param field The name of the doc values field.
+     * @return The sort field.
+     */
+    private SortField createStringSortField(String field) {
+        SortField sortField = new SortField(field, SortField.Type.STRING);
+        sortField.setMissingValue(SortField.STRING_LAST);
+        return sortField;
+    }
+
+    /**
+     * Releases a previously acquired searcher.
+     *
+     * @param indexSearcher The searcher to release, may be {@code null}.
+     */
+    private void releaseSearcher(IndexSearcher indexSearcher) {
+        if (indexSearcher == null) {
+            return;
+        }
+        try {
+            searcherManager.release(indexSearcher);
+        } catch (IOException e) {
+            log.warn("Could not release index searcher: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Creates the Lucene document for the given item.
+     *
+     * @param item The item.
+     * @return The Lucene document containing the item's searchable fields.
+     */
+    private Document createDocument(Item item) {
+        final Document luceneDocument = new Document();
+
+        // Lucene doesn't like "-" in the UUIDs, so wie store the ID for search with Lucene without them:
+        String preparedItemId = item.getId().replace("-", "");
+        luceneDocument.add(new TextField("preparedItemId", preparedItemId, Field.Store.YES));
+
+        luceneDocument.add(new TextField(ID_FIELD, item.getId(), Field.Store.YES));
+
+        addLocalizedFields(luceneDocument, TITLE_FIELD, item.getTitle());
+        addLocalizedFields(luceneDocument, DESCRIPTION_FIELD, item.getDescription());
+
+        // Property and tag values are additionally indexed in a field named by their ID, to support queries like
+        // PROPERTY_ID:"value":
+        item.getProperties().forEach((key, value) -> {
+            if (!StringUtils.hasText(value.getValue())) {
+                return;
+            }
+            luceneDocument.add(new TextField(KEYS_FIELD, key, Field.Store.NO));
+            luceneDocument.add(new TextField(key, value.getValue(), Field.Store.NO));
+            value.getTranslations().values().forEach(translation ->
+                    luceneDocument.add(new TextField(key, translation, Field.Store.NO)));
+            addLocalizedFields(luceneDocument, PROPERTIES_FIELD, value);
+            if (value.getValue().length() <= MAX_FACET_VALUE_LENGTH) {
+                luceneDocument.add(new SortedSetDocValuesFacetField(PROPERTY_FACET_PREFIX + key, value.getValue()));
+            }
+        });
+
+        item.getTags().forEach(tag -> {
+            luceneDocument.add(new TextField(KEYS_FIELD, tag.getId(), Field.Store.NO));
+            luceneDocument.add(new TextField(tag.getId(), tag.getValue(), Field.Store.NO));
+            addLocalizedFields(luceneDocument, TAGS_FIELD, tag);
+            luceneDocument.add(new SortedSetDocValuesFacetField(TAG_FACET, tag.getId()));
+            if (tag.getRestrictions() != null) {
+                tag.getRestrictions().forEach(role -> luceneDocument.add(new StringField(RESTRICTED_TAG_ROLES_FIELD,
+                        tag.getId() + RESTRICTED_TAG_ROLE_SEPARATOR + role, Field.Store.NO)));
+            }
+        });
+
+        addCardFields(luceneDocument, item);
+        addSortFields(luceneDocument, item);
+        addSuggestFields(luceneDocument, item);
+
+        if (item.getRestrictions().isEmpty()) {
+            luceneDocument.add(new StringField(RESTRICTIONS_FIELD, UNRESTRICTED, Field.Store.NO));
+        } else {
+            item.getRestrictions().forEach(restriction ->
+                    luceneDocument.add(new StringField(RESTRICTIONS_FIELD, restriction, Field.Store.NO)));
+        }
+
+        try {
+            return facetsConfig.build(luceneDocument);
+        } catch (IOException e) {
+            throw new ArtivactException("Could not create search index document!", e);
+        }
+    }
+
+    /**
+     * Adds the value of a translatable string to the given field and each translation to the field of its locale.
+     *
+     * @param luceneDocument     The document to add the fields to.
+     * @param field              The field name.
+     * @param translatableString The translatable string to index.
+     */
+    private void addLocalizedFields(Document luceneDocument, String field, TranslatableString translatableString) {
+        if (translatableString == null) {
+            return;
+        }
+        if (StringUtils.hasText(translatableString.getValue())) {
+            luceneDocument.add(new TextField(field, translatableString.getValue(), Field.Store.NO));
+        }
+        translatableString.getTranslations().forEach((locale, translation) -> {
+            if (StringUtils.hasText(translation)) {
+                luceneDocument.add(new TextField(LocalizedFieldAnalyzer.localizedField(field, locale), translation,
+                        Field.Store.NO));
+            }
+        });
+    }
+
+    /**
+     * Adds the stored fields required to create search result cards without loading the item.
+     *
+     * @param luceneDocument The document to add the fields to.
+     * @param item           The item.
+     */
+    private void addCardFields(Document luceneDocument, Item item) {
+        TranslatableString title = item.getTitle();
+        if (title != null && title.getValue() != null) {
+            luceneDocument.add(new StoredField(CARD_TITLE_FIELD, title.getValue()));
+            title.getTranslations().forEach((locale, translation) ->
+                    luceneDocument.add(new StoredField(CARD_TITLE_TRANSLATION_FIELD, locale + "=" + translation)));
+        }
+        if (!item.getMediaContent().getImages().isEmpty()) {
+            luceneDocument.add(new StoredField(CARD_IMAGE_FIELD, item.getMediaContent().getImages().getFirst()));
+        }
+        if (!item.getMediaContent().getModels().isEmpty()) {
+            luceneDocument.add(new StoredField(CARD_HAS_MODEL_FIELD, 1));
+        }
+    }
+
+    /**
+     * Adds the doc values fields used to sort search results.
+     *
+     * @param luceneDocument The document to add the fields to.
+     * @param item           The item.
+     */
+    private void addSortFields(Document luceneDocument, Item item) {
+        if (item.getTitle() != null && StringUtils.hasText(item.getTitle().getValue())) {
+            luceneDocument.add(new SortedDocValuesField(SORT_TITLE_FIELD, createSortValue(item.getTitle().getValue())));
+        }
+        luceneDocument.add(new NumericDocValuesField(SORT_LAST_MODIFIED_FIELD,
+                Optional.ofNullable(item.getLastModified()).orElse(0L)));
+        item.getProperties().forEach((key, value) -> {
+            if (StringUtils.hasText(value.getValue())) {
+                luceneDocument.add(new SortedDocValuesField(SORT_PROPERTY_FIELD_PREFIX + key, createSortValue(value.getValue())));
+            }
+        });
+    }
+
+    /**
+     * Adds the item's title and tag names, including their translations, as suggestions. Names of restricted tags are
+     * stored together with the roles allowed to see them, so they are only suggested to users with one of these roles.
+     *
+     * @param luceneDocument The document to add the fields to.
+     * @param item           The item.
+     */
+    private void addSuggestFields(Document luceneDocument, Item item) {
+        Set<String> suggestions = new LinkedHashSet<>(getSuggestionTexts(item.getTitle()));
+        item.getTags().stream()
+                .filter(tag -> tag.getRestrictions() == null || tag.getRestrictions().isEmpty())
+                .forEach(tag -> suggestions.addAll(getSuggestionTexts(tag)));
+        suggestions.forEach(suggestion -> {
+            luceneDocument.add(new TextField(SUGGEST_FIELD, suggestion, Field.Store.NO));
+            luceneDocument.add(new StoredField(SUGGEST_TEXT_FIELD, suggestion));
+        });
+
+        item.getTags().stream()
+                .filter(tag -> tag.getRestrictions() != null && !tag.getRestrictions().isEmpty())
+                .forEach(tag -> getSuggestionTexts(tag).stream()
+                        .filter(suggestion -> !suggestions.contains(suggestion))
+                        .forEach(suggestion -> {
+                            luceneDocument.add(new TextField(SUGGEST_FIELD, suggestion, Field.Store.NO));
+                            tag.getRestrictions().forEach(role -> luceneDocument.add(new StoredField(
+                                    SUGGEST_RESTRICTED_TEXT_FIELD, role + RESTRICTED_TAG_ROLE_SEPARATOR + suggestion)));
+                        }));
+    }
+
+    /**
+     * Returns the value and all translations of the given string as suggestions.
+     *
+     * @param translatableString The string. Might be {@code null}.
+     * @return The distinct, non-blank suggestion texts.
+     */
+    private Set<String> getSuggestionTexts(TranslatableString translatableString) {
+        Set<String> suggestionTexts = new LinkedHashSet<>();
+        if (translatableString == null) {
+            return suggestionTexts;
+        }
+        if (StringUtils.hasText(translatableString.getValue())) {
+            suggestionTexts.add(translatableString.getValue().strip());
+        }
+        translatableString.getTranslations().values().stream()
+                .filter(StringUtils::hasText)
+                .map(String::strip)
+                .forEach(suggestionTexts::add);
+        return suggestionTexts;
+    }
+
+    /**
+     * Normalizes a value for case-insensitive sorting.
+     *
+     * @param value The value.
+     * @return The normalized value, shortened to the maximum sort value length.
+     */
+    private BytesRef createSortValue(String value) {
+        String sortValue = value.strip().toLowerCase(Locale.ROOT);
+        if (sortValue.length() > MAX_SORT_VALUE_LENGTH) {
+            sortValue = sortValue.substring(0, MAX_SORT_VALUE_LENGTH);
+        }
+        return new BytesRef(sortValue);
+    }
+
+    /**
+     * Creates a search result card from the stored fields of a found document.
+     *
+     * @param doc The Lucene document containing the card fields.
+     * @return The search result card.
+     */
+    private ItemCard createItemCard(Document doc) {
+        Map<String, String> titleTranslations = new HashMap<>();
+        for (String translation : doc.getValues(CARD_TITLE_TRANSLATION_FIELD)) {
+            int separatorIndex = translation.indexOf('=');
+            titleTranslations.put(translation.substring(0, separatorIndex), translation.substring(separatorIndex + 1));
+        }
+        return ItemCard.builder()
+                .itemId(doc.get(ID_FIELD))
+                .title(new TranslatableString(doc.get(CARD_TITLE_FIELD), null, titleTranslations))
+                .image(doc.get(CARD_IMAGE_FIELD))
+                .hasModel(doc.getField(CARD_HAS_MODEL_FIELD) != null)
+                .build();
+    }
+
+    /**
+     * Facet state of an index reader.
+     *
+     * @param indexReader     The index reader.
+     * @param readerState     The reader's facet state, {@code null} if no facet values have been indexed.
+     * @param tagRestrictions The roles per restricted tag ID.
+     */
+    private record FacetsState(IndexReader indexReader, SortedSetDocValuesReaderState readerState,
+                               Map<String, Set<String>> tagRestrictions) {
+    }
+
+    /**
+     * Identifies the page following a remembered hit.
      *
-     * @param target The target to put the values to.
-     * @param key    The key.
-     * @param value  The value.
+     * @param readerKey The cache key of the index reader the hit belongs to.
+     * @param query     The query, including filters by roles and facets.
+     * @param sort      The order of the hits.
+     * @param offset    The offset of the following page.
      */
-    private void appendField(StringBuilder target, String key, String value) {
-        target.append(key);
-        target.append("=");
-        target.append(value);
-        target.append(" ");
+    private record PageCursorKey(IndexReader.CacheKey readerKey, Query query, Sort sort, int offset) {
     }
 
 }
@@ -0,0 +1,81 @@
+package com.arassec.artivact.adapter.out.search;
+
+import com.arassec.artivact.domain.exception.ArtivactException;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.ngram.EdgeNGramTokenFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Analyzer for search suggestions.
+ * <p>
+ * Text is split into lower-cased words without diacritics. For indexing, all prefixes of every word are indexed as
+ * well, so suggestions for partially typed words can be found with simple term queries instead of expensive wildcard
+ * queries.
+ */
+public class SuggestAnalyzer extends Analyzer {
+
+    /**
+     * Maximum length of indexed word prefixes.
+     */
+    public static final int MAX_PREFIX_LENGTH = 20;
+
+    /**
+     * Set to {@code true} to index all prefixes of every word.
+     */
+    private final boolean indexPrefixes;
+
+    /**
+     * Creates a new analyzer.
+     *
+     * @param indexPrefixes Set to {@code true} to additionally emit all prefixes of every word, which is required for
+     *                      indexing. Queries are analyzed without prefixes.
+     */
+    public SuggestAnalyzer(boolean indexPrefixes) {
+        this.indexPrefixes = indexPrefixes;
+    }
+
+    /**
+     * Splits the given text into its analyzed words.
+     *
+     * @param text The text to analyze.
+     * @return The analyzed words.
+     */
+    public List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream tokenStream = tokenStream("", text)) {
+            CharTermAttribute termAttribute = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                tokens.add(termAttribute.toString());
+            }
+            tokenStream.end();
+        } catch (IOException e) {
+            throw new ArtivactException("Could not analyze suggestion text!", e);
+        }
+        return tokens;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer tokenizer = new StandardTokenizer();
+        TokenStream tokenStream = new LowerCaseFilter(tokenizer);
+        tokenStream = new ASCIIFoldingFilter(tokenStream);
+        if (indexPrefixes) {
+            tokenStream = new EdgeNGramTokenFilter(tokenStream, 1, MAX_PREFIX_LENGTH, true);
+        }
+        return new TokenStreamComponents(tokenizer, tokenStream);
+    }
+
+}
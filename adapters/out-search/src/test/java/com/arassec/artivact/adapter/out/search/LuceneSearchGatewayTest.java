@@ -4,15 +4,25 @@ import com.arassec.artivact.application.port.in.project.UseProjectDirsUseCase;
 import com.arassec.artivact.application.port.out.repository.FileRepository;
 import com.arassec.artivact.domain.model.TranslatableString;
 import com.arassec.artivact.domain.model.item.Item;
+import com.arassec.artivact.domain.model.search.ItemCard;
+import com.arassec.artivact.domain.model.search.ItemFacetQuery;
+import com.arassec.artivact.domain.model.search.ItemSearchResult;
+import com.arassec.artivact.domain.model.search.ItemSort;
+import com.arassec.artivact.domain.model.search.ItemSortField;
+import com.arassec.artivact.domain.model.tag.Tag;
 import lombok.SneakyThrows;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.FSDirectory;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.util.FileSystemUtils;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -33,24 +43,39 @@ class LuceneSearchGatewayTest {
      */
     private final FileRepository fileRepository = mock(FileRepository.class);
 
+    /**
+     * Directory of the search index.
+     */
+    private final Path indexDir = Path.of("target/dbdata-test");
+
+    /**
+     * Use case for project directories.
+     */
+    private final UseProjectDirsUseCase useProjectDirsUseCase = mock(UseProjectDirsUseCase.class);
+
     /**
      * Initializes the test environment.
      */
     @BeforeEach
     @SneakyThrows
     void setUp() {
-        Path indexDir = Path.of("target/dbdata-test");
-
         FileSystemUtils.deleteRecursively(indexDir.toFile());
         Files.createDirectories(indexDir);
 
-        UseProjectDirsUseCase useProjectDirsUseCase = mock(UseProjectDirsUseCase.class);
-
         when(useProjectDirsUseCase.getSearchIndexDir()).thenReturn(indexDir);
 
         searchGateway = new LuceneSearchGateway(fileRepository, useProjectDirsUseCase);
     }
 
+    /**
+     * Closes the search index after each test.
+     */
+    @AfterEach
+    void tearDown() {
+        searchGateway.teardown();
+        LocaleContextHolder.resetLocaleContext();
+    }
+
     /**
      * Tests the complete gateway...
      */
@@ -63,12 +88,12 @@ class LuceneSearchGatewayTest {
         searchGateway.finalizeIndexing();
 
         // Search item by its ID:
-        List<String> searchResult = searchGateway.search(item.getId(), 15);
+        List<String> searchResult = searchGateway.search(item.getId(), 15, null);
         assertThat(searchResult).hasSize(1);
         assertThat(searchResult.getFirst()).isEqualTo(item.getId());
 
         // Search item by (yet unknown) title:
-        searchResult = searchGateway.search("title2", 15);
+        searchResult = searchGateway.search("title2", 15, null);
         assertThat(searchResult).isEmpty();
 
         // Update search index:
@@ -78,11 +103,522 @@ class LuceneSearchGatewayTest {
         searchGateway.finalizeIndexing();
 
         // Search again by the now indexed title:
-        searchResult = searchGateway.search("title2", 15);
+        searchResult = searchGateway.search("title2", 15, null);
         assertThat(searchResult).hasSize(1);
         assertThat(searchResult.getFirst()).isEqualTo(item.getId());
     }
 
+    /**
+     * Tests updating multiple items in the index at once.
+     */
+    @Test
+    void testUpdateIndexBatch() {
+        Item item = createTestItem();
+        searchGateway.updateIndex(item, true);
+        searchGateway.finalizeIndexing();
+
+        item.setTitle(new TranslatableString("title2"));
+        searchGateway.updateIndex(List.of(item));
+        searchGateway.finalizeIndexing();
+
+        assertThat(searchGateway.search(item.getId(), 15, null)).containsExactly(item.getId());
+        assertThat(searchGateway.search("title2", 15, null)).containsExactly(item.getId());
+    }
+
+    /**
+     * Tests that updates without explicit finalization become searchable after the background refresh.
+     */
+    @Test
+    void testNearRealTimeUpdate() {
+        Item item = createTestItem();
+        searchGateway.updateIndex(item, true);
+
+        searchGateway.maintainIndex(true);
+
+        List<String> searchResult = searchGateway.search(item.getId(), 15, null);
+        assertThat(searchResult).containsExactly(item.getId());
+    }
+
+    /**
+     * Tests that re-creating the index with an open writer removes previously indexed items.
+     */
+    @Test
+    void testRecreateIndexWithOpenWriter() {
+        Item item = createTestItem();
+        searchGateway.updateIndex(item, true);
+        searchGateway.finalizeIndexing();
+
+        searchGateway.prepareIndexing(false);
+        searchGateway.finalizeIndexing();
+
+        assertThat(searchGateway.search(item.getId(), 15, null)).isEmpty();
+    }
+
+    /**
+     * Tests that searches use the previous index until a new index is finalized.
+     */
+    @Test
+    void testRecreateIndexKeepsPreviousIndexSearchable() {
+        Item previous = createTestItem();
+        searchGateway.updateIndex(previous, true);
+        searchGateway.finalizeIndexing();
+
+        searchGateway.prepareIndexing(false);
+        Item recreated = createTestItem();
+        searchGateway.addToIndex(List.of(recreated));
+        searchGateway.maintainIndex(true);
+
+        assertThat(searchGateway.search(previous.getId(), 15, null)).containsExactly(previous.getId());
+        assertThat(searchGateway.search(recreated.getId(), 15, null)).isEmpty();
+
+        searchGateway.finalizeIndexing();
+
+        assertThat(searchGateway.search(previous.getId(), 15, null)).isEmpty();
+        assertThat(searchGateway.search(recreated.getId(), 15, null)).containsExactly(recreated.getId());
+    }
+
+    /**
+     * Tests that aborting the creation of a new index restores the previous index, also after a restart.
+     */
+    @Test
+    void testAbortIndexingRestoresPreviousIndex() {
+        Item previous = createTestItem();
+        searchGateway.updateIndex(previous, true);
+        searchGateway.finalizeIndexing();
+
+        searchGateway.prepareIndexing(false);
+        Item recreated = createTestItem();
+        searchGateway.addToIndex(List.of(recreated));
+        searchGateway.abortIndexing();
+
+        assertThat(searchGateway.search(previous.getId(), 15, null)).containsExactly(previous.getId());
+        assertThat(searchGateway.search(recreated.getId(), 15, null)).isEmpty();
+
+        searchGateway.teardown();
+        searchGateway = new LuceneSearchGateway(fileRepository, useProjectDirsUseCase);
+
+        assertThat(searchGateway.search(previous.getId(), 15, null)).containsExactly(previous.getId());
+        assertThat(searchGateway.isIndexOutdated()).isFalse();
+    }
+
+    /**
+     * Tests that an aborted first index creation leaves the index outdated.
+     */
+    @Test
+    void testAbortedFirstIndexingLeavesIndexOutdated() {
+        searchGateway.prepareIndexing(false);
+        searchGateway.addToIndex(List.of(createTestItem()));
+        searchGateway.abortIndexing();
+
+        assertThat(searchGateway.isIndexOutdated()).isTrue();
+    }
+
+    /**
+     * Tests removing a single item from the index.
+     */
+    @Test
+    void testRemoveFromIndex() {
+        Item removed = createTestItem();
+        Item kept = createTestItem();
+        searchGateway.updateIndex(removed, true);
+        searchGateway.updateIndex(kept, true);
+        searchGateway.finalizeIndexing();
+
+        searchGateway.removeFromIndex(removed.getId());
+        searchGateway.finalizeIndexing();
+
+        assertThat(searchGateway.search("title", 15, null)).containsExactly(kept.getId());
+    }
+
+    /**
+     * Tests adding items to a new index in batches.
+     */
+    @Test
+    void testAddToIndex() {
+        Item first = createTestItem();
+        Item second = createTestItem();
+
+        searchGateway.prepareIndexing(false);
+        searchGateway.addToIndex(List.of(first, second));
+        searchGateway.addToIndex(List.of());
+        searchGateway.finalizeIndexing();
+
+        assertThat(searchGateway.search("title", 15, null)).containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
+    /**
+     * Tests paging through search results on the index side.
+     */
+    @Test
+    void testPagedSearch() {
+        searchGateway.prepareIndexing(false);
+        for (int i = 0; i < 5; i++) {
+            searchGateway.updateIndex(createTestItem(), false);
+        }
+        searchGateway.finalizeIndexing();
+
+        ItemSearchResult firstPage = searchGateway.search("title", null, null, null, 0, 2);
+        assertThat(firstPage.getTotalHits()).isEqualTo(5);
+        assertThat(firstPage.getItemCards()).hasSize(2);
+
+        ItemSearchResult lastPage = searchGateway.search("title", null, null, null, 4, 2);
+        assertThat(lastPage.getTotalHits()).isEqualTo(5);
+        assertThat(lastPage.getItemCards()).hasSize(1).doesNotContainAnyElementsOf(firstPage.getItemCards());
+
+        assertThat(searchGateway.search("title", null, null, null, 10, 2).getItemCards()).isEmpty();
+        assertThat(searchGateway.search("*", null, null, null, 0, 0).getTotalHits()).isEqualTo(5);
+    }
+
+    /**
+     * Tests that paging page by page, which continues after the last hit of the previous page, returns the same hits
+     * as opening the pages directly.
+     */
+    @Test
+    void testConsecutivePagesContinueAfterPreviousPage() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Item item = createTestItem();
+            item.setTitle(new TranslatableString("title " + (char) ('a' + i)));
+            items.add(item);
+        }
+        searchGateway.prepareIndexing(false);
+        searchGateway.addToIndex(items);
+        searchGateway.finalizeIndexing();
+
+        for (ItemSort sort : Arrays.asList(null, ItemSort.by(ItemSortField.TITLE))) {
+            List<String> directlyOpenedPages = new ArrayList<>();
+            for (int offset = 6; offset >= 0; offset -= 2) {
+                directlyOpenedPages.addAll(0, searchGateway.search("title", null, sort, null, offset, 2)
+                        .getItemCards().stream().map(ItemCard::getItemId).toList());
+            }
+
+            List<String> consecutivePages = new ArrayList<>();
+            for (int offset = 0; offset < 7; offset += 2) {
+                consecutivePages.addAll(searchGateway.search("title", null, sort, null, offset, 2)
+                        .getItemCards().stream().map(ItemCard::getItemId).toList());
+            }
+
+            assertThat(consecutivePages).hasSize(7).doesNotHaveDuplicates().isEqualTo(directlyOpenedPages);
+        }
+
+        assertThat(searchGateway.search("title", 10, ItemSort.by(ItemSortField.TITLE)))
+                .isEqualTo(items.stream().map(Item::getId).toList());
+    }
+
+    /**
+     * Tests filtering search results by the user's roles inside the index.
+     */
+    @Test
+    void testSearchWithRoles() {
+        Item publicItem = createTestItem();
+        Item userItem = createTestItem();
+        userItem.setRestrictions(Set.of("ROLE_USER"));
+        Item adminItem = createTestItem();
+        adminItem.setRestrictions(Set.of("ROLE_ADMIN"));
+
+        searchGateway.prepareIndexing(false);
+        searchGateway.addToIndex(List.of(publicItem, userItem, adminItem));
+        searchGateway.finalizeIndexing();
+
+        ItemSearchResult anonymousHits = searchGateway.search("title", Set.of(), null, null, 0, 10);
+        assertThat(anonymousHits.getTotalHits()).isEqualTo(1);
+        assertThat(anonymousHits.getItemCards()).extracting(ItemCard::getItemId).containsExactly(publicItem.getId());
+
+        ItemSearchResult userHits = searchGateway.search("title", Set.of("ROLE_USER"), null, null, 0, 10);
+        assertThat(userHits.getItemCards()).extracting(ItemCard::getItemId)
+                .containsExactlyInAnyOrder(publicItem.getId(), userItem.getId());
+
+        ItemSearchResult adminHits = searchGateway.search("title", Set.of("ROLE_USER", "ROLE_ADMIN"), null, null, 0, 10);
+        assertThat(adminHits.getTotalHits()).isEqualTo(3);
+    }
+
+    /**
+     * Tests that indexes without layout version are reported as outdated.
+     */
+    @Test
+    @SneakyThrows
+    void testIsIndexOutdated() {
+        assertThat(searchGateway.isIndexOutdated()).isFalse();
+        searchGateway.updateIndex(createTestItem(), true);
+        searchGateway.teardown();
+
+        // Re-open the existing index:
+        searchGateway = new LuceneSearchGateway(fileRepository, useProjectDirsUseCase);
+        assertThat(searchGateway.isIndexOutdated()).isFalse();
+        searchGateway.teardown();
+
+        // Simulate an index created by an older version without layout information:
+        try (IndexWriter writer = new IndexWriter(FSDirectory.open(indexDir),
+                new IndexWriterConfig().setOpenMode(IndexWriterConfig.OpenMode.CREATE))) {
+            writer.commit();
+        }
+        searchGateway = new LuceneSearchGateway(fileRepository, useProjectDirsUseCase);
+        assertThat(searchGateway.isIndexOutdated()).isTrue();
+
+        searchGateway.prepareIndexing(false);
+        searchGateway.finalizeIndexing();
+        assertThat(searchGateway.isIndexOutdated()).isFalse();
+    }
+
+    /**
+     * Tests that search result cards are created from stored index fields.
+     */
+    @Test
+    void testSearchReturnsItemCards() {
+        Item item = createTestItem();
+        item.getTitle().getTranslations().put("de", "Titel");
+        item.getMediaContent().getImages().addAll(List.of("first.jpg", "second.jpg"));
+        item.getMediaContent().getModels().add("model.glb");
+        Item itemWithoutMedia = createTestItem();
+
+        searchGateway.prepareIndexing(false);
+        searchGateway.addToIndex(List.of(item, itemWithoutMedia));
+        searchGateway.finalizeIndexing();
+
+        ItemCard itemCard = searchGateway.search(item.getId(), null, null, null, 0, 1).getItemCards().getFirst();
+        assertThat(itemCard.getItemId()).isEqualTo(item.getId());
+        assertThat(itemCard.getTitle().getValue()).isEqualTo("title");
+        assertThat(itemCard.getTitle().getTranslations()).containsEntry("de", "Titel");
+        assertThat(itemCard.getImage()).isEqualTo("first.jpg");
+        assertThat(itemCard.isHasModel()).isTrue();
+
+        ItemCard emptyCard = searchGateway.search(itemWithoutMedia.getId(), null, null, null, 0, 1).getItemCards().getFirst();
+        assertThat(emptyCard.getImage()).isNull();
+        assertThat(emptyCard.isHasModel()).isFalse();
+    }
+
+    /**
+     * Tests sorting search results inside the index.
+     */
+    @Test
+    void testSortedSearch() {
+        Item first = createTestItem();
+        first.setTitle(new TranslatableString("Apple"));
+        first.setLastModified(100L);
+        first.getProperties().put("material", new TranslatableString("wood"));
+        Item second = createTestItem();
+        second.setTitle(new TranslatableString("banana"));
+        second.setLastModified(300L);
+        Item third = createTestItem();
+        third.setTitle(new TranslatableString("Cherry"));
+        third.setLastModified(200L);
+        third.getProperties().put("material", new TranslatableString("Stone"));
+
+        searchGateway.prepareIndexing(false);
+        searchGateway.addToIndex(List.of(third, first, second));
+        searchGateway.finalizeIndexing();
+
+        assertThat(searchGateway.search("*", 10, ItemSort.by(ItemSortField.TITLE)))
+                .containsExactly(first.getId(), second.getId(), third.getId());
+        assertThat(searchGateway.search("*", 10, ItemSort.by(ItemSortField.LAST_MODIFIED)))
+                .containsExactly(second.getId(), third.getId(), first.getId());
+        assertThat(searchGateway.search("*", 10, ItemSort.byProperty("material")))
+                .containsExactly(third.getId(), first.getId(), second.getId());
+
+        ItemSearchResult secondPage = searchGateway.search("*", null, ItemSort.by(ItemSortField.TITLE), null, 1, 1);
+        assertThat(secondPage.getTotalHits()).isEqualTo(3);
+        assertThat(secondPage.getItemCards()).extracting(ItemCard::getItemId).containsExactly(second.getId());
+    }
+
+    /**
+     * Tests searching translations with the analyzer of the current locale's language.
+     */
+    @Test
+    void testLocalizedSearch() {
+        Item item = createTestItem();
+        item.getTitle().getTranslations().put("de", "Häuser");
+        Tag tag = new Tag();
+        tag.setId("tagId");
+        tag.setValue("wood");
+        item.getTags().add(tag);
+        item.getProperties().put("propertyId", new TranslatableString("oak"));
+
+        searchGateway.prepareIndexing(false);
+        searchGateway.addToIndex(List.of(item));
+        searchGateway.finalizeIndexing();
+
+        LocaleContextHolder.setLocale(Locale.GERMAN);
+        assertThat(searchGateway.search("haus", 10, null)).containsExactly(item.getId());
+
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+        assertThat(searchGateway.search("haus", 10, null)).isEmpty();
+
+        assertThat(searchGateway.search("tagId:wood", 10, null)).containsExactly(item.getId());
+        assertThat(searchGateway.search("propertyId:\"oak\"", 10, null)).containsExactly(item.getId());
+        assertThat(searchGateway.search("propertyId", 10, null)).containsExactly(item.getId());
+    }
+
+    /**
+     * Tests that matches in the title are ranked above matches in the description.
+     */
+    @Test
+    void testTitleMatchesRankedFirst() {
+        Item descriptionMatch = createTestItem();
+        descriptionMatch.setDescription(new TranslatableString("A vase"));
+        Item titleMatch = createTestItem();
+        titleMatch.setTitle(new TranslatableString("A vase"));
+
+        searchGateway.prepareIndexing(false);
+        searchGateway.addToIndex(List.of(descriptionMatch, titleMatch));
+        searchGateway.finalizeIndexing();
+
+        assertThat(searchGateway.search("vase", 10, null)).containsExactly(titleMatch.getId(), descriptionMatch.getId());
+    }
+
+    /**
+     * Tests suggestions for partially typed titles and tag names.
+     */
+    @Test
+    void testSuggest() {
+        Item item = createTestItem();
+        item.setTitle(new TranslatableString("Wooden Chair", null, Map.of("de", "Holzstuhl")));
+        Tag tag = new Tag();
+        tag.setId("tagId");
+        tag.setValue("Furniture");
+        item.getTags().add(tag);
+        Tag restrictedTag = new Tag();
+        restrictedTag.setId("restrictedTagId");
+        restrictedTag.setValue("Fragile");
+        restrictedTag.setRestrictions(Set.of("ROLE_ADMIN"));
+        item.getTags().add(restrictedTag);
+        Item restricted = createTestItem();
+        restricted.setTitle(new TranslatableString("Wooden Table"));
+        restricted.setRestrictions(Set.of("ROLE_ADMIN"));
+
+        searchGateway.updateIndex(item, true);
+        searchGateway.updateIndex(restricted, true);
+        searchGateway.finalizeIndexing();
+
+        assertThat(searchGateway.suggest("woo", null, 10)).containsExactlyInAnyOrder("Wooden Chair", "Wooden Table");
+        assertThat(searchGateway.suggest("woo", Set.of(), 10)).containsExactly("Wooden Chair");
+        assertThat(searchGateway.suggest("wooden ch", Set.of(), 10)).containsExactly("Wooden Chair");
+        assertThat(searchGateway.suggest("holz", Set.of(), 10)).containsExactly("Holzstuhl");
+        assertThat(searchGateway.suggest("FUR", Set.of(), 10)).containsExactly("Furniture");
+        assertThat(searchGateway.suggest("fra", Set.of(), 10)).isEmpty();
+        assertThat(searchGateway.suggest("fra", Set.of("ROLE_USER"), 10)).isEmpty();
+        assertThat(searchGateway.suggest("fra", Set.of("ROLE_ADMIN"), 10)).containsExactly("Fragile");
+        assertThat(searchGateway.suggest("fra", null, 10)).containsExactly("Fragile");
+        assertThat(searchGateway.suggest("woo", null, 1)).hasSize(1);
+        assertThat(searchGateway.suggest("", null, 10)).isEmpty();
+    }
+
+    /**
+     * Tests that suggestions are collected from further matching items, if the first ones share the same title.
+     */
+    @Test
+    void testSuggestSkipsDuplicateTitles() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Item item = createTestItem();
+            item.setTitle(new TranslatableString("Vase"));
+            items.add(item);
+        }
+        Item other = createTestItem();
+        other.setTitle(new TranslatableString("Vase with Flowers"));
+        items.add(other);
+
+        searchGateway.prepareIndexing(false);
+        searchGateway.addToIndex(items);
+        searchGateway.finalizeIndexing();
+
+        assertThat(searchGateway.suggest("vas", null, 2)).containsExactlyInAnyOrder("Vase", "Vase with Flowers");
+    }
+
+    /**
+     * Tests counting and filtering by tags and property values.
+     */
+    @Test
+    void testFacetedSearch() {
+        Tag red = new Tag();
+        red.setId("red");
+        red.setValue("Red");
+        Tag blue = new Tag();
+        blue.setId("blue");
+        blue.setValue("Blue");
+
+        Item first = createTestItem();
+        first.getTags().addAll(List.of(red, blue));
+        first.getProperties().put("material", new TranslatableString("wood"));
+        Item second = createTestItem();
+        second.getTags().add(red);
+        second.getProperties().put("material", new TranslatableString("stone"));
+        Item third = createTestItem();
+        third.getProperties().put("material", new TranslatableString("wood"));
+
+        searchGateway.prepareIndexing(false);
+        searchGateway.addToIndex(List.of(first, second, third));
+        searchGateway.finalizeIndexing();
+
+        ItemFacetQuery facetQuery = ItemFacetQuery.builder().facetPropertyIds(Set.of("material")).build();
+        ItemSearchResult result = searchGateway.search("*", null, null, facetQuery, 0, 1);
+        assertThat(result.getTotalHits()).isEqualTo(3);
+        assertThat(result.getItemCards()).hasSize(1);
+        assertThat(result.getFacets().getTags()).containsEntry("red", 2L).containsEntry("blue", 1L);
+        assertThat(result.getFacets().getProperties().get("material")).containsEntry("wood", 2L).containsEntry("stone", 1L);
+
+        facetQuery = ItemFacetQuery.builder().tagIds(Set.of("red")).propertyValues(Map.of("material", Set.of("wood"))).build();
+        result = searchGateway.search("*", null, null, facetQuery, 0, 10);
+        assertThat(result.getItemCards()).extracting(ItemCard::getItemId).containsExactly(first.getId());
+
+        assertThat(searchGateway.search("*", null, null, null, 0, 10).getFacets()).isNull();
+    }
+
+    /**
+     * Tests that restricted tags are only counted for users with a matching role.
+     */
+    @Test
+    void testFacetedSearchWithRestrictedTags() {
+        Tag red = new Tag();
+        red.setId("red");
+        red.setValue("Red");
+        Tag fragile = new Tag();
+        fragile.setId("fragile");
+        fragile.setValue("Fragile");
+        fragile.setRestrictions(Set.of("ROLE_ADMIN"));
+
+        Item item = createTestItem();
+        item.getTags().addAll(List.of(red, fragile));
+
+        searchGateway.updateIndex(item, true);
+        searchGateway.finalizeIndexing();
+
+        ItemFacetQuery facetQuery = ItemFacetQuery.builder().build();
+        assertThat(searchGateway.search("*", Set.of(), null, facetQuery, 0, 10).getFacets().getTags())
+                .containsExactly(Map.entry("red", 1L));
+        assertThat(searchGateway.search("*", Set.of("ROLE_USER"), null, facetQuery, 0, 10).getFacets().getTags())
+                .containsOnlyKeys("red");
+        assertThat(searchGateway.search("*", Set.of("ROLE_ADMIN"), null, facetQuery, 0, 10).getFacets().getTags())
+                .containsEntry("red", 1L).containsEntry("fragile", 1L);
+        assertThat(searchGateway.search("*", null, null, facetQuery, 0, 10).getFacets().getTags())
+                .containsOnlyKeys("red", "fragile");
+    }
+
+    /**
+     * Tests that tag restrictions of updated items are no longer considered.
+     */
+    @Test
+    void testFacetedSearchAfterTagRestrictionsRemoved() {
+        Tag fragile = new Tag();
+        fragile.setId("fragile");
+        fragile.setValue("Fragile");
+        fragile.setRestrictions(Set.of("ROLE_ADMIN"));
+        Item item = createTestItem();
+        item.getTags().add(fragile);
+
+        searchGateway.updateIndex(item, true);
+        searchGateway.finalizeIndexing();
+
+        ItemFacetQuery facetQuery = ItemFacetQuery.builder().build();
+        assertThat(searchGateway.search("*", Set.of(), null, facetQuery, 0, 10).getFacets().getTags()).isEmpty();
+
+        fragile.setRestrictions(Set.of());
+        searchGateway.updateIndex(item, true);
+        searchGateway.finalizeIndexing();
+
+        assertThat(searchGateway.search("*", Set.of(), null, facetQuery, 0, 10).getFacets().getTags())
+                .containsExactly(Map.entry("fragile", 1L));
+    }
+
     private Item createTestItem() {
         UUID itemId = UUID.randomUUID();
 
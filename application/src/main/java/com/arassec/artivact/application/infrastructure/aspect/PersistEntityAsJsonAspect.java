@@ -15,6 +15,7 @@ import org.springframework.stereotype.Component;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.nio.file.Path;
+import java.util.Collection;
 
 /**
  * Aspect that persists entities as JSON files in the project root whenever they are changed.
@@ -83,7 +84,8 @@ public class PersistEntityAsJsonAspect {
     }
 
     /**
-     * Handles persisting entity parameters as JSON files.
+     * Handles persisting entity parameters as JSON files. Entities contained in collection parameters are persisted in
+     * a single pass.
      *
      * @param args       The method arguments.
      * @param entityDir  The entity type directory.
@@ -92,29 +94,45 @@ public class PersistEntityAsJsonAspect {
      */
     private void handlePersist(Object[] args, String entityDir, Class<?> entityType, String filename) {
         for (Object arg : args) {
-            if (entityType.isInstance(arg) && arg instanceof IdentifiedObject entity) {
-                String id = entity.getId();
-                if (id == null || id.length() < MIN_ID_LENGTH) {
-                    return;
-                }
+            if (arg instanceof Collection<?> collection) {
+                collection.forEach(entry -> persist(entry, entityDir, entityType, filename));
+            } else {
+                persist(arg, entityDir, entityType, filename);
+            }
+        }
+    }
+
+    /**
+     * Persists a single entity as JSON file, if it is of the given entity type.
+     *
+     * @param arg        The method argument or collection entry.
+     * @param entityDir  The entity type directory.
+     * @param entityType The entity class to persist.
+     * @param filename   The name of the JSON file.
+     */
+    private void persist(Object arg, String entityDir, Class<?> entityType, String filename) {
+        if (entityType.isInstance(arg) && arg instanceof IdentifiedObject entity) {
+            String id = entity.getId();
+            if (id == null || id.length() < MIN_ID_LENGTH) {
+                return;
+            }
 
-                Path jsonFilePath = resolveJsonFilePath(id, entityDir, filename);
+            Path jsonFilePath = resolveJsonFilePath(id, entityDir, filename);
 
-                fileRepository.createDirIfRequired(jsonFilePath.getParent());
-                byte[] jsonBytes = jsonMapper.writeValueAsBytes(entity);
-                fileRepository.write(jsonFilePath, jsonBytes);
+            fileRepository.createDirIfRequired(jsonFilePath.getParent());
+            byte[] jsonBytes = jsonMapper.writeValueAsBytes(entity);
+            fileRepository.write(jsonFilePath, jsonBytes);
 
-                log.debug("Persisted entity {} as JSON: {}", id, jsonFilePath);
-            } else if (entityType.isInstance(arg) && arg instanceof ConfigurationTypeProvider config) {
-                String type = config.getConfigurationType().toString().toLowerCase();
+            log.debug("Persisted entity {} as JSON: {}", id, jsonFilePath);
+        } else if (entityType.isInstance(arg) && arg instanceof ConfigurationTypeProvider config) {
+            String type = config.getConfigurationType().toString().toLowerCase();
 
-                Path jsonFilePath = useProjectDirsUseCase.getProjectRoot().resolve(entityDir).resolve(type + filename);
-                fileRepository.createDirIfRequired(jsonFilePath.getParent());
-                byte[] jsonBytes = jsonMapper.writeValueAsBytes(config);
-                fileRepository.write(jsonFilePath, jsonBytes);
+            Path jsonFilePath = useProjectDirsUseCase.getProjectRoot().resolve(entityDir).resolve(type + filename);
+            fileRepository.createDirIfRequired(jsonFilePath.getParent());
+            byte[] jsonBytes = jsonMapper.writeValueAsBytes(config);
+            fileRepository.write(jsonFilePath, jsonBytes);
 
-                log.debug("Persisted config {} as JSON: {}", type, jsonFilePath);
-            }
+            log.debug("Persisted config {} as JSON: {}", type, jsonFilePath);
         }
     }
 
@@ -1,6 +1,5 @@
 package com.arassec.artivact.application.infrastructure.aspect;
 
-import com.arassec.artivact.domain.exception.ArtivactException;
 import com.arassec.artivact.domain.model.RestrictedObject;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -12,7 +11,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -26,11 +24,6 @@ import java.util.stream.Collectors;
 @Component
 public class RestrictResultAspect {
 
-    /**
-     * Only classes from this package (and sub-packages) are processed.
-     */
-    private static final String ARTIVACT_PACKAGE_PREFIX = "com.arassec.artivact";
-
     /**
      * Executes the method and processes its result.
      *
@@ -68,31 +61,24 @@ public class RestrictResultAspect {
      * @param roles  The current user's roles.
      * @return The object with restricted properties.
      */
-    @SuppressWarnings("java:S3011") // declaredField.setAccessible(true) is intentional here!
     private Object restrictPropertiesIfRequired(Object object, Set<String> roles) {
         if (object == null) {
             return null;
         }
-        for (Field field : object.getClass().getDeclaredFields()) {
-            if (field.getType().isEnum()) {
+        for (ResultFieldPlan.ResultField field : ResultFieldPlan.of(object.getClass()).getFields()) {
+            if (field.kind() == ResultFieldPlan.Kind.ENUM) {
                 return null;
-            }
-            try {
-                if (field.getType().getName().startsWith(ARTIVACT_PACKAGE_PREFIX)) {
-                    field.setAccessible(true);
-                    Object declaredFieldValue = field.get(object);
-                    if (declaredFieldValue instanceof RestrictedObject restrictedObject && (restrictedObject.isForbidden(roles))) {
-                        field.set(object, null);
-                    } else {
-                        field.set(object, restrictIfRequired(declaredFieldValue, roles));
-                    }
-                } else if (Collection.class.isAssignableFrom(field.getType())) {
-                    field.setAccessible(true);
-                    Collection<?> collection = (Collection<?>) field.get(object);
-                    field.set(object, filterCollection(collection, roles));
+            } else if (field.kind() == ResultFieldPlan.Kind.OBJECT) {
+                Object declaredFieldValue = field.get(object);
+                Object restrictedFieldValue = restrictIfRequired(declaredFieldValue, roles);
+                if (restrictedFieldValue != declaredFieldValue) {
+                    field.set(object, restrictedFieldValue);
+                }
+            } else if (field.kind() == ResultFieldPlan.Kind.COLLECTION) {
+                Collection<?> collection = (Collection<?>) field.get(object);
+                if (collection != null) {
+                    filterCollection(collection, roles);
                 }
-            } catch (IllegalAccessException e) {
-                throw new ArtivactException("Could not restrict method result!", e);
             }
         }
         return object;
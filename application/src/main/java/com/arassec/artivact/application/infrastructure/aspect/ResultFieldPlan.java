@@ -0,0 +1,252 @@
+package com.arassec.artivact.application.infrastructure.aspect;
+
+import com.arassec.artivact.domain.exception.ArtivactException;
+import com.arassec.artivact.domain.model.RestrictedObject;
+import com.arassec.artivact.domain.model.TranslatableObject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * The fields of a class that are processed by the {@link TranslateResultAspect} and the {@link RestrictResultAspect}.
+ * <p>
+ * Plans are created once per class and cached. They only contain fields whose declared type can hold a
+ * {@link TranslatableObject} or a {@link RestrictedObject}, directly, as collection or map entry, or nested in further
+ * fields. Enum fields are kept as well, since they stop the {@link RestrictResultAspect}. Field values are accessed by
+ * method handles instead of reflection.
+ * <p>
+ * Fields are judged by their declared types. Interfaces, abstract classes and unresolved type parameters are always
+ * processed, since their runtime types are unknown.
+ */
+final class ResultFieldPlan {
+
+    /**
+     * Only classes from this package (and sub-packages) are processed.
+     */
+    private static final String ARTIVACT_PACKAGE_PREFIX = "com.arassec.artivact";
+
+    /**
+     * Type of getters after adaption.
+     */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Type of setters after adaption.
+     */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * The cached plans per class.
+     */
+    private static final ClassValue<ResultFieldPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected ResultFieldPlan computeValue(Class<?> type) {
+            return new ResultFieldPlan(type);
+        }
+    };
+
+    /**
+     * The relevant fields in declaration order.
+     */
+    private final List<ResultField> fields;
+
+    /**
+     * Creates the plan for the given class.
+     *
+     * @param type The class.
+     */
+    private ResultFieldPlan(Class<?> type) {
+        List<ResultField> resultFields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+            Kind kind = kindOf(field.getType());
+            if (kind == Kind.ENUM) {
+                resultFields.add(new ResultField(kind, null, null));
+            } else if (kind != null && canHoldResultObjects(field.getGenericType(), new HashSet<>())) {
+                resultFields.add(createResultField(field, kind));
+            }
+        }
+        this.fields = List.copyOf(resultFields);
+    }
+
+    /**
+     * Returns the plan for the given class.
+     *
+     * @param type The class.
+     * @return The cached plan.
+     */
+    static ResultFieldPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Returns the relevant fields of the class.
+     *
+     * @return The fields in declaration order.
+     */
+    List<ResultField> getFields() {
+        return fields;
+    }
+
+    /**
+     * Determines how a field with the given type is processed.
+     *
+     * @param fieldType The field's type.
+     * @return The field's kind or {@code null}, if the field is irrelevant.
+     */
+    private static Kind kindOf(Class<?> fieldType) {
+        if (fieldType.isEnum()) {
+            return Kind.ENUM;
+        } else if (fieldType.getName().startsWith(ARTIVACT_PACKAGE_PREFIX)) {
+            return Kind.OBJECT;
+        } else if (Collection.class.isAssignableFrom(fieldType)) {
+            return Kind.COLLECTION;
+        } else if (Map.class.isAssignableFrom(fieldType)) {
+            return Kind.MAP;
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether a value of the given type can hold objects processed by the result aspects.
+     *
+     * @param type    The declared type.
+     * @param visited Artivact classes that have already been checked, to stop at cyclic references.
+     * @return {@code true} if the type is relevant for the result aspects, {@code false} otherwise.
+     */
+    private static boolean canHoldResultObjects(Type type, Set<Class<?>> visited) {
+        if (type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() instanceof Class<?> rawType
+                && (Collection.class.isAssignableFrom(rawType) || Map.class.isAssignableFrom(rawType))) {
+            return Arrays.stream(parameterizedType.getActualTypeArguments())
+                    .anyMatch(typeArgument -> canHoldResultObjects(typeArgument, visited));
+        } else if (type instanceof ParameterizedType parameterizedType) {
+            return canHoldResultObjects(parameterizedType.getRawType(), visited);
+        }
+        if (!(type instanceof Class<?> typeClass)) {
+            // Type variables and wildcards:
+            return true;
+        }
+        if (typeClass.isEnum()
+                || typeClass.isAssignableFrom(TranslatableObject.class) || TranslatableObject.class.isAssignableFrom(typeClass)
+                || typeClass.isAssignableFrom(RestrictedObject.class) || RestrictedObject.class.isAssignableFrom(typeClass)
+                || Collection.class.isAssignableFrom(typeClass) || Map.class.isAssignableFrom(typeClass)) {
+            return true;
+        } else if (!typeClass.getName().startsWith(ARTIVACT_PACKAGE_PREFIX)) {
+            return false;
+        } else if (typeClass.isInterface() || Modifier.isAbstract(typeClass.getModifiers())) {
+            return true;
+        } else if (!visited.add(typeClass)) {
+            return false;
+        }
+        return Arrays.stream(typeClass.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic())
+                .anyMatch(field -> kindOf(field.getType()) != null
+                        && canHoldResultObjects(field.getGenericType(), visited));
+    }
+
+    /**
+     * Creates the method handles to access the given field.
+     *
+     * @param field The field.
+     * @param kind  The field's kind.
+     * @return The field with its accessors.
+     */
+    @SuppressWarnings("java:S3011") // field.setAccessible(true) is intentional here!
+    private static ResultField createResultField(Field field, Kind kind) {
+        field.setAccessible(true);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle getter;
+        try {
+            getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new ArtivactException("Could not access field: " + field, e);
+        }
+        MethodHandle setter;
+        try {
+            setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            // Read-only fields, e.g. of records, are only processed in place:
+            setter = null;
+        }
+        return new ResultField(kind, getter, setter);
+    }
+
+    /**
+     * How a field is processed.
+     */
+    enum Kind {
+
+        /**
+         * Field of an Artivact type, which is processed recursively.
+         */
+        OBJECT,
+
+        /**
+         * Field containing a collection, whose entries are processed.
+         */
+        COLLECTION,
+
+        /**
+         * Field containing a map, whose keys and values are processed.
+         */
+        MAP,
+
+        /**
+         * Field containing an enum value.
+         */
+        ENUM
+
+    }
+
+    /**
+     * A field that is processed by the result aspects.
+     *
+     * @param kind   How the field is processed.
+     * @param getter Reads the field's value, {@code null} for enum fields.
+     * @param setter Writes the field's value, {@code null} for enum and read-only fields.
+     */
+    record ResultField(Kind kind, MethodHandle getter, MethodHandle setter) {
+
+        /**
+         * Returns the field's value of the given object.
+         *
+         * @param object The object to read the field from.
+         * @return The field's value.
+         */
+        Object get(Object object) {
+            try {
+                return (Object) getter.invokeExact(object);
+            } catch (Throwable e) {
+                throw new ArtivactException("Could not read field value!", e);
+            }
+        }
+
+        /**
+         * Sets the field's value of the given object.
+         *
+         * @param object The object to modify.
+         * @param value  The new value.
+         */
+        void set(Object object, Object value) {
+            if (setter == null) {
+                throw new ArtivactException("Could not write read-only field value!");
+            }
+            try {
+                setter.invokeExact(object, value);
+            } catch (Throwable e) {
+                throw new ArtivactException("Could not write field value!", e);
+            }
+        }
+
+    }
+
+}
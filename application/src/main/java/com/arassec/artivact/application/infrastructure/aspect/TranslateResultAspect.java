@@ -1,7 +1,6 @@
 package com.arassec.artivact.application.infrastructure.aspect;
 
 import com.arassec.artivact.application.service.DefaultLocaleProvider;
-import com.arassec.artivact.domain.exception.ArtivactException;
 import com.arassec.artivact.domain.model.TranslatableObject;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -10,7 +9,6 @@ import org.aspectj.lang.annotation.Aspect;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.Locale;
 import java.util.Map;
@@ -23,11 +21,6 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class TranslateResultAspect {
 
-    /**
-     * Only classes from this package (and sub-packages) are processed.
-     */
-    private static final String ARTIVACT_PACKAGE_PREFIX = "com.arassec.artivact";
-
     /**
      * Repository for loading the application's configuration.
      */
@@ -79,31 +72,31 @@ public class TranslateResultAspect {
      * @param locale        The locale to use for translation.
      * @param defaultLocale The default locale to use as fallback.
      */
-    @SuppressWarnings("java:S3011") // declaredField.setAccessible(true) is intentional here!
     private void translatePropertiesIfPossible(Object object, Locale locale, String defaultLocale) {
         if (object == null) {
             return;
         }
-        for (Field field : object.getClass().getDeclaredFields()) {
-            try {
-                if (field.getType().getName().startsWith(ARTIVACT_PACKAGE_PREFIX) && !field.getType().isEnum()) {
-                    field.setAccessible(true);
-                    Object declaredFieldValue = field.get(object);
-                    translateIfPossible(declaredFieldValue, locale, defaultLocale);
-                } else if (Collection.class.isAssignableFrom(field.getType())) {
-                    field.setAccessible(true);
+        for (ResultFieldPlan.ResultField field : ResultFieldPlan.of(object.getClass()).getFields()) {
+            switch (field.kind()) {
+                case OBJECT -> translateIfPossible(field.get(object), locale, defaultLocale);
+                case COLLECTION -> {
                     Collection<?> collection = (Collection<?>) field.get(object);
-                    collection.forEach(collectionEntry -> translateIfPossible(collectionEntry, locale, defaultLocale));
-                } else if (Map.class.isAssignableFrom(field.getType())) {
-                    field.setAccessible(true);
+                    if (collection != null) {
+                        collection.forEach(collectionEntry -> translateIfPossible(collectionEntry, locale, defaultLocale));
+                    }
+                }
+                case MAP -> {
                     Map<?, ?> map = (Map<?, ?>) field.get(object);
-                    map.forEach((key, value) -> {
-                        translateIfPossible(key, locale, defaultLocale);
-                        translateIfPossible(value, locale, defaultLocale);
-                    });
+                    if (map != null) {
+                        map.forEach((key, value) -> {
+                            translateIfPossible(key, locale, defaultLocale);
+                            translateIfPossible(value, locale, defaultLocale);
+                        });
+                    }
+                }
+                case ENUM -> {
+                    // Enums are not translated.
                 }
-            } catch (IllegalAccessException e) {
-                throw new ArtivactException("Could not translate method result!", e);
             }
         }
     }
@@ -1,5 +1,7 @@
 package com.arassec.artivact.application.port.in.collection;
 
+import org.springframework.core.io.FileSystemResource;
+
 /**
  * Use case for loading content audio of a collection export.
  */
@@ -10,8 +12,8 @@ public interface LoadCollectionExportContentAudioUseCase {
      *
      * @param id       The ID of the collection export.
      * @param filename The audio filename.
-     * @return The audio as byte array.
+     * @return The audio file as {@link FileSystemResource}.
      */
-    byte[] loadContentAudio(String id, String filename);
+    FileSystemResource loadContentAudio(String id, String filename);
 
 }
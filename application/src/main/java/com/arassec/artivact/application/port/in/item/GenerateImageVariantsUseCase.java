@@ -0,0 +1,37 @@
+package com.arassec.artivact.application.port.in.item;
+
+import com.arassec.artivact.domain.model.item.ImageFormat;
+import com.arassec.artivact.domain.model.item.ImageSize;
+import org.springframework.core.io.FileSystemResource;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Use case for creating scaled variants of item images.
+ */
+public interface GenerateImageVariantsUseCase {
+
+    /**
+     * Queues the creation of the scaled variants of the given item images. The variants are created in the
+     * background.
+     *
+     * @param itemId    The ID of the item.
+     * @param filenames The filenames of the original images.
+     */
+    void generateImageVariants(String itemId, List<String> filenames);
+
+    /**
+     * Loads an item's image in the desired size. Scaled images are returned in the preferred format that is accepted
+     * by the client and supported by the application, or in the original image's format. Missing variants are created
+     * on demand. Concurrent requests for the same missing variant wait for a single creation.
+     *
+     * @param itemId          The ID of the item.
+     * @param filename        The filename of the original image.
+     * @param targetSize      The desired image target size.
+     * @param acceptedFormats The image formats accepted by the client besides the original one.
+     * @return The (scaled) image as {@link FileSystemResource}.
+     */
+    FileSystemResource loadImageVariant(String itemId, String filename, ImageSize targetSize, Set<ImageFormat> acceptedFormats);
+
+}
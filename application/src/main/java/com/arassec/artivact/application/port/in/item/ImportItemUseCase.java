@@ -3,6 +3,7 @@ package com.arassec.artivact.application.port.in.item;
 import com.arassec.artivact.domain.model.exchange.ImportContext;
 
 import java.nio.file.Path;
+import java.util.List;
 
 /**
  * Use case for import item operations.
@@ -32,4 +33,12 @@ public interface ImportItemUseCase {
      */
     void importItem(ImportContext importContext, String itemId);
 
+    /**
+     * Imports items and saves them at once.
+     *
+     * @param importContext The import context.
+     * @param itemIds       The item IDs.
+     */
+    void importItems(ImportContext importContext, List<String> itemIds);
+
 }
@@ -1,9 +1,11 @@
 package com.arassec.artivact.application.port.in.item;
 
 import com.arassec.artivact.domain.model.item.Item;
+import com.arassec.artivact.domain.model.search.ItemCard;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Use case for load item operations.
@@ -34,6 +36,15 @@ public interface LoadItemUseCase {
      */
     Item loadTranslatedRestricted(String itemId);
 
+    /**
+     * Loads the translated item cards of the items with the given IDs, without regard to restrictions. Only the data
+     * required to list the items is loaded.
+     *
+     * @param itemIds The item IDs.
+     * @return The item cards of the found items, in the order of the given IDs.
+     */
+    List<ItemCard> loadTranslatedItemCards(List<String> itemIds);
+
 
     /**
      * Loads all items that have been modified since last uploaded to a remote Artivact instance.
@@ -42,4 +53,14 @@ public interface LoadItemUseCase {
      */
     List<Item> loadModified(int maxItems);
 
+    /**
+     * Streams the items with the given tag, without regard to restrictions and translations. The items are filtered by
+     * the database where possible and loaded chunk by chunk while the stream is consumed.
+     *
+     * @param tagId    The tag's ID.
+     * @param maxItems The maximum number of items.
+     * @return Stream of items with the tag, ordered by ID.
+     */
+    Stream<Item> streamWithTag(String tagId, int maxItems);
+
 }
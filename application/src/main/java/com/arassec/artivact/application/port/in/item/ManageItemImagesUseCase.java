@@ -1,11 +1,13 @@
 package com.arassec.artivact.application.port.in.item;
 
 import com.arassec.artivact.domain.model.item.Asset;
+import com.arassec.artivact.domain.model.item.ImageFormat;
 import com.arassec.artivact.domain.model.item.ImageSize;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.InputStream;
+import java.util.Set;
 
 /**
  * Use case for manage item images operations.
@@ -15,12 +17,13 @@ public interface ManageItemImagesUseCase {
     /**
      * Loads an item's image.
      *
-     * @param itemId     The ID of the item.
-     * @param filename   The filename of the image.
-     * @param targetSize The desired image target size.
+     * @param itemId          The ID of the item.
+     * @param filename        The filename of the image.
+     * @param targetSize      The desired image target size.
+     * @param acceptedFormats The image formats accepted by the client besides the original one.
      * @return The (scaled) image as {@link FileSystemResource}.
      */
-    byte[] loadImage(String itemId, String filename, ImageSize targetSize);
+    FileSystemResource loadImage(String itemId, String filename, ImageSize targetSize, Set<ImageFormat> acceptedFormats);
 
     /**
      * Saves an image to an item.
@@ -19,7 +19,7 @@ public interface ManageItemModelsUseCase {
      * @param filename The model's filename.
      * @return The model as {@link FileSystemResource}.
      */
-    byte[] loadModel(String itemId, String filename);
+    FileSystemResource loadModel(String itemId, String filename);
 
     /**
      * Saves a model to an item.
@@ -68,9 +68,9 @@ public interface ManageItemModelsUseCase {
      * @param itemId        The item's ID.
      * @param modelSetIndex The model-set index containing the file.
      * @param filename      The model-set filename.
-     * @return The model-set file as byte array.
+     * @return The model-set file as {@link FileSystemResource}.
      */
-    byte[] loadModelSetFile(String itemId, int modelSetIndex, String filename);
+    FileSystemResource loadModelSetFile(String itemId, int modelSetIndex, String filename);
 
     /**
      * Checks whether a transferable model from an item's media-creation section exists or not.
@@ -2,11 +2,22 @@ package com.arassec.artivact.application.port.in.item;
 
 import com.arassec.artivact.domain.model.item.Item;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Use case for save item operations.
  */
 public interface SaveItemUseCase {
 
+    /**
+     * Number of items callers should pass to {@link #saveAll(Collection)} at once when processing many items.
+     */
+    int SAVE_BATCH_SIZE = 250;
+
     /**
      * Saves an item.
      *
@@ -15,4 +26,37 @@ public interface SaveItemUseCase {
      */
     Item save(Item item);
 
+    /**
+     * Saves all given items at once. The items are written to the database and the search index in batches.
+     *
+     * @param items The items to save.
+     * @return The updated items.
+     */
+    List<Item> saveAll(Collection<Item> items);
+
+    /**
+     * Saves the items of the given stream with {@link #saveAll(Collection)}, {@link #SAVE_BATCH_SIZE} items at a time.
+     * Only the current chunk of items is kept in memory.
+     * <p>
+     * This is a static helper instead of a default method. Every chunk is saved through the given use case, i.e. the
+     * Spring proxy, so each chunk is saved in its own transaction and with all aspects applied.
+     *
+     * @param saveItemUseCase The use case to save the items with.
+     * @param items           The items to save.
+     */
+    static void saveInChunks(SaveItemUseCase saveItemUseCase, Stream<Item> items) {
+        List<Item> chunk = new ArrayList<>(SAVE_BATCH_SIZE);
+        Iterator<Item> itemIterator = items.iterator();
+        while (itemIterator.hasNext()) {
+            chunk.add(itemIterator.next());
+            if (chunk.size() == SAVE_BATCH_SIZE) {
+                saveItemUseCase.saveAll(chunk);
+                chunk = new ArrayList<>(SAVE_BATCH_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveItemUseCase.saveAll(chunk);
+        }
+    }
+
 }
@@ -31,7 +31,8 @@ public interface LoadPageContentUseCase {
     PageContent loadTranslatedRestrictedWipPageContent(String pageIdOrAlias, Set<String> roles);
 
     /**
-     * Loads the content of the given page and applies translations and restrictions.
+     * Loads the content of the given page for web clients and applies restrictions. Translations are resolved while
+     * the content is written as JSON.
      *
      * @param pageIdOrAlias The page's ID or the page's alias.
      * @param roles         The available roles.
@@ -46,4 +47,12 @@ public interface LoadPageContentUseCase {
      */
     Optional<PageIdAndAlias> loadIndexPageIdAndAlias();
 
+    /**
+     * Returns the current revision of all page content. The revision changes whenever pages, menus or the appearance
+     * configuration are modified.
+     *
+     * @return The page content revision.
+     */
+    long loadPageContentRevision();
+
 }
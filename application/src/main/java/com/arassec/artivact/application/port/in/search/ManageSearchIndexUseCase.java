@@ -1,6 +1,9 @@
 package com.arassec.artivact.application.port.in.search;
 
 import com.arassec.artivact.domain.model.item.Item;
+import com.arassec.artivact.domain.model.misc.ProgressMonitor;
+
+import java.util.List;
 
 /**
  * Use case for manage search index operations.
@@ -12,6 +15,20 @@ public interface ManageSearchIndexUseCase {
      */
     void recreateIndex();
 
+    /**
+     * Recreates the search index and reports the number of indexed items to the given progress monitor.
+     *
+     * @param progressMonitor The progress monitor to update.
+     */
+    void recreateIndex(ProgressMonitor progressMonitor);
+
+    /**
+     * Returns whether the search index has been created with an outdated layout and must be re-created.
+     *
+     * @return {@code true} if the index must be re-created, {@code false} otherwise.
+     */
+    boolean isIndexOutdated();
+
     /**
      * Updates an item's search index.
      *
@@ -19,4 +36,18 @@ public interface ManageSearchIndexUseCase {
      */
     void updateIndex(Item item);
 
+    /**
+     * Updates the search index of all given items at once.
+     *
+     * @param items The items.
+     */
+    void updateIndex(List<Item> items);
+
+    /**
+     * Removes an item from the search index.
+     *
+     * @param itemId The ID of the item to remove.
+     */
+    void removeFromIndex(String itemId);
+
 }
@@ -1,8 +1,13 @@
 package com.arassec.artivact.application.port.in.search;
 
 import com.arassec.artivact.domain.model.item.Item;
+import com.arassec.artivact.domain.model.search.ItemFacetQuery;
+import com.arassec.artivact.domain.model.search.ItemSearchResult;
+import com.arassec.artivact.domain.model.search.ItemSort;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Use case for search items operations.
@@ -10,7 +15,8 @@ import java.util.List;
 public interface SearchItemsUseCase {
 
     /**
-     * Searches for items without restrictions and without translating results.
+     * Searches for items without restrictions and without translating results. The found items are sorted by their
+     * title.
      *
      * @param query      The search query to use.
      * @param maxResults The maximum number of results.
@@ -19,13 +25,50 @@ public interface SearchItemsUseCase {
     List<Item> search(String query, int maxResults);
 
     /**
-     * Searches for items with the given query. Translates found items and restricts the result set
-     * to the items available for the current user.
+     * Searches for items without restrictions and without translating results.
+     *
+     * @param query      The search query to use.
+     * @param maxResults The maximum number of results.
+     * @param sort       The order of the results. Results are ordered by relevance if {@code null}.
+     * @return The list of found items in the requested order.
+     */
+    List<Item> search(String query, int maxResults, ItemSort sort);
+
+    /**
+     * Searches for items without restrictions and without translating results. Found items are loaded lazily while
+     * the returned stream is consumed.
+     *
+     * @param query      The search query to use.
+     * @param maxResults The maximum number of results.
+     * @return Stream of found items.
+     */
+    Stream<Item> stream(String query, int maxResults);
+
+    /**
+     * Searches for one page of items with the given query for web clients. Restricts the result set to the items
+     * available for the current user. The result contains search result cards instead of complete items, whose
+     * translations are resolved while the result is written as JSON.
      *
      * @param query      The lucene search query.
-     * @param maxResults Maximum number of results to return.
-     * @return The list of found items.
+     * @param roles      The roles of the current user.
+     * @param sort       The order of the results. Results are ordered by relevance if {@code null}.
+     * @param facetQuery The facet values to filter by and the facets to count. If {@code null}, no facets are counted.
+     * @param pageNumber The page to return, starting with {@code 0}.
+     * @param pageSize   The maximum number of items per page.
+     * @param maxResults Maximum number of results to consider in total.
+     * @return The items of the requested page, the total number of matching items and the requested facet counts.
+     */
+    ItemSearchResult searchTranslatedRestricted(String query, Set<String> roles, ItemSort sort, ItemFacetQuery facetQuery,
+                                                int pageNumber, int pageSize, int maxResults);
+
+    /**
+     * Suggests titles and tag names of items available for the current user while a search term is typed.
+     *
+     * @param prefix         The partially typed search term.
+     * @param roles          The roles of the current user.
+     * @param maxSuggestions The maximum number of suggestions.
+     * @return The suggestions.
      */
-    List<Item> searchTranslatedRestricted(String query, int maxResults);
+    List<String> suggest(String prefix, Set<String> roles, int maxSuggestions);
 
 }
@@ -1,8 +1,12 @@
 package com.arassec.artivact.application.port.out.gateway;
 
 import com.arassec.artivact.domain.model.item.Item;
+import com.arassec.artivact.domain.model.search.ItemFacetQuery;
+import com.arassec.artivact.domain.model.search.ItemSearchResult;
+import com.arassec.artivact.domain.model.search.ItemSort;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Interface for search gateway.
@@ -24,18 +28,83 @@ public interface SearchGateway {
      */
     void updateIndex(Item item, boolean updateIndex);
 
+    /**
+     * Replaces the existing search index entries of the given items in a single batch.
+     *
+     * @param items The items.
+     */
+    void updateIndex(List<Item> items);
+
+    /**
+     * Removes the item with the given ID from the search index.
+     *
+     * @param itemId The item's ID.
+     */
+    void removeFromIndex(String itemId);
+
+    /**
+     * Adds the given items as new entries to the search index in a single batch.
+     * <p>
+     * Intended to be used between {@link #prepareIndexing(boolean)} and {@link #finalizeIndexing()} while creating a
+     * new search index. Implementations must support concurrent calls.
+     *
+     * @param items The items to add.
+     */
+    void addToIndex(List<Item> items);
+
     /**
      * Finalize indexing.
      */
     void finalizeIndexing();
 
+    /**
+     * Discards a new search index that has not been finalized and continues to use the previous one.
+     */
+    void abortIndexing();
+
     /**
      * Searches for items with the given query.
      *
      * @param searchQuery The lucene search query.
      * @param maxResults  Maximum number of results to return.
-     * @return The list of found item IDs.
+     * @param sort        The order of the results. Results are ordered by relevance if {@code null}.
+     * @return The list of found item IDs in the requested order.
+     */
+    List<String> search(String searchQuery, int maxResults, ItemSort sort);
+
+    /**
+     * Searches for one page of items with the given query.
+     *
+     * @param searchQuery The lucene search query.
+     * @param roles       The roles of the current user. Only items without restrictions or with at least one of
+     *                    these roles are returned. If {@code null}, no restrictions are applied.
+     * @param sort        The order of the results. Results are ordered by relevance if {@code null}.
+     * @param facetQuery  The facet values to filter by and the facets to count. If {@code null}, no facets are
+     *                    counted.
+     * @param offset      The number of hits to skip.
+     * @param limit       The maximum number of hits to return.
+     * @return Search result cards of the items on the requested page, created from data stored in the search index,
+     * the total number of matching items and the facet counts over all matching items, if requested.
+     */
+    ItemSearchResult search(String searchQuery, Set<String> roles, ItemSort sort, ItemFacetQuery facetQuery,
+                            int offset, int limit);
+
+    /**
+     * Returns titles and tag names of items that match the given, partially typed search term.
+     *
+     * @param prefix         The partially typed search term.
+     * @param roles          The roles of the current user. Only items available for these roles are considered. If
+     *                       {@code null}, all items are considered.
+     * @param maxSuggestions The maximum number of suggestions.
+     * @return The suggestions, without duplicates.
+     */
+    List<String> suggest(String prefix, Set<String> roles, int maxSuggestions);
+
+    /**
+     * Returns whether the search index has been created with an outdated layout and must be re-created.
+     *
+     * @return {@code true} if the index must be re-created, {@code false} otherwise.
      */
-    List<String> search(String searchQuery, int maxResults);
+    boolean isIndexOutdated();
 
 }
@@ -1,5 +1,6 @@
 package com.arassec.artivact.application.port.out.repository;
 
+import com.arassec.artivact.domain.model.item.ImageFormat;
 import com.arassec.artivact.domain.model.item.ImageSize;
 import org.springframework.core.io.FileSystemResource;
 
@@ -274,6 +275,14 @@ public interface FileRepository {
      */
     int getNextAssetNumber(Path assetDir);
 
+    /**
+     * Deletes temporary files of scaled images below the given directory, which have been left over by interrupted
+     * scalings, e.g. after a crash.
+     *
+     * @param root The directory to clean up.
+     */
+    void deleteStaleTemporaryImages(Path root);
+
     /**
      * Deletes the given file or directory and both direct parent directories if they are empty after deleting the
      * original file/directory.
@@ -332,4 +341,26 @@ public interface FileRepository {
      */
     FileSystemResource loadImage(Path root, String id, String filename, ImageSize targetSize, String imagesSubdir);
 
+    /**
+     * Loads an image from a subdirectory of the root path based on the given ID. Scaled images are created in the
+     * desired format.
+     *
+     * @param root         The root path to get the file from.
+     * @param id           The ID to use to determine subdirectories.
+     * @param filename     The filename of the image to load.
+     * @param targetSize   The image's desired target size.
+     * @param targetFormat The desired format of the scaled image. Unsupported formats fall back to the original one.
+     * @param imagesSubdir The subdirectory containing the images.
+     * @return A {@link FileSystemResource} to the image.
+     */
+    FileSystemResource loadImage(Path root, String id, String filename, ImageSize targetSize, ImageFormat targetFormat, String imagesSubdir);
+
+    /**
+     * Checks whether scaled images can be written in the given format.
+     *
+     * @param imageFormat The image format.
+     * @return {@code true}, if the format is supported, {@code false} otherwise.
+     */
+    boolean supportsImageFormat(ImageFormat imageFormat);
+
 }
@@ -1,9 +1,13 @@
 package com.arassec.artivact.application.port.out.repository;
 
 import com.arassec.artivact.domain.model.item.Item;
+import com.arassec.artivact.domain.model.search.ItemCard;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Repository for items.
@@ -18,6 +22,14 @@ public interface ItemRepository {
      */
     Item save(Item item);
 
+    /**
+     * Creates or updates all given items at once.
+     *
+     * @param items The items to save.
+     * @return The updated/saved items in the order of the given items.
+     */
+    List<Item> saveAll(Collection<Item> items);
+
     /**
      * Deletes the item with the given ID.
      *
@@ -41,6 +53,31 @@ public interface ItemRepository {
      */
     List<String> findItemIdsForRemoteExport(int maxItems);
 
+    /**
+     * Finds the IDs of all items with the given tag.
+     *
+     * @param tagId The tag's ID.
+     * @return List of item IDs, ordered by ID.
+     */
+    List<String> findItemIdsByTag(String tagId);
+
+    /**
+     * Finds the IDs of all items whose property has the given, untranslated value.
+     *
+     * @param propertyId The property's ID.
+     * @param value      The property value.
+     * @return List of item IDs, ordered by ID.
+     */
+    List<String> findItemIdsByPropertyValue(String propertyId, String value);
+
+    /**
+     * Finds the IDs of all items with the given restriction.
+     *
+     * @param restriction The restriction, e.g. a role.
+     * @return List of item IDs, ordered by ID.
+     */
+    List<String> findItemIdsByRestriction(String restriction);
+
     /**
      * Returns all items.
      *
@@ -56,6 +93,35 @@ public interface ItemRepository {
      */
     List<Item> findAll(int maxResults);
 
+    /**
+     * Returns a lazily populated stream of all items, ordered by their ID.
+     * <p>
+     * Items are loaded chunk by chunk while the stream is consumed, so only one chunk of items is held in memory at a
+     * time, regardless of the total number of items.
+     *
+     * @param chunkSize The number of items loaded at once.
+     * @return Stream of all items.
+     */
+    Stream<Item> streamAll(int chunkSize);
+
+    /**
+     * Returns a lazily populated stream of all items in chunks, ordered by their ID.
+     * <p>
+     * Each chunk is loaded from the database while the stream is consumed, but its items are only parsed when the
+     * chunk's supplier is called. This allows parsing the items on other threads.
+     *
+     * @param chunkSize The number of items loaded at once.
+     * @return Stream of suppliers for the items of each chunk.
+     */
+    Stream<Supplier<List<Item>>> streamAllChunks(int chunkSize);
+
+    /**
+     * Returns the total number of items.
+     *
+     * @return The number of stored items.
+     */
+    long count();
+
     /**
      * Returns all items which have an ID from the supplied list of IDs.
      *
@@ -64,4 +130,12 @@ public interface ItemRepository {
      */
     List<Item> findAllById(List<String> itemIds);
 
+    /**
+     * Finds the item cards of the items with the given IDs without loading the complete items.
+     *
+     * @param itemIds The item IDs.
+     * @return The item cards of the found items, in the order of the given IDs.
+     */
+    List<ItemCard> findItemCardsById(List<String> itemIds);
+
 }
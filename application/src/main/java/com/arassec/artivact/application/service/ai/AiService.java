@@ -10,6 +10,7 @@ import com.arassec.artivact.application.port.out.gateway.AiGateway;
 import com.arassec.artivact.application.port.out.repository.FileRepository;
 import com.arassec.artivact.application.port.out.repository.PageRepository;
 import com.arassec.artivact.application.service.ContentGenerator;
+import com.arassec.artivact.application.service.page.PageContentRevision;
 import com.arassec.artivact.domain.exception.ArtivactException;
 import com.arassec.artivact.domain.model.ContentAudioProvider;
 import com.arassec.artivact.domain.model.configuration.AiConfiguration;
@@ -69,6 +70,11 @@ public class AiService implements ContentGenerator,
      */
     private final LoadAppearanceConfigurationUseCase loadAppearanceConfigurationUseCase;
 
+    /**
+     * Revision of the page content, incremented on every change.
+     */
+    private final PageContentRevision pageContentRevision;
+
     /**
      * {@inheritDoc}
      */
@@ -83,8 +89,7 @@ public class AiService implements ContentGenerator,
         }
 
         AiConfiguration aiConfiguration = loadAiConfigurationUseCase.loadAiConfiguration();
-        aiConfiguration.getTranslationPrompt().translate(locale);
-        String prompt = aiConfiguration.getTranslationPrompt().getTranslatedValue();
+        String prompt = aiConfiguration.getTranslationPrompt().resolve(locale);
         if (!StringUtils.hasText(prompt)) {
             prompt = "";
         }
@@ -119,8 +124,7 @@ public class AiService implements ContentGenerator,
             throw new ArtivactException("Widget does not support content audio: " + widgetId);
         }
 
-        contentAudioProvider.getContent().translate(locale);
-        String textContent = contentAudioProvider.getContent().getTranslatedValue();
+        String textContent = contentAudioProvider.getContent().resolve(locale);
 
         if (!StringUtils.hasText(textContent)) {
             throw new ArtivactException("No content available for audio generation in widget: " + widgetId);
@@ -136,13 +140,13 @@ public class AiService implements ContentGenerator,
         fileRepository.createDirIfRequired(widgetWipDir);
         Path targetFile = widgetWipDir.resolve(audioFilename);
 
-        aiConfiguration.getTtsVoice().translate(locale);
-        String voice = aiConfiguration.getTtsVoice().getTranslatedValue();
+        String voice = aiConfiguration.getTtsVoice().resolve(locale);
         aiGateway.convertToAudio(aiConfiguration, textContent, voice, targetFile);
 
         processContentAudio(locale, contentAudioProvider, audioFilename);
 
         pageRepository.save(page);
+        pageContentRevision.increment();
 
         return audioFilename;
     }
@@ -158,8 +162,7 @@ public class AiService implements ContentGenerator,
         fileRepository.createDirIfRequired(tempDir);
         Path targetFile = tempDir.resolve(TEST_AUDIO_FILENAME);
 
-        aiConfiguration.getTtsVoice().translate(LocaleContextHolder.getLocale().toString());
-        String voice = aiConfiguration.getTtsVoice().getTranslatedValue();
+        String voice = aiConfiguration.getTtsVoice().resolve(LocaleContextHolder.getLocale().toString());
         aiGateway.convertToAudio(aiConfiguration, text, voice, targetFile);
     }
 
@@ -9,20 +9,22 @@ import com.arassec.artivact.domain.model.batch.BatchProcessingParameters;
 import com.arassec.artivact.domain.model.batch.BatchProcessingTask;
 import com.arassec.artivact.domain.model.batch.BatchProcessor;
 import com.arassec.artivact.domain.model.item.Item;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Service for batch processing.
+ * <p>
+ * Batches are processed in a background operation without a surrounding transaction. Modified items are saved in
+ * chunks, each in its own transaction, so the persistence context doesn't grow with the number of processed items.
  */
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class BatchService implements StartBatchOperationUseCase {
 
@@ -77,21 +79,22 @@ public class BatchService implements StartBatchOperationUseCase {
                 return;
             }
 
-            // Otherwise process every single matching item:
-            List<Item> itemsToProcess;
+            // Otherwise process every single matching item. Items are streamed to keep memory usage bounded:
+            Stream<Item> itemsToProcess;
             if (BatchProcessingTask.UPLOAD_MODIFIED_ITEM.equals(parameters.getTask())) {
-                itemsToProcess = loadItemUseCase.loadModified(parameters.getMaxItems());
+                itemsToProcess = loadItemUseCase.loadModified(parameters.getMaxItems()).stream();
+            } else if (BatchProcessingTask.REMOVE_TAG_FROM_ITEM.equals(parameters.getTask())
+                    && "*".equals(parameters.getSearchTerm())) {
+                // Only items with the tag are affected, which the database can find without a full search:
+                itemsToProcess = loadItemUseCase.streamWithTag(parameters.getTargetId(), parameters.getMaxItems());
             } else {
-                itemsToProcess = searchItemsUseCase.search(parameters.getSearchTerm(), parameters.getMaxItems());
+                itemsToProcess = searchItemsUseCase.stream(parameters.getSearchTerm(), parameters.getMaxItems());
             }
 
-            itemsToProcess.forEach(
-                    item -> batchProcessors.stream()
-                            .map(batchProcessor -> batchProcessor.process(parameters, item))
-                            .filter(result -> result)
-                            .findFirst()
-                            .ifPresent(result -> saveItemUseCase.save(item))
-            );
+            try (itemsToProcess) {
+                SaveItemUseCase.saveInChunks(saveItemUseCase, itemsToProcess.filter(item -> batchProcessors.stream()
+                        .anyMatch(batchProcessor -> batchProcessor.process(parameters, item))));
+            }
             log.info("Batch processing finished!");
         });
     }
@@ -23,6 +23,7 @@ import jakarta.transaction.Transactional;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import tools.jackson.databind.json.JsonMapper;
@@ -371,10 +372,10 @@ public class ManageCollectionExportService implements ContentGenerator,
      *
      * @param id       The ID of the collection export.
      * @param filename The audio filename.
-     * @return The audio as byte array.
+     * @return The audio file.
      */
     @Override
-    public byte[] loadContentAudio(String id, String filename) {
+    public FileSystemResource loadContentAudio(String id, String filename) {
         if (filename == null || !filename.matches("^[a-zA-Z0-9_-]{1,100}\\.mp3$")) {
             throw new ArtivactException("Invalid content audio filename: " + filename);
         }
@@ -382,7 +383,7 @@ public class ManageCollectionExportService implements ContentGenerator,
         if (!fileRepository.exists(audioFile)) {
             throw new ArtivactException("Content audio file not found: " + filename);
         }
-        return fileRepository.readBytes(audioFile);
+        return new FileSystemResource(audioFile);
     }
 
     /**
@@ -427,8 +428,7 @@ public class ManageCollectionExportService implements ContentGenerator,
         if (content == null) {
             throw new ArtivactException("No content available for audio generation in collection export: " + id);
         }
-        content.translate(locale);
-        String textContent = content.getTranslatedValue();
+        String textContent = content.resolve(locale);
 
         if (!StringUtils.hasText(textContent)) {
             throw new ArtivactException("No content available for audio generation in collection export: " + id);
@@ -470,8 +470,7 @@ public class ManageCollectionExportService implements ContentGenerator,
         if (content == null) {
             return null;
         }
-        content.translate(locale);
-        return content.getTranslatedValue();
+        return content.resolve(locale);
     }
 
     /**
@@ -6,6 +6,7 @@ import com.arassec.artivact.application.infrastructure.aspect.TranslateResult;
 import com.arassec.artivact.application.port.in.configuration.*;
 import com.arassec.artivact.application.port.out.repository.ConfigurationRepository;
 import com.arassec.artivact.application.service.DefaultLocaleProvider;
+import com.arassec.artivact.application.service.page.PageContentRevision;
 import com.arassec.artivact.domain.model.configuration.*;
 import com.arassec.artivact.domain.model.property.PropertyCategory;
 import jakarta.annotation.PostConstruct;
@@ -52,6 +53,11 @@ public class ManageConfigurationService implements DefaultLocaleProvider,
      */
     private final Environment environment;
 
+    /**
+     * Revision of the page content, which depends on the appearance configuration.
+     */
+    private final PageContentRevision pageContentRevision;
+
     /**
      * The currently configured default locale.
      */
@@ -132,6 +138,7 @@ public class ManageConfigurationService implements DefaultLocaleProvider,
     public void saveAppearanceConfiguration(AppearanceConfiguration appearanceConfiguration) {
         defaultLocale = appearanceConfiguration.getDefaultLocale();
         configurationRepository.saveConfiguration(ConfigurationType.APPEARANCE, appearanceConfiguration);
+        pageContentRevision.increment();
     }
 
     /**
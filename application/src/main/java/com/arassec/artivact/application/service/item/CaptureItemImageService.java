@@ -2,6 +2,7 @@ package com.arassec.artivact.application.service.item;
 
 import com.arassec.artivact.application.port.in.configuration.LoadPeripheralsConfigurationUseCase;
 import com.arassec.artivact.application.port.in.item.CaptureItemImageUseCase;
+import com.arassec.artivact.application.port.in.item.GenerateImageVariantsUseCase;
 import com.arassec.artivact.application.port.in.item.LoadItemUseCase;
 import com.arassec.artivact.application.port.in.item.SaveItemUseCase;
 import com.arassec.artivact.application.port.in.operation.RunBackgroundOperationUseCase;
@@ -58,6 +59,11 @@ public class CaptureItemImageService implements CaptureItemImageUseCase {
      */
     private final SaveItemUseCase saveItemUseCase;
 
+    /**
+     * Use case for generate image variants.
+     */
+    private final GenerateImageVariantsUseCase generateImageVariantsUseCase;
+
     /**
      * Repository for file.
      */
@@ -126,7 +132,13 @@ public class CaptureItemImageService implements CaptureItemImageUseCase {
         if (captureImagesParams.isRemoveBackgrounds() && imageManipulatorPeripheral != null) {
             imageManipulatorPeripheral.teardown();
             fileRepository.delete(targetFile);
-            return renameManipulatedImages(List.of(targetFile), imageManipulatorPeripheral.getModifiedImages()).getFirst();
+            String manipulatedImage = renameManipulatedImages(List.of(targetFile), imageManipulatorPeripheral.getModifiedImages()).getFirst();
+            generateImageVariantsUseCase.generateImageVariants(itemId, List.of(manipulatedImage));
+            return manipulatedImage;
+        }
+
+        if (imageCaptured) {
+            generateImageVariantsUseCase.generateImageVariants(itemId, List.of(targetFile.getFileName().toString()));
         }
 
         return targetFile.getFileName().toString();
@@ -142,6 +154,8 @@ public class CaptureItemImageService implements CaptureItemImageUseCase {
             Item item = loadItemUseCase.loadTranslated(itemId);
             item.getMediaCreationContent().getImageSets().addAll(creationImageSets);
             saveItemUseCase.save(item);
+            creationImageSets.forEach(creationImageSet ->
+                    generateImageVariantsUseCase.generateImageVariants(itemId, creationImageSet.getFiles()));
         });
     }
 
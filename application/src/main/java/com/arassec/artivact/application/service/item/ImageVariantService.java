@@ -0,0 +1,276 @@
+package com.arassec.artivact.application.service.item;
+
+import com.arassec.artivact.application.port.in.item.GenerateImageVariantsUseCase;
+import com.arassec.artivact.application.port.in.project.UseProjectDirsUseCase;
+import com.arassec.artivact.application.port.out.repository.FileRepository;
+import com.arassec.artivact.domain.exception.ArtivactException;
+import com.arassec.artivact.domain.model.item.ImageFormat;
+import com.arassec.artivact.domain.model.item.ImageSize;
+import com.arassec.artivact.domain.model.misc.DirectoryDefinitions;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Service that creates scaled variants of item images.
+ * <p>
+ * Scaled images are created in the preferred format accepted by the client, falling back to the original image's
+ * format. Variants of new images are created in the background by a bounded pool of worker threads. Every variant is
+ * created at most once at a time: requests for a variant that is queued or in progress wait for the running creation,
+ * and requests for a queued variant create it right away instead of waiting for the queue.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService implements GenerateImageVariantsUseCase {
+
+    /**
+     * The image sizes the frontend requests for item images, which are created in the background.
+     */
+    static final List<ImageSize> PREGENERATED_IMAGE_SIZES = List.of(ImageSize.ITEM_CARD, ImageSize.DETAIL, ImageSize.FAVORITE);
+
+    /**
+     * Formats of scaled images in order of preference, used if accepted by the client and supported by the
+     * {@link FileRepository}.
+     */
+    static final List<ImageFormat> PREFERRED_IMAGE_FORMATS = List.of(ImageFormat.AVIF, ImageFormat.WEBP);
+
+    /**
+     * Number of worker threads creating image variants in the background.
+     */
+    private static final int VARIANT_WORKER_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
+    /**
+     * Maximum number of queued image variants. If the queue is full, the calling thread creates the variant itself.
+     */
+    private static final int MAX_QUEUED_VARIANTS = 1000;
+
+    /**
+     * Maximum number of image variants created on demand at the same time. Limits the memory used by decoded images.
+     */
+    private static final int MAX_ON_DEMAND_VARIANTS = VARIANT_WORKER_THREADS;
+
+    /**
+     * Use case for use project dirs.
+     */
+    private final UseProjectDirsUseCase useProjectDirsUseCase;
+
+    /**
+     * Repository for file.
+     */
+    private final FileRepository fileRepository;
+
+    /**
+     * Image variants that are queued or in progress.
+     */
+    private final Map<VariantKey, VariantJob> variantJobs = new ConcurrentHashMap<>();
+
+    /**
+     * Permits for on-demand creation of image variants.
+     */
+    private final Semaphore onDemandPermits = new Semaphore(MAX_ON_DEMAND_VARIANTS);
+
+    /**
+     * Executor for background creation of image variants.
+     */
+    private final ExecutorService executorService = new ThreadPoolExecutor(VARIANT_WORKER_THREADS, VARIANT_WORKER_THREADS,
+            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(MAX_QUEUED_VARIANTS),
+            Thread.ofPlatform().name("image-variants-", 0).daemon().factory(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    /**
+     * Cleans up the service.
+     */
+    @PreDestroy
+    public void teardown() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Variants are created in the most preferred supported format and in the original image's format, which is the
+     * fallback for clients accepting none of the preferred formats. Clients accepting only a less preferred format
+     * create their variants on demand.
+     */
+    @Override
+    public void generateImageVariants(String itemId, List<String> filenames) {
+        for (String filename : filenames) {
+            for (ImageSize imageSize : PREGENERATED_IMAGE_SIZES) {
+                ImageFormat preferredFormat = selectImageFormat(imageSize, EnumSet.allOf(ImageFormat.class));
+                queueVariant(new VariantKey(itemId, filename, imageSize, preferredFormat));
+                if (!ImageFormat.ORIGINAL.equals(preferredFormat)) {
+                    queueVariant(new VariantKey(itemId, filename, imageSize, ImageFormat.ORIGINAL));
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FileSystemResource loadImageVariant(String itemId, String filename, ImageSize targetSize, Set<ImageFormat> acceptedFormats) {
+        VariantKey variantKey = new VariantKey(itemId, filename, targetSize, selectImageFormat(targetSize, acceptedFormats));
+
+        if (ImageSize.ORIGINAL.equals(targetSize) || fileRepository.exists(useProjectDirsUseCase.getImagesDir(itemId)
+                .resolve(variantKey.imageFormat().appendFileExtension(targetSize.name() + "-" + filename)))) {
+            return loadImage(variantKey);
+        }
+
+        VariantJob variantJob = variantJobs.computeIfAbsent(variantKey, _ -> new VariantJob());
+        if (variantJob.claim()) {
+            acquireOnDemandPermit();
+            try {
+                createVariant(variantKey, variantJob);
+            } finally {
+                onDemandPermits.release();
+            }
+        }
+
+        return variantJob.await();
+    }
+
+    /**
+     * Queues the creation of an image variant, unless it is already queued or in progress.
+     *
+     * @param variantKey The variant to create.
+     */
+    private void queueVariant(VariantKey variantKey) {
+        VariantJob variantJob = new VariantJob();
+        if (variantJobs.putIfAbsent(variantKey, variantJob) == null) {
+            executorService.execute(() -> {
+                if (variantJob.claim()) {
+                    createVariant(variantKey, variantJob);
+                }
+            });
+        }
+    }
+
+    /**
+     * Creates the image variant and completes the job with it.
+     *
+     * @param variantKey The variant to create.
+     * @param variantJob The job of the variant.
+     */
+    private void createVariant(VariantKey variantKey, VariantJob variantJob) {
+        try {
+            variantJob.result.complete(loadImage(variantKey));
+        } catch (RuntimeException e) {
+            log.warn("Could not create image variant {} ({}) of image {} of item {}!", variantKey.imageSize(),
+                    variantKey.imageFormat(), variantKey.filename(), variantKey.itemId(), e);
+            variantJob.result.completeExceptionally(e);
+        } catch (Error e) {
+            // Waiting requests must be released on errors too, e.g. an OutOfMemoryError while decoding the image:
+            variantJob.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            variantJobs.remove(variantKey, variantJob);
+        }
+    }
+
+    /**
+     * Selects the format of a scaled image.
+     *
+     * @param targetSize      The desired image target size.
+     * @param acceptedFormats The image formats accepted by the client besides the original one.
+     * @return The most preferred format that is accepted and supported, or {@link ImageFormat#ORIGINAL}.
+     */
+    private ImageFormat selectImageFormat(ImageSize targetSize, Set<ImageFormat> acceptedFormats) {
+        if (ImageSize.ORIGINAL.equals(targetSize)) {
+            return ImageFormat.ORIGINAL;
+        }
+        return PREFERRED_IMAGE_FORMATS.stream()
+                .filter(acceptedFormats::contains)
+                .filter(fileRepository::supportsImageFormat)
+                .findFirst()
+                .orElse(ImageFormat.ORIGINAL);
+    }
+
+    /**
+     * Loads the image from the filesystem. Missing variants are scaled from the original image.
+     *
+     * @param variantKey The image variant to load.
+     * @return The (scaled) image.
+     */
+    private FileSystemResource loadImage(VariantKey variantKey) {
+        return fileRepository.loadImage(useProjectDirsUseCase.getItemsDir(), variantKey.itemId(), variantKey.filename(),
+                variantKey.imageSize(), variantKey.imageFormat(), DirectoryDefinitions.IMAGES_DIR);
+    }
+
+    /**
+     * Waits until an image variant may be created on demand.
+     */
+    private void acquireOnDemandPermit() {
+        try {
+            onDemandPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArtivactException("Interrupted while waiting for image scaling!", e);
+        }
+    }
+
+    /**
+     * Identifies an image variant.
+     *
+     * @param itemId      The ID of the item.
+     * @param filename    The filename of the original image.
+     * @param imageSize   The size of the variant.
+     * @param imageFormat The format of the variant.
+     */
+    private record VariantKey(String itemId, String filename, ImageSize imageSize, ImageFormat imageFormat) {
+    }
+
+    /**
+     * The creation of an image variant, which is run by the first thread claiming it.
+     */
+    private static final class VariantJob {
+
+        /**
+         * Set as soon as a thread started creating the variant.
+         */
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        /**
+         * The created variant.
+         */
+        private final CompletableFuture<FileSystemResource> result = new CompletableFuture<>();
+
+        /**
+         * Claims the job for the current thread.
+         *
+         * @return {@code true}, if the current thread must create the variant, {@code false} if another thread
+         * already does.
+         */
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        /**
+         * Waits for the variant to be created.
+         *
+         * @return The created variant.
+         */
+        private FileSystemResource await() {
+            try {
+                return result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ArtivactException("Interrupted while waiting for image scaling!", e);
+            } catch (ExecutionException e) {
+                throw new ArtivactException("Could not scale image!", e.getCause());
+            }
+        }
+
+    }
+
+}
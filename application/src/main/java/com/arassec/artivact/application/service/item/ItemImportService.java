@@ -3,6 +3,7 @@ package com.arassec.artivact.application.service.item;
 import com.arassec.artivact.application.port.in.account.LoadAccountUseCase;
 import com.arassec.artivact.application.port.in.configuration.ImportPropertiesConfigurationUseCase;
 import com.arassec.artivact.application.port.in.configuration.ImportTagsConfigurationUseCase;
+import com.arassec.artivact.application.port.in.item.GenerateImageVariantsUseCase;
 import com.arassec.artivact.application.port.in.item.ImportItemUseCase;
 import com.arassec.artivact.application.port.in.item.SaveItemUseCase;
 import com.arassec.artivact.application.port.in.project.UseProjectDirsUseCase;
@@ -21,6 +22,8 @@ import org.springframework.util.StringUtils;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
 
 import static com.arassec.artivact.domain.model.misc.ExchangeDefinitions.*;
 
@@ -57,6 +60,11 @@ public class ItemImportService implements ImportItemUseCase {
      */
     private final UseProjectDirsUseCase useProjectDirsUseCase;
 
+    /**
+     * Use case for generate image variants.
+     */
+    private final GenerateImageVariantsUseCase generateImageVariantsUseCase;
+
     /**
      * Use case for import properties configuration.
      */
@@ -104,7 +112,7 @@ public class ItemImportService implements ImportItemUseCase {
                 throw new ArtivactException("Invalid content source for item import: " + exchangeMainData.getContentSource());
             }
 
-            exchangeMainData.getSourceIds().forEach(itemId -> importItem(importContext, itemId));
+            importItems(importContext, exchangeMainData.getSourceIds());
 
             importPropertiesConfigurationUseCase.importPropertiesConfiguration(importContext);
             importTagsConfigurationUseCase.importTagsConfiguration(importContext);
@@ -121,22 +129,47 @@ public class ItemImportService implements ImportItemUseCase {
      */
     @Override
     public void importItem(ImportContext importContext, String itemId) {
+        importItems(importContext, List.of(itemId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void importItems(ImportContext importContext, List<String> itemIds) {
+        SaveItemUseCase.saveInChunks(saveItemUseCase, itemIds.stream()
+                .map(itemId -> prepareImport(importContext, itemId))
+                .filter(Objects::nonNull));
+    }
+
+    /**
+     * Reads an item from the import and copies its media files into the project.
+     *
+     * @param importContext The import context.
+     * @param itemId        The item ID.
+     * @return The item to save or {@code null}, if the import doesn't contain the item.
+     */
+    private Item prepareImport(ImportContext importContext, String itemId) {
         Path itemSourceDir = fileRepository.getDirFromId(importContext.getImportDir().resolve(DirectoryDefinitions.ITEMS_DIR), itemId);
         Path itemJsonFile = itemSourceDir.resolve(ITEM_EXCHANGE_FILENAME_JSON);
         if (!fileRepository.exists(itemJsonFile)) {
             log.warn("No item json file found for item import with id '{}'. Skipping item import.", itemId);
-            return;
+            return null;
         }
 
         String itemJson = fileRepository.read(itemJsonFile);
         Item item = jsonMapper.readValue(itemJson, Item.class);
+        // The version of the exporting instance is meaningless here, imported items replace the local ones:
+        item.setVersion(null);
 
         Path itemTargetDir = fileRepository.getDirFromId(useProjectDirsUseCase.getItemsDir(), itemId);
         fileRepository.createDirIfRequired(itemTargetDir);
         fileRepository.copy(itemSourceDir.resolve(DirectoryDefinitions.IMAGES_DIR), itemTargetDir.resolve(DirectoryDefinitions.IMAGES_DIR));
         fileRepository.copy(itemSourceDir.resolve(DirectoryDefinitions.MODELS_DIR), itemTargetDir.resolve(DirectoryDefinitions.MODELS_DIR));
 
-        saveItemUseCase.save(item);
+        generateImageVariantsUseCase.generateImageVariants(itemId, item.getMediaContent().getImages());
+
+        return item;
     }
 
 }
@@ -1,5 +1,6 @@
 package com.arassec.artivact.application.service.item;
 
+import com.arassec.artivact.application.port.in.item.GenerateImageVariantsUseCase;
 import com.arassec.artivact.application.port.in.item.LoadItemUseCase;
 import com.arassec.artivact.application.port.in.item.ManageItemImagesUseCase;
 import com.arassec.artivact.application.port.in.item.SaveItemUseCase;
@@ -9,6 +10,7 @@ import com.arassec.artivact.application.port.out.repository.FileRepository;
 import com.arassec.artivact.domain.exception.ArtivactException;
 import com.arassec.artivact.domain.model.item.Asset;
 import com.arassec.artivact.domain.model.item.CreationImageSet;
+import com.arassec.artivact.domain.model.item.ImageFormat;
 import com.arassec.artivact.domain.model.item.ImageSize;
 import com.arassec.artivact.domain.model.item.Item;
 import com.arassec.artivact.domain.model.misc.DirectoryDefinitions;
@@ -57,6 +59,11 @@ public class ManageItemImagesService extends BaseItemService implements ManageIt
      */
     private final SaveItemUseCase saveItemUseCase;
 
+    /**
+     * Use case for generate image variants.
+     */
+    private final GenerateImageVariantsUseCase generateImageVariantsUseCase;
+
     /**
      * Repository for file.
      */
@@ -67,9 +74,8 @@ public class ManageItemImagesService extends BaseItemService implements ManageIt
      * {@inheritDoc}
      */
     @Override
-    public byte[] loadImage(String itemId, String filename, ImageSize targetSize) {
-        FileSystemResource fileSystemResource = fileRepository.loadImage(useProjectDirsUseCase.getItemsDir(), itemId, filename, targetSize, DirectoryDefinitions.IMAGES_DIR);
-        return fileRepository.readBytes(fileSystemResource.getFile().toPath());
+    public FileSystemResource loadImage(String itemId, String filename, ImageSize targetSize, Set<ImageFormat> acceptedFormats) {
+        return generateImageVariantsUseCase.loadImageVariant(itemId, filename, targetSize, acceptedFormats);
     }
 
     /**
@@ -77,7 +83,8 @@ public class ManageItemImagesService extends BaseItemService implements ManageIt
      */
     @Override
     public void saveImage(String itemId, String filename, InputStream data, boolean keepAssetNumber) {
-        fileRepository.saveFile(useProjectDirsUseCase.getProjectRoot(), itemId, filename, data, DirectoryDefinitions.IMAGES_DIR, null, keepAssetNumber);
+        String assetName = fileRepository.saveFile(useProjectDirsUseCase.getProjectRoot(), itemId, filename, data, DirectoryDefinitions.IMAGES_DIR, null, keepAssetNumber);
+        generateImageVariantsUseCase.generateImageVariants(itemId, List.of(assetName));
     }
 
     /**
@@ -91,21 +98,23 @@ public class ManageItemImagesService extends BaseItemService implements ManageIt
             throw new ArtivactException("No item found with ID: " + itemId);
         }
 
+        String assetName;
         try {
-            item.getMediaContent().getImages().add(
-                    fileRepository.saveFile(useProjectDirsUseCase.getProjectRoot(),
-                            itemId,
-                            file.getOriginalFilename(),
-                            file.getInputStream(),
-                            DirectoryDefinitions.IMAGES_DIR,
-                            null,
-                            false)
-            );
+            assetName = fileRepository.saveFile(useProjectDirsUseCase.getProjectRoot(),
+                    itemId,
+                    file.getOriginalFilename(),
+                    file.getInputStream(),
+                    DirectoryDefinitions.IMAGES_DIR,
+                    null,
+                    false);
         } catch (IOException e) {
             throw new ArtivactException("Could not add image!", e);
         }
+        item.getMediaContent().getImages().add(assetName);
 
         saveItemUseCase.save(item);
+
+        generateImageVariantsUseCase.generateImageVariants(itemId, List.of(assetName));
     }
 
     /**
@@ -149,6 +158,7 @@ public class ManageItemImagesService extends BaseItemService implements ManageIt
         Item item = loadItemUseCase.loadTranslatedRestricted(itemId);
         item.getMediaContent().getImages().add(targetPath.getFileName().toString());
         saveItemUseCase.save(item);
+        generateImageVariantsUseCase.generateImageVariants(itemId, List.of(targetPath.getFileName().toString()));
     }
 
     /**
@@ -162,13 +172,16 @@ public class ManageItemImagesService extends BaseItemService implements ManageIt
             return;
         }
         CreationImageSet imageSet = item.getMediaCreationContent().getImageSets().get(imageSetIndex);
+        List<String> transferredImages = new LinkedList<>();
         pickThree(imageSet.getFiles()).forEach(image -> {
             Path sourcePath = useProjectDirsUseCase.getImagesDir(itemId).resolve(image);
             Path targetPath = getTransferTargetPath(itemId, image);
             fileRepository.copy(sourcePath, targetPath, StandardCopyOption.REPLACE_EXISTING);
-            item.getMediaContent().getImages().add(targetPath.getFileName().toString());
+            transferredImages.add(targetPath.getFileName().toString());
         });
+        item.getMediaContent().getImages().addAll(transferredImages);
         saveItemUseCase.save(item);
+        generateImageVariantsUseCase.generateImageVariants(itemId, transferredImages);
     }
 
     /**
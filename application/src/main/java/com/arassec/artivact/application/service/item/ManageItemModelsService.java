@@ -54,15 +54,14 @@ public class ManageItemModelsService implements ManageItemModelsUseCase {
      * {@inheritDoc}
      */
     @Override
-    public byte[] loadModel(String itemId, String filename) {
-        FileSystemResource fileSystemResource = new FileSystemResource(
+    public FileSystemResource loadModel(String itemId, String filename) {
+        return new FileSystemResource(
                 useProjectDirsUseCase.getItemsDir()
                         .resolve(itemId.substring(0, 3))
                         .resolve(itemId.substring(3, 6))
                         .resolve(itemId)
                         .resolve(DirectoryDefinitions.MODELS_DIR)
                         .resolve(filename));
-        return fileRepository.readBytes(fileSystemResource.getFile().toPath());
     }
 
     /**
@@ -143,7 +142,7 @@ public class ManageItemModelsService implements ManageItemModelsUseCase {
      * {@inheritDoc}
      */
     @Override
-    public byte[] loadModelSetFile(String itemId, int modelSetIndex, String filename) {
+    public FileSystemResource loadModelSetFile(String itemId, int modelSetIndex, String filename) {
         Item item = loadItemUseCase.loadTranslatedRestricted(itemId);
         CreationModelSet creationModelSet = item.getMediaCreationContent().getModelSets().get(modelSetIndex);
         Path modelSetDir = useProjectDirsUseCase.getProjectRoot()
@@ -156,7 +155,7 @@ public class ManageItemModelsService implements ManageItemModelsUseCase {
             throw new ArtivactException("Invalid model-set file path!");
         }
 
-        return fileRepository.readBytes(sourcePath);
+        return new FileSystemResource(sourcePath);
     }
 
     /**
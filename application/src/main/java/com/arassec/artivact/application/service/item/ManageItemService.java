@@ -17,11 +17,13 @@ import com.arassec.artivact.application.port.out.repository.ItemRepository;
 import com.arassec.artivact.domain.model.Roles;
 import com.arassec.artivact.domain.model.TranslatableString;
 import com.arassec.artivact.domain.model.configuration.TagsConfiguration;
+import com.arassec.artivact.domain.model.item.ImageFormat;
 import com.arassec.artivact.domain.model.item.ImageSize;
 import com.arassec.artivact.domain.model.item.Item;
 import com.arassec.artivact.domain.model.item.MediaContent;
 import com.arassec.artivact.domain.model.item.MediaCreationContent;
 import com.arassec.artivact.domain.model.misc.DirectoryDefinitions;
+import com.arassec.artivact.domain.model.search.ItemCard;
 import com.arassec.artivact.domain.model.tag.Tag;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -30,8 +32,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Service for item handling.
@@ -45,6 +50,11 @@ public class ManageItemService extends BaseItemService implements CreateItemUseC
         SaveItemUseCase,
         DeleteItemUseCase {
 
+    /**
+     * Number of items loaded at once when streaming items.
+     */
+    private static final int STREAM_CHUNK_SIZE = 250;
+
     /**
      * Repository for items.
      */
@@ -160,12 +170,101 @@ public class ManageItemService extends BaseItemService implements CreateItemUseC
         return load(itemId).orElseThrow();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @TranslateResult
+    @Override
+    public List<ItemCard> loadTranslatedItemCards(List<String> itemIds) {
+        if (itemIds == null || itemIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(itemRepository.findItemCardsById(itemIds));
+    }
+
     /**
      * {@inheritDoc}
      */
     @GenerateIds
     @Override
     public Item save(Item item) {
+        prepareForSave(item);
+
+        item = itemRepository.save(item);
+
+        manageSearchIndexUseCase.updateIndex(item);
+
+        return item;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @GenerateIds
+    @Override
+    public List<Item> saveAll(Collection<Item> items) {
+        if (items.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        items.forEach(this::prepareForSave);
+
+        List<Item> savedItems = itemRepository.saveAll(items);
+
+        manageSearchIndexUseCase.updateIndex(savedItems);
+
+        return savedItems;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete(String itemId) {
+        try {
+            favoriteRepository.deleteByItemId(itemId);
+        } catch (Exception e) {
+            log.warn("Failed to delete favorites for item {}: {}", itemId, e.getMessage());
+        }
+        itemRepository.deleteById(itemId);
+        manageSearchIndexUseCase.removeFromIndex(itemId);
+        fileRepository.deleteAndPruneEmptyParents(fileRepository.getDirFromId(useProjectDirsUseCase.getItemsDir(), itemId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Item> loadModified(int maxItems) {
+        return itemRepository.findItemIdsForRemoteExport(maxItems).stream()
+                .map(itemId -> load(itemId).orElseThrow())
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<Item> streamWithTag(String tagId, int maxItems) {
+        List<String> itemIds = itemRepository.findItemIdsByTag(tagId);
+        if (itemIds.size() > maxItems) {
+            itemIds = itemIds.subList(0, maxItems);
+        }
+        List<String> limitedItemIds = itemIds;
+        int chunkCount = (limitedItemIds.size() + STREAM_CHUNK_SIZE - 1) / STREAM_CHUNK_SIZE;
+        return IntStream.range(0, chunkCount)
+                .mapToObj(chunk -> limitedItemIds.subList(chunk * STREAM_CHUNK_SIZE,
+                        Math.min(limitedItemIds.size(), (chunk + 1) * STREAM_CHUNK_SIZE)))
+                .flatMap(chunkItemIds -> itemRepository.findAllById(chunkItemIds).stream());
+    }
+
+    /**
+     * Removes media files that are no longer referenced by the item, drops references to media files that don't exist
+     * and updates the item's modification time.
+     *
+     * @param item The item that is about to be saved.
+     */
+    private void prepareForSave(Item item) {
         String itemId = item.getId();
 
         Path itemsDir = useProjectDirsUseCase.getItemsDir();
@@ -174,9 +273,11 @@ public class ManageItemService extends BaseItemService implements CreateItemUseC
             Path originalImage = fileRepository.getSubdirFilePath(itemsDir, itemId, DirectoryDefinitions.IMAGES_DIR).resolve(imageToDelete);
             fileRepository.delete(originalImage);
             for (ImageSize imageSize : ImageSize.values()) {
-                Path scaledImage = fileRepository.getSubdirFilePath(itemsDir, itemId, DirectoryDefinitions.IMAGES_DIR)
-                        .resolve(imageSize.name() + "-" + imageToDelete);
-                fileRepository.delete(scaledImage);
+                for (ImageFormat imageFormat : ImageFormat.values()) {
+                    Path scaledImage = fileRepository.getSubdirFilePath(itemsDir, itemId, DirectoryDefinitions.IMAGES_DIR)
+                            .resolve(imageFormat.appendFileExtension(imageSize.name() + "-" + imageToDelete));
+                    fileRepository.delete(scaledImage);
+                }
             }
         });
 
@@ -206,36 +307,7 @@ public class ManageItemService extends BaseItemService implements CreateItemUseC
         });
         item.getMediaContent().getModels().removeAll(missingModels);
 
-        item = itemRepository.save(item);
-
-        manageSearchIndexUseCase.updateIndex(item);
-
-        return item;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void delete(String itemId) {
-        try {
-            favoriteRepository.deleteByItemId(itemId);
-        } catch (Exception e) {
-            log.warn("Failed to delete favorites for item {}: {}", itemId, e.getMessage());
-        }
-        itemRepository.deleteById(itemId);
-        fileRepository.deleteAndPruneEmptyParents(fileRepository.getDirFromId(useProjectDirsUseCase.getItemsDir(), itemId));
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public List<Item> loadModified(int maxItems) {
-        return itemRepository.findItemIdsForRemoteExport(maxItems).stream()
-                .map(itemId -> load(itemId).orElseThrow())
-                .toList();
+        item.setLastModified(Instant.now().toEpochMilli());
     }
 
 }
-
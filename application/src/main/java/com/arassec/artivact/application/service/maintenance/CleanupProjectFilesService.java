@@ -7,8 +7,11 @@ import com.arassec.artivact.application.port.in.menu.LoadMenuUseCase;
 import com.arassec.artivact.application.port.in.menu.SaveMenuUseCase;
 import com.arassec.artivact.application.port.in.page.LoadPageContentUseCase;
 import com.arassec.artivact.application.port.in.page.SavePageContentUseCase;
+import com.arassec.artivact.application.port.in.project.UseProjectDirsUseCase;
 import com.arassec.artivact.application.port.in.search.SearchItemsUseCase;
+import com.arassec.artivact.application.port.out.repository.FileRepository;
 import com.arassec.artivact.domain.model.Roles;
+import com.arassec.artivact.domain.model.item.Item;
 import com.arassec.artivact.domain.model.menu.Menu;
 import com.arassec.artivact.domain.model.page.PageContent;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Service for cleanup project files operations.
@@ -86,6 +90,16 @@ public class CleanupProjectFilesService implements CleanupProjectFilesUseCase {
      */
     private final SaveItemUseCase saveItemUseCase;
 
+    /**
+     * Use case for accessing the project's directories.
+     */
+    private final UseProjectDirsUseCase useProjectDirsUseCase;
+
+    /**
+     * Repository for file access.
+     */
+    private final FileRepository fileRepository;
+
     /**
      * {@inheritDoc}
      */
@@ -96,7 +110,11 @@ public class CleanupProjectFilesService implements CleanupProjectFilesUseCase {
         savePropertiesConfigurationUseCase.savePropertiesConfiguration(loadPropertiesConfigurationUseCase.loadPropertiesConfiguration());
         saveTagsConfigurationUseCase.saveTagsConfiguration(loadTagsConfigurationUseCase.loadTagsConfiguration());
         saveAppearanceConfigurationUseCase.saveAppearanceConfiguration(loadAppearanceConfigurationUseCase.loadTranslatedAppearanceConfiguration());
-        searchItemsUseCase.search("*", Integer.MAX_VALUE).forEach(saveItemUseCase::save);
+        try (Stream<Item> items = searchItemsUseCase.stream("*", Integer.MAX_VALUE)) {
+            SaveItemUseCase.saveInChunks(saveItemUseCase, items);
+        }
+        fileRepository.deleteStaleTemporaryImages(useProjectDirsUseCase.getItemsDir());
+        fileRepository.deleteStaleTemporaryImages(useProjectDirsUseCase.getWidgetsDir());
         log.info("Done cleaning up project files.");
     }
 
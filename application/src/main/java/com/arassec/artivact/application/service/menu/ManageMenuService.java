@@ -9,6 +9,7 @@ import com.arassec.artivact.application.port.in.page.CreatePageUseCase;
 import com.arassec.artivact.application.port.in.page.DeletePageUseCase;
 import com.arassec.artivact.application.port.in.page.UpdatePageAliasUseCase;
 import com.arassec.artivact.application.port.out.repository.MenuRepository;
+import com.arassec.artivact.application.service.page.PageContentRevision;
 import com.arassec.artivact.domain.exception.ArtivactException;
 import com.arassec.artivact.domain.model.menu.Menu;
 import com.arassec.artivact.domain.model.page.Page;
@@ -39,6 +40,11 @@ public class ManageMenuService
      */
     private final MenuRepository menuRepository;
 
+    /**
+     * Precomputed menu tree.
+     */
+    private final MenuIndex menuIndex;
+
     /**
      * Use case for update page alias.
      */
@@ -54,6 +60,11 @@ public class ManageMenuService
      */
     private final DeletePageUseCase deletePageUseCase;
 
+    /**
+     * Revision of the page content, which depends on the menus' restrictions.
+     */
+    private final PageContentRevision pageContentRevision;
+
     /**
      * {@inheritDoc}
      */
@@ -61,7 +72,7 @@ public class ManageMenuService
     @TranslateResult
     @Override
     public List<Menu> loadTranslatedRestrictedMenus() {
-        return loadMenusSorted();
+        return menuIndex.getMenus();
     }
 
     /**
@@ -239,15 +250,7 @@ public class ManageMenuService
     @TranslateResult
     @Override
     public Menu loadMenu(String menuId) {
-        List<Menu> flattenedMenus = loadTranslatedRestrictedMenus();
-        flattenedMenus.addAll(flattenedMenus.stream()
-                .flatMap(existingMenu -> existingMenu.getMenuEntries().stream())
-                .toList());
-        return flattenedMenus.stream()
-                .filter(Objects::nonNull)
-                .filter(existingMenu -> existingMenu.getId().equals(menuId))
-                .findFirst()
-                .orElseThrow();
+        return menuIndex.findMenu(menuId).orElseThrow();
     }
 
     /**
@@ -259,22 +262,16 @@ public class ManageMenuService
 
         List<Menu> menus = loadMenusSorted();
 
-        List<Menu> flattenedMenus = new LinkedList<>();
-        flattenedMenus.addAll(menus);
-        flattenedMenus.addAll(flattenedMenus.stream()
-                .flatMap(existingMenu -> existingMenu.getMenuEntries().stream())
-                .toList());
+        Map<String, Menu> menusById = new HashMap<>();
+        menus.forEach(menu -> {
+            menusById.putIfAbsent(menu.getId(), menu);
+            menu.getMenuEntries().forEach(menuEntry -> menusById.putIfAbsent(menuEntry.getId(), menuEntry));
+        });
 
-        Menu sourceMenu = flattenedMenus.stream()
-                .filter(menu -> menu.getId().equals(menuId))
-                .findFirst()
-                .orElseThrow();
+        Menu sourceMenu = Optional.ofNullable(menusById.get(menuId)).orElseThrow();
 
         if (StringUtils.hasText(sourceMenu.getParentId())) {
-            Menu oldParentMenu = flattenedMenus.stream()
-                    .filter(menu -> menu.getId().equals(sourceMenu.getParentId()))
-                    .findFirst()
-                    .orElseThrow();
+            Menu oldParentMenu = Optional.ofNullable(menusById.get(sourceMenu.getParentId())).orElseThrow();
             oldParentMenu.getMenuEntries().remove(sourceMenu);
         }
 
@@ -282,10 +279,7 @@ public class ManageMenuService
             sourceMenu.setParentId(null);
             menus.add(sourceMenu);
         } else {
-            Menu targetMenu = flattenedMenus.stream()
-                    .filter(menu -> menu.getId().equals(newParentMenuId))
-                    .findFirst()
-                    .orElseThrow();
+            Menu targetMenu = Optional.ofNullable(menusById.get(newParentMenuId)).orElseThrow();
             sourceMenu.setParentId(targetMenu.getId());
             targetMenu.getMenuEntries().add(sourceMenu);
             // Remove from main menu if necessary:
@@ -327,6 +321,9 @@ public class ManageMenuService
                 .map(Menu::getId)
                 .filter(id -> !currentMenuIds.contains(id))
                 .forEach(menuRepository::deleteById);
+
+        menuIndex.invalidate();
+        pageContentRevision.increment();
     }
 
 }
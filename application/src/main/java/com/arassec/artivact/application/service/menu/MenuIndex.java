@@ -0,0 +1,194 @@
+package com.arassec.artivact.application.service.menu;
+
+import com.arassec.artivact.application.port.out.repository.MenuRepository;
+import com.arassec.artivact.domain.model.menu.Menu;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Precomputed, in-memory view of the menu tree.
+ * <p>
+ * The menus are loaded from the repository once and indexed by menu ID and by target page ID. The index is rebuilt
+ * only after menus have been changed, so page views can look up their menu without database access. Menus are never
+ * handed out directly; callers get copies they can modify freely.
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuIndex {
+
+    /**
+     * Repository for menus.
+     */
+    private final MenuRepository menuRepository;
+
+    /**
+     * The current snapshot of the menu tree, {@code null} if it must be rebuilt.
+     */
+    private volatile Snapshot snapshot;
+
+    /**
+     * Incremented whenever the menus change, to discard snapshots built from outdated menus.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Returns copies of all main menus, including their menu entries, sorted by their index.
+     *
+     * @return Modifiable list of menus.
+     */
+    public List<Menu> getMenus() {
+        List<Menu> menus = new ArrayList<>();
+        getSnapshot().menus().forEach(menu -> menus.add(copy(menu)));
+        return menus;
+    }
+
+    /**
+     * Returns a copy of the menu or menu entry with the given ID.
+     *
+     * @param menuId The menu's ID.
+     * @return The menu, if it exists.
+     */
+    public Optional<Menu> findMenu(String menuId) {
+        return Optional.ofNullable(getSnapshot().menusById().get(menuId)).map(MenuIndex::copy);
+    }
+
+    /**
+     * Returns whether a menu or menu entry targets the given page.
+     *
+     * @param pageId The page's ID.
+     * @return {@code true} if the page belongs to a menu, {@code false} otherwise.
+     */
+    public boolean containsPage(String pageId) {
+        return getSnapshot().restrictionsByPageId().containsKey(pageId);
+    }
+
+    /**
+     * Returns the restrictions of the menu targeting the given page. Menu entries without restrictions inherit the
+     * restrictions of their parent menu.
+     *
+     * @param pageId The page's ID.
+     * @return Modifiable set of restrictions, empty if the page doesn't belong to a menu.
+     */
+    public Set<String> findRestrictions(String pageId) {
+        return new HashSet<>(getSnapshot().restrictionsByPageId().getOrDefault(pageId, Set.of()));
+    }
+
+    /**
+     * Discards the current snapshot after menus have been changed. If called within a transaction, the snapshot is
+     * discarded again after the transaction completed, since concurrent requests might have rebuilt it from the
+     * previous menus in the meantime.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    generation.incrementAndGet();
+                    snapshot = null;
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the current snapshot of the menu tree and builds it, if required.
+     *
+     * @return The snapshot.
+     */
+    private Snapshot getSnapshot() {
+        Snapshot currentSnapshot = snapshot;
+        if (currentSnapshot == null) {
+            long snapshotGeneration = generation.get();
+            currentSnapshot = createSnapshot(menuRepository.load());
+            synchronized (this) {
+                if (snapshotGeneration == generation.get()) {
+                    snapshot = currentSnapshot;
+                }
+            }
+        }
+        return currentSnapshot;
+    }
+
+    /**
+     * Creates a snapshot of the given menus.
+     *
+     * @param loadedMenus The menus as loaded from the repository.
+     * @return The new snapshot.
+     */
+    private Snapshot createSnapshot(List<Menu> loadedMenus) {
+        List<Menu> menus = new ArrayList<>();
+        loadedMenus.stream()
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingInt(Menu::getIndex))
+                .forEach(menu -> menus.add(copy(menu)));
+
+        Map<String, Menu> menusById = new HashMap<>();
+        Map<String, Set<String>> restrictionsByPageId = new HashMap<>();
+
+        for (Menu menu : menus) {
+            if (menu.getId() != null) {
+                menusById.putIfAbsent(menu.getId(), menu);
+            }
+            if (menu.getTargetPageId() != null) {
+                restrictionsByPageId.putIfAbsent(menu.getTargetPageId(), Set.copyOf(menu.getRestrictions()));
+            }
+            for (Menu menuEntry : menu.getMenuEntries()) {
+                if (menuEntry.getId() != null) {
+                    menusById.putIfAbsent(menuEntry.getId(), menuEntry);
+                }
+                if (menuEntry.getTargetPageId() != null) {
+                    Set<String> restrictions = menuEntry.getRestrictions().isEmpty()
+                            ? menu.getRestrictions() : menuEntry.getRestrictions();
+                    restrictionsByPageId.putIfAbsent(menuEntry.getTargetPageId(), Set.copyOf(restrictions));
+                }
+            }
+        }
+
+        return new Snapshot(List.copyOf(menus), Map.copyOf(menusById), Map.copyOf(restrictionsByPageId));
+    }
+
+    /**
+     * Creates a deep copy of the given menu.
+     *
+     * @param menu The menu to copy.
+     * @return The copy.
+     */
+    private static Menu copy(Menu menu) {
+        List<Menu> menuEntries = new LinkedList<>();
+        if (menu.getMenuEntries() != null) {
+            menu.getMenuEntries().stream()
+                    .filter(Objects::nonNull)
+                    .forEach(menuEntry -> menuEntries.add(copy(menuEntry)));
+        }
+
+        Map<String, String> translations = menu.getTranslations() != null
+                ? new HashMap<>(menu.getTranslations()) : new HashMap<>();
+        Set<String> restrictions = menu.getRestrictions() != null
+                ? new HashSet<>(menu.getRestrictions()) : new HashSet<>();
+
+        Menu copy = new Menu(menu.getValue(), menu.getTranslatedValue(), translations, menu.getId(), restrictions,
+                menu.getParentId(), menuEntries, menu.getTargetPageId(), menu.getTargetPageAlias(), menu.isHidden(),
+                menu.getExternal());
+        copy.setIndex(menu.getIndex());
+        return copy;
+    }
+
+    /**
+     * Snapshot of the menu tree.
+     *
+     * @param menus                The main menus, sorted by their index.
+     * @param menusById            All menus and menu entries by their ID.
+     * @param restrictionsByPageId The restrictions of the menu targeting a page, by page ID.
+     */
+    private record Snapshot(List<Menu> menus, Map<String, Menu> menusById,
+                            Map<String, Set<String>> restrictionsByPageId) {
+    }
+
+}
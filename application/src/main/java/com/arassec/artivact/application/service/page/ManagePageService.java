@@ -7,8 +7,8 @@ import com.arassec.artivact.application.port.in.page.*;
 import com.arassec.artivact.application.port.in.project.UseProjectDirsUseCase;
 import com.arassec.artivact.application.port.out.repository.ConfigurationRepository;
 import com.arassec.artivact.application.port.out.repository.FileRepository;
-import com.arassec.artivact.application.port.out.repository.MenuRepository;
 import com.arassec.artivact.application.port.out.repository.PageRepository;
+import com.arassec.artivact.application.service.menu.MenuIndex;
 import com.arassec.artivact.domain.exception.ArtivactException;
 import com.arassec.artivact.domain.model.BaseRestrictedObject;
 import com.arassec.artivact.domain.model.Roles;
@@ -16,7 +16,6 @@ import com.arassec.artivact.domain.model.TranslatableString;
 import com.arassec.artivact.domain.model.configuration.AppearanceConfiguration;
 import com.arassec.artivact.domain.model.configuration.ConfigurationType;
 import com.arassec.artivact.domain.model.item.ImageSize;
-import com.arassec.artivact.domain.model.menu.Menu;
 import com.arassec.artivact.domain.model.page.*;
 import jakarta.transaction.Transactional;
 import lombok.Getter;
@@ -70,9 +69,9 @@ public class ManagePageService
     private final PageRepository pageRepository;
 
     /**
-     * Repository for menu configurations.
+     * Precomputed menu tree.
      */
-    private final MenuRepository menuRepository;
+    private final MenuIndex menuIndex;
 
     /**
      * Repository for configurations.
@@ -96,6 +95,11 @@ public class ManagePageService
      */
     private final UseProjectDirsUseCase useProjectDirsUseCase;
 
+    /**
+     * Revision of the page content, incremented on every change.
+     */
+    private final PageContentRevision pageContentRevision;
+
     /**
      * Creates a new page.
      *
@@ -116,6 +120,7 @@ public class ManagePageService
         page.setPageContent(pageContent);
 
         pageRepository.save(page);
+        pageContentRevision.increment();
 
         return page;
     }
@@ -128,6 +133,7 @@ public class ManagePageService
     @Override
     public void deletePage(String pageIdOrAlias) {
         Optional<Page> pageOptional = pageRepository.deleteById(pageIdOrAlias);
+        pageContentRevision.increment();
         pageOptional.ifPresent(page -> page.getPageContent().getWidgets().forEach(widget
                 -> fileRepository.deleteAndPruneEmptyParents(
                 fileRepository.getDirFromId(useProjectDirsUseCase.getWidgetsDir(), widget.getId()))
@@ -145,6 +151,7 @@ public class ManagePageService
         pageRepository.findById(pageId).ifPresent(page -> {
             page.setAlias(pageAlias);
             pageRepository.save(page);
+            pageContentRevision.increment();
         });
     }
 
@@ -169,6 +176,14 @@ public class ManagePageService
         return optionalPage.map(page -> new PageIdAndAlias(indexPageId, page.getAlias()));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long loadPageContentRevision() {
+        return pageContentRevision.get();
+    }
+
     /**
      * Loads the content of the given page.
      *
@@ -188,7 +203,7 @@ public class ManagePageService
         computeEditable(page.getPageContent(), roles);
         addMetadataIfRequired(page);
 
-        page.getPageContent().setRestrictions(findMenuRestrictions(page.getId()));
+        page.getPageContent().setRestrictions(menuIndex.findRestrictions(page.getId()));
 
 
         return page.getPageContent();
@@ -237,19 +252,19 @@ public class ManagePageService
 
         computeEditable(pageContent, roles);
 
-        pageContent.setRestrictions(findMenuRestrictions(page.getId()));
+        pageContent.setRestrictions(menuIndex.findRestrictions(page.getId()));
 
         return pageContent;
     }
 
     /**
-     * Loads the content of the given page and applies translations and restrictions.
+     * Loads the content of the given page and applies restrictions. Translations are not applied to the page content,
+     * but resolved by the web adapter while writing the response.
      *
      * @param pageIdOrAlias The page's ID or the page's alias.
      * @param roles         The available roles.
      * @return The {@link PageContent} of the page.
      */
-    @TranslateResult
     @RestrictResult
     @Override
     public PageContent loadTranslatedRestrictedPageContent(String pageIdOrAlias, Set<String> roles) {
@@ -296,8 +311,7 @@ public class ManagePageService
             page.setWipPageContent(jsonMapper.readValue(jsonMapper.writeValueAsString(pageContent), PageContent.class));
         }
 
-        Optional<Menu> menuOptional = findMenu(page.getId());
-        if (menuOptional.isEmpty()) {
+        if (!menuIndex.containsPage(page.getId())) {
             throw new ArtivactException("No menu found for page: " + pageIdOrAlias);
         }
 
@@ -361,6 +375,7 @@ public class ManagePageService
         page.setVersion(page.getVersion() + 1);
 
         pageRepository.save(page);
+        pageContentRevision.increment();
 
         computeEditable(pageContent, roles);
 
@@ -394,6 +409,7 @@ public class ManagePageService
                 .ifPresent(this::cleanDanglingImages);
 
         pageRepository.save(page);
+        pageContentRevision.increment();
 
         return filename;
     }
@@ -425,6 +441,7 @@ public class ManagePageService
         });
 
         pageRepository.save(page);
+        pageContentRevision.increment();
 
         return page.getWipPageContent();
     }
@@ -496,6 +513,7 @@ public class ManagePageService
         page.setWipPageContent(page.getPageContent());
 
         pageRepository.save(page);
+        pageContentRevision.increment();
 
         return page.getPageContent();
     }
@@ -538,6 +556,7 @@ public class ManagePageService
         page.setPageContent(page.getWipPageContent());
 
         pageRepository.save(page);
+        pageContentRevision.increment();
 
         return page.getPageContent();
     }
@@ -602,50 +621,6 @@ public class ManagePageService
         pageContent.setEditable(adminRequirementMet && userRequirementMet);
     }
 
-    /**
-     * Determines menu restrictions for the menu associated with the given page.
-     *
-     * @param pageId The page's ID.
-     * @return Set of restrictions from the corresponding menu.
-     */
-    private Set<String> findMenuRestrictions(String pageId) {
-        for (Menu menu : menuRepository.load()) {
-            if (pageId.equals(menu.getTargetPageId())) {
-                return menu.getRestrictions();
-            }
-            for (Menu menuEntry : menu.getMenuEntries()) {
-                if (pageId.equals(menuEntry.getTargetPageId())) {
-                    if (!menuEntry.getRestrictions().isEmpty()) {
-                        return menuEntry.getRestrictions();
-                    } else {
-                        return menu.getRestrictions();
-                    }
-                }
-            }
-        }
-        return Set.of();
-    }
-
-    /**
-     * Finds the menu related to the given page.
-     *
-     * @param pageId The page's ID.
-     * @return The menu whose target page is the given one.
-     */
-    private Optional<Menu> findMenu(String pageId) {
-        for (Menu menu : menuRepository.load()) {
-            if (pageId.equals(menu.getTargetPageId())) {
-                return Optional.of(menu);
-            }
-            for (Menu menuEntry : menu.getMenuEntries()) {
-                if (pageId.equals(menuEntry.getTargetPageId())) {
-                    return Optional.of(menuEntry);
-                }
-            }
-        }
-        return Optional.empty();
-    }
-
     /**
      * Saves the given file under subdirectories of the root directory based on the given ID.
      * <p>
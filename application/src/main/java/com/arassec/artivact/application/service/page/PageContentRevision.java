@@ -0,0 +1,49 @@
+package com.arassec.artivact.application.service.page;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Revision of the page content as presented to visitors.
+ * <p>
+ * The revision is incremented whenever pages, menus or the appearance configuration change. Rendered page content can
+ * be cached together with the revision it was created with and is outdated as soon as the revision changes.
+ */
+@Component
+public class PageContentRevision {
+
+    /**
+     * The current revision.
+     */
+    private final AtomicLong revision = new AtomicLong();
+
+    /**
+     * Returns the current revision.
+     *
+     * @return The revision.
+     */
+    public long get() {
+        return revision.get();
+    }
+
+    /**
+     * Increments the revision after page content has been changed. If called within a transaction, the revision is
+     * incremented again after the transaction completed, since concurrent requests might have rendered the previous
+     * page content with the new revision in the meantime.
+     */
+    public void increment() {
+        revision.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    revision.incrementAndGet();
+                }
+            });
+        }
+    }
+
+}
@@ -14,6 +14,7 @@ import com.arassec.artivact.domain.model.misc.DirectoryDefinitions;
 import com.arassec.artivact.domain.model.page.PageContent;
 import com.arassec.artivact.domain.model.page.Widget;
 import com.arassec.artivact.domain.model.page.widget.*;
+import com.arassec.artivact.domain.model.search.ItemSort;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -135,6 +136,9 @@ public class PageExportService extends BaseExportService implements ExportPageUs
 
     /**
      * Exports an {@link ItemSearchWidget}'s item list if required.
+     * <p>
+     * The items are exported in the order configured for the widget, i.e. the order shown on the page. Widgets
+     * without a configured order list their items by relevance.
      *
      * @param exportContext    The export context.
      * @param itemSearchWidget The widget to export the item list for.
@@ -143,7 +147,8 @@ public class PageExportService extends BaseExportService implements ExportPageUs
         if (!exportContext.getExportConfiguration().isExcludeItems()) {
             String searchTerm = itemSearchWidget.getSearchTerm();
             int maxResults = itemSearchWidget.getMaxResults();
-            List<Item> searchResult = searchItemsUseCase.search(searchTerm, maxResults);
+            ItemSort sort = ItemSort.of(itemSearchWidget.getSortField(), itemSearchWidget.getSortPropertyId());
+            List<Item> searchResult = searchItemsUseCase.search(searchTerm, maxResults, sort);
             if (searchResult != null && !searchResult.isEmpty()) {
                 Set<String> excludedItemIds = new HashSet<>();
                 for (Item item : searchResult) {
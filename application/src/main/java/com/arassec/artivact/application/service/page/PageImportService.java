@@ -89,7 +89,7 @@ public class PageImportService implements ImportPageUseCase {
                 if (fileRepository.exists(searchResultJson)) {
                     List<String> itemIds = jsonMapper.readValue(fileRepository.read(searchResultJson), new TypeReference<>() {
                     });
-                    itemIds.forEach(itemId -> importItemUseCase.importItem(importContext, itemId));
+                    importItemUseCase.importItems(importContext, itemIds);
                 }
 
                 // Import content audio files for the widget:
@@ -285,6 +285,11 @@ public class ProjectInitializationService {
     private void initializeSearchIndex() {
         try {
             searchItemsUseCase.search("*", 1);
+            if (manageSearchIndexUseCase.isIndexOutdated()) {
+                log.info("Search index layout is outdated. Re-creating search index...");
+                manageSearchIndexUseCase.recreateIndex();
+                log.info("Search index initialized!");
+            }
         } catch (Exception exception) {
             log.info("Caught exception during search ({}). Re-creating search index...", exception.getMessage());
             manageSearchIndexUseCase.recreateIndex();
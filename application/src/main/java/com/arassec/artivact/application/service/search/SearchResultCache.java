@@ -0,0 +1,207 @@
+package com.arassec.artivact.application.service.search;
+
+import com.arassec.artivact.domain.model.TranslatableString;
+import com.arassec.artivact.domain.model.search.ItemCard;
+import com.arassec.artivact.domain.model.search.ItemFacetQuery;
+import com.arassec.artivact.domain.model.search.ItemSearchResult;
+import com.arassec.artivact.domain.model.search.ItemSort;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache for pages of search results.
+ * <p>
+ * The cache is invalidated by incrementing its generation whenever the search index changes. Results computed during
+ * an older generation are not cached. Since the search index makes changes visible asynchronously, results are also
+ * not cached shortly after an invalidation.
+ * <p>
+ * Callers receive copies of the cached results, so a caller modifying its result can't affect other requests. The
+ * cached instances are never handed out and therefore never modified. Translations are resolved while the results are
+ * written as JSON and don't modify them either.
+ */
+@Component
+public class SearchResultCache implements MeterBinder {
+
+    /**
+     * Maximum number of cached search result pages.
+     */
+    static final int MAX_ENTRIES = 500;
+
+    /**
+     * Time in milliseconds after an invalidation during which search results are not cached.
+     */
+    static final long INVALIDATION_GRACE_MILLIS = 1000;
+
+    /**
+     * The current generation of the cache.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Time of the last invalidation in milliseconds since the epoch.
+     */
+    private volatile long lastInvalidation;
+
+    /**
+     * Number of requests served from the cache.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * Number of requests that had to be searched.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * The cached search results in access order.
+     */
+    private final Map<Key, ItemSearchResult> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, ItemSearchResult> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Returns the cached search result for the given key or searches and caches it.
+     *
+     * @param key    The cache key, containing all search parameters.
+     * @param search Performs the search if no cached result is available.
+     * @return A copy of the search result.
+     */
+    public ItemSearchResult get(Key key, Supplier<ItemSearchResult> search) {
+        synchronized (entries) {
+            ItemSearchResult cachedResult = entries.get(key);
+            if (cachedResult != null) {
+                hits.incrementAndGet();
+                return copy(cachedResult);
+            }
+        }
+        misses.incrementAndGet();
+
+        long searchGeneration = generation.get();
+        ItemSearchResult itemSearchResult = search.get();
+
+        synchronized (entries) {
+            if (searchGeneration == generation.get()
+                    && System.currentTimeMillis() - lastInvalidation > INVALIDATION_GRACE_MILLIS) {
+                entries.put(key, itemSearchResult);
+            }
+        }
+
+        return copy(itemSearchResult);
+    }
+
+    /**
+     * Invalidates all cached search results.
+     */
+    public void invalidate() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            lastInvalidation = System.currentTimeMillis();
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached search results.
+     *
+     * @return The number of cache entries.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Copies the item cards of a search result including their titles, which are translated per request. The facet
+     * counts are not translated and shared with the copy.
+     *
+     * @param itemSearchResult The search result to copy.
+     * @return A new search result.
+     */
+    private ItemSearchResult copy(ItemSearchResult itemSearchResult) {
+        if (itemSearchResult.getItemCards() == null) {
+            return new ItemSearchResult(itemSearchResult.getTotalHits(), null, itemSearchResult.getFacets());
+        }
+        List<ItemCard> itemCards = itemSearchResult.getItemCards().stream()
+                .map(itemCard -> ItemCard.builder()
+                        .itemId(itemCard.getItemId())
+                        .title(copy(itemCard.getTitle()))
+                        .image(itemCard.getImage())
+                        .hasModel(itemCard.isHasModel())
+                        .build())
+                .toList();
+        return new ItemSearchResult(itemSearchResult.getTotalHits(), itemCards, itemSearchResult.getFacets());
+    }
+
+    /**
+     * Copies a translatable string. The configured translations are not modified by translating and are shared.
+     *
+     * @param translatableString The translatable string to copy.
+     * @return A new translatable string or {@code null}, if none was given.
+     */
+    private TranslatableString copy(TranslatableString translatableString) {
+        if (translatableString == null) {
+            return null;
+        }
+        return new TranslatableString(translatableString.getValue(), translatableString.getTranslatedValue(),
+                translatableString.getTranslations());
+    }
+
+    /**
+     * Registers the cache's hit and miss counters and its size.
+     *
+     * @param registry The meter registry.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("artivact.search.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .description("Search requests served from the search result cache")
+                .register(registry);
+        FunctionCounter.builder("artivact.search.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("Search requests not found in the search result cache")
+                .register(registry);
+        Gauge.builder("artivact.search.cache.size", this, SearchResultCache::size)
+                .description("Number of cached search result pages")
+                .register(registry);
+    }
+
+    /**
+     * Key of a cached search result.
+     *
+     * @param query      The search query.
+     * @param locale     The locale used to search localized fields.
+     * @param roles      The roles of the current user.
+     * @param sort       The order of the results.
+     * @param facetQuery The facet filters and facets to count.
+     * @param pageNumber The requested page.
+     * @param pageSize   The page size.
+     * @param maxResults Maximum number of results to consider.
+     */
+    public record Key(String query, String locale, Set<String> roles, ItemSort sort, ItemFacetQuery facetQuery,
+                      int pageNumber, int pageSize, int maxResults) {
+
+        /**
+         * Creates a new key with an immutable copy of the roles.
+         */
+        public Key {
+            roles = roles != null ? Set.copyOf(roles) : null;
+        }
+
+    }
+
+}
@@ -1,22 +1,37 @@
 package com.arassec.artivact.application.service.search;
 
-import com.arassec.artivact.application.infrastructure.aspect.RestrictResult;
-import com.arassec.artivact.application.infrastructure.aspect.TranslateResult;
 import com.arassec.artivact.application.port.in.search.ManageSearchIndexUseCase;
 import com.arassec.artivact.application.port.in.search.SearchItemsUseCase;
 import com.arassec.artivact.application.port.out.gateway.SearchGateway;
 import com.arassec.artivact.application.port.out.repository.ItemRepository;
+import com.arassec.artivact.domain.exception.ArtivactException;
 import com.arassec.artivact.domain.model.TranslatableString;
 import com.arassec.artivact.domain.model.item.Item;
+import com.arassec.artivact.domain.model.misc.ProgressMonitor;
+import com.arassec.artivact.domain.model.search.ItemFacetQuery;
+import com.arassec.artivact.domain.model.search.ItemSearchResult;
+import com.arassec.artivact.domain.model.search.ItemSort;
+import com.arassec.artivact.domain.model.search.ItemSortField;
 import jakarta.transaction.Transactional;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Service for search-engine management and search handling.
@@ -29,6 +44,38 @@ public class SearchService
         implements SearchItemsUseCase,
         ManageSearchIndexUseCase {
 
+    /**
+     * Number of items loaded and indexed together during index recreation.
+     */
+    private static final int INDEX_BATCH_SIZE = 250;
+
+    /**
+     * Number of worker threads used during index recreation.
+     */
+    private static final int INDEX_WORKER_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * Maximum number of batches loaded but not yet indexed during index recreation. Limits the memory used.
+     */
+    private static final int MAX_PENDING_INDEX_BATCHES = 2 * INDEX_WORKER_THREADS;
+
+    /**
+     * Number of items loaded at once when streaming search results.
+     */
+    private static final int STREAM_CHUNK_SIZE = 250;
+
+    /**
+     * Maximum number of suggestions returned for a search term.
+     */
+    private static final int MAX_SUGGESTIONS = 25;
+
+    /**
+     * Orders items by the untranslated value of their title, items without title last.
+     */
+    private static final Comparator<Item> TITLE_ORDER = Comparator.comparing(
+            item -> Optional.ofNullable(item.getTitle()).map(TranslatableString::getValue).orElse(null),
+            Comparator.nullsLast(Comparator.naturalOrder()));
+
     /**
      * Repository for items.
      */
@@ -39,6 +86,11 @@ public class SearchService
      */
     private final SearchGateway searchGateway;
 
+    /**
+     * Cache for pages of search results.
+     */
+    private final SearchResultCache searchResultCache;
+
     /**
      * The object mapper.
      */
@@ -49,70 +101,286 @@ public class SearchService
      * Recreates the search index.
      */
     @Override
-    public synchronized void recreateIndex() {
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public void recreateIndex() {
+        recreateIndex(null);
+    }
+
+    /**
+     * Recreates the search index.
+     * <p>
+     * Items are streamed from the repository in chunks, which are parsed and added to the index on a pool of worker
+     * threads. Only a bounded number of chunks is held in memory at a time. The rebuild runs without a transaction, so
+     * loaded entities are not collected in a persistence context. The index is committed once after all items have
+     * been processed. If a chunk fails, no further chunks are submitted and the previous index is restored.
+     *
+     * @param progressMonitor The progress monitor to update. Can be {@code null}.
+     */
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public synchronized void recreateIndex(ProgressMonitor progressMonitor) {
         log.info("Recreating search index.");
+
+        int itemCount = Math.toIntExact(itemRepository.count());
+        AtomicInteger indexedItems = new AtomicInteger();
+
+        if (progressMonitor != null) {
+            progressMonitor.updateProgress(0, itemCount);
+        }
+
         searchGateway.prepareIndexing(false);
-        itemRepository.findAll().forEach(item -> searchGateway.updateIndex(item, false));
-        searchGateway.finalizeIndexing();
-        log.info("Search index created.");
+        try {
+            indexChunks(progressMonitor, indexedItems);
+            searchGateway.finalizeIndexing();
+        } catch (RuntimeException | Error e) {
+            searchGateway.abortIndexing();
+            throw e;
+        } finally {
+            searchResultCache.invalidate();
+        }
+
+        log.info("Search index created with {} items.", indexedItems.get());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isIndexOutdated() {
+        return searchGateway.isIndexOutdated();
     }
 
     /**
      * Updates an item's search index.
+     * <p>
+     * The change becomes visible to searches after the search gateway's next background refresh.
      *
      * @param item The item.
      */
     @Override
-    public synchronized void updateIndex(Item item) {
-        searchGateway.prepareIndexing(true);
+    public void updateIndex(Item item) {
         searchGateway.updateIndex(item, true);
-        searchGateway.finalizeIndexing();
+        searchResultCache.invalidate();
+    }
+
+    /**
+     * Updates the search index of all given items at once.
+     * <p>
+     * The changes become visible to searches after the search gateway's next background refresh.
+     *
+     * @param items The items.
+     */
+    @Override
+    public void updateIndex(List<Item> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        searchGateway.updateIndex(items);
+        searchResultCache.invalidate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeFromIndex(String itemId) {
+        searchGateway.removeFromIndex(itemId);
+        searchResultCache.invalidate();
     }
 
     /**
      * Searches for items without restrictions and without translating results.
+     * <p>
+     * Keeps the order of previous versions: the most relevant items are found, or the first items of the repository
+     * for {@code *}, and sorted by their title afterwards.
      *
      * @param query      The search query to use.
      * @param maxResults The maximum number of results.
-     * @return The list of found items.
+     * @return The list of found items, sorted by title.
      */
     @Override
     public List<Item> search(String query, int maxResults) {
+        List<Item> items = search(query, maxResults, null);
+        items.sort(TITLE_ORDER);
+        return items;
+    }
+
+    /**
+     * Searches for items without restrictions and without translating results.
+     * <p>
+     * The search engine sorts the results, so only the requested items are loaded from the repository. Unsorted
+     * searches for all items are served by the repository directly.
+     *
+     * @param query      The search query to use.
+     * @param maxResults The maximum number of results.
+     * @param sort       The order of the results. Results are ordered by relevance if {@code null}.
+     * @return The list of found items in the requested order.
+     */
+    @Override
+    public List<Item> search(String query, int maxResults, ItemSort sort) {
         if (!StringUtils.hasText(query)) {
             return new LinkedList<>();
         }
 
+        if ("*".equals(query) && (sort == null || sort.getField() == null || ItemSortField.RELEVANCE.equals(sort.getField()))) {
+            return new ArrayList<>(itemRepository.findAll(maxResults));
+        }
+
+        return loadItemsInOrder(searchGateway.search(query, maxResults, sort));
+    }
+
+    /**
+     * Searches for items without restrictions and without translating results and streams them.
+     * <p>
+     * Found items are loaded chunk by chunk while the stream is consumed, so processing all items doesn't require
+     * holding them in memory at once. Searches for all items are served by the repository directly.
+     *
+     * @param query      The search query to use.
+     * @param maxResults The maximum number of results.
+     * @return Stream of found items, ordered by relevance.
+     */
+    @Override
+    public Stream<Item> stream(String query, int maxResults) {
+        if (!StringUtils.hasText(query)) {
+            return Stream.empty();
+        }
+
         if ("*".equals(query)) {
-            return new ArrayList<>(itemRepository.findAll(maxResults).stream()
-                    .sorted(Comparator.comparing(
-                            o -> Optional.ofNullable(o.getTitle()).map(TranslatableString::getValue).orElse(null),
-                            Comparator.nullsLast(Comparator.naturalOrder())
-                    ))
-                    .toList()
-            );
+            return itemRepository.streamAll(STREAM_CHUNK_SIZE).limit(maxResults);
         }
 
-        return new ArrayList<>(itemRepository.findAllById(searchGateway.search(query, maxResults)).stream()
-                .sorted(Comparator.comparing(
-                        o -> Optional.ofNullable(o.getTitle()).map(TranslatableString::getValue).orElse(null),
-                        Comparator.nullsLast(Comparator.naturalOrder())
-                ))
-                .toList()
-        );
+        List<String> itemIds = searchGateway.search(query, maxResults, null);
+        int chunkCount = (itemIds.size() + STREAM_CHUNK_SIZE - 1) / STREAM_CHUNK_SIZE;
+
+        return IntStream.range(0, chunkCount)
+                .mapToObj(chunk -> itemIds.subList(chunk * STREAM_CHUNK_SIZE,
+                        Math.min(itemIds.size(), (chunk + 1) * STREAM_CHUNK_SIZE)))
+                .flatMap(chunkItemIds -> loadItemsInOrder(chunkItemIds).stream());
     }
 
     /**
-     * Searches for items with the given query.
+     * Searches for one page of items with the given query.
+     * <p>
+     * Sorting, paging, faceting and filtering by the user's roles is done by the search engine. The returned search
+     * result cards are created from data stored in the search index, so no items are loaded from the repository.
+     * Facets are counted over all matching items, regardless of the maximum number of results.
+     * <p>
+     * Results are cached per query, locale, roles and page until the search index changes. The item cards are not
+     * translated here, the web adapter resolves their translations while writing the response.
      *
      * @param query      The lucene search query.
-     * @param maxResults Maximum number of results to return.
-     * @return The list of found items.
+     * @param roles      The roles of the current user.
+     * @param sort       The order of the results. Results are ordered by relevance if {@code null}.
+     * @param facetQuery The facet values to filter by and the facets to count. If {@code null}, no facets are counted.
+     * @param pageNumber The page to return, starting with {@code 0}.
+     * @param pageSize   The maximum number of items per page.
+     * @param maxResults Maximum number of results to consider in total.
+     * @return The search result cards of the requested page, the total number of matching items and the requested
+     * facet counts.
      */
-    @TranslateResult
-    @RestrictResult
     @Override
-    public List<Item> searchTranslatedRestricted(String query, int maxResults) {
-        return search(query, maxResults);
+    public ItemSearchResult searchTranslatedRestricted(String query, Set<String> roles, ItemSort sort, ItemFacetQuery facetQuery,
+                                                       int pageNumber, int pageSize, int maxResults) {
+        if (!StringUtils.hasText(query) || pageNumber < 0 || pageSize <= 0 || maxResults <= 0) {
+            return new ItemSearchResult();
+        }
+
+        var cacheKey = new SearchResultCache.Key(query, LocaleContextHolder.getLocale().toString(), roles, sort,
+                facetQuery, pageNumber, pageSize, maxResults);
+
+        return searchResultCache.get(cacheKey, () -> {
+            long offset = (long) pageNumber * pageSize;
+            int limit = (int) Math.max(0, Math.min(pageSize, maxResults - offset));
+
+            ItemSearchResult itemSearchResult = searchGateway.search(query, roles, sort, facetQuery,
+                    (int) Math.min(offset, maxResults), limit);
+            itemSearchResult.setTotalHits(Math.min(itemSearchResult.getTotalHits(), maxResults));
+
+            return itemSearchResult;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> suggest(String prefix, Set<String> roles, int maxSuggestions) {
+        if (!StringUtils.hasText(prefix) || maxSuggestions <= 0) {
+            return List.of();
+        }
+        return searchGateway.suggest(prefix, roles, Math.min(maxSuggestions, MAX_SUGGESTIONS));
+    }
+
+    /**
+     * Loads the items with the given IDs.
+     *
+     * @param itemIds The IDs of the items to load.
+     * @return The found items in the order of the given IDs.
+     */
+    private List<Item> loadItemsInOrder(List<String> itemIds) {
+        Map<String, Item> itemsById = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        return itemIds.stream()
+                .map(itemsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Adds all items to the search index on a pool of worker threads.
+     *
+     * @param progressMonitor The progress monitor to update. Can be {@code null}.
+     * @param indexedItems    Counts the indexed items.
+     */
+    private void indexChunks(ProgressMonitor progressMonitor, AtomicInteger indexedItems) {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Semaphore pendingChunks = new Semaphore(MAX_PENDING_INDEX_BATCHES);
+
+        try (ExecutorService executorService = Executors.newFixedThreadPool(INDEX_WORKER_THREADS);
+             Stream<Supplier<List<Item>>> chunks = itemRepository.streamAllChunks(INDEX_BATCH_SIZE)) {
+            Iterator<Supplier<List<Item>>> chunkIterator = chunks.iterator();
+            while (failure.get() == null && chunkIterator.hasNext()) {
+                acquire(pendingChunks, executorService);
+                Supplier<List<Item>> chunk = chunkIterator.next();
+                executorService.execute(() -> {
+                    try {
+                        if (failure.get() == null) {
+                            List<Item> items = chunk.get();
+                            searchGateway.addToIndex(items);
+                            int indexed = indexedItems.addAndGet(items.size());
+                            if (progressMonitor != null) {
+                                progressMonitor.updateProgress(indexed);
+                            }
+                        }
+                    } catch (RuntimeException | Error e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        pendingChunks.release();
+                    }
+                });
+            }
+        }
+
+        if (failure.get() != null) {
+            throw new ArtivactException("Could not create search index!", failure.get());
+        }
+    }
+
+    /**
+     * Waits until another chunk may be submitted during index recreation.
+     *
+     * @param pendingChunks   Permits for chunks that are submitted but not yet indexed.
+     * @param executorService The worker pool, whose tasks are cancelled if the current thread is interrupted.
+     */
+    private void acquire(Semaphore pendingChunks, ExecutorService executorService) {
+        try {
+            pendingChunks.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executorService.shutdownNow();
+            throw new ArtivactException("Interrupted during search index creation!", e);
+        }
     }
 
 }
@@ -184,6 +184,33 @@ class PersistEntityAsJsonAspectTest {
         verify(fileRepository).write(expectedDir.resolve("item.json"), "{\"id\":\"item12345678\"}".getBytes());
     }
 
+    @Test
+    void testPersistsItemsFromCollection() throws Exception {
+        enableAspect();
+
+        Item item1 = new Item();
+        item1.setId("item11111111");
+        Item item2 = new Item();
+        item2.setId("item22222222");
+        Item itemWithShortId = new Item();
+        itemWithShortId.setId("short");
+
+        Method method = TestAnnotatedMethods.class.getMethod("saveItems", List.class);
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(methodSignature.getMethod()).thenReturn(method);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{List.of(item1, itemWithShortId, item2)});
+        when(useProjectDirsUseCase.getProjectRoot()).thenReturn(Path.of("testRoot"));
+        when(jsonMapper.writeValueAsBytes(any(Item.class))).thenReturn("{}".getBytes());
+        when(fileRepository.getSubdirFilePath(eq(Path.of("testRoot/items")), anyString(), eq("item.json")))
+                .thenAnswer(invocation -> Path.of("testRoot", "items", invocation.getArgument(1), "item.json"));
+
+        aspect.persistEntityAsJson(joinPoint);
+
+        verify(fileRepository).write(Path.of("testRoot", "items", "item11111111", "item.json"), "{}".getBytes());
+        verify(fileRepository).write(Path.of("testRoot", "items", "item22222222", "item.json"), "{}".getBytes());
+        verify(fileRepository, times(2)).write(any(), any(byte[].class));
+    }
+
     @Test
     void testPersistsPageContentFromSecondParameter() throws Exception {
         enableAspect();
@@ -267,6 +294,11 @@ class PersistEntityAsJsonAspectTest {
             // Just for testing - no implementation needed
         }
 
+        @PersistEntityAsJson(entityDir = "items", entityType = Item.class, filename = "item.json")
+        public void saveItems(List<Item> items) {
+            // Just for testing - no implementation needed
+        }
+
         @PersistEntityAsJson(entityDir = "items", entityType = Item.class, delete = true, filename = "item.json")
         public void deleteItem(String itemId) {
             // Just for testing - no implementation needed
@@ -0,0 +1,291 @@
+package com.arassec.artivact.application.infrastructure.aspect;
+
+import com.arassec.artivact.domain.model.RestrictedObject;
+import com.arassec.artivact.domain.model.TranslatableObject;
+import com.arassec.artivact.domain.model.TranslatableString;
+import com.arassec.artivact.domain.model.item.Item;
+import com.arassec.artivact.domain.model.tag.Tag;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the {@link TranslateResultAspect} and the {@link RestrictResultAspect}, which use cached
+ * {@link ResultFieldPlan}s, with the previous implementation, which inspected every object with reflection.
+ * <p>
+ * The benchmark processes a search result of 100 items. Run it with the {@link #main(String[])} method, e.g. from the
+ * IDE after compiling the test sources.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultAspectsBenchmark {
+
+    /**
+     * Number of items in the benchmarked result.
+     */
+    private static final int NUM_ITEMS = 100;
+
+    /**
+     * Only classes from this package are processed by the previous implementation.
+     */
+    private static final String ARTIVACT_PACKAGE_PREFIX = "com.arassec.artivact";
+
+    /**
+     * Aspect for translating results.
+     */
+    private TranslateResultAspect translateResultAspect;
+
+    /**
+     * Aspect for restricting results.
+     */
+    private RestrictResultAspect restrictResultAspect;
+
+    /**
+     * Join point returning the items.
+     */
+    private ProceedingJoinPoint joinPoint;
+
+    /**
+     * Starts the benchmark.
+     *
+     * @param args Not used.
+     * @throws RunnerException In case of errors.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ResultAspectsBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * Creates the items and the aspects.
+     *
+     * @throws Throwable In case of errors.
+     */
+    @Setup
+    public void setup() throws Throwable {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < NUM_ITEMS; i++) {
+            items.add(createItem(i));
+        }
+
+        joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.proceed()).thenReturn(items);
+
+        translateResultAspect = new TranslateResultAspect(() -> "en");
+        restrictResultAspect = new RestrictResultAspect();
+
+        LocaleContextHolder.setLocale(Locale.GERMAN);
+    }
+
+    /**
+     * Translates the items with field plans.
+     *
+     * @return The translated items.
+     * @throws Throwable In case of errors.
+     */
+    @Benchmark
+    public Object translateWithFieldPlans() throws Throwable {
+        return translateResultAspect.translate(joinPoint);
+    }
+
+    /**
+     * Translates the items with reflection on every object.
+     *
+     * @return The translated items.
+     * @throws Throwable In case of errors.
+     */
+    @Benchmark
+    public Object translateWithReflection() throws Throwable {
+        Object result = joinPoint.proceed();
+        translateIfPossible(result, LocaleContextHolder.getLocale(), "en");
+        return result;
+    }
+
+    /**
+     * Restricts the items with field plans.
+     *
+     * @return The restricted items.
+     * @throws Throwable In case of errors.
+     */
+    @Benchmark
+    public Object restrictWithFieldPlans() throws Throwable {
+        return restrictResultAspect.restrict(joinPoint);
+    }
+
+    /**
+     * Restricts the items with reflection on every object.
+     *
+     * @return The restricted items.
+     * @throws Throwable In case of errors.
+     */
+    @Benchmark
+    public Object restrictWithReflection() throws Throwable {
+        return restrictIfRequired(joinPoint.proceed(), Set.of());
+    }
+
+    /**
+     * Creates a test item with translated title, description, properties and tags.
+     *
+     * @param index The item's index.
+     * @return The new item.
+     */
+    private Item createItem(int index) {
+        Item item = new Item();
+        item.setId("item-" + index);
+        item.setTitle(createTranslatableString("Title " + index));
+        item.setDescription(createTranslatableString("Description " + index));
+        for (int i = 0; i < 10; i++) {
+            item.getProperties().put("property-" + i, createTranslatableString("Property " + i));
+        }
+        for (int i = 0; i < 3; i++) {
+            Tag tag = new Tag();
+            tag.setId("tag-" + i);
+            tag.setValue("Tag " + i);
+            tag.setTranslations(new HashMap<>(Map.of("de", "Schlagwort " + i)));
+            item.getTags().add(tag);
+        }
+        item.getMediaContent().getImages().addAll(List.of("image-1.jpg", "image-2.jpg"));
+        return item;
+    }
+
+    /**
+     * Creates a translatable string with an English and a German translation.
+     *
+     * @param value The string's value.
+     * @return The new translatable string.
+     */
+    private TranslatableString createTranslatableString(String value) {
+        return new TranslatableString(value, null, new HashMap<>(Map.of("en", value, "de", value + " (de)")));
+    }
+
+    /**
+     * Previous implementation of {@link TranslateResultAspect}.
+     *
+     * @param object        The object to translate.
+     * @param locale        The locale to use for translation.
+     * @param defaultLocale The default locale to use as fallback.
+     */
+    private void translateIfPossible(Object object, Locale locale, String defaultLocale) {
+        if (object == null) {
+            return;
+        }
+        switch (object) {
+            case TranslatableObject translatableObject -> {
+                translatableObject.translate(locale.toString(), defaultLocale);
+                translatePropertiesIfPossible(translatableObject, locale, defaultLocale);
+            }
+            case Collection<?> collectionToTranslate ->
+                    collectionToTranslate.forEach(entry -> translateIfPossible(entry, locale, defaultLocale));
+            default -> translatePropertiesIfPossible(object, locale, defaultLocale);
+        }
+    }
+
+    /**
+     * Previous implementation of {@link TranslateResultAspect}.
+     *
+     * @param object        The object to process.
+     * @param locale        The locale to use for translation.
+     * @param defaultLocale The default locale to use as fallback.
+     */
+    @SuppressWarnings("java:S3011")
+    private void translatePropertiesIfPossible(Object object, Locale locale, String defaultLocale) {
+        for (Field field : object.getClass().getDeclaredFields()) {
+            try {
+                if (field.getType().getName().startsWith(ARTIVACT_PACKAGE_PREFIX) && !field.getType().isEnum()) {
+                    field.setAccessible(true);
+                    translateIfPossible(field.get(object), locale, defaultLocale);
+                } else if (Collection.class.isAssignableFrom(field.getType())) {
+                    field.setAccessible(true);
+                    Collection<?> collection = (Collection<?>) field.get(object);
+                    collection.forEach(collectionEntry -> translateIfPossible(collectionEntry, locale, defaultLocale));
+                } else if (Map.class.isAssignableFrom(field.getType())) {
+                    field.setAccessible(true);
+                    Map<?, ?> map = (Map<?, ?>) field.get(object);
+                    map.forEach((key, value) -> {
+                        translateIfPossible(key, locale, defaultLocale);
+                        translateIfPossible(value, locale, defaultLocale);
+                    });
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Previous implementation of {@link RestrictResultAspect}.
+     *
+     * @param object The object to restrict.
+     * @param roles  The current user's roles.
+     * @return The restricted object.
+     */
+    private Object restrictIfRequired(Object object, Set<String> roles) {
+        if (object instanceof RestrictedObject restrictedObject && (restrictedObject.isForbidden(roles))) {
+            return null;
+        } else if (object instanceof Collection<?> collectionToFilter) {
+            return filterCollection(collectionToFilter, roles);
+        }
+        return restrictPropertiesIfRequired(object, roles);
+    }
+
+    /**
+     * Previous implementation of {@link RestrictResultAspect}.
+     *
+     * @param object The object to process.
+     * @param roles  The current user's roles.
+     * @return The object with restricted properties.
+     */
+    @SuppressWarnings("java:S3011")
+    private Object restrictPropertiesIfRequired(Object object, Set<String> roles) {
+        if (object == null) {
+            return null;
+        }
+        for (Field field : object.getClass().getDeclaredFields()) {
+            if (field.getType().isEnum()) {
+                return null;
+            }
+            try {
+                if (field.getType().getName().startsWith(ARTIVACT_PACKAGE_PREFIX)) {
+                    field.setAccessible(true);
+                    field.set(object, restrictIfRequired(field.get(object), roles));
+                } else if (Collection.class.isAssignableFrom(field.getType())) {
+                    field.setAccessible(true);
+                    field.set(object, filterCollection((Collection<?>) field.get(object), roles));
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return object;
+    }
+
+    /**
+     * Previous implementation of {@link RestrictResultAspect}.
+     *
+     * @param toBeFiltered The collection.
+     * @param roles        The current user's roles.
+     * @return The filtered collection.
+     */
+    private Collection<?> filterCollection(Collection<?> toBeFiltered, Set<String> roles) {
+        List<?> toBeRemoved = toBeFiltered.stream()
+                .filter(item -> (item instanceof RestrictedObject restrictedItem && restrictedItem.isForbidden(roles)))
+                .toList();
+        toBeRemoved.forEach(toBeFiltered::remove);
+        toBeFiltered.forEach(entry -> restrictPropertiesIfRequired(entry, roles));
+        return toBeFiltered;
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.arassec.artivact.application.infrastructure.aspect;
+
+import com.arassec.artivact.domain.exception.ArtivactException;
+import com.arassec.artivact.domain.model.TranslatableString;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResultFieldPlanTest {
+
+    enum DummyEnum {ONE}
+
+    @SuppressWarnings("unused")
+    static class Entity {
+        private static final TranslatableString CONSTANT = new TranslatableString("constant");
+        private String text = "text";
+        private int number = 1;
+        private TranslatableString title = new TranslatableString("title");
+        private List<Object> entries = new ArrayList<>();
+        private Map<Object, Object> values = new HashMap<>();
+        private DummyEnum dummyEnum = DummyEnum.ONE;
+    }
+
+    record ReadOnlyEntity(TranslatableString title) {
+    }
+
+    @SuppressWarnings("unused")
+    static class PlainEntity {
+        private String text;
+        private List<String> texts;
+    }
+
+    @SuppressWarnings("unused")
+    abstract static class AbstractEntity {
+    }
+
+    @SuppressWarnings("unused")
+    static class TreeEntity {
+        private TranslatableString title;
+        private List<TreeEntity> children;
+    }
+
+    @SuppressWarnings("unused")
+    static class PrunedEntity {
+        private List<String> texts;
+        private Map<String, Integer> counts;
+        private Set<String> restrictions;
+        private PlainEntity plain;
+        private List<PlainEntity> plainEntities;
+        private Map<String, List<TranslatableString>> nestedTranslations;
+        private AbstractEntity abstractEntity;
+        private TreeEntity tree;
+    }
+
+    @Test
+    void testPlanContainsOnlyRelevantFields() {
+        ResultFieldPlan plan = ResultFieldPlan.of(Entity.class);
+
+        assertThat(plan.getFields()).extracting(ResultFieldPlan.ResultField::kind).containsExactly(
+                ResultFieldPlan.Kind.OBJECT,
+                ResultFieldPlan.Kind.COLLECTION,
+                ResultFieldPlan.Kind.MAP,
+                ResultFieldPlan.Kind.ENUM);
+        assertThat(ResultFieldPlan.of(Entity.class)).isSameAs(plan);
+    }
+
+    @Test
+    void testPlanSkipsFieldsWithoutTranslatableOrRestrictedObjects() {
+        ResultFieldPlan plan = ResultFieldPlan.of(PrunedEntity.class);
+
+        assertThat(plan.getFields()).extracting(ResultFieldPlan.ResultField::kind).containsExactly(
+                ResultFieldPlan.Kind.MAP,
+                ResultFieldPlan.Kind.OBJECT,
+                ResultFieldPlan.Kind.OBJECT);
+        assertThat(ResultFieldPlan.of(PlainEntity.class).getFields()).isEmpty();
+        assertThat(ResultFieldPlan.of(TreeEntity.class).getFields()).hasSize(2);
+    }
+
+    @Test
+    void testFieldAccess() {
+        Entity entity = new Entity();
+        ResultFieldPlan.ResultField titleField = ResultFieldPlan.of(Entity.class).getFields().getFirst();
+
+        assertThat(titleField.get(entity)).isSameAs(entity.title);
+
+        titleField.set(entity, null);
+        assertThat(entity.title).isNull();
+    }
+
+    @Test
+    void testReadOnlyFieldAccess() {
+        ReadOnlyEntity entity = new ReadOnlyEntity(new TranslatableString("title"));
+        ResultFieldPlan.ResultField titleField = ResultFieldPlan.of(ReadOnlyEntity.class).getFields().getFirst();
+
+        assertThat(titleField.get(entity)).isSameAs(entity.title());
+        assertThatThrownBy(() -> titleField.set(entity, null)).isInstanceOf(ArtivactException.class);
+    }
+
+}
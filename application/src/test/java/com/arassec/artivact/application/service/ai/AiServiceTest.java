@@ -6,6 +6,7 @@ import com.arassec.artivact.application.port.in.project.UseProjectDirsUseCase;
 import com.arassec.artivact.application.port.out.gateway.AiGateway;
 import com.arassec.artivact.application.port.out.repository.FileRepository;
 import com.arassec.artivact.application.port.out.repository.PageRepository;
+import com.arassec.artivact.application.service.page.PageContentRevision;
 import com.arassec.artivact.domain.exception.ArtivactException;
 import com.arassec.artivact.domain.model.TranslatableString;
 import com.arassec.artivact.domain.model.configuration.AiConfiguration;
@@ -55,6 +56,9 @@ class AiServiceTest {
     @Mock
     private LoadAppearanceConfigurationUseCase loadAppearanceConfigurationUseCase;
 
+    @Mock
+    private PageContentRevision pageContentRevision;
+
     @InjectMocks
     private AiService aiService;
 
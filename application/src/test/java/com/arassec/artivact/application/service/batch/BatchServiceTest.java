@@ -17,8 +17,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.Mockito.*;
@@ -132,7 +132,7 @@ class BatchServiceTest {
         verify(batchProcessor).initialize();
         verify(loadItemUseCase).loadModified(2);
         verify(batchProcessor).process(params, item);
-        verify(saveItemUseCase).save(item);
+        verify(saveItemUseCase).saveAll(List.of(item));
     }
 
     @Test
@@ -142,7 +142,7 @@ class BatchServiceTest {
         params.setMaxItems(3);
 
         Item item = new Item();
-        when(searchItemsUseCase.search("query", 3)).thenReturn(List.of(item));
+        when(searchItemsUseCase.stream("query", 3)).thenReturn(Stream.of(item));
         when(batchProcessor.process(params, item)).thenReturn(true);
 
         doAnswer(invocation -> {
@@ -154,9 +154,33 @@ class BatchServiceTest {
         batchService.process(params);
 
         verify(batchProcessor).initialize();
-        verify(searchItemsUseCase).search("query", 3);
+        verify(searchItemsUseCase).stream("query", 3);
         verify(batchProcessor).process(params, item);
-        verify(saveItemUseCase).save(item);
+        verify(saveItemUseCase).saveAll(List.of(item));
+    }
+
+    @Test
+    void testProcessLoadsOnlyTaggedItemsWhenRemovingTagFromAllItems() {
+        params.setTask(BatchProcessingTask.REMOVE_TAG_FROM_ITEM);
+        params.setSearchTerm("*");
+        params.setTargetId("tag-id");
+        params.setMaxItems(3);
+
+        Item item = new Item();
+        when(loadItemUseCase.streamWithTag("tag-id", 3)).thenReturn(Stream.of(item));
+        when(batchProcessor.process(params, item)).thenReturn(true);
+
+        doAnswer(invocation -> {
+            BackgroundOperation backgroundOperation = invocation.getArgument(2);
+            backgroundOperation.execute(new ProgressMonitor("test", "test"));
+            return null;
+        }).when(runBackgroundOperationUseCase).execute(any(), any(), any());
+
+        batchService.process(params);
+
+        verify(loadItemUseCase).streamWithTag("tag-id", 3);
+        verifyNoInteractions(searchItemsUseCase);
+        verify(saveItemUseCase).saveAll(List.of(item));
     }
 
     @Test
@@ -166,7 +190,7 @@ class BatchServiceTest {
         params.setMaxItems(1);
 
         Item item = new Item();
-        when(searchItemsUseCase.search("query", 1)).thenReturn(List.of(item));
+        when(searchItemsUseCase.stream("query", 1)).thenReturn(Stream.of(item));
         when(batchProcessor.process(params, item)).thenReturn(false);
 
         doAnswer(invocation -> {
@@ -177,9 +201,9 @@ class BatchServiceTest {
 
         batchService.process(params);
 
-        verify(searchItemsUseCase).search("query", 1);
+        verify(searchItemsUseCase).stream("query", 1);
         verify(batchProcessor).process(params, item);
-        verify(saveItemUseCase, never()).save(item);
+        verify(saveItemUseCase, never()).saveAll(any());
     }
 
     @Test
@@ -188,7 +212,7 @@ class BatchServiceTest {
         params.setSearchTerm("query");
         params.setMaxItems(1);
 
-        when(searchItemsUseCase.search("query", 1)).thenReturn(Collections.emptyList());
+        when(searchItemsUseCase.stream("query", 1)).thenReturn(Stream.empty());
 
         doAnswer(invocation -> {
             BackgroundOperation backgroundOperation = invocation.getArgument(2);
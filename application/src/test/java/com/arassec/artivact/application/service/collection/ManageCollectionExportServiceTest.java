@@ -26,6 +26,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.FileSystemResource;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.io.*;
@@ -425,14 +426,13 @@ class ManageCollectionExportServiceTest {
     }
 
     @Test
-    void loadContentAudioReturnsBytesForExistingAudioFile() {
+    void loadContentAudioReturnsExistingAudioFile() {
         Path audioFile = exportsDir.resolve("export-1-de.mp3");
         when(fileRepository.exists(audioFile)).thenReturn(true);
-        when(fileRepository.readBytes(audioFile)).thenReturn(new byte[]{1, 3, 5});
 
-        byte[] result = service.loadContentAudio("export-1", "export-1-de.mp3");
+        FileSystemResource result = service.loadContentAudio("export-1", "export-1-de.mp3");
 
-        assertThat(result).containsExactly(1, 3, 5);
+        assertThat(result.getFile().toPath()).isEqualTo(audioFile);
     }
 
     @Test
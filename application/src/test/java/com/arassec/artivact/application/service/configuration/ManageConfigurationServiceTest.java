@@ -1,6 +1,7 @@
 package com.arassec.artivact.application.service.configuration;
 
 import com.arassec.artivact.application.port.out.repository.ConfigurationRepository;
+import com.arassec.artivact.application.service.page.PageContentRevision;
 import com.arassec.artivact.domain.model.configuration.*;
 import com.arassec.artivact.domain.model.property.PropertyCategory;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +28,9 @@ class ManageConfigurationServiceTest {
     @Mock
     private Environment environment;
 
+    @Mock
+    private PageContentRevision pageContentRevision;
+
     @InjectMocks
     private ManageConfigurationService service;
 
@@ -117,6 +121,7 @@ class ManageConfigurationServiceTest {
         service.saveAppearanceConfiguration(config);
 
         verify(configurationRepository).saveConfiguration(ConfigurationType.APPEARANCE, config);
+        verify(pageContentRevision).increment();
     }
 
     @Test
@@ -1,6 +1,7 @@
 package com.arassec.artivact.application.service.item;
 
 import com.arassec.artivact.application.port.in.configuration.LoadPeripheralsConfigurationUseCase;
+import com.arassec.artivact.application.port.in.item.GenerateImageVariantsUseCase;
 import com.arassec.artivact.application.port.in.item.LoadItemUseCase;
 import com.arassec.artivact.application.port.in.item.SaveItemUseCase;
 import com.arassec.artivact.application.port.in.operation.RunBackgroundOperationUseCase;
@@ -46,6 +47,9 @@ class CaptureItemImageServiceTest {
     @Mock
     private SaveItemUseCase saveItemUseCase;
 
+    @Mock
+    private GenerateImageVariantsUseCase generateImageVariantsUseCase;
+
     @Mock
     private FileRepository fileRepository;
 
@@ -69,6 +73,7 @@ class CaptureItemImageServiceTest {
                 runBackgroundOperationUseCase,
                 loadItemUseCase,
                 saveItemUseCase,
+                generateImageVariantsUseCase,
                 fileRepository,
                 loadAdapterConfigurationUseCase,
                 peripherals
@@ -108,6 +113,7 @@ class CaptureItemImageServiceTest {
         verify(cameraPeripheral).initialize(any(ProgressMonitor.class), any(PeripheralInitParams.class));
         verify(cameraPeripheral).captureImage(any(Path.class));
         verify(cameraPeripheral).teardown();
+        verify(generateImageVariantsUseCase).generateImageVariants(itemId, List.of("001.jpg"));
     }
 
     @Test
@@ -157,6 +163,7 @@ class CaptureItemImageServiceTest {
         verify(imageManipulatorPeripheral).teardown();
         verify(fileRepository).delete(any(Path.class));
         verify(fileRepository).move(any(Path.class), any(Path.class));
+        verify(generateImageVariantsUseCase).generateImageVariants(itemId, List.of("001.png"));
     }
 
 }
@@ -0,0 +1,220 @@
+package com.arassec.artivact.application.service.item;
+
+import com.arassec.artivact.application.port.in.project.UseProjectDirsUseCase;
+import com.arassec.artivact.application.port.out.repository.FileRepository;
+import com.arassec.artivact.domain.exception.ArtivactException;
+import com.arassec.artivact.domain.model.item.ImageFormat;
+import com.arassec.artivact.domain.model.item.ImageSize;
+import com.arassec.artivact.domain.model.misc.DirectoryDefinitions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.FileSystemResource;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantServiceTest {
+
+    private static final Path ITEMS_DIR = Path.of("items");
+
+    @Mock
+    private UseProjectDirsUseCase useProjectDirsUseCase;
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @InjectMocks
+    private ImageVariantService service;
+
+    @AfterEach
+    void tearDown() {
+        service.teardown();
+    }
+
+    @Test
+    void testGenerateImageVariantsCreatesVariantsInBackground() {
+        when(useProjectDirsUseCase.getItemsDir()).thenReturn(ITEMS_DIR);
+        when(fileRepository.supportsImageFormat(ImageFormat.AVIF)).thenReturn(false);
+        when(fileRepository.supportsImageFormat(ImageFormat.WEBP)).thenReturn(true);
+
+        service.generateImageVariants("123456", List.of("001.jpg"));
+
+        ImageVariantService.PREGENERATED_IMAGE_SIZES.forEach(imageSize -> {
+            verify(fileRepository, timeout(5000))
+                    .loadImage(ITEMS_DIR, "123456", "001.jpg", imageSize, ImageFormat.WEBP, DirectoryDefinitions.IMAGES_DIR);
+            verify(fileRepository, timeout(5000))
+                    .loadImage(ITEMS_DIR, "123456", "001.jpg", imageSize, ImageFormat.ORIGINAL, DirectoryDefinitions.IMAGES_DIR);
+        });
+    }
+
+    @Test
+    void testLoadImageVariantReturnsOriginalImage() {
+        FileSystemResource original = new FileSystemResource("001.jpg");
+        when(useProjectDirsUseCase.getItemsDir()).thenReturn(ITEMS_DIR);
+        when(fileRepository.loadImage(ITEMS_DIR, "123456", "001.jpg", ImageSize.ORIGINAL, ImageFormat.ORIGINAL,
+                DirectoryDefinitions.IMAGES_DIR)).thenReturn(original);
+
+        assertThat(service.loadImageVariant("123456", "001.jpg", ImageSize.ORIGINAL, Set.of(ImageFormat.WEBP)))
+                .isSameAs(original);
+        verify(fileRepository, never()).exists(any());
+        verify(fileRepository, never()).supportsImageFormat(any());
+    }
+
+    @Test
+    void testLoadImageVariantReturnsExistingVariant() {
+        FileSystemResource variant = new FileSystemResource("ITEM_CARD-001.jpg");
+        when(useProjectDirsUseCase.getImagesDir("123456")).thenReturn(Path.of("images"));
+        when(fileRepository.exists(Path.of("images", "ITEM_CARD-001.jpg"))).thenReturn(true);
+        when(useProjectDirsUseCase.getItemsDir()).thenReturn(ITEMS_DIR);
+        when(fileRepository.loadImage(ITEMS_DIR, "123456", "001.jpg", ImageSize.ITEM_CARD, ImageFormat.ORIGINAL,
+                DirectoryDefinitions.IMAGES_DIR)).thenReturn(variant);
+
+        assertThat(service.loadImageVariant("123456", "001.jpg", ImageSize.ITEM_CARD, Set.of())).isSameAs(variant);
+    }
+
+    @Test
+    void testLoadImageVariantReturnsVariantInAcceptedFormat() {
+        FileSystemResource variant = new FileSystemResource("ITEM_CARD-001.jpg.webp");
+        when(fileRepository.supportsImageFormat(ImageFormat.WEBP)).thenReturn(true);
+        when(useProjectDirsUseCase.getImagesDir("123456")).thenReturn(Path.of("images"));
+        when(fileRepository.exists(Path.of("images", "ITEM_CARD-001.jpg.webp"))).thenReturn(true);
+        when(useProjectDirsUseCase.getItemsDir()).thenReturn(ITEMS_DIR);
+        when(fileRepository.loadImage(ITEMS_DIR, "123456", "001.jpg", ImageSize.ITEM_CARD, ImageFormat.WEBP,
+                DirectoryDefinitions.IMAGES_DIR)).thenReturn(variant);
+
+        assertThat(service.loadImageVariant("123456", "001.jpg", ImageSize.ITEM_CARD, Set.of(ImageFormat.WEBP)))
+                .isSameAs(variant);
+    }
+
+    @Test
+    void testLoadImageVariantFallsBackToOriginalFormatIfAcceptedFormatIsUnsupported() {
+        FileSystemResource variant = new FileSystemResource("ITEM_CARD-001.jpg");
+        when(fileRepository.supportsImageFormat(ImageFormat.AVIF)).thenReturn(false);
+        when(useProjectDirsUseCase.getImagesDir("123456")).thenReturn(Path.of("images"));
+        when(fileRepository.exists(Path.of("images", "ITEM_CARD-001.jpg"))).thenReturn(true);
+        when(useProjectDirsUseCase.getItemsDir()).thenReturn(ITEMS_DIR);
+        when(fileRepository.loadImage(ITEMS_DIR, "123456", "001.jpg", ImageSize.ITEM_CARD, ImageFormat.ORIGINAL,
+                DirectoryDefinitions.IMAGES_DIR)).thenReturn(variant);
+
+        assertThat(service.loadImageVariant("123456", "001.jpg", ImageSize.ITEM_CARD, Set.of(ImageFormat.AVIF)))
+                .isSameAs(variant);
+    }
+
+    @Test
+    void testLoadImageVariantCreatesMissingVariantOnce() throws InterruptedException {
+        FileSystemResource variant = new FileSystemResource("DETAIL-001.jpg");
+        CountDownLatch scalingStarted = new CountDownLatch(1);
+        CountDownLatch finishScaling = new CountDownLatch(1);
+
+        when(useProjectDirsUseCase.getImagesDir("123456")).thenReturn(Path.of("images"));
+        when(fileRepository.exists(Path.of("images", "DETAIL-001.jpg"))).thenReturn(false);
+        when(useProjectDirsUseCase.getItemsDir()).thenReturn(ITEMS_DIR);
+        when(fileRepository.loadImage(ITEMS_DIR, "123456", "001.jpg", ImageSize.DETAIL, ImageFormat.ORIGINAL,
+                DirectoryDefinitions.IMAGES_DIR))
+                .thenAnswer(_ -> {
+                    scalingStarted.countDown();
+                    assertThat(finishScaling.await(5, TimeUnit.SECONDS)).isTrue();
+                    return variant;
+                });
+
+        AtomicReference<FileSystemResource> firstResult = new AtomicReference<>();
+        AtomicReference<FileSystemResource> secondResult = new AtomicReference<>();
+
+        Thread first = Thread.ofPlatform().start(() ->
+                firstResult.set(service.loadImageVariant("123456", "001.jpg", ImageSize.DETAIL, Set.of())));
+        assertThat(scalingStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread second = Thread.ofPlatform().start(() ->
+                secondResult.set(service.loadImageVariant("123456", "001.jpg", ImageSize.DETAIL, Set.of())));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (second.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        finishScaling.countDown();
+        first.join(5000);
+        second.join(5000);
+
+        assertThat(firstResult.get()).isSameAs(variant);
+        assertThat(secondResult.get()).isSameAs(variant);
+        verify(fileRepository, times(1)).loadImage(ITEMS_DIR, "123456", "001.jpg", ImageSize.DETAIL,
+                ImageFormat.ORIGINAL, DirectoryDefinitions.IMAGES_DIR);
+    }
+
+    @Test
+    void testLoadImageVariantReportsScalingErrors() {
+        when(useProjectDirsUseCase.getImagesDir("123456")).thenReturn(Path.of("images"));
+        when(fileRepository.exists(Path.of("images", "FAVORITE-001.jpg"))).thenReturn(false);
+        when(useProjectDirsUseCase.getItemsDir()).thenReturn(ITEMS_DIR);
+        when(fileRepository.loadImage(ITEMS_DIR, "123456", "001.jpg", ImageSize.FAVORITE, ImageFormat.ORIGINAL,
+                DirectoryDefinitions.IMAGES_DIR)).thenThrow(new ArtivactException("Could not scale image!"));
+
+        assertThatThrownBy(() -> service.loadImageVariant("123456", "001.jpg", ImageSize.FAVORITE, Set.of()))
+                .isInstanceOf(ArtivactException.class)
+                .hasMessage("Could not scale image!");
+    }
+
+    @Test
+    void testLoadImageVariantReleasesWaitingRequestsOnError() throws InterruptedException {
+        CountDownLatch scalingStarted = new CountDownLatch(1);
+        CountDownLatch finishScaling = new CountDownLatch(1);
+
+        when(useProjectDirsUseCase.getImagesDir("123456")).thenReturn(Path.of("images"));
+        when(fileRepository.exists(Path.of("images", "DETAIL-001.jpg"))).thenReturn(false);
+        when(useProjectDirsUseCase.getItemsDir()).thenReturn(ITEMS_DIR);
+        when(fileRepository.loadImage(ITEMS_DIR, "123456", "001.jpg", ImageSize.DETAIL, ImageFormat.ORIGINAL,
+                DirectoryDefinitions.IMAGES_DIR))
+                .thenAnswer(_ -> {
+                    scalingStarted.countDown();
+                    assertThat(finishScaling.await(5, TimeUnit.SECONDS)).isTrue();
+                    throw new OutOfMemoryError("test-error");
+                });
+
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        AtomicReference<Throwable> secondError = new AtomicReference<>();
+
+        Thread first = Thread.ofPlatform().start(() -> {
+            try {
+                service.loadImageVariant("123456", "001.jpg", ImageSize.DETAIL, Set.of());
+            } catch (Throwable t) {
+                firstError.set(t);
+            }
+        });
+        assertThat(scalingStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread second = Thread.ofPlatform().start(() -> {
+            try {
+                service.loadImageVariant("123456", "001.jpg", ImageSize.DETAIL, Set.of());
+            } catch (Throwable t) {
+                secondError.set(t);
+            }
+        });
+        long deadline = System.currentTimeMillis() + 5000;
+        while (second.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        finishScaling.countDown();
+        first.join(5000);
+        second.join(5000);
+
+        assertThat(second.isAlive()).isFalse();
+        assertThat(firstError.get()).isInstanceOf(OutOfMemoryError.class);
+        assertThat(secondError.get()).isInstanceOf(ArtivactException.class).hasCauseInstanceOf(OutOfMemoryError.class);
+    }
+
+}
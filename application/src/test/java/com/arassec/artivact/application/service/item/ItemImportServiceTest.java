@@ -3,6 +3,7 @@ package com.arassec.artivact.application.service.item;
 import com.arassec.artivact.application.port.in.account.LoadAccountUseCase;
 import com.arassec.artivact.application.port.in.configuration.ImportPropertiesConfigurationUseCase;
 import com.arassec.artivact.application.port.in.configuration.ImportTagsConfigurationUseCase;
+import com.arassec.artivact.application.port.in.item.GenerateImageVariantsUseCase;
 import com.arassec.artivact.application.port.in.item.SaveItemUseCase;
 import com.arassec.artivact.application.port.in.project.UseProjectDirsUseCase;
 import com.arassec.artivact.application.port.out.repository.FileRepository;
@@ -15,6 +16,7 @@ import com.arassec.artivact.domain.model.item.Item;
 import com.arassec.artivact.domain.model.misc.DirectoryDefinitions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -22,11 +24,14 @@ import tools.jackson.databind.json.JsonMapper;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static com.arassec.artivact.domain.model.misc.ExchangeDefinitions.CONTENT_EXCHANGE_MAIN_DATA_FILENAME_JSON;
 import static com.arassec.artivact.domain.model.misc.ExchangeDefinitions.ITEM_EXCHANGE_FILENAME_JSON;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -53,6 +58,9 @@ class ItemImportServiceTest {
     @Mock
     private UseProjectDirsUseCase useProjectDirsUseCase;
 
+    @Mock
+    private GenerateImageVariantsUseCase generateImageVariantsUseCase;
+
     @Mock
     private ImportPropertiesConfigurationUseCase importPropertiesConfigurationUseCase;
 
@@ -174,7 +182,7 @@ class ItemImportServiceTest {
         verify(fileRepository).createDirIfRequired(itemTargetDir);
         verify(fileRepository).copy(itemSourceDir.resolve(DirectoryDefinitions.IMAGES_DIR), itemTargetDir.resolve(DirectoryDefinitions.IMAGES_DIR));
         verify(fileRepository).copy(itemSourceDir.resolve(DirectoryDefinitions.MODELS_DIR), itemTargetDir.resolve(DirectoryDefinitions.MODELS_DIR));
-        verify(saveItemUseCase).save(item);
+        verify(saveItemUseCase).saveAll(List.of(item));
         verify(importPropertiesConfigurationUseCase).importPropertiesConfiguration(any(ImportContext.class));
         verify(importTagsConfigurationUseCase).importTagsConfiguration(any(ImportContext.class));
         verify(fileRepository).delete(importDir);
@@ -233,7 +241,7 @@ class ItemImportServiceTest {
 
         // Then
         verify(fileRepository, never()).read(any());
-        verify(saveItemUseCase, never()).save(any());
+        verify(saveItemUseCase, never()).saveAll(any());
         verify(fileRepository, never()).createDirIfRequired(any());
     }
 
@@ -250,6 +258,8 @@ class ItemImportServiceTest {
         when(fileRepository.exists(itemSourceDir.resolve(ITEM_EXCHANGE_FILENAME_JSON))).thenReturn(true);
 
         Item item = new Item();
+        item.setVersion(3);
+        item.getMediaContent().getImages().add("001.jpg");
         when(fileRepository.read(itemSourceDir.resolve(ITEM_EXCHANGE_FILENAME_JSON))).thenReturn("{\"id\":\"item-456\"}");
         when(jsonMapper.readValue("{\"id\":\"item-456\"}", Item.class)).thenReturn(item);
 
@@ -271,6 +281,42 @@ class ItemImportServiceTest {
                 itemSourceDir.resolve(DirectoryDefinitions.MODELS_DIR),
                 itemTargetDir.resolve(DirectoryDefinitions.MODELS_DIR)
         );
-        verify(saveItemUseCase).save(item);
+        verify(generateImageVariantsUseCase).generateImageVariants("item-456", List.of("001.jpg"));
+        verify(saveItemUseCase).saveAll(List.of(item));
+        assertThat(item.getVersion()).isNull();
     }
+
+    @Test
+    void testImportItemsSavesItemsInBatches() {
+        // Given
+        ImportContext importContext = ImportContext.builder()
+                .importDir(Path.of("import-dir"))
+                .build();
+
+        List<String> itemIds = IntStream.range(0, SaveItemUseCase.SAVE_BATCH_SIZE + 1)
+                .mapToObj(i -> "item-" + i)
+                .toList();
+
+        Path itemSourceDir = Path.of("item-source-dir");
+        when(fileRepository.getDirFromId(eq(importContext.getImportDir().resolve(DirectoryDefinitions.ITEMS_DIR)), any()))
+                .thenReturn(itemSourceDir);
+        when(fileRepository.exists(itemSourceDir.resolve(ITEM_EXCHANGE_FILENAME_JSON))).thenReturn(true);
+        when(fileRepository.read(itemSourceDir.resolve(ITEM_EXCHANGE_FILENAME_JSON))).thenReturn("{}");
+        when(jsonMapper.readValue("{}", Item.class)).thenAnswer(_ -> new Item());
+
+        Path itemsDir = Path.of("items");
+        when(useProjectDirsUseCase.getItemsDir()).thenReturn(itemsDir);
+        when(fileRepository.getDirFromId(eq(itemsDir), any())).thenReturn(Path.of("item-target-dir"));
+
+        // When
+        service.importItems(importContext, itemIds);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Item>> itemsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(saveItemUseCase, times(2)).saveAll(itemsCaptor.capture());
+        assertThat(itemsCaptor.getAllValues()).extracting(Collection::size)
+                .containsExactly(SaveItemUseCase.SAVE_BATCH_SIZE, 1);
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.arassec.artivact.application.service.item;
 
+import com.arassec.artivact.application.port.in.item.GenerateImageVariantsUseCase;
 import com.arassec.artivact.application.port.in.item.LoadItemUseCase;
 import com.arassec.artivact.application.port.in.item.SaveItemUseCase;
 import com.arassec.artivact.application.port.in.operation.RunBackgroundOperationUseCase;
@@ -28,6 +29,7 @@ import java.nio.file.Path;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -45,31 +47,32 @@ class ManageItemImagesServiceTest {
     @Mock
     private SaveItemUseCase saveItemUseCase;
     @Mock
+    private GenerateImageVariantsUseCase generateImageVariantsUseCase;
+    @Mock
     private FileRepository fileRepository;
 
     @InjectMocks
     private ManageItemImagesService service;
 
     @Test
-    void testLoadImageReturnsBytes() {
-        Path path = Path.of("test.png");
+    void testLoadImageReturnsFile() {
         FileSystemResource fsr = mock(FileSystemResource.class);
-        when(fileRepository.loadImage(any(), any(), any(), any(), any())).thenReturn(fsr);
-        when(fsr.getFile()).thenReturn(path.toFile());
-        when(fileRepository.readBytes(path)).thenReturn(new byte[]{1, 2, 3});
+        when(generateImageVariantsUseCase.loadImageVariant("id", "file", ImageSize.ITEM_CARD, Set.of())).thenReturn(fsr);
 
-        byte[] result = service.loadImage("id", "file", ImageSize.ORIGINAL);
+        FileSystemResource result = service.loadImage("id", "file", ImageSize.ITEM_CARD, Set.of());
 
-        assertThat(result).containsExactly(1, 2, 3);
+        assertThat(result).isSameAs(fsr);
+        verify(fileRepository, never()).readBytes(any());
     }
 
     @Test
     void testSaveImageDelegatesToFileRepository() {
         InputStream stream = mock(InputStream.class);
+        when(fileRepository.saveFile(any(), eq("id"), eq("file"), eq(stream), any(), isNull(), eq(true))).thenReturn("001.png");
 
         service.saveImage("id", "file", stream, true);
 
-        verify(fileRepository).saveFile(any(), eq("id"), eq("file"), eq(stream), any(), isNull(), eq(true));
+        verify(generateImageVariantsUseCase).generateImageVariants("id", List.of("001.png"));
     }
 
     @Test
@@ -85,6 +88,7 @@ class ManageItemImagesServiceTest {
         service.addImage("id", file);
 
         verify(saveItemUseCase).save(item);
+        verify(generateImageVariantsUseCase).generateImageVariants("id", List.of("f.png"));
     }
 
     @Test
@@ -169,6 +173,7 @@ class ManageItemImagesServiceTest {
         service.transferImageToMedia("id", asset);
 
         verify(saveItemUseCase).save(item);
+        verify(generateImageVariantsUseCase).generateImageVariants("id", List.of("1.png"));
     }
 
     @Test
@@ -207,6 +212,7 @@ class ManageItemImagesServiceTest {
         verify(fileRepository, times(2)).copy(any(Path.class), any(), any());
         verify(saveItemUseCase).save(item);
         assertThat(item.getMediaContent().getImages()).contains("asset1.png", "asset2.png");
+        verify(generateImageVariantsUseCase).generateImageVariants("id", List.of("asset1.png", "asset2.png"));
     }
 
     @Test
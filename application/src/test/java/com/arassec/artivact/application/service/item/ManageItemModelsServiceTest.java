@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -45,14 +46,13 @@ class ManageItemModelsServiceTest {
     private ManageItemModelsService service;
 
     @Test
-    void testLoadModelReturnsBytes() {
+    void testLoadModelReturnsFile() {
         Path path = Path.of("items/123/456/123456/models/test.glb");
-        when(fileRepository.readBytes(path)).thenReturn(new byte[]{1, 2});
         when(useProjectDirsUseCase.getItemsDir()).thenReturn(Path.of("items"));
 
-        byte[] result = service.loadModel("123456", "test.glb");
+        FileSystemResource result = service.loadModel("123456", "test.glb");
 
-        assertThat(result).containsExactly(1, 2);
+        assertThat(result.getFile().toPath()).isEqualTo(path);
     }
 
     @Test
@@ -148,7 +148,7 @@ class ManageItemModelsServiceTest {
     }
 
     @Test
-    void testLoadModelSetFileReturnsFileContents() {
+    void testLoadModelSetFileReturnsFile() {
         Path dir = Path.of("models-dir");
         Path modelFile = Path.of("").toAbsolutePath().normalize().resolve(dir).resolve("model.glb");
 
@@ -158,11 +158,10 @@ class ManageItemModelsServiceTest {
         when(loadItemUseCase.loadTranslatedRestricted("id")).thenReturn(item);
         when(item.getMediaCreationContent().getModelSets()).thenReturn(new LinkedList<>(List.of(modelSet)));
         when(useProjectDirsUseCase.getProjectRoot()).thenReturn(Path.of(""));
-        when(fileRepository.readBytes(modelFile)).thenReturn("model".getBytes());
 
-        byte[] result = service.loadModelSetFile("id", 0, "model.glb");
+        FileSystemResource result = service.loadModelSetFile("id", 0, "model.glb");
 
-        assertThat(result).isEqualTo("model".getBytes());
+        assertThat(result.getFile().toPath()).isEqualTo(modelFile);
     }
 
     @Test
@@ -15,6 +15,7 @@ import com.arassec.artivact.domain.model.item.MediaCreationContent;
 import com.arassec.artivact.domain.model.misc.DirectoryDefinitions;
 import com.arassec.artivact.domain.model.property.Property;
 import com.arassec.artivact.domain.model.property.PropertyCategory;
+import com.arassec.artivact.domain.model.search.ItemCard;
 import com.arassec.artivact.domain.model.tag.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -136,6 +137,19 @@ class ManageItemServiceTest {
                 .isInstanceOf(NoSuchElementException.class);
     }
 
+    /**
+     * Tests loading item cards from the repository.
+     */
+    @Test
+    void testLoadTranslatedItemCards() {
+        ItemCard itemCard = ItemCard.builder().itemId("id").build();
+        when(itemRepository.findItemCardsById(List.of("id"))).thenReturn(List.of(itemCard));
+
+        assertThat(service.loadTranslatedItemCards(List.of("id"))).containsExactly(itemCard);
+        assertThat(service.loadTranslatedItemCards(List.of())).isEmpty();
+        verify(itemRepository, times(1)).findItemCardsById(anyList());
+    }
+
     /**
      * Tests that saving an item deletes dangling files (images and models) and updates the search index.
      */
@@ -181,10 +195,12 @@ class ManageItemServiceTest {
         verify(itemRepository).save(argCap.capture());
         assertThat(argCap.getValue().getMediaContent().getImages()).hasSize(1).containsExactly("img1.jpg");
         assertThat(argCap.getValue().getMediaContent().getModels()).hasSize(1).containsExactly("model1.glb");
+        assertThat(argCap.getValue().getLastModified()).isNotNull();
 
         // Verify dangling image deletion (original + scaled versions)
         verify(fileRepository).delete(Path.of("items/id1/images/img2.jpg"));
         verify(fileRepository, atLeastOnce()).delete(argThat(path -> path.toString().contains("img2.jpg") && path.toString().contains("-"))); // Scaled versions
+        verify(fileRepository).delete(Path.of("items/id1/images/ITEM_CARD-img2.jpg.webp"));
 
         // Verify dangling model deletion
         verify(fileRepository).delete(Path.of("items/id1/models/model2.glb"));
@@ -193,6 +209,31 @@ class ManageItemServiceTest {
         verify(itemRepository).save(item);
     }
 
+    /**
+     * Tests that saving multiple items saves them and updates the search index at once.
+     */
+    @Test
+    void testSaveAll() {
+        Item item1 = new Item();
+        item1.setId("id1");
+        Item item2 = new Item();
+        item2.setId("id2");
+        List<Item> items = List.of(item1, item2);
+
+        when(useProjectDirsUseCase.getItemsDir()).thenReturn(Path.of("items"));
+        when(fileRepository.getDirFromId(any(), any())).thenReturn(Path.of("items/id"));
+        when(itemRepository.saveAll(items)).thenReturn(items);
+
+        List<Item> result = service.saveAll(items);
+
+        assertThat(result).isEqualTo(items);
+        assertThat(item1.getLastModified()).isNotNull();
+        assertThat(item2.getLastModified()).isNotNull();
+        verify(itemRepository, never()).save(any());
+        verify(manageSearchIndexUseCase).updateIndex(items);
+        verify(manageSearchIndexUseCase, never()).updateIndex(any(Item.class));
+    }
+
     /**
      * Tests that deleting an item removes it from the repository and filesystem.
      */
@@ -207,6 +248,7 @@ class ManageItemServiceTest {
 
         verify(favoriteRepository).deleteByItemId("id");
         verify(itemRepository).deleteById("id");
+        verify(manageSearchIndexUseCase).removeFromIndex("id");
         verify(fileRepository).deleteAndPruneEmptyParents(itemDirPath);
     }
 
@@ -245,4 +287,19 @@ class ManageItemServiceTest {
         assertThat(result).containsExactly(item);
     }
 
+    /**
+     * Tests that streaming items with a tag loads at most the requested number of items found by the repository.
+     */
+    @Test
+    void testStreamWithTagLoadsLimitedItems() {
+        Item first = new Item();
+        Item second = new Item();
+        when(itemRepository.findItemIdsByTag("tag-id")).thenReturn(List.of("i1", "i2", "i3"));
+        when(itemRepository.findAllById(List.of("i1", "i2"))).thenReturn(List.of(first, second));
+
+        List<Item> result = service.streamWithTag("tag-id", 2).toList();
+
+        assertThat(result).containsExactly(first, second);
+    }
+
 }
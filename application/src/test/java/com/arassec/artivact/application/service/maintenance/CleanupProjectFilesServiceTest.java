@@ -6,7 +6,9 @@ import com.arassec.artivact.application.port.in.menu.LoadMenuUseCase;
 import com.arassec.artivact.application.port.in.menu.SaveMenuUseCase;
 import com.arassec.artivact.application.port.in.page.LoadPageContentUseCase;
 import com.arassec.artivact.application.port.in.page.SavePageContentUseCase;
+import com.arassec.artivact.application.port.in.project.UseProjectDirsUseCase;
 import com.arassec.artivact.application.port.in.search.SearchItemsUseCase;
+import com.arassec.artivact.application.port.out.repository.FileRepository;
 import com.arassec.artivact.domain.model.Roles;
 import com.arassec.artivact.domain.model.configuration.AppearanceConfiguration;
 import com.arassec.artivact.domain.model.configuration.PropertiesConfiguration;
@@ -20,8 +22,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.mockito.Mockito.*;
 
@@ -70,6 +74,12 @@ class CleanupProjectFilesServiceTest {
     @Mock
     private SaveItemUseCase saveItemUseCase;
 
+    @Mock
+    private UseProjectDirsUseCase useProjectDirsUseCase;
+
+    @Mock
+    private FileRepository fileRepository;
+
     @Test
     void testCleanup() {
         service.cleanup();
@@ -77,7 +87,20 @@ class CleanupProjectFilesServiceTest {
         verify(loadPropertiesConfigurationUseCase).loadPropertiesConfiguration();
         verify(loadTagsConfigurationUseCase).loadTagsConfiguration();
         verify(loadAppearanceConfigurationUseCase).loadTranslatedAppearanceConfiguration();
-        verify(searchItemsUseCase).search("*", Integer.MAX_VALUE);
+        verify(searchItemsUseCase).stream("*", Integer.MAX_VALUE);
+    }
+
+    @Test
+    void shouldDeleteStaleTemporaryImagesDuringCleanup() {
+        Path itemsDir = Path.of("items");
+        Path widgetsDir = Path.of("widgets");
+        when(useProjectDirsUseCase.getItemsDir()).thenReturn(itemsDir);
+        when(useProjectDirsUseCase.getWidgetsDir()).thenReturn(widgetsDir);
+
+        service.cleanup();
+
+        verify(fileRepository).deleteStaleTemporaryImages(itemsDir);
+        verify(fileRepository).deleteStaleTemporaryImages(widgetsDir);
     }
 
     @Test
@@ -92,7 +115,7 @@ class CleanupProjectFilesServiceTest {
         when(loadPropertiesConfigurationUseCase.loadPropertiesConfiguration()).thenReturn(propertiesConfig);
         when(loadTagsConfigurationUseCase.loadTagsConfiguration()).thenReturn(tagsConfig);
         when(loadAppearanceConfigurationUseCase.loadTranslatedAppearanceConfiguration()).thenReturn(appearanceConfig);
-        when(searchItemsUseCase.search("*", Integer.MAX_VALUE)).thenReturn(List.of(item));
+        when(searchItemsUseCase.stream("*", Integer.MAX_VALUE)).thenReturn(Stream.of(item));
 
         // When
         service.cleanup();
@@ -101,7 +124,7 @@ class CleanupProjectFilesServiceTest {
         verify(savePropertiesConfigurationUseCase).savePropertiesConfiguration(propertiesConfig);
         verify(saveTagsConfigurationUseCase).saveTagsConfiguration(tagsConfig);
         verify(saveAppearanceConfigurationUseCase).saveAppearanceConfiguration(appearanceConfig);
-        verify(saveItemUseCase).save(item);
+        verify(saveItemUseCase).saveAll(List.of(item));
     }
 
     @Test
@@ -121,7 +144,7 @@ class CleanupProjectFilesServiceTest {
         when(loadPropertiesConfigurationUseCase.loadPropertiesConfiguration()).thenReturn(mock(PropertiesConfiguration.class));
         when(loadTagsConfigurationUseCase.loadTagsConfiguration()).thenReturn(mock(TagsConfiguration.class));
         when(loadAppearanceConfigurationUseCase.loadTranslatedAppearanceConfiguration()).thenReturn(mock(AppearanceConfiguration.class));
-        when(searchItemsUseCase.search("*", Integer.MAX_VALUE)).thenReturn(List.of());
+        when(searchItemsUseCase.stream("*", Integer.MAX_VALUE)).thenReturn(Stream.empty());
 
         // When
         service.cleanup();
@@ -142,7 +165,7 @@ class CleanupProjectFilesServiceTest {
         when(loadPropertiesConfigurationUseCase.loadPropertiesConfiguration()).thenReturn(mock(PropertiesConfiguration.class));
         when(loadTagsConfigurationUseCase.loadTagsConfiguration()).thenReturn(mock(TagsConfiguration.class));
         when(loadAppearanceConfigurationUseCase.loadTranslatedAppearanceConfiguration()).thenReturn(mock(AppearanceConfiguration.class));
-        when(searchItemsUseCase.search("*", Integer.MAX_VALUE)).thenReturn(List.of());
+        when(searchItemsUseCase.stream("*", Integer.MAX_VALUE)).thenReturn(Stream.empty());
 
         // When
         service.cleanup();
@@ -173,7 +196,7 @@ class CleanupProjectFilesServiceTest {
         when(loadPropertiesConfigurationUseCase.loadPropertiesConfiguration()).thenReturn(mock(PropertiesConfiguration.class));
         when(loadTagsConfigurationUseCase.loadTagsConfiguration()).thenReturn(mock(TagsConfiguration.class));
         when(loadAppearanceConfigurationUseCase.loadTranslatedAppearanceConfiguration()).thenReturn(mock(AppearanceConfiguration.class));
-        when(searchItemsUseCase.search("*", Integer.MAX_VALUE)).thenReturn(List.of());
+        when(searchItemsUseCase.stream("*", Integer.MAX_VALUE)).thenReturn(Stream.empty());
 
         // When
         service.cleanup();
@@ -4,13 +4,13 @@ import com.arassec.artivact.application.port.in.page.CreatePageUseCase;
 import com.arassec.artivact.application.port.in.page.DeletePageUseCase;
 import com.arassec.artivact.application.port.in.page.UpdatePageAliasUseCase;
 import com.arassec.artivact.application.port.out.repository.MenuRepository;
+import com.arassec.artivact.application.service.page.PageContentRevision;
 import com.arassec.artivact.domain.exception.ArtivactException;
 import com.arassec.artivact.domain.model.menu.Menu;
 import com.arassec.artivact.domain.model.page.Page;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -37,7 +37,6 @@ class ManageMenuServiceTest {
     @Mock
     private DeletePageUseCase deletePageUseCase;
 
-    @InjectMocks
     private ManageMenuService manageMenuService;
 
     private List<Menu> menus;
@@ -46,6 +45,8 @@ class ManageMenuServiceTest {
     void setup() {
         menus = new LinkedList<>();
         lenient().when(menuRepository.load()).thenReturn(menus);
+        manageMenuService = new ManageMenuService(menuRepository, new MenuIndex(menuRepository), updatePageAliasUseCase,
+                createPageUseCase, deletePageUseCase, new PageContentRevision());
     }
 
     @Test
@@ -185,7 +186,37 @@ class ManageMenuServiceTest {
         menus.add(menu);
 
         Menu result = manageMenuService.loadMenu("menu1");
-        assertThat(result).isEqualTo(menu);
+        assertThat(result.getId()).isEqualTo("menu1");
+        assertThat(result).isNotSameAs(menu);
+    }
+
+    @Test
+    void testLoadMenuFindsMenuEntry() {
+        Menu menuEntry = new Menu();
+        menuEntry.setId("entry1");
+        Menu menu = new Menu();
+        menu.setId("menu1");
+        menu.getMenuEntries().add(menuEntry);
+        menus.add(menu);
+
+        assertThat(manageMenuService.loadMenu("entry1").getId()).isEqualTo("entry1");
+    }
+
+    @Test
+    void testLoadTranslatedRestrictedMenusUsesIndexUntilMenusChange() {
+        Menu menu = new Menu();
+        menu.setId("menu1");
+        menu.setValue("Menu");
+        menus.add(menu);
+
+        manageMenuService.loadTranslatedRestrictedMenus();
+        manageMenuService.loadTranslatedRestrictedMenus().getFirst().setValue("changed");
+        assertThat(manageMenuService.loadTranslatedRestrictedMenus().getFirst().getValue()).isEqualTo("Menu");
+        verify(menuRepository, times(1)).load();
+
+        manageMenuService.saveMenus(List.of(menu));
+        manageMenuService.loadTranslatedRestrictedMenus();
+        verify(menuRepository, times(3)).load();
     }
 
     @Test
@@ -0,0 +1,92 @@
+package com.arassec.artivact.application.service.menu;
+
+import com.arassec.artivact.application.port.out.repository.MenuRepository;
+import com.arassec.artivact.domain.model.menu.Menu;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MenuIndexTest {
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    private MenuIndex menuIndex;
+
+    @BeforeEach
+    void setUp() {
+        menuIndex = new MenuIndex(menuRepository);
+    }
+
+    @Test
+    void testFindRestrictions() {
+        Menu inheritingEntry = new Menu();
+        inheritingEntry.setId("entry1");
+        inheritingEntry.setTargetPageId("page2");
+
+        Menu restrictedEntry = new Menu();
+        restrictedEntry.setId("entry2");
+        restrictedEntry.setTargetPageId("page3");
+        restrictedEntry.setRestrictions(Set.of("ROLE_ADMIN"));
+
+        Menu menu = new Menu();
+        menu.setId("menu1");
+        menu.setTargetPageId("page1");
+        menu.setRestrictions(Set.of("ROLE_USER"));
+        menu.setMenuEntries(List.of(inheritingEntry, restrictedEntry));
+
+        when(menuRepository.load()).thenReturn(List.of(menu));
+
+        assertThat(menuIndex.findRestrictions("page1")).containsExactly("ROLE_USER");
+        assertThat(menuIndex.findRestrictions("page2")).containsExactly("ROLE_USER");
+        assertThat(menuIndex.findRestrictions("page3")).containsExactly("ROLE_ADMIN");
+        assertThat(menuIndex.findRestrictions("unknown")).isEmpty();
+        assertThat(menuIndex.containsPage("page3")).isTrue();
+        assertThat(menuIndex.containsPage("unknown")).isFalse();
+
+        verify(menuRepository, times(1)).load();
+    }
+
+    @Test
+    void testGetMenusReturnsSortedCopies() {
+        Menu second = new Menu();
+        second.setId("second");
+        second.setIndex(1);
+
+        Menu first = new Menu();
+        first.setId("first");
+        first.setIndex(0);
+
+        when(menuRepository.load()).thenReturn(List.of(second, first));
+
+        List<Menu> menus = menuIndex.getMenus();
+        assertThat(menus).extracting(Menu::getId).containsExactly("first", "second");
+
+        menus.getFirst().setValue("changed");
+        menus.clear();
+
+        assertThat(menuIndex.getMenus()).hasSize(2);
+        assertThat(menuIndex.findMenu("first").orElseThrow().getValue()).isNull();
+    }
+
+    @Test
+    void testInvalidate() {
+        when(menuRepository.load()).thenReturn(List.of());
+
+        menuIndex.getMenus();
+        menuIndex.invalidate();
+        menuIndex.getMenus();
+
+        verify(menuRepository, times(2)).load();
+    }
+
+}
@@ -5,6 +5,7 @@ import com.arassec.artivact.application.port.out.repository.ConfigurationReposit
 import com.arassec.artivact.application.port.out.repository.FileRepository;
 import com.arassec.artivact.application.port.out.repository.MenuRepository;
 import com.arassec.artivact.application.port.out.repository.PageRepository;
+import com.arassec.artivact.application.service.menu.MenuIndex;
 import com.arassec.artivact.domain.exception.ArtivactException;
 import com.arassec.artivact.domain.model.Roles;
 import com.arassec.artivact.domain.model.configuration.AppearanceConfiguration;
@@ -14,7 +15,6 @@ import com.arassec.artivact.domain.model.page.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.multipart.MultipartFile;
@@ -52,7 +52,8 @@ class ManagePageServiceTest {
     @Mock
     private JsonMapper jsonMapper;
 
-    @InjectMocks
+    private final PageContentRevision pageContentRevision = new PageContentRevision();
+
     private ManagePageService service;
 
     private Page page;
@@ -61,6 +62,9 @@ class ManagePageServiceTest {
 
     @BeforeEach
     void setUp() {
+        service = new ManagePageService(pageRepository, new MenuIndex(menuRepository), configurationRepository,
+                fileRepository, jsonMapper, useProjectDirsUseCase, pageContentRevision);
+
         pageContent = new PageContent();
         pageContent.setWidgets(new ArrayList<>());
 
@@ -105,6 +109,7 @@ class ManagePageServiceTest {
 
         assertThat(page.getAlias()).isEqualTo("alias-123");
         verify(pageRepository).save(page);
+        assertThat(service.loadPageContentRevision()).isEqualTo(1);
     }
 
     @Test
@@ -285,9 +290,12 @@ class ManagePageServiceTest {
         assertThat(resetContent).isEqualTo(pageContent);
         verify(pageRepository, atLeastOnce()).save(page);
 
+        long revision = service.loadPageContentRevision();
+
         PageContent publishedContent = service.publishWipPageContent("page-1");
         assertThat(publishedContent).isEqualTo(page.getWipPageContent());
         verify(pageRepository, atLeastOnce()).save(page);
+        assertThat(service.loadPageContentRevision()).isGreaterThan(revision);
     }
 
     @Test
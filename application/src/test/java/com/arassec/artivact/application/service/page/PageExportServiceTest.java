@@ -11,6 +11,8 @@ import com.arassec.artivact.domain.model.item.Item;
 import com.arassec.artivact.domain.model.misc.DirectoryDefinitions;
 import com.arassec.artivact.domain.model.page.PageContent;
 import com.arassec.artivact.domain.model.page.widget.*;
+import com.arassec.artivact.domain.model.search.ItemSort;
+import com.arassec.artivact.domain.model.search.ItemSortField;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -538,6 +540,7 @@ class PageExportServiceTest {
         widget.setRestrictions(Set.of());
         widget.setSearchTerm("query");
         widget.setMaxResults(10);
+        widget.setSortField("TITLE");
         widget.setHeading(createTranslatableString("h", "t-h"));
         widget.setContent(createTranslatableString("c", "t-c"));
 
@@ -549,7 +552,7 @@ class PageExportServiceTest {
         Item item2 = new Item();
         item2.setId("item-2");
 
-        when(searchItemsUseCase.search("query", 10)).thenReturn(List.of(item1, item2));
+        when(searchItemsUseCase.search("query", 10, ItemSort.by(ItemSortField.TITLE))).thenReturn(List.of(item1, item2));
 
         Path widgetExportDir = Path.of("widget-export");
         when(fileRepository.getDirFromId(exportDir.resolve(DirectoryDefinitions.WIDGETS_DIR), "search-1"))
@@ -593,7 +596,7 @@ class PageExportServiceTest {
         service.exportPage(ctx, "page-search-excluded", content);
 
         // Then
-        verify(searchItemsUseCase, never()).search(any(), anyInt());
+        verify(searchItemsUseCase, never()).search(any(), anyInt(), any());
         verify(exportItemUseCase, never()).exportItem(any(), any(Item.class));
     }
 
@@ -619,7 +622,7 @@ class PageExportServiceTest {
         restricted.setId("item-restricted");
         restricted.setRestrictions(Set.of("ROLE_ADMIN"));
 
-        when(searchItemsUseCase.search("all", 10)).thenReturn(List.of(unrestricted, restricted));
+        when(searchItemsUseCase.search(eq("all"), eq(10), any(ItemSort.class))).thenReturn(List.of(unrestricted, restricted));
 
         Path widgetExportDir = Path.of("widget-filtered");
         when(fileRepository.getDirFromId(exportDir.resolve(DirectoryDefinitions.WIDGETS_DIR), "search-filtered"))
@@ -655,7 +658,7 @@ class PageExportServiceTest {
         PageContent content = createPageContent("page-search-null", Set.of(), widget);
         ExportContext ctx = createContext(false, false);
 
-        when(searchItemsUseCase.search("nothing", 5)).thenReturn(null);
+        when(searchItemsUseCase.search(eq("nothing"), eq(5), any(ItemSort.class))).thenReturn(null);
 
         // When
         service.exportPage(ctx, "page-search-null", content);
@@ -682,7 +685,7 @@ class PageExportServiceTest {
         PageContent content = createPageContent("page-search-empty", Set.of(), widget);
         ExportContext ctx = createContext(false, false);
 
-        when(searchItemsUseCase.search("empty", 5)).thenReturn(Collections.emptyList());
+        when(searchItemsUseCase.search(eq("empty"), eq(5), any(ItemSort.class))).thenReturn(Collections.emptyList());
 
         // When
         service.exportPage(ctx, "page-search-empty", content);
@@ -90,8 +90,7 @@ class PageImportServiceTest {
         service.importPage(importContext, "page-1", null);
 
         // Then
-        verify(importItemUseCase).importItem(importContext, "item-1");
-        verify(importItemUseCase).importItem(importContext, "item-2");
+        verify(importItemUseCase).importItems(importContext, List.of("item-1", "item-2"));
         verify(savePageContentUseCase).savePageContent("page-1", Set.of(), pageContent);
         verify(updatePageAliasUseCase, never()).updatePageAlias(any(), any());
     }
@@ -125,7 +124,7 @@ class PageImportServiceTest {
 
         // Then
         verify(importItemUseCase, never()).importItem(any(Path.class), any());
-        verify(importItemUseCase, never()).importItem(any(ImportContext.class), any());
+        verify(importItemUseCase, never()).importItems(any(), any());
         verify(savePageContentUseCase).savePageContent("page-2", Set.of(), pageContent);
         verify(updatePageAliasUseCase, never()).updatePageAlias(any(), any());
     }
@@ -164,7 +163,7 @@ class PageImportServiceTest {
         // Then
         verify(fileRepository).copy(widgetSource, widgetTarget);
         verify(importItemUseCase, never()).importItem(any(Path.class), any());
-        verify(importItemUseCase, never()).importItem(any(ImportContext.class), any());
+        verify(importItemUseCase, never()).importItems(any(), any());
         verify(savePageContentUseCase).savePageContent("page-3", Set.of(), pageContent);
     }
 
@@ -275,7 +274,7 @@ class PageImportServiceTest {
         service.importPage(importContext, "page-6", "alias-6");
 
         // Then
-        verify(importItemUseCase).importItem(importContext, "item-x");
+        verify(importItemUseCase).importItems(importContext, List.of("item-x"));
         verify(fileRepository).copy(textWidgetSource, textWidgetTarget);
         verify(savePageContentUseCase).savePageContent("page-6", Set.of(), pageContent);
         verify(updatePageAliasUseCase).updatePageAlias("page-6", "alias-6");
@@ -159,4 +159,13 @@ class ProjectInitializationServiceTest {
         verify(manageSearchIndexUseCase, times(1)).recreateIndex();
     }
 
+    @Test
+    void testInitializeSearchIndexIsRecreatedIfOutdated() {
+        when(manageSearchIndexUseCase.isIndexOutdated()).thenReturn(true);
+
+        service.initialize();
+
+        verify(manageSearchIndexUseCase, times(1)).recreateIndex();
+    }
+
 }
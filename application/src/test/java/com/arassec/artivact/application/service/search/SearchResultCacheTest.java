@@ -0,0 +1,122 @@
+package com.arassec.artivact.application.service.search;
+
+import com.arassec.artivact.domain.model.TranslatableString;
+import com.arassec.artivact.domain.model.search.ItemCard;
+import com.arassec.artivact.domain.model.search.ItemSearchResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the {@link SearchResultCache}.
+ */
+class SearchResultCacheTest {
+
+    /**
+     * Cache under test.
+     */
+    private final SearchResultCache searchResultCache = new SearchResultCache();
+
+    /**
+     * Tests that cached results are returned and hits and misses are counted.
+     */
+    @Test
+    void testGetCountsHitsAndMisses() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        searchResultCache.bindTo(meterRegistry);
+
+        AtomicInteger searches = new AtomicInteger();
+        SearchResultCache.Key key = createKey("query", 0);
+
+        ItemSearchResult first = searchResultCache.get(key, () -> createResult(searches));
+        ItemSearchResult second = searchResultCache.get(createKey("query", 0), () -> createResult(searches));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getTotalHits()).isEqualTo(first.getTotalHits());
+        assertThat(searches.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("artivact.search.cache.requests").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("artivact.search.cache.requests").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("artivact.search.cache.size").gauge().value()).isEqualTo(1);
+    }
+
+    /**
+     * Tests that translating a returned result does not modify the cached result.
+     */
+    @Test
+    void testTranslatingResultDoesNotModifyCachedResult() {
+        SearchResultCache.Key key = createKey("query", 0);
+        TranslatableString title = new TranslatableString("title", null, Map.of("de", "Titel"));
+
+        ItemSearchResult first = searchResultCache.get(key,
+                () -> new ItemSearchResult(1, List.of(ItemCard.builder().itemId("123").title(title).build())));
+        first.getItemCards().getFirst().getTitle().translate("de");
+
+        ItemSearchResult second = searchResultCache.get(key, ItemSearchResult::new);
+
+        assertThat(title.getTranslatedValue()).isNull();
+        assertThat(second.getItemCards().getFirst().getItemId()).isEqualTo("123");
+        assertThat(second.getItemCards().getFirst().getTitle().getTranslatedValue()).isNull();
+        assertThat(second.getItemCards().getFirst().getTitle().resolve("de")).isEqualTo("Titel");
+    }
+
+    /**
+     * Tests that results are not cached shortly after an invalidation, since the search index might not yet reflect
+     * the latest changes.
+     */
+    @Test
+    void testInvalidate() {
+        AtomicInteger searches = new AtomicInteger();
+        searchResultCache.get(createKey("query", 0), () -> createResult(searches));
+
+        searchResultCache.invalidate();
+        assertThat(searchResultCache.size()).isZero();
+
+        searchResultCache.get(createKey("query", 0), () -> createResult(searches));
+        assertThat(searchResultCache.size()).isZero();
+        assertThat(searches.get()).isEqualTo(2);
+    }
+
+    /**
+     * Tests that results computed before an invalidation are not cached.
+     */
+    @Test
+    void testResultsOfOutdatedGenerationAreNotCached() {
+        searchResultCache.get(createKey("query", 0), () -> {
+            searchResultCache.invalidate();
+            return new ItemSearchResult();
+        });
+        assertThat(searchResultCache.size()).isZero();
+    }
+
+    /**
+     * Tests that the number of cached results is bounded.
+     */
+    @Test
+    void testCacheIsBounded() {
+        AtomicInteger searches = new AtomicInteger();
+        for (int i = 0; i <= SearchResultCache.MAX_ENTRIES; i++) {
+            searchResultCache.get(createKey("query", i), () -> createResult(searches));
+        }
+        assertThat(searchResultCache.size()).isEqualTo(SearchResultCache.MAX_ENTRIES);
+
+        // The least recently used entry has been evicted:
+        searchResultCache.get(createKey("query", 0), () -> createResult(searches));
+        assertThat(searches.get()).isEqualTo(SearchResultCache.MAX_ENTRIES + 2);
+    }
+
+    private SearchResultCache.Key createKey(String query, int pageNumber) {
+        return new SearchResultCache.Key(query, "en", Set.of("ROLE_USER"), null, null, pageNumber, 10, 100);
+    }
+
+    private ItemSearchResult createResult(AtomicInteger searches) {
+        searches.incrementAndGet();
+        return new ItemSearchResult(1, List.of());
+    }
+
+}
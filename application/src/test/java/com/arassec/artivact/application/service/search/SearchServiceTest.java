@@ -2,21 +2,37 @@ package com.arassec.artivact.application.service.search;
 
 import com.arassec.artivact.application.port.out.gateway.SearchGateway;
 import com.arassec.artivact.application.port.out.repository.ItemRepository;
+import com.arassec.artivact.domain.exception.ArtivactException;
+import com.arassec.artivact.domain.model.TranslatableString;
 import com.arassec.artivact.domain.model.item.Item;
+import com.arassec.artivact.domain.model.misc.ProgressMonitor;
+import com.arassec.artivact.domain.model.search.ItemSearchResult;
+import com.arassec.artivact.domain.model.search.ItemCard;
+import com.arassec.artivact.domain.model.search.ItemFacetQuery;
+import com.arassec.artivact.domain.model.search.ItemSort;
+import com.arassec.artivact.domain.model.search.ItemSortField;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.Mockito.*;
 
 class SearchServiceTest {
 
     private ItemRepository itemRepository;
     private SearchGateway searchGateway;
+    private SearchResultCache searchResultCache;
     private SearchService searchService;
 
     @BeforeEach
@@ -24,21 +40,99 @@ class SearchServiceTest {
         itemRepository = mock(ItemRepository.class);
         searchGateway = mock(SearchGateway.class);
         JsonMapper jsonMapper = JsonMapper.builder().build();
-        searchService = new SearchService(itemRepository, searchGateway, jsonMapper);
+        searchResultCache = new SearchResultCache();
+        searchService = new SearchService(itemRepository, searchGateway, searchResultCache, jsonMapper);
     }
 
     @Test
     void testRecreateIndex() {
         Item item1 = new Item();
         Item item2 = new Item();
-        when(itemRepository.findAll()).thenReturn(List.of(item1, item2));
+        when(itemRepository.count()).thenReturn(2L);
+        when(itemRepository.streamAllChunks(250)).thenReturn(Stream.of(() -> List.of(item1, item2)));
 
         searchService.recreateIndex();
 
         verify(searchGateway).prepareIndexing(false);
-        verify(searchGateway).updateIndex(item1, false);
-        verify(searchGateway).updateIndex(item2, false);
+        verify(searchGateway).addToIndex(List.of(item1, item2));
         verify(searchGateway).finalizeIndexing();
+        verify(itemRepository, never()).findAll();
+    }
+
+    @Test
+    void testRecreateIndexInBatchesWithProgress() {
+        when(itemRepository.count()).thenReturn(501L);
+        when(itemRepository.streamAllChunks(250)).thenReturn(Stream.of(
+                () -> Stream.generate(Item::new).limit(250).toList(),
+                () -> Stream.generate(Item::new).limit(250).toList(),
+                () -> List.of(new Item())));
+
+        ProgressMonitor progressMonitor = new ProgressMonitor("maintenance", "search");
+        searchService.recreateIndex(progressMonitor);
+
+        verify(searchGateway, times(3)).addToIndex(anyList());
+        verify(searchGateway).finalizeIndexing();
+        assertThat(progressMonitor.getTargetAmount()).isEqualTo(501);
+        assertThat(progressMonitor.getCurrentAmount()).isEqualTo(501);
+    }
+
+    @Test
+    void testRecreateIndexFailsOnBatchError() {
+        when(itemRepository.count()).thenReturn(1L);
+        when(itemRepository.streamAllChunks(250)).thenReturn(Stream.of(() -> List.of(new Item())));
+        doThrow(new IllegalStateException("test")).when(searchGateway).addToIndex(anyList());
+
+        assertThrows(ArtivactException.class, () -> searchService.recreateIndex());
+
+        verify(searchGateway, never()).finalizeIndexing();
+        verify(searchGateway).abortIndexing();
+    }
+
+    @Test
+    void testRecreateIndexStopsSubmittingChunksAfterError() {
+        when(itemRepository.count()).thenReturn(1000L);
+        when(itemRepository.streamAllChunks(250)).thenReturn(Stream.generate(() -> (Supplier<List<Item>>) () -> {
+            throw new IllegalStateException("Could not parse item!");
+        }));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> assertThrows(ArtivactException.class, () -> searchService.recreateIndex()));
+
+        verify(searchGateway, never()).addToIndex(anyList());
+        verify(searchGateway, never()).finalizeIndexing();
+        verify(searchGateway).abortIndexing();
+    }
+
+    @Test
+    void testStreamWithWildcardQuery() {
+        when(itemRepository.streamAll(250)).thenReturn(Stream.generate(Item::new).limit(10));
+
+        try (Stream<Item> items = searchService.stream("*", 5)) {
+            assertThat(items).hasSize(5);
+        }
+
+        verifyNoInteractions(searchGateway);
+    }
+
+    @Test
+    void testStreamWithNormalQuery() {
+        List<String> itemIds = IntStream.range(0, 251).mapToObj(i -> "id" + i).toList();
+        when(searchGateway.search("abc", 300, null)).thenReturn(itemIds);
+        when(itemRepository.findAllById(anyList())).thenAnswer(invocation -> {
+            List<String> chunkItemIds = invocation.getArgument(0);
+            return chunkItemIds.stream().map(itemId -> {
+                Item item = new Item();
+                item.setId(itemId);
+                return item;
+            }).toList();
+        });
+
+        try (Stream<Item> items = searchService.stream("abc", 300)) {
+            assertThat(items).extracting(Item::getId).isEqualTo(itemIds);
+        }
+
+        verify(itemRepository).findAllById(itemIds.subList(0, 250));
+        verify(itemRepository).findAllById(itemIds.subList(250, 251));
     }
 
     @Test
@@ -47,9 +141,20 @@ class SearchServiceTest {
 
         searchService.updateIndex(item);
 
-        verify(searchGateway).prepareIndexing(true);
         verify(searchGateway).updateIndex(item, true);
-        verify(searchGateway).finalizeIndexing();
+        verify(searchGateway, never()).prepareIndexing(anyBoolean());
+        verify(searchGateway, never()).finalizeIndexing();
+    }
+
+    @Test
+    void testUpdateIndexOfMultipleItems() {
+        List<Item> items = List.of(new Item(), new Item());
+
+        searchService.updateIndex(items);
+        searchService.updateIndex(List.of());
+
+        verify(searchGateway).updateIndex(items);
+        verify(searchGateway, never()).updateIndex(any(Item.class), anyBoolean());
     }
 
     @Test
@@ -76,28 +181,140 @@ class SearchServiceTest {
 
     @Test
     void testSearchWithNormalQuery() {
-        when(searchGateway.search("abc", 3)).thenReturn(List.of("id1", "id2"));
+        when(searchGateway.search("abc", 3, null)).thenReturn(List.of("id1", "id2"));
         Item item1 = new Item();
+        item1.setId("id1");
         Item item2 = new Item();
-        when(itemRepository.findAllById(List.of("id1", "id2"))).thenReturn(List.of(item1, item2));
+        item2.setId("id2");
+        when(itemRepository.findAllById(List.of("id1", "id2"))).thenReturn(List.of(item2, item1));
 
-        List<Item> result = searchService.search("abc", 3);
+        List<Item> result = searchService.search("abc", 3, null);
 
-        assertThat(result).containsExactly(item1, item2);
+        assertThat(result).containsExactly(item1, item2); // Keeps the search engine's order.
         assertDoesNotThrow(() -> result.add(new Item())); // Ensure the result is mutable.
-        verify(searchGateway).search("abc", 3);
+        verify(searchGateway).search("abc", 3, null);
         verify(itemRepository).findAllById(List.of("id1", "id2"));
     }
 
     @Test
-    void testSearchTranslatedRestrictedDelegatesToSearch() {
-        Item item = new Item();
-        when(searchGateway.search("xyz", 2)).thenReturn(List.of("id123"));
-        when(itemRepository.findAllById(List.of("id123"))).thenReturn(List.of(item));
+    void testSearchSortsByTitle() {
+        when(searchGateway.search("abc", 3, null)).thenReturn(List.of("id1", "id2", "id3"));
+        Item item1 = new Item();
+        item1.setId("id1");
+        item1.setTitle(new TranslatableString("b"));
+        Item item2 = new Item();
+        item2.setId("id2");
+        item2.setTitle(null);
+        Item item3 = new Item();
+        item3.setId("id3");
+        item3.setTitle(new TranslatableString("a"));
+        when(itemRepository.findAllById(List.of("id1", "id2", "id3"))).thenReturn(List.of(item1, item2, item3));
 
-        List<Item> result = searchService.searchTranslatedRestricted("xyz", 2);
+        List<Item> result = searchService.search("abc", 3);
 
-        assertThat(result).containsExactly(item);
+        assertThat(result).containsExactly(item3, item1, item2);
     }
 
+    @Test
+    void testSearchWithWildcardQueryAndSort() {
+        ItemSort sort = ItemSort.by(ItemSortField.TITLE);
+        when(searchGateway.search("*", 5, sort)).thenReturn(List.of("id2", "id1"));
+        Item item1 = new Item();
+        item1.setId("id1");
+        Item item2 = new Item();
+        item2.setId("id2");
+        when(itemRepository.findAllById(List.of("id2", "id1"))).thenReturn(List.of(item1, item2));
+
+        List<Item> result = searchService.search("*", 5, sort);
+
+        assertThat(result).containsExactly(item2, item1);
+        verify(itemRepository, never()).findAll(anyInt());
+    }
+
+    @Test
+    void testSearchTranslatedRestrictedUsesIndexOnly() {
+        ItemFacetQuery facetQuery = ItemFacetQuery.builder().tagIds(Set.of("tagId")).build();
+        ItemCard itemCard = ItemCard.builder().itemId("id1").build();
+        when(searchGateway.search("xyz", Set.of("ROLE_USER"), ItemSort.by(ItemSortField.LAST_MODIFIED), facetQuery, 10, 10))
+                .thenReturn(new ItemSearchResult(5000, List.of(itemCard)));
+
+        ItemSearchResult result = searchService.searchTranslatedRestricted("xyz", Set.of("ROLE_USER"), ItemSort.by(ItemSortField.LAST_MODIFIED), facetQuery, 1, 10, 100);
+
+        assertThat(result.getTotalHits()).isEqualTo(100);
+        assertThat(result.getItemCards()).containsExactly(itemCard);
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void testSearchTranslatedRestrictedLimitsLastPageToMaxResults() {
+        when(searchGateway.search("xyz", Set.of(), null, null, 8, 2)).thenReturn(new ItemSearchResult(50, List.of()));
+
+        ItemSearchResult result = searchService.searchTranslatedRestricted("xyz", Set.of(), null, null, 2, 4, 10);
+
+        assertThat(result.getTotalHits()).isEqualTo(10);
+        assertThat(result.getItemCards()).isEmpty();
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void testSearchTranslatedRestrictedIsCached() {
+        when(searchGateway.search("xyz", Set.of(), null, null, 0, 10)).thenReturn(new ItemSearchResult(1, List.of()));
+
+        ItemSearchResult first = searchService.searchTranslatedRestricted("xyz", Set.of(), null, null, 0, 10, 100);
+        ItemSearchResult second = searchService.searchTranslatedRestricted("xyz", Set.of(), null, null, 0, 10, 100);
+
+        assertThat(second.getTotalHits()).isEqualTo(first.getTotalHits());
+        verify(searchGateway, times(1)).search("xyz", Set.of(), null, null, 0, 10);
+
+        when(searchGateway.search("xyz", Set.of("ROLE_USER"), null, null, 0, 10)).thenReturn(new ItemSearchResult(2, List.of()));
+
+        ItemSearchResult userResult = searchService.searchTranslatedRestricted("xyz", Set.of("ROLE_USER"), null, null, 0, 10, 100);
+
+        assertThat(userResult).isNotSameAs(first);
+        assertThat(userResult.getTotalHits()).isEqualTo(2);
+        verify(searchGateway).search("xyz", Set.of("ROLE_USER"), null, null, 0, 10);
+    }
+
+    @Test
+    void testIndexChangesInvalidateSearchResultCache() {
+        when(searchGateway.search("xyz", Set.of(), null, null, 0, 10)).thenReturn(new ItemSearchResult(1, List.of()));
+        searchService.searchTranslatedRestricted("xyz", Set.of(), null, null, 0, 10, 100);
+        assertThat(searchResultCache.size()).isEqualTo(1);
+
+        searchService.updateIndex(new Item());
+        assertThat(searchResultCache.size()).isZero();
+
+        searchService.searchTranslatedRestricted("xyz", Set.of(), null, null, 0, 10, 100);
+        verify(searchGateway, times(2)).search("xyz", Set.of(), null, null, 0, 10);
+
+        searchService.removeFromIndex("itemId");
+        verify(searchGateway).removeFromIndex("itemId");
+        assertThat(searchResultCache.size()).isZero();
+    }
+
+    @Test
+    void testIsIndexOutdated() {
+        when(searchGateway.isIndexOutdated()).thenReturn(true);
+        assertThat(searchService.isIndexOutdated()).isTrue();
+    }
+
+    @Test
+    void testSearchTranslatedRestrictedWithInvalidParameters() {
+        assertThat(searchService.searchTranslatedRestricted("", Set.of(), null, null, 0, 10, 100).getItemCards()).isEmpty();
+        assertThat(searchService.searchTranslatedRestricted("xyz", Set.of(), null, null, -1, 10, 100).getItemCards()).isEmpty();
+        assertThat(searchService.searchTranslatedRestricted("xyz", Set.of(), null, null, 0, 0, 100).getItemCards()).isEmpty();
+        verifyNoInteractions(searchGateway);
+    }
+
+    @Test
+    void testSuggest() {
+        when(searchGateway.suggest("ti", Set.of("user"), 10)).thenReturn(List.of("Title"));
+        assertThat(searchService.suggest("ti", Set.of("user"), 10)).containsExactly("Title");
+
+        searchService.suggest("ti", Set.of("user"), 1000);
+        verify(searchGateway).suggest("ti", Set.of("user"), 25);
+
+        assertThat(searchService.suggest(" ", Set.of("user"), 10)).isEmpty();
+        assertThat(searchService.suggest("ti", Set.of("user"), 0)).isEmpty();
+    }
 }
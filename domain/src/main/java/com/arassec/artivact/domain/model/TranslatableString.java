@@ -67,11 +67,7 @@ public class TranslatableString implements TranslatableObject {
      */
     @Override
     public void translate(String locale) {
-        if (locale == null || locale.isEmpty()) {
-            translatedValue = value;
-            return;
-        }
-        tryToTranslateWithLocale(locale);
+        translatedValue = resolve(locale);
     }
 
     /**
@@ -79,13 +75,7 @@ public class TranslatableString implements TranslatableObject {
      */
     @Override
     public void translate(String locale, String defaultLocale) {
-        if (locale == null || locale.isEmpty()) {
-            translate(defaultLocale);
-            return;
-        }
-        if (!tryToTranslateWithLocale(locale)) {
-            tryToTranslateWithLocale(defaultLocale);
-        }
+        translatedValue = resolve(locale, defaultLocale);
     }
 
     /**
@@ -105,28 +95,52 @@ public class TranslatableString implements TranslatableObject {
     }
 
     /**
-     * Tries to translate the string with the given locale.
+     * Returns the value translated with the given locale, without modifying this object.
      *
      * @param locale The locale to use.
-     * @return {@code true} if a translation has been found, {@code false} if the fallback has been used.
+     * @return The translation or the original value, if no translation is available.
      */
-    private boolean tryToTranslateWithLocale(String locale) {
-        if (locale == null || locale.isEmpty()) {
-            translatedValue = value;
-            return false;
-        }
-        if (translations.containsKey(locale)) {
-            translatedValue = translations.get(locale);
-            return true;
+    public String resolve(String locale) {
+        String translation = findTranslation(locale);
+        return translation != null ? translation : value;
+    }
+
+    /**
+     * Returns the value translated with the given locale with a fallback to the default locale, without modifying this
+     * object.
+     *
+     * @param locale        The locale to use.
+     * @param defaultLocale The default locale to use as fallback.
+     * @return The translation or the original value, if no translation is available.
+     */
+    public String resolve(String locale, String defaultLocale) {
+        String translation = findTranslation(locale);
+        return translation != null ? translation : resolve(defaultLocale);
+    }
+
+    /**
+     * Finds the translation for the given locale. If there is no translation for the locale itself, translations for
+     * more general locales are used, e.g. a translation for 'de' is used for the locale 'de_DE'.
+     *
+     * @param locale The locale to use.
+     * @return The translation or {@code null}, if no translation is available.
+     */
+    private String findTranslation(String locale) {
+        if (locale == null || locale.isEmpty() || translations == null || translations.isEmpty()) {
+            return null;
         }
-        for (Map.Entry<String, String> entry : translations.entrySet()) {
-            if (locale.startsWith(entry.getKey() + "_")) {
-                translatedValue = entry.getValue();
-                return true;
+        String candidate = locale;
+        while (true) {
+            String translation = translations.get(candidate);
+            if (translation != null) {
+                return translation;
+            }
+            int separatorIndex = candidate.lastIndexOf('_');
+            if (separatorIndex <= 0) {
+                return null;
             }
+            candidate = candidate.substring(0, separatorIndex);
         }
-        translatedValue = value;
-        return false;
     }
 
 }
@@ -0,0 +1,61 @@
+package com.arassec.artivact.domain.model.item;
+
+import lombok.Getter;
+
+/**
+ * Available formats of scaled images.
+ */
+@Getter
+public enum ImageFormat {
+
+    /**
+     * The format of the original image.
+     */
+    ORIGINAL(null, null),
+
+    /**
+     * WebP, supporting lossy compression with alpha channel.
+     */
+    WEBP("webp", "image/webp"),
+
+    /**
+     * AVIF, supporting lossy compression with alpha channel.
+     */
+    AVIF("avif", "image/avif");
+
+    /**
+     * The format's name, which is also used as file extension.
+     */
+    private final String formatName;
+
+    /**
+     * The format's MIME type.
+     */
+    private final String mimeType;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param formatName The format's name.
+     * @param mimeType   The format's MIME type.
+     */
+    ImageFormat(String formatName, String mimeType) {
+        this.formatName = formatName;
+        this.mimeType = mimeType;
+    }
+
+    /**
+     * Returns the filename of an image in this format.
+     *
+     * @param filename The filename of the image in its original format.
+     * @return The filename with this format's file extension appended, or the unchanged filename for
+     * {@link #ORIGINAL}.
+     */
+    public String appendFileExtension(String filename) {
+        if (this == ORIGINAL) {
+            return filename;
+        }
+        return filename + "." + formatName;
+    }
+
+}
@@ -27,6 +27,11 @@ public class Item extends BaseRestrictedObject {
      */
     private Integer syncVersion;
 
+    /**
+     * Time of the last modification in milliseconds since the epoch.
+     */
+    private Long lastModified;
+
     /**
      * The item's title.
      */
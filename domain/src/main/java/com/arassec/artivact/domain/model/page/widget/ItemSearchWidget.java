@@ -44,6 +44,16 @@ public class ItemSearchWidget extends Widget implements ContentAudioProvider {
      */
     private int pageSize;
 
+    /**
+     * Name of the {@link com.arassec.artivact.domain.model.search.ItemSortField} to sort the search result by.
+     */
+    private String sortField;
+
+    /**
+     * The ID of the property to sort the search result by, if sorted by property.
+     */
+    private String sortPropertyId;
+
     /**
      * Creates a new instance.
      */
@@ -0,0 +1,53 @@
+package com.arassec.artivact.domain.model.search;
+
+import com.arassec.artivact.domain.model.RestrictedObject;
+import com.arassec.artivact.domain.model.TranslatableString;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Projection of an item containing the data required to display it in a search result.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemCard implements RestrictedObject {
+
+    /**
+     * The item's ID.
+     */
+    private String itemId;
+
+    /**
+     * The item's title.
+     */
+    private TranslatableString title;
+
+    /**
+     * Filename of the item's first image, if available.
+     */
+    private String image;
+
+    /**
+     * {@code true} if the item provides a 3D model.
+     */
+    private boolean hasModel;
+
+    /**
+     * Restrictions of the item, i.e. the roles allowed to see it.
+     */
+    @Builder.Default
+    private Set<String> restrictions = new HashSet<>();
+
+    /**
+     * Timestamp of the item's last modification, if available.
+     */
+    private Long lastModified;
+
+}
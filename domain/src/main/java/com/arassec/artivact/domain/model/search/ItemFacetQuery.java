@@ -0,0 +1,42 @@
+package com.arassec.artivact.domain.model.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Selects the facets to count during a search and the facet values to filter the search result by.
+ * <p>
+ * Selected values of the same facet are combined with OR, different facets are combined with AND.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemFacetQuery {
+
+    /**
+     * IDs of the tags to filter by.
+     */
+    @Builder.Default
+    private Set<String> tagIds = new HashSet<>();
+
+    /**
+     * Property values to filter by, per property ID.
+     */
+    @Builder.Default
+    private Map<String, Set<String>> propertyValues = new HashMap<>();
+
+    /**
+     * IDs of the properties to count values for.
+     */
+    @Builder.Default
+    private Set<String> facetPropertyIds = new HashSet<>();
+
+}
@@ -0,0 +1,28 @@
+package com.arassec.artivact.domain.model.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Number of found items per tag and per property value, ordered by descending count.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemFacets {
+
+    /**
+     * Number of found items per tag ID.
+     */
+    private Map<String, Long> tags = new LinkedHashMap<>();
+
+    /**
+     * Number of found items per property value, per property ID.
+     */
+    private Map<String, Map<String, Long>> properties = new LinkedHashMap<>();
+
+}
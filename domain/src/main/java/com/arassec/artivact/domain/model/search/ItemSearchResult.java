@@ -0,0 +1,44 @@
+package com.arassec.artivact.domain.model.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of items found by a search.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemSearchResult {
+
+    /**
+     * The total number of items matching the search query.
+     */
+    private long totalHits;
+
+    /**
+     * The items of the requested page, in the order returned by the search engine.
+     */
+    private List<ItemCard> itemCards = new ArrayList<>();
+
+    /**
+     * Facet counts over all matching items, if requested.
+     */
+    private ItemFacets facets;
+
+    /**
+     * Creates a new search result without facets.
+     *
+     * @param totalHits The total number of items matching the search query.
+     * @param itemCards The items of the requested page.
+     */
+    public ItemSearchResult(long totalHits, List<ItemCard> itemCards) {
+        this.totalHits = totalHits;
+        this.itemCards = itemCards;
+    }
+
+}
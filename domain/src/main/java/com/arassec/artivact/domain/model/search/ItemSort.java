@@ -0,0 +1,62 @@
+package com.arassec.artivact.domain.model.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * Defines the order of search results.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemSort {
+
+    /**
+     * The field to sort by. Results are ordered by relevance if none is set.
+     */
+    private ItemSortField field;
+
+    /**
+     * The ID of the property to sort by, if the field is {@link ItemSortField#PROPERTY}.
+     */
+    private String propertyId;
+
+    /**
+     * Creates a sort definition for the given field.
+     *
+     * @param field The field to sort by.
+     * @return The sort definition.
+     */
+    public static ItemSort by(ItemSortField field) {
+        return new ItemSort(field, null);
+    }
+
+    /**
+     * Creates a sort definition for the given item property.
+     *
+     * @param propertyId The ID of the property to sort by.
+     * @return The sort definition.
+     */
+    public static ItemSort byProperty(String propertyId) {
+        return new ItemSort(ItemSortField.PROPERTY, propertyId);
+    }
+
+    /**
+     * Creates a sort definition from its configured values, e.g. from a widget configuration or a request parameter.
+     *
+     * @param field      The name of the {@link ItemSortField}. Unknown or missing values result in sorting by relevance.
+     * @param propertyId The ID of the property to sort by, if sorted by property.
+     * @return The sort definition.
+     */
+    public static ItemSort of(String field, String propertyId) {
+        ItemSortField sortField = Arrays.stream(ItemSortField.values())
+                .filter(value -> value.name().equalsIgnoreCase(field))
+                .findFirst()
+                .orElse(ItemSortField.RELEVANCE);
+        return new ItemSort(sortField, ItemSortField.PROPERTY.equals(sortField) ? propertyId : null);
+    }
+
+}
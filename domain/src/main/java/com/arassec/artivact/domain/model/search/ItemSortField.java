@@ -0,0 +1,28 @@
+package com.arassec.artivact.domain.model.search;
+
+/**
+ * Fields search results can be sorted by.
+ */
+public enum ItemSortField {
+
+    /**
+     * Sorts by relevance regarding the search query, most relevant items first.
+     */
+    RELEVANCE,
+
+    /**
+     * Sorts alphabetically by item title.
+     */
+    TITLE,
+
+    /**
+     * Sorts by the time of the last modification, most recently modified items first.
+     */
+    LAST_MODIFIED,
+
+    /**
+     * Sorts alphabetically by the value of a single item property.
+     */
+    PROPERTY
+
+}
@@ -122,4 +122,36 @@ class TranslatableStringTest {
         assertThat(translatableString.getTranslatedValue()).isEqualTo("Objekt");
     }
 
+    /**
+     * Tests that translations of more general locales are used as fallback, preferring the most specific one.
+     */
+    @Test
+    void testTranslateWithRegionalLocale() {
+        TranslatableString translatableString = new TranslatableString("Item");
+        translatableString.setTranslations(Map.of("de", "Objekt", "de_CH", "Gegenstand"));
+
+        translatableString.translate(Locale.GERMANY);
+        assertThat(translatableString.getTranslatedValue()).isEqualTo("Objekt");
+
+        translatableString.translate("de_CH_POSIX");
+        assertThat(translatableString.getTranslatedValue()).isEqualTo("Gegenstand");
+
+        translatableString.translate("fr_FR", "de_AT");
+        assertThat(translatableString.getTranslatedValue()).isEqualTo("Objekt");
+    }
+
+    /**
+     * Tests that resolving a translation doesn't modify the translatable string.
+     */
+    @Test
+    void testResolve() {
+        TranslatableString translatableString = new TranslatableString("Item");
+        translatableString.setTranslations(Map.of("de", "Objekt"));
+
+        assertThat(translatableString.resolve("de_DE")).isEqualTo("Objekt");
+        assertThat(translatableString.resolve("ja")).isEqualTo("Item");
+        assertThat(translatableString.resolve("ja", "de")).isEqualTo("Objekt");
+        assertThat(translatableString.getTranslatedValue()).isNull();
+    }
+
 }
@@ -75,11 +75,17 @@ export interface UserData {
   username: string;
 }
 
+export interface ItemFacets {
+  tags: Record<string, number>;
+  properties: Record<string, Record<string, number>>;
+}
+
 export interface SearchResult {
   pageNumber: number;
   pageSize: number;
   totalPages: number;
   data: ItemCardData[];
+  facets?: ItemFacets;
 }
 
 export interface Property extends BaseTranslatableRestrictedObject {
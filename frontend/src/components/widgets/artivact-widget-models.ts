@@ -29,6 +29,8 @@ export interface ItemSearchWidget extends Widget {
   searchTerm: string | null | undefined;
   maxResults: number;
   pageSize: number;
+  sortField: string | null | undefined;
+  sortPropertyId: string | null | undefined;
 }
 
 export interface AvatarWidgetData extends Widget {
@@ -1229,6 +1229,14 @@ export default {
       contentAudio: 'Inhalt Audio (MP3)',
       deleteContentAudio: 'Inhalt-Audio löschen',
       pageSize: 'Seitengröße',
+      sortField: 'Ergebnisse sortieren nach',
+      sortPropertyId: 'ID der Eigenschaft zum Sortieren',
+    },
+    sortField: {
+      relevance: 'Relevanz',
+      title: 'Titel',
+      lastModified: 'Letzte Änderung',
+      property: 'Eigenschaft',
     },
     messages: {
       noSearchResults: 'Keine Suchergebnisse verfügbar!',
@@ -1249,6 +1249,14 @@ export default {
       contentAudio: "Content Audio (MP3)",
       deleteContentAudio: "Delete content audio",
       pageSize: "Page size",
+      sortField: "Sort results by",
+      sortPropertyId: "Property ID to sort by",
+    },
+    sortField: {
+      relevance: "Relevance",
+      title: "Title",
+      lastModified: "Last modified",
+      property: "Property",
     },
     messages: {
       noSearchResults: "No search results found!",